@@ -0,0 +1,145 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+
+import org.junit.internal.ExactComparisonCriteria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exact equality of primitive arrays: `eq(Object, Object)` vs. the JUnit
+ * `ExactComparisonCriteria` it used before.
+ *
+ * For equal arrays both take a bulk comparison path. When the arrays differ
+ * (here at the last element) `ExactComparisonCriteria` compares them once in
+ * bulk and then walks the elements again through reflection, boxing each one,
+ * while `eq` finds the differing index in a single pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayEqBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private int[] ints1;
+    private int[] ints2;
+    private int[] ints3;
+    private byte[] bytes1;
+    private byte[] bytes2;
+    private byte[] bytes3;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        ints1 = new int[size];
+        bytes1 = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            ints1[i] = random.nextInt();
+        }
+        random.nextBytes(bytes1);
+        ints2 = ints1.clone();
+        bytes2 = bytes1.clone();
+        ints3 = ints1.clone();
+        ints3[size - 1]++;
+        bytes3 = bytes1.clone();
+        bytes3[size - 1]++;
+    }
+
+    @Benchmark
+    public void eqIntArray() {
+        eq(ints1, ints2);
+    }
+
+    @Benchmark
+    public void eqIntArrayReflective() {
+        new ExactComparisonCriteria().arrayEquals(null, ints1, ints2);
+    }
+
+    @Benchmark
+    public void eqByteArray() {
+        eq(bytes1, bytes2);
+    }
+
+    @Benchmark
+    public void eqByteArrayReflective() {
+        new ExactComparisonCriteria().arrayEquals(null, bytes1, bytes2);
+    }
+
+    @Benchmark
+    public AssertionError failIntArray() {
+        try {
+            eq(ints1, ints3);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public AssertionError failIntArrayReflective() {
+        try {
+            new ExactComparisonCriteria().arrayEquals(null, ints1, ints3);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public AssertionError failByteArray() {
+        try {
+            eq(bytes1, bytes3);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public AssertionError failByteArrayReflective() {
+        try {
+            new ExactComparisonCriteria().arrayEquals(null, bytes1, bytes3);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+}
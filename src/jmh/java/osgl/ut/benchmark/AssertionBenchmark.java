@@ -0,0 +1,579 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.hamcrest.Matchers.hasSize;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import osgl.ut.TestBase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the `TestBase` assertion families in the pass and in the fail
+ * case, with values of different sizes.
+ *
+ * Each `pass*` benchmark runs an assertion that passes, each `fail*` benchmark
+ * runs the same assertion with values that make it fail and returns the
+ * {@link AssertionError}, so the cost of building the failure is included.
+ * Run with `-prof gc` (the default of the `benchmark` profile) to get the
+ * allocation rate of every case.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionBenchmark extends TestBase {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private String str;
+    private String strCopy;
+    private String otherStr;
+    private String blank;
+    private String padded;
+    private StringBuilder builder;
+    private StringBuilder blankBuilder;
+    private List<Integer> list;
+    private List<Integer> listCopy;
+    private List<Integer> otherList;
+    private Map<Integer, Integer> map;
+    private Integer[] array;
+    private Integer[] emptyArray = new Integer[0];
+    private Integer[] arrayCopy;
+    private Integer[] otherArray;
+    private int[] ints;
+    private int[] intsCopy;
+    private int[] otherInts;
+    private long[] longs;
+    private long[] longsCopy;
+    private long[] otherLongs;
+    private double[] doubles;
+    private double[] doublesCopy;
+    private double[] otherDoubles;
+    private Object object = new Object();
+    private Object otherObject = new Object();
+
+    @Setup
+    public void setup() {
+        char[] chars = new char[size];
+        char[] spaces = new char[size];
+        Arrays.fill(chars, 'x');
+        Arrays.fill(spaces, ' ');
+        str = new String(chars);
+        strCopy = new String(chars);
+        chars[size - 1] = 'y';
+        otherStr = new String(chars);
+        blank = new String(spaces);
+        padded = " " + str + "\n";
+        builder = new StringBuilder(padded);
+        blankBuilder = new StringBuilder(blank);
+        list = new ArrayList<>(size);
+        map = new HashMap<>();
+        array = new Integer[size];
+        ints = new int[size];
+        longs = new long[size];
+        doubles = new double[size];
+        for (int i = 0; i < size; ++i) {
+            list.add(i);
+            map.put(i, i);
+            array[i] = i;
+            ints[i] = i;
+            longs[i] = i;
+            doubles[i] = i;
+        }
+        listCopy = new ArrayList<>(list);
+        otherList = new ArrayList<>(list);
+        otherList.set(size - 1, -1);
+        arrayCopy = array.clone();
+        otherArray = array.clone();
+        otherArray[size - 1] = -1;
+        intsCopy = ints.clone();
+        otherInts = ints.clone();
+        otherInts[size - 1] = -1;
+        longsCopy = longs.clone();
+        otherLongs = longs.clone();
+        otherLongs[size - 1] = -1;
+        doublesCopy = doubles.clone();
+        otherDoubles = doubles.clone();
+        otherDoubles[size - 1] += 1;
+    }
+
+    // --- yes / no
+
+    @Benchmark
+    public void passYes() {
+        yes(size > 0);
+    }
+
+    @Benchmark
+    public void passYesWithMessage() {
+        yes(size > 0, "size: %s", str);
+    }
+
+    @Benchmark
+    public AssertionError failYesWithMessage() {
+        try {
+            yes(size < 0, "size: %s", size);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passYesMatcher() {
+        yes(list, hasSize(size));
+    }
+
+    @Benchmark
+    public AssertionError failYesMatcher() {
+        try {
+            yes(list, hasSize(0));
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNo() {
+        no(size < 0);
+    }
+
+    @Benchmark
+    public AssertionError failNo() {
+        try {
+            no(size > 0);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNoMatcher() {
+        no(list, hasSize(0));
+    }
+
+    @Benchmark
+    public AssertionError failNoMatcher() {
+        try {
+            no(list, hasSize(size));
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    // --- eq
+
+    @Benchmark
+    public void passEqInt() {
+        eq(size, size);
+    }
+
+    @Benchmark
+    public AssertionError failEqInt() {
+        try {
+            eq(size, -size);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passEqString() {
+        eq(str, strCopy);
+    }
+
+    @Benchmark
+    public AssertionError failEqString() {
+        try {
+            eq(str, otherStr);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passEqList() {
+        eq(list, listCopy);
+    }
+
+    @Benchmark
+    public AssertionError failEqList() {
+        try {
+            eq(list, otherList);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passEqObjectArray() {
+        eq(array, arrayCopy);
+    }
+
+    @Benchmark
+    public AssertionError failEqObjectArray() {
+        try {
+            eq(array, otherArray);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passEqIntArray() {
+        eq(ints, intsCopy);
+    }
+
+    @Benchmark
+    public AssertionError failEqIntArray() {
+        try {
+            eq(ints, otherInts);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passEqLongArray() {
+        eq(longs, longsCopy);
+    }
+
+    @Benchmark
+    public AssertionError failEqLongArray() {
+        try {
+            eq(longs, otherLongs);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passEqDoubleArrayWithDelta() {
+        eq(doubles, doublesCopy, 0.1d);
+    }
+
+    @Benchmark
+    public AssertionError failEqDoubleArrayWithDelta() {
+        try {
+            eq(doubles, otherDoubles, 0.1d);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passEqDoubleWithDelta() {
+        eq(1.0d, 1.05d, 0.1d);
+    }
+
+    @Benchmark
+    public AssertionError failEqDoubleWithDelta() {
+        try {
+            eq(1.0d, 1.2d, 0.1d);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    // --- ne
+
+    @Benchmark
+    public void passNeInt() {
+        ne(size, -size);
+    }
+
+    @Benchmark
+    public AssertionError failNeInt() {
+        try {
+            ne(size, size);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNeString() {
+        ne(str, otherStr);
+    }
+
+    @Benchmark
+    public AssertionError failNeString() {
+        try {
+            ne(str, strCopy);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNeIntArray() {
+        ne(ints, otherInts);
+    }
+
+    @Benchmark
+    public AssertionError failNeIntArray() {
+        try {
+            ne(ints, intsCopy);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNeDoubleArrayWithDelta() {
+        ne(doubles, otherDoubles, 0.1d);
+    }
+
+    @Benchmark
+    public AssertionError failNeDoubleArrayWithDelta() {
+        try {
+            ne(doubles, doublesCopy, 0.1d);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    // --- null / empty / blank
+
+    @Benchmark
+    public void passNotNull() {
+        notNull(object);
+    }
+
+    @Benchmark
+    public AssertionError failNotNull() {
+        try {
+            notNull(null, "object: %s", size);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passIsNull() {
+        isNull(null);
+    }
+
+    @Benchmark
+    public AssertionError failIsNull() {
+        try {
+            isNull(list);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNotEmptyString() {
+        notEmpty(str);
+    }
+
+    @Benchmark
+    public AssertionError failNotEmptyString() {
+        try {
+            notEmpty("");
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNotEmptyCollection() {
+        notEmpty(list);
+    }
+
+    @Benchmark
+    public void passNotEmptyMap() {
+        notEmpty(map);
+    }
+
+    @Benchmark
+    public AssertionError failNotEmptyMap() {
+        try {
+            notEmpty(Collections.emptyMap());
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNotEmptyArray() {
+        notEmpty(array);
+    }
+
+    @Benchmark
+    public AssertionError failNotEmptyArray() {
+        try {
+            notEmpty(emptyArray);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public AssertionError failNotEmptyCollection() {
+        try {
+            notEmpty(Collections.emptyList(), "collection: %s", size);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passIsEmptyCollection() {
+        isEmpty(Collections.emptyList());
+    }
+
+    @Benchmark
+    public AssertionError failIsEmptyCollection() {
+        try {
+            isEmpty(list);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passIsBlank() {
+        isBlank(blank);
+    }
+
+    @Benchmark
+    public AssertionError failIsBlank() {
+        try {
+            isBlank(str);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNotBlank() {
+        notBlank(str);
+    }
+
+    @Benchmark
+    public void passNotBlankPadded() {
+        notBlank(padded);
+    }
+
+    @Benchmark
+    public void passNotBlankCharSequence() {
+        notBlank(builder);
+    }
+
+    @Benchmark
+    public AssertionError failNotBlankCharSequence() {
+        try {
+            notBlank(blankBuilder);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public AssertionError failNotBlank() {
+        try {
+            notBlank(blank);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    // --- same
+
+    @Benchmark
+    public void passSame() {
+        same(object, object);
+    }
+
+    @Benchmark
+    public AssertionError failSame() {
+        try {
+            same(object, otherObject);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void passNotSame() {
+        notSame(object, otherObject);
+    }
+
+    @Benchmark
+    public AssertionError failNotSame() {
+        try {
+            notSame(object, object);
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        }
+    }
+
+}
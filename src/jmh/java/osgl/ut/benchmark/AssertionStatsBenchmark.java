@@ -0,0 +1,72 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+import static osgl.ut.TestBase.notBlank;
+import static osgl.ut.TestBase.yes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passing assertions on four threads with instrumentation on. Run with
+ * `-jvmArgsAppend -Dosgl.ut.instrumentation=false` for the numbers with
+ * instrumentation off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dosgl.ut.instrumentation=true")
+@Threads(4)
+public class AssertionStatsBenchmark {
+
+    private int value = 42;
+    private String str = "osgl";
+
+    @Benchmark
+    public void yesAssertion() {
+        yes(value > 0);
+    }
+
+    @Benchmark
+    public void eqAssertion() {
+        eq(value, 42);
+    }
+
+    @Benchmark
+    public void notBlankAssertion() {
+        notBlank(str);
+    }
+
+}
@@ -0,0 +1,105 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+import static osgl.ut.TestBase.eqContent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares two files of the same content with `eqContent` on paths, streams
+ * and channels, and by reading both into byte arrays for `eq`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentBenchmark {
+
+    @Param({"67108864"})
+    private int size;
+
+    private Path expected;
+    private Path actual;
+
+    @Setup
+    public void setup() throws IOException {
+        byte[] content = new byte[size];
+        new Random(42).nextBytes(content);
+        expected = Files.createTempFile("osgl-ut-", ".bin");
+        actual = Files.createTempFile("osgl-ut-", ".bin");
+        Files.write(expected, content);
+        Files.write(actual, content);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(expected);
+        Files.deleteIfExists(actual);
+    }
+
+    @Benchmark
+    public void eqContentMapped() {
+        eqContent(expected, actual);
+    }
+
+    @Benchmark
+    public void eqContentStream() throws IOException {
+        try (InputStream e = Files.newInputStream(expected); InputStream a = Files.newInputStream(actual)) {
+            eqContent(e, a);
+        }
+    }
+
+    @Benchmark
+    public void eqContentChannel() throws IOException {
+        try (FileChannel e = FileChannel.open(expected); FileChannel a = FileChannel.open(actual)) {
+            eqContent(e, a);
+        }
+    }
+
+    @Benchmark
+    public void eqReadAllBytes() throws IOException {
+        eq(Files.readAllBytes(expected), Files.readAllBytes(actual));
+    }
+
+}
@@ -0,0 +1,166 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+import static osgl.ut.TestBase.ne;
+
+import org.junit.internal.InexactComparisonCriteria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delta based comparison of `double[]` and `float[]`.
+ *
+ * The actual arrays differ from the expected ones within the delta on every
+ * element, so exact comparison shortcuts do not apply. For `ne` the last
+ * element is out of delta, so the whole array has to be scanned before
+ * the assertion passes. `*Legacy` benchmarks run the implementation used
+ * before: JUnit `InexactComparisonCriteria` for `eq` and a reflective,
+ * boxing loop for `ne`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeltaArrayBenchmark {
+
+    private static final double DELTA = 0.001d;
+    private static final float FLOAT_DELTA = 0.001f;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private double[] doubles;
+    private double[] doublesWithinDelta;
+    private double[] doublesLastOutOfDelta;
+    private float[] floats;
+    private float[] floatsWithinDelta;
+    private float[] floatsLastOutOfDelta;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        doubles = new double[size];
+        doublesWithinDelta = new double[size];
+        floats = new float[size];
+        floatsWithinDelta = new float[size];
+        for (int i = 0; i < size; ++i) {
+            doubles[i] = random.nextDouble();
+            doublesWithinDelta[i] = doubles[i] + DELTA / 2;
+            floats[i] = random.nextFloat();
+            floatsWithinDelta[i] = floats[i] + FLOAT_DELTA / 2;
+        }
+        doublesLastOutOfDelta = doublesWithinDelta.clone();
+        doublesLastOutOfDelta[size - 1] += 1;
+        floatsLastOutOfDelta = floatsWithinDelta.clone();
+        floatsLastOutOfDelta[size - 1] += 1;
+    }
+
+    @Benchmark
+    public void eqDoubles() {
+        eq(doubles, doublesWithinDelta, DELTA);
+    }
+
+    @Benchmark
+    public void eqDoublesLegacy() {
+        new InexactComparisonCriteria(DELTA).arrayEquals(null, doubles, doublesWithinDelta);
+    }
+
+    @Benchmark
+    public void eqFloats() {
+        eq(floats, floatsWithinDelta, FLOAT_DELTA);
+    }
+
+    @Benchmark
+    public void eqFloatsLegacy() {
+        new InexactComparisonCriteria(FLOAT_DELTA).arrayEquals(null, floats, floatsWithinDelta);
+    }
+
+    @Benchmark
+    public void neDoubles() {
+        ne(doubles, doublesLastOutOfDelta, DELTA);
+    }
+
+    @Benchmark
+    public boolean neDoublesLegacy() {
+        return legacyArrayEquals(doubles, doublesLastOutOfDelta, DELTA);
+    }
+
+    @Benchmark
+    public void neFloats() {
+        ne(floats, floatsLastOutOfDelta, FLOAT_DELTA);
+    }
+
+    @Benchmark
+    public boolean neFloatsLegacy() {
+        return legacyArrayEquals(floats, floatsLastOutOfDelta, FLOAT_DELTA);
+    }
+
+    /*
+     * The implementation behind `ne(double[], double[], double)` and
+     * `ne(float[], float[], float)` before the type specialized engines.
+     */
+    private static boolean legacyArrayEquals(Object expecteds, Object actuals, Object delta) {
+        if (expecteds == actuals
+                || Arrays.deepEquals(new Object[] {expecteds}, new Object[] {actuals})) {
+            return true;
+        }
+        int expectedLen = Array.getLength(expecteds);
+        int actualLen = Array.getLength(actuals);
+        if (expectedLen != actualLen) {
+            return false;
+        }
+        for (int i = 0; i < expectedLen; ++i) {
+            if (delta instanceof Double) {
+                Double expectedElement = (Double) Array.get(expecteds, i);
+                Double actualElement = (Double) Array.get(actuals, i);
+                if ((Math.abs(expectedElement - actualElement) > (Double) delta)) {
+                    return false;
+                }
+            } else {
+                Float expectedElement = (Float) Array.get(expecteds, i);
+                Float actualElement = (Float) Array.get(actuals, i);
+                if ((Math.abs(expectedElement - actualElement) > (Float) delta)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,86 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the failure message of `eq` on two 100KB documents, one with a
+ * few changed lines and one with every line changed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiffBenchmark {
+
+    private String document;
+    private String edited;
+    private String rewritten;
+
+    @Setup
+    public void setup() {
+        StringBuilder doc = new StringBuilder();
+        StringBuilder all = new StringBuilder();
+        for (int i = 0; i < 5000; ++i) {
+            doc.append("line ").append(i).append(" of the document\n");
+            all.append("LINE ").append(i).append(" OF THE DOCUMENT\n");
+        }
+        document = doc.toString();
+        edited = document.replace("line 100 ", "line one hundred ").replace("line 4000 ", "line four thousand ");
+        rewritten = all.toString();
+    }
+
+    @Benchmark
+    public String diffFewChanges() {
+        return message(document, edited);
+    }
+
+    @Benchmark
+    public String diffAllChanged() {
+        return message(document, rewritten);
+    }
+
+    private static String message(String expected, String actual) {
+        try {
+            eq(expected, actual);
+            return null;
+        } catch (AssertionError e) {
+            return e.getMessage();
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+import static osgl.ut.TestBase.notEmpty;
+import static osgl.ut.TestBase.yes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of passing assertions that carry a failure message.
+ *
+ * Run with `-prof gc`: `gc.alloc.rate.norm` shall be (close to) `0` bytes/op
+ * for every benchmark, i.e. the message is neither formatted nor allocated
+ * when the assertion passes. The only exception is
+ * {@link #yesWithBoxedMessageArgument()}: boxing a primitive message argument
+ * happens at the call site before the assertion method is entered, use a
+ * message supplier to avoid it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBenchmark {
+
+    private int id = 1000;
+    private String name = "record-1000";
+    private String expected = "osgl";
+    private String actual = new String("osgl");
+
+    @Benchmark
+    public void yesWithoutMessage() {
+        yes(id > 0);
+    }
+
+    @Benchmark
+    public void yesWithMessageTemplate() {
+        yes(id > 0, "%s shall be positive", name);
+    }
+
+    @Benchmark
+    public void yesWithBoxedMessageArgument() {
+        yes(id > 0, "record %s shall be positive", id);
+    }
+
+    @Benchmark
+    public void yesWithMessageSupplier() {
+        yes(id > 0, () -> "record " + id + " shall be positive");
+    }
+
+    @Benchmark
+    public void eqWithMessageTemplate() {
+        eq(expected, actual, "%s", name);
+    }
+
+    @Benchmark
+    public void eqWithMessageSupplier() {
+        eq(expected, actual, () -> "record " + id);
+    }
+
+    @Benchmark
+    public void notEmptyWithMessageTemplate() {
+        notEmpty(actual, "%s", name);
+    }
+
+}
@@ -0,0 +1,96 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+import static osgl.ut.TestBase.eqParallel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares `eq` and `eqParallel` on equal large arrays. The parallelism of
+ * the common pool can be set with `-Djava.util.concurrent.ForkJoinPool.common.parallelism`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelArrayBenchmark {
+
+    @Param({"2048"})
+    private int dimension;
+
+    private double[][] matrix;
+    private double[][] matrixCopy;
+    private long[] vector;
+    private long[] vectorCopy;
+
+    @Setup
+    public void setup() {
+        matrix = new double[dimension][dimension];
+        matrixCopy = new double[dimension][dimension];
+        for (int i = 0; i < dimension; ++i) {
+            for (int j = 0; j < dimension; ++j) {
+                matrix[i][j] = matrixCopy[i][j] = i * dimension + j;
+            }
+        }
+        vector = new long[dimension * dimension];
+        for (int i = 0; i < vector.length; ++i) {
+            vector[i] = i;
+        }
+        vectorCopy = vector.clone();
+    }
+
+    @Benchmark
+    public void eqMatrix() {
+        eq(matrix, matrixCopy);
+    }
+
+    @Benchmark
+    public void eqParallelMatrix() {
+        eqParallel(matrix, matrixCopy);
+    }
+
+    @Benchmark
+    public void eqVector() {
+        eq(vector, vectorCopy);
+    }
+
+    @Benchmark
+    public void eqParallelVector() {
+        eqParallel(vector, vectorCopy);
+    }
+
+}
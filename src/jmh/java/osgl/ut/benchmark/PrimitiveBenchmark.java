@@ -0,0 +1,100 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+import static osgl.ut.TestBase.ne;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares primitive `eq`/`ne` overloads with the boxing `eq(Object, Object)`.
+ *
+ * The values are outside of the `Integer` cache range so the boxed variant
+ * has to allocate. The primitive variants shall report `0` bytes/op with
+ * `-prof gc`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveBenchmark {
+
+    private int i1 = 100000;
+    private int i2 = 100000;
+    private long l1 = 100000L;
+    private long l2 = 100000L;
+    private char c1 = 'x';
+    private char c2 = 'x';
+
+    @Benchmark
+    public void eqIntBoxed() {
+        eq((Object) i1, (Object) i2);
+    }
+
+    @Benchmark
+    public void eqInt() {
+        eq(i1, i2);
+    }
+
+    @Benchmark
+    public void eqIntWithMessage() {
+        eq(i1, i2, () -> "message");
+    }
+
+    @Benchmark
+    public void eqLongBoxed() {
+        eq((Object) l1, (Object) l2);
+    }
+
+    @Benchmark
+    public void eqLong() {
+        eq(l1, l2);
+    }
+
+    @Benchmark
+    public void eqChar() {
+        eq(c1, c2);
+    }
+
+    @Benchmark
+    public void neIntBoxed() {
+        ne((Object) i1, (Object) (i2 + 1));
+    }
+
+    @Benchmark
+    public void neInt() {
+        ne(i1, i2 + 1);
+    }
+
+}
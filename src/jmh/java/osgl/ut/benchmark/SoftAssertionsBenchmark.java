@@ -0,0 +1,94 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import osgl.ut.SoftAssertions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates a batch of records where every `failEvery`-th record is wrong,
+ * comparing {@link SoftAssertions} with catching the error thrown by each
+ * failed `TestBase` assertion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoftAssertionsBenchmark {
+
+    @Param({"10000"})
+    private int records;
+
+    @Param({"2", "100"})
+    private int failEvery;
+
+    private int[] expected;
+    private int[] actual;
+
+    @Setup
+    public void setup() {
+        expected = new int[records];
+        actual = new int[records];
+        for (int i = 0; i < records; ++i) {
+            expected[i] = i;
+            actual[i] = i % failEvery == 0 ? -i - 1 : i;
+        }
+    }
+
+    @Benchmark
+    public long softAssertions() {
+        SoftAssertions softly = new SoftAssertions();
+        for (int i = 0; i < records; ++i) {
+            softly.eq(expected[i], actual[i]);
+        }
+        return softly.failureCount();
+    }
+
+    @Benchmark
+    public long catchEachFailure() {
+        long failed = 0;
+        for (int i = 0; i < records; ++i) {
+            try {
+                eq(expected[i], actual[i]);
+            } catch (AssertionError e) {
+                ++failed;
+            }
+        }
+        return failed;
+    }
+
+}
@@ -0,0 +1,87 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.isSorted;
+import static osgl.ut.TestBase.yes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sortedness of large arrays, compared with one `yes` per pair of neighbours.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedBenchmark {
+
+    @Param({"1000", "10000000"})
+    private int size;
+
+    private long[] longs;
+    private String[] strings;
+
+    @Setup
+    public void setup() {
+        longs = new long[size];
+        strings = new String[Math.min(size, 1_000_000)];
+        for (int i = 0; i < size; ++i) {
+            longs[i] = i * 3L;
+        }
+        for (int i = 0; i < strings.length; ++i) {
+            strings[i] = String.format("%08d", i);
+        }
+    }
+
+    @Benchmark
+    public void isSortedLongs() {
+        isSorted(longs);
+    }
+
+    @Benchmark
+    public void yesPerElementLongs() {
+        for (int i = 1; i < longs.length; ++i) {
+            yes(longs[i - 1] <= longs[i]);
+        }
+    }
+
+    @Benchmark
+    public void isSortedStrings() {
+        isSorted(strings, Comparator.naturalOrder());
+    }
+
+}
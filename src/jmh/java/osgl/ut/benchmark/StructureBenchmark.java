@@ -0,0 +1,140 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.TestBase.eq;
+import static osgl.ut.TestBase.eqStructure;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares two equal graphs of 1000 orders with 10 lines each, with the
+ * hand-written `equals` through `eq` and field by field with `eqStructure`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructureBenchmark {
+
+    public static final class Line {
+        final String sku;
+        final int qty;
+        final double price;
+
+        Line(String sku, int qty, double price) {
+            this.sku = sku;
+            this.qty = qty;
+            this.price = price;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Line)) {
+                return false;
+            }
+            Line that = (Line) o;
+            return qty == that.qty && Double.compare(price, that.price) == 0 && Objects.equals(sku, that.sku);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sku, qty, price);
+        }
+    }
+
+    public static final class Order {
+        final long id;
+        final List<Line> lines = new ArrayList<>();
+
+        Order(long id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Order)) {
+                return false;
+            }
+            Order that = (Order) o;
+            return id == that.id && lines.equals(that.lines);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, lines);
+        }
+    }
+
+    private List<Order> expected;
+    private List<Order> actual;
+
+    @Setup
+    public void setup() {
+        expected = orders();
+        actual = orders();
+    }
+
+    @Benchmark
+    public void handWrittenEquals() {
+        eq(expected, actual);
+    }
+
+    @Benchmark
+    public void structural() {
+        eqStructure(expected, actual);
+    }
+
+    private static List<Order> orders() {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            Order order = new Order(i);
+            for (int j = 0; j < 10; ++j) {
+                order.lines.add(new Line("sku-" + j, j, j * 1.5));
+            }
+            orders.add(order);
+        }
+        return orders;
+    }
+
+}
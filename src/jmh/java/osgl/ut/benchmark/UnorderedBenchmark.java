@@ -0,0 +1,96 @@
+package osgl.ut.benchmark;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static osgl.ut.TestBase.eqIgnoreOrder;
+import static osgl.ut.TestBase.yes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order insensitive equality of shuffled collections and arrays, compared
+ * with Hamcrest `containsInAnyOrder`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnorderedBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private List<Integer> expected;
+    private List<Integer> actual;
+    private int[] expectedInts;
+    private int[] actualInts;
+
+    @Setup
+    public void setup() {
+        expected = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            expected.add(i);
+        }
+        actual = new ArrayList<>(expected);
+        Collections.shuffle(actual, new Random(42));
+        expectedInts = new int[size];
+        actualInts = new int[size];
+        for (int i = 0; i < size; ++i) {
+            expectedInts[i] = expected.get(i);
+            actualInts[i] = actual.get(i);
+        }
+    }
+
+    @Benchmark
+    public void eqIgnoreOrderCollection() {
+        eqIgnoreOrder(expected, actual);
+    }
+
+    @Benchmark
+    public void eqIgnoreOrderIntArray() {
+        eqIgnoreOrder(expectedInts, actualInts);
+    }
+
+    @Benchmark
+    public void containsInAnyOrderMatcher() {
+        yes(actual, containsInAnyOrder(expected.toArray()));
+    }
+
+}
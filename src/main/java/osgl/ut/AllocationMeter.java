@@ -0,0 +1,171 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Measures the bytes allocated by a block of code on the current thread.
+ *
+ * The count is read from the HotSpot thread allocation counter, i.e.
+ * `com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)`, which is
+ * bound reflectively so the class loads on JVMs without it. The block is
+ * warmed up with {@link #WARMUP} invocations so the JIT has compiled it,
+ * including escape analysis, and then run {@link #ROUNDS} times for
+ * {@link #INVOCATIONS} invocations. The smallest round is kept, which
+ * filters out one time allocations like lazy initialization. The bytes
+ * allocated by reading the counter itself, e.g. the arrays allocated on
+ * Java 8, are calibrated once with an empty block and subtracted.
+ */
+final class AllocationMeter {
+
+    static final int WARMUP = 10_000;
+
+    static final int INVOCATIONS = 1000;
+
+    static final int ROUNDS = 3;
+
+    private static final Runnable NOOP = () -> {
+    };
+
+    private static final MethodHandle ALLOCATED_BYTES = allocatedBytesHandle();
+
+    private static volatile long overhead = -1;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Returns whether the JVM counts the bytes allocated by each thread.
+     *
+     * @return `true` if {@link #difference(long, Runnable)} can measure allocations
+     */
+    static boolean supported() {
+        return null != ALLOCATED_BYTES;
+    }
+
+    /**
+     * Measure the bytes allocated per invocation of a block and compare them
+     * with a budget.
+     *
+     * @param maxBytes
+     *      the maximum number of bytes allocated per invocation
+     * @param block
+     *      the block
+     * @return `null` if the block allocated at most `maxBytes` per invocation,
+     *      otherwise the description of the allocation
+     * @throws IllegalArgumentException
+     *      if `maxBytes` is negative
+     * @throws IllegalStateException
+     *      if the JVM is not {@link #supported()}
+     */
+    static String difference(long maxBytes, Runnable block) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes shall not be negative: " + maxBytes);
+        }
+        long bytes = allocated(block);
+        if (bytes / INVOCATIONS < maxBytes || bytes <= maxBytes * INVOCATIONS) {
+            return null;
+        }
+        return String.format(Locale.ROOT, "allocated %.1f bytes per invocation, over the budget of %d bytes"
+                + " (%d bytes in %d invocations)", (double) bytes / INVOCATIONS, maxBytes, bytes, INVOCATIONS);
+    }
+
+    /**
+     * Returns the bytes allocated by {@link #INVOCATIONS} invocations of a
+     * warmed up block, without the measurement overhead.
+     */
+    static long allocated(Runnable block) {
+        if (!supported()) {
+            throw new IllegalStateException("thread allocation counters are not supported by this JVM");
+        }
+        long overhead = overhead();
+        measure(block, WARMUP);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; ++i) {
+            min = Math.min(min, measure(block, INVOCATIONS));
+        }
+        return Math.max(0, min - overhead);
+    }
+
+    private static long overhead() {
+        long o = overhead;
+        if (o < 0) {
+            measure(NOOP, WARMUP);
+            o = Long.MAX_VALUE;
+            for (int i = 0; i < ROUNDS; ++i) {
+                o = Math.min(o, measure(NOOP, INVOCATIONS));
+            }
+            overhead = o;
+        }
+        return o;
+    }
+
+    private static long measure(Runnable block, int invocations) {
+        long id = Thread.currentThread().getId();
+        long before = allocatedBytes(id);
+        for (int i = 0; i < invocations; ++i) {
+            block.run();
+        }
+        return allocatedBytes(id) - before;
+    }
+
+    private static long allocatedBytes(long threadId) {
+        try {
+            return (long) ALLOCATED_BYTES.invokeExact(threadId);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle allocatedBytesHandle() {
+        try {
+            Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!type.isInstance(bean)) {
+                return null;
+            }
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle supported = lookup.findVirtual(type, "isThreadAllocatedMemorySupported",
+                    MethodType.methodType(boolean.class));
+            if (!(boolean) supported.invoke(bean)) {
+                return null;
+            }
+            MethodHandle enabled = lookup.findVirtual(type, "isThreadAllocatedMemoryEnabled",
+                    MethodType.methodType(boolean.class));
+            if (!(boolean) enabled.invoke(bean)) {
+                lookup.findVirtual(type, "setThreadAllocatedMemoryEnabled",
+                        MethodType.methodType(void.class, boolean.class)).invoke(bean, true);
+            }
+            return lookup.findVirtual(type, "getThreadAllocatedBytes", MethodType.methodType(long.class, long.class))
+                    .bindTo(bean);
+        } catch (Throwable e) {
+            // not HotSpot, or the counters can't be enabled
+            return null;
+        }
+    }
+
+}
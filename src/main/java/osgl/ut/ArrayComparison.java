@@ -0,0 +1,535 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.internal.ArrayComparisonFailure;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Comparison of primitive arrays.
+ *
+ * `mismatch` methods find the index of the first differing element in one
+ * pass. For exact comparison they delegate to the vectorized `Arrays.mismatch`
+ * on Java 9+ and fall back to a plain loop on Java 8. `double[]` and `float[]`
+ * can also be compared within a delta. Element values are only rendered when
+ * a failure is reported.
+ */
+final class ArrayComparison {
+
+    /**
+     * Number of elements shown on each side of the first differing element.
+     */
+    static final int WINDOW = 3;
+
+    private static final MethodHandle BOOLEAN_MISMATCH = mismatchHandle(boolean[].class);
+    private static final MethodHandle BYTE_MISMATCH = mismatchHandle(byte[].class);
+    private static final MethodHandle CHAR_MISMATCH = mismatchHandle(char[].class);
+    private static final MethodHandle SHORT_MISMATCH = mismatchHandle(short[].class);
+    private static final MethodHandle INT_MISMATCH = mismatchHandle(int[].class);
+    private static final MethodHandle LONG_MISMATCH = mismatchHandle(long[].class);
+    private static final MethodHandle FLOAT_MISMATCH = mismatchHandle(float[].class);
+    private static final MethodHandle DOUBLE_MISMATCH = mismatchHandle(double[].class);
+
+    private ArrayComparison() {
+    }
+
+    /**
+     * Check if the array is an array of primitive elements.
+     *
+     * @param array
+     *      an array, must not be `null`
+     * @return `true` if the component type of `array` is primitive
+     */
+    static boolean isPrimitiveArray(Object array) {
+        return array.getClass().getComponentType().isPrimitive();
+    }
+
+    /**
+     * Find the first differing index of two primitive arrays of the same type.
+     *
+     * @param expecteds
+     *      the expected array
+     * @param actuals
+     *      the actual array, same type as `expecteds`
+     * @return
+     *      `-1` if the arrays are equal, the first differing index or the
+     *      length of the shorter array if it is a prefix of the other one
+     */
+    static int mismatch(Object expecteds, Object actuals) {
+        if (expecteds instanceof int[]) {
+            return mismatch((int[]) expecteds, (int[]) actuals);
+        } else if (expecteds instanceof long[]) {
+            return mismatch((long[]) expecteds, (long[]) actuals);
+        } else if (expecteds instanceof byte[]) {
+            return mismatch((byte[]) expecteds, (byte[]) actuals);
+        } else if (expecteds instanceof double[]) {
+            return mismatch((double[]) expecteds, (double[]) actuals);
+        } else if (expecteds instanceof char[]) {
+            return mismatch((char[]) expecteds, (char[]) actuals);
+        } else if (expecteds instanceof float[]) {
+            return mismatch((float[]) expecteds, (float[]) actuals);
+        } else if (expecteds instanceof short[]) {
+            return mismatch((short[]) expecteds, (short[]) actuals);
+        } else if (expecteds instanceof boolean[]) {
+            return mismatch((boolean[]) expecteds, (boolean[]) actuals);
+        }
+        throw new IllegalArgumentException("not a primitive array: " + expecteds.getClass().getName());
+    }
+
+    static int mismatch(boolean[] a, boolean[] b) {
+        if (null != BOOLEAN_MISMATCH) {
+            try {
+                return (int) BOOLEAN_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw unexpected(e);
+            }
+        }
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            if (a[i] != b[i]) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    static int mismatch(byte[] a, byte[] b) {
+        if (null != BYTE_MISMATCH) {
+            try {
+                return (int) BYTE_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw unexpected(e);
+            }
+        }
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            if (a[i] != b[i]) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    static int mismatch(char[] a, char[] b) {
+        if (null != CHAR_MISMATCH) {
+            try {
+                return (int) CHAR_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw unexpected(e);
+            }
+        }
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            if (a[i] != b[i]) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    static int mismatch(short[] a, short[] b) {
+        if (null != SHORT_MISMATCH) {
+            try {
+                return (int) SHORT_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw unexpected(e);
+            }
+        }
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            if (a[i] != b[i]) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    static int mismatch(int[] a, int[] b) {
+        if (null != INT_MISMATCH) {
+            try {
+                return (int) INT_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw unexpected(e);
+            }
+        }
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            if (a[i] != b[i]) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    static int mismatch(long[] a, long[] b) {
+        if (null != LONG_MISMATCH) {
+            try {
+                return (int) LONG_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw unexpected(e);
+            }
+        }
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            if (a[i] != b[i]) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    /*
+     * Float and double elements are compared by their bits, same as `Float.equals`
+     * and `Double.equals`: `NaN` equals to `NaN` while `0.0` differs from `-0.0`.
+     */
+
+    static int mismatch(float[] a, float[] b) {
+        if (null != FLOAT_MISMATCH) {
+            try {
+                return (int) FLOAT_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw unexpected(e);
+            }
+        }
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            if (Float.floatToIntBits(a[i]) != Float.floatToIntBits(b[i])) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    static int mismatch(double[] a, double[] b) {
+        if (null != DOUBLE_MISMATCH) {
+            try {
+                return (int) DOUBLE_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw unexpected(e);
+            }
+        }
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            if (Double.doubleToLongBits(a[i]) != Double.doubleToLongBits(b[i])) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    /**
+     * Find the first index at which two double arrays differ by more than `delta`.
+     * Elements are compared in the same way as `eq(double, double, double)`.
+     *
+     * @param a
+     *      the expected array
+     * @param b
+     *      the actual array
+     * @param delta
+     *      the maximum delta for which two elements are still considered equal
+     * @return
+     *      `-1` if the arrays are equal within `delta`, the first differing index
+     *      or the length of the shorter array if it is a prefix of the other one
+     */
+    static int mismatch(double[] a, double[] b, double delta) {
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            double x = a[i];
+            double y = b[i];
+            // cheap test first, the full check is only needed for NaN and infinity
+            if (!(Math.abs(x - y) <= delta) && TestBase.doubleIsDifferent(x, y, delta)) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    /**
+     * Find the first index at which two float arrays differ by more than `delta`.
+     * Elements are compared in the same way as `eq(float, float, float)`.
+     *
+     * @param a
+     *      the expected array
+     * @param b
+     *      the actual array
+     * @param delta
+     *      the maximum delta for which two elements are still considered equal
+     * @return
+     *      `-1` if the arrays are equal within `delta`, the first differing index
+     *      or the length of the shorter array if it is a prefix of the other one
+     */
+    static int mismatch(float[] a, float[] b, float delta) {
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; ++i) {
+            float x = a[i];
+            float y = b[i];
+            if (!(Math.abs(x - y) <= delta) && TestBase.floatIsDifferent(x, y, delta)) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : n;
+    }
+
+    /**
+     * Check if two double arrays are equal within `delta`. Two `null` arrays
+     * are considered equal.
+     *
+     * @param a
+     *      an array, `null` okay
+     * @param b
+     *      another array, `null` okay
+     * @param delta
+     *      the maximum delta for which two elements are still considered equal
+     * @return `true` if both arrays are `null` or they are equal within `delta`
+     */
+    static boolean equals(double[] a, double[] b, double delta) {
+        return a == b || (null != a && null != b && mismatch(a, b, delta) < 0);
+    }
+
+    /**
+     * Check if two float arrays are equal within `delta`. Two `null` arrays
+     * are considered equal.
+     *
+     * @param a
+     *      an array, `null` okay
+     * @param b
+     *      another array, `null` okay
+     * @param delta
+     *      the maximum delta for which two elements are still considered equal
+     * @return `true` if both arrays are `null` or they are equal within `delta`
+     */
+    static boolean equals(float[] a, float[] b, float delta) {
+        return a == b || (null != a && null != b && mismatch(a, b, delta) < 0);
+    }
+
+    /**
+     * Asserts two double arrays are equal within `delta`.
+     *
+     * @param message
+     *      the failure message, `null` okay
+     * @param expecteds
+     *      the expected array, `null` okay
+     * @param actuals
+     *      the actual array, `null` okay
+     * @param delta
+     *      the maximum delta for which two elements are still considered equal
+     */
+    static void assertEquals(String message, double[] expecteds, double[] actuals, double delta) {
+        if (expecteds == actuals) {
+            return;
+        }
+        checkNotNull(message, expecteds, actuals);
+        int index = mismatch(expecteds, actuals, delta);
+        if (index >= 0) {
+            fail(header(message), expecteds, actuals, index);
+        }
+    }
+
+    /**
+     * Asserts two float arrays are equal within `delta`.
+     *
+     * @param message
+     *      the failure message, `null` okay
+     * @param expecteds
+     *      the expected array, `null` okay
+     * @param actuals
+     *      the actual array, `null` okay
+     * @param delta
+     *      the maximum delta for which two elements are still considered equal
+     */
+    static void assertEquals(String message, float[] expecteds, float[] actuals, float delta) {
+        if (expecteds == actuals) {
+            return;
+        }
+        checkNotNull(message, expecteds, actuals);
+        int index = mismatch(expecteds, actuals, delta);
+        if (index >= 0) {
+            fail(header(message), expecteds, actuals, index);
+        }
+    }
+
+    /**
+     * Asserts two primitive arrays of the same type are equal.
+     *
+     * @param message
+     *      the failure message, `null` okay
+     * @param expecteds
+     *      the expected primitive array
+     * @param actuals
+     *      the actual array, same type as `expecteds` or `null`
+     */
+    static void assertEquals(String message, Object expecteds, Object actuals) {
+        if (expecteds == actuals) {
+            return;
+        }
+        checkNotNull(message, expecteds, actuals);
+        int index = mismatch(expecteds, actuals);
+        if (index >= 0) {
+            fail(header(message), expecteds, actuals, index);
+        }
+    }
+
+    /**
+     * Report the difference of two arrays in the same format as
+     * {@link org.junit.internal.ComparisonCriteria} does, plus the elements
+     * around the first differing element.
+     *
+     * @param header
+     *      the message header, e.g. `"message: "` or `""`
+     * @param expecteds
+     *      the expected array
+     * @param actuals
+     *      the actual array
+     * @param index
+     *      the first differing index
+     */
+    static void fail(String header, Object expecteds, Object actuals, int index) {
+        if (Array.getLength(expecteds) != Array.getLength(actuals)) {
+            throw new AssertionError(header + lengthDifference(expecteds, actuals, index));
+        }
+        throw new ArrayComparisonFailure(header, new AssertionError(elementDifference(expecteds, actuals, index)), index);
+    }
+
+    /**
+     * Describe the difference of two arrays without throwing an exception. The
+     * description is the same as the message of the error {@link #fail(String, Object, Object, int)}
+     * throws with an empty header.
+     *
+     * @param expecteds
+     *      the expected array
+     * @param actuals
+     *      the actual array
+     * @param index
+     *      the first differing index
+     * @return the description of the difference
+     */
+    static String describe(Object expecteds, Object actuals, int index) {
+        if (Array.getLength(expecteds) != Array.getLength(actuals)) {
+            return lengthDifference(expecteds, actuals, index);
+        }
+        return "arrays first differed at element [" + index + "]; " + elementDifference(expecteds, actuals, index);
+    }
+
+    /**
+     * Find the first differing index of two arrays of the same type. Elements
+     * of object arrays are compared with {@link java.util.Objects#deepEquals(Object, Object)}.
+     *
+     * @param expecteds
+     *      the expected array
+     * @param actuals
+     *      the actual array, same type as `expecteds`
+     * @return
+     *      `-1` if the arrays are equal, the first differing index or the
+     *      length of the shorter array if it is a prefix of the other one
+     */
+    static int firstDifference(Object expecteds, Object actuals) {
+        if (isPrimitiveArray(expecteds)) {
+            return mismatch(expecteds, actuals);
+        }
+        Object[] a = (Object[]) expecteds;
+        Object[] b = (Object[]) actuals;
+        int len = Math.min(a.length, b.length);
+        for (int i = 0; i < len; ++i) {
+            if (!Objects.deepEquals(a[i], b[i])) {
+                return i;
+            }
+        }
+        return a.length == b.length ? -1 : len;
+    }
+
+    private static String lengthDifference(Object expecteds, Object actuals, int index) {
+        int expectedLen = Array.getLength(expecteds);
+        int actualLen = Array.getLength(actuals);
+        StringBuilder sb = new StringBuilder("array lengths differed, expected.length=").append(expectedLen)
+                .append(" actual.length=").append(actualLen);
+        if (index < Math.min(expectedLen, actualLen)) {
+            sb.append("; arrays first differed at element [").append(index).append("]");
+        }
+        return sb.append(window(expecteds, actuals, index)).toString();
+    }
+
+    private static String elementDifference(Object expecteds, Object actuals, int index) {
+        return "expected:<" + Array.get(expecteds, index) + "> but was:<" + Array.get(actuals, index) + ">"
+                + window(expecteds, actuals, index);
+    }
+
+    private static void checkNotNull(String message, Object expecteds, Object actuals) {
+        if (null == expecteds) {
+            throw new AssertionError(header(message) + "expected array was null");
+        }
+        if (null == actuals) {
+            throw new AssertionError(header(message) + "actual array was null");
+        }
+    }
+
+    static String header(String message) {
+        return null == message ? "" : message + ": ";
+    }
+
+    private static String window(Object expecteds, Object actuals, int index) {
+        return "\nExpected" + slice(expecteds, index) + "\nActual  " + slice(actuals, index);
+    }
+
+    private static String slice(Object array, int index) {
+        int len = Array.getLength(array);
+        int from = Math.max(0, index - WINDOW);
+        int to = Math.min(len, index + WINDOW + 1);
+        if (from >= to) {
+            return "[" + len + "..]: []";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('[').append(from).append("..").append(to - 1).append("]: [");
+        if (from > 0) {
+            sb.append("..., ");
+        }
+        for (int i = from; i < to; ++i) {
+            if (i > from) {
+                sb.append(", ");
+            }
+            sb.append(Array.get(array, i));
+        }
+        if (to < len) {
+            sb.append(", ...");
+        }
+        return sb.append(']').toString();
+    }
+
+    private static IllegalStateException unexpected(Throwable e) {
+        return new IllegalStateException(e);
+    }
+
+    private static MethodHandle mismatchHandle(Class<?> arrayType) {
+        try {
+            return MethodHandles.publicLookup().findStatic(Arrays.class, "mismatch",
+                    MethodType.methodType(int.class, arrayType, arrayType));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // Java 8
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Call counts and time of the `TestBase` assertions.
+ *
+ * Instrumentation is off unless the `osgl.ut.instrumentation` system
+ * property is `true` when `TestBase` is loaded. {@link #ENABLED} is a
+ * constant, so when it is off the JIT removes the calls of {@link #enter()}
+ * and {@link #exit(Family, long)} completely. When it is on, the statistics
+ * are registered as {@link AssertionStatsMXBean} and dumped to `System.err`
+ * at JVM shutdown. `TestBase` calls them in the family helpers its
+ * assertions delegate to, and `Snapshots` when it checks a snapshot.
+ *
+ * Counters are {@link LongAdder}s, threads update their own cells and do not
+ * contend. An assertion that calls another one, e.g. `eq` with a `null`
+ * expected value checking `isNull`, or an assertion run by `eventually`, is
+ * recorded once for the outermost family, tracked with a per thread depth.
+ */
+final class AssertionStats implements AssertionStatsMXBean {
+
+    /**
+     * The system property that turns instrumentation on.
+     */
+    static final String PROPERTY = "osgl.ut.instrumentation";
+
+    /**
+     * The name the statistics are registered with.
+     */
+    static final String OBJECT_NAME = "osgl.ut:type=AssertionStats";
+
+    static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    private static final AssertionStats INSTANCE = ENABLED ? install() : null;
+
+    /**
+     * The assertion families, named after the `TestBase` methods.
+     */
+    enum Family {
+        YES, NO, EQ, NE, COMPARE, SORTED, EQ_PARALLEL, EQ_IGNORE_ORDER, EQ_MAP, EQ_SEQUENCE, ALL_MATCH, NONE_MATCH,
+        EQ_STRUCTURE, EQ_SNAPSHOT, EQ_CONTENT, IS_NULL, NOT_NULL, IS_EMPTY, NOT_EMPTY, IS_BLANK, NOT_BLANK, SAME, NOT_SAME,
+        RUNS_WITHIN, ALLOCATES_AT_MOST, EVENTUALLY, AWAIT, FAIL;
+
+        final String label = label(name());
+
+        private static String label(String name) {
+            StringBuilder sb = new StringBuilder();
+            boolean upper = false;
+            for (char c : name.toCharArray()) {
+                if (c == '_') {
+                    upper = true;
+                } else {
+                    sb.append(upper ? c : Character.toLowerCase(c));
+                    upper = false;
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    private final LongAdder[] calls = adders();
+    private final LongAdder[] nanos = adders();
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Called when an assertion starts.
+     *
+     * @return the start time, `0` when instrumentation is off
+     */
+    static long enter() {
+        return ENABLED ? INSTANCE.begin() : 0L;
+    }
+
+    /**
+     * Called when an assertion ends, passed or failed.
+     *
+     * @param family
+     *      the family of the assertion
+     * @param start
+     *      the value returned by {@link #enter()}
+     */
+    static void exit(Family family, long start) {
+        if (ENABLED) {
+            INSTANCE.end(family, start);
+        }
+    }
+
+    long begin() {
+        return ++depth.get()[0] == 1 ? System.nanoTime() : 0L;
+    }
+
+    void end(Family family, long start) {
+        if (--depth.get()[0] == 0) {
+            nanos[family.ordinal()].add(System.nanoTime() - start);
+            calls[family.ordinal()].increment();
+        }
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts() {
+        return toMap(calls);
+    }
+
+    @Override
+    public Map<String, Long> getTotalNanos() {
+        return toMap(nanos);
+    }
+
+    @Override
+    public long getTotalCalls() {
+        long total = 0;
+        for (LongAdder adder : calls) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public void reset() {
+        for (Family family : Family.values()) {
+            calls[family.ordinal()].reset();
+            nanos[family.ordinal()].reset();
+        }
+    }
+
+    @Override
+    public String dump() {
+        Family[] families = Family.values();
+        long[] count = new long[families.length];
+        long[] time = new long[families.length];
+        long totalCount = 0;
+        long totalTime = 0;
+        for (Family family : families) {
+            count[family.ordinal()] = calls[family.ordinal()].sum();
+            time[family.ordinal()] = nanos[family.ordinal()].sum();
+            totalCount += count[family.ordinal()];
+            totalTime += time[family.ordinal()];
+        }
+        Arrays.sort(families, Comparator.comparingLong((Family f) -> time[f.ordinal()]).reversed());
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "osgl.ut assertion stats: %d calls, %.3f ms%n%-16s %12s %12s %10s",
+                totalCount, totalTime / 1e6, "family", "calls", "total ms", "avg ns"));
+        for (Family family : families) {
+            long n = count[family.ordinal()];
+            if (n > 0) {
+                long t = time[family.ordinal()];
+                sb.append(String.format(Locale.ROOT, "%n%-16s %12d %12.3f %10d", family.label, n, t / 1e6, t / n));
+            }
+        }
+        return sb.toString();
+    }
+
+    private Map<String, Long> toMap(LongAdder[] adders) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (Family family : Family.values()) {
+            map.put(family.label, adders[family.ordinal()].sum());
+        }
+        return map;
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[Family.values().length];
+        for (int i = 0; i < adders.length; ++i) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static AssertionStats install() {
+        final AssertionStats stats = new AssertionStats();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(stats, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            // e.g. registered by another class loader, the shutdown dump still works
+            System.err.println("osgl.ut: failed to register " + OBJECT_NAME + ": " + e);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (stats.getTotalCalls() > 0) {
+                System.err.println(stats.dump());
+            }
+        }, "osgl-ut-assertion-stats"));
+        return stats;
+    }
+
+}
@@ -0,0 +1,66 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Map;
+
+/**
+ * Management interface of the assertion statistics collected when
+ * `osgl.ut.instrumentation` is set to `true`. It is registered as
+ * `osgl.ut:type=AssertionStats` in the platform MBean server.
+ */
+public interface AssertionStatsMXBean {
+
+    /**
+     * Returns the number of calls of each assertion family, e.g. `eq`.
+     *
+     * @return the call counts by family name
+     */
+    Map<String, Long> getCallCounts();
+
+    /**
+     * Returns the total time spent in each assertion family.
+     *
+     * @return the nanoseconds by family name
+     */
+    Map<String, Long> getTotalNanos();
+
+    /**
+     * Returns the number of calls of all assertions.
+     *
+     * @return the total call count
+     */
+    long getTotalCalls();
+
+    /**
+     * Reset all counters.
+     */
+    void reset();
+
+    /**
+     * Render the statistics as a table, the families that take the most time
+     * first.
+     *
+     * @return the statistics table
+     */
+    String dump();
+
+}
@@ -0,0 +1,362 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs many tasks concurrently and reports the failures of all of them.
+ *
+ * ```
+ * Concurrently.of(100_000, i -> eq(200, client(i).get("/ping").status()))
+ *         .deadline(30, TimeUnit.SECONDS)
+ *         .run();
+ * ```
+ *
+ * On Java 21 and later every task runs on its own virtual thread, so
+ * blocking tasks are cheap and all of them may be in flight at once. On
+ * older JVMs, or with {@link #platformThreads(int)}, the tasks are run by a
+ * bounded pool of platform threads that take the next task index from a
+ * shared counter, which allocates nothing per task.
+ *
+ * Every task exception is counted and the first {@link #maxRecorded(int)} are
+ * kept for the report, as in {@link SoftAssertions}. When the deadline
+ * passes, tasks not started yet are skipped, running tasks are interrupted
+ * and the report tells how many tasks completed.
+ *
+ * `Concurrently` is immutable, the settings return a new `Concurrently`.
+ */
+public final class Concurrently {
+
+    /**
+     * The default deadline in seconds.
+     */
+    public static final long DEFAULT_DEADLINE_SECONDS = 60;
+
+    /**
+     * The number of platform threads used when virtual threads are not
+     * supported.
+     */
+    public static final int DEFAULT_PLATFORM_THREADS = Math.max(4, 4 * Runtime.getRuntime().availableProcessors());
+
+    private static final MethodHandle VIRTUAL_EXECUTOR = virtualExecutorHandle();
+
+    /**
+     * Check the deadline while submitting tasks every this many tasks.
+     */
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final int tasks;
+    private final IntConsumer task;
+    private final long deadlineNanos;
+    private final int maxRecorded;
+    private final int platformThreads;
+
+    private Concurrently(int tasks, IntConsumer task, long deadlineNanos, int maxRecorded, int platformThreads) {
+        this.tasks = tasks;
+        this.task = task;
+        this.deadlineNanos = deadlineNanos;
+        this.maxRecorded = maxRecorded;
+        this.platformThreads = platformThreads;
+    }
+
+    /**
+     * Create a `Concurrently` that runs a task `tasks` times.
+     *
+     * @param tasks
+     *              the number of tasks
+     * @param task
+     *              the task, called with the task index from `0` to `tasks - 1`
+     * @return a `Concurrently` with the default settings
+     * @throws IllegalArgumentException
+     *              if `tasks` is negative
+     */
+    public static Concurrently of(int tasks, IntConsumer task) {
+        if (null == task) {
+            throw new NullPointerException("task");
+        }
+        if (tasks < 0) {
+            throw new IllegalArgumentException("tasks shall not be negative: " + tasks);
+        }
+        return new Concurrently(tasks, task, TimeUnit.SECONDS.toNanos(DEFAULT_DEADLINE_SECONDS),
+                SoftAssertions.DEFAULT_MAX_RECORDED, 0);
+    }
+
+    /**
+     * Set the deadline of all tasks, counted from {@link #run()}.
+     *
+     * @param timeout
+     *              the maximum duration of the run
+     * @param unit
+     *              the unit of `timeout`
+     * @return a `Concurrently` with the new setting
+     * @throws IllegalArgumentException
+     *              if `timeout` is not positive
+     */
+    public Concurrently deadline(long timeout, TimeUnit unit) {
+        if (timeout < 1) {
+            throw new IllegalArgumentException("timeout shall be positive: " + timeout);
+        }
+        return new Concurrently(tasks, task, unit.toNanos(timeout), maxRecorded, platformThreads);
+    }
+
+    /**
+     * Set the maximum number of failures kept for the report.
+     *
+     * @param maxRecorded
+     *              the maximum number of failures kept for reporting
+     * @return a `Concurrently` with the new setting
+     * @throws IllegalArgumentException
+     *              if `maxRecorded` is negative
+     */
+    public Concurrently maxRecorded(int maxRecorded) {
+        if (maxRecorded < 0) {
+            throw new IllegalArgumentException("maxRecorded shall not be negative: " + maxRecorded);
+        }
+        return new Concurrently(tasks, task, deadlineNanos, maxRecorded, platformThreads);
+    }
+
+    /**
+     * Run the tasks on a pool of `threads` platform threads even if virtual
+     * threads are supported.
+     *
+     * @param threads
+     *              the number of platform threads
+     * @return a `Concurrently` with the new setting
+     * @throws IllegalArgumentException
+     *              if `threads` is not positive
+     */
+    public Concurrently platformThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads shall be positive: " + threads);
+        }
+        return new Concurrently(tasks, task, deadlineNanos, maxRecorded, threads);
+    }
+
+    /**
+     * Run all tasks and wait until they complete or the deadline passes.
+     *
+     * @throws AssertionError
+     *              if any task threw or the deadline passed, the first
+     *              recorded failure is the cause
+     */
+    public void run() {
+        new Execution(this).run();
+    }
+
+    /**
+     * Returns whether tasks run on virtual threads by default.
+     *
+     * @return `true` on Java 21 and later
+     */
+    static boolean virtualThreadsSupported() {
+        return null != VIRTUAL_EXECUTOR;
+    }
+
+    private static MethodHandle virtualExecutorHandle() {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            // preview API on Java 19 and 20, throws unless preview features are enabled
+            ((ExecutorService) handle.invoke()).shutdown();
+            return handle;
+        } catch (Throwable e) {
+            // before Java 21
+            return null;
+        }
+    }
+
+    /**
+     * The state of one {@link #run()}.
+     */
+    private static final class Execution {
+        private final Concurrently settings;
+        private final CountDownLatch done;
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicReferenceArray<Failure> failures;
+        private volatile boolean cancelled;
+        private long completedAtDeadline;
+
+        Execution(Concurrently settings) {
+            this.settings = settings;
+            this.done = new CountDownLatch(settings.tasks);
+            this.failures = new AtomicReferenceArray<>(settings.maxRecorded);
+        }
+
+        void run() {
+            long deadline = System.nanoTime() + settings.deadlineNanos;
+            boolean completed;
+            if (0 == settings.platformThreads && virtualThreadsSupported()) {
+                completed = runOnVirtualThreads(deadline);
+            } else {
+                int threads = 0 == settings.platformThreads ? DEFAULT_PLATFORM_THREADS : settings.platformThreads;
+                completed = runOnPlatformThreads(Math.min(threads, settings.tasks), deadline);
+            }
+            long failures = failed.get();
+            if (completed && 0 == failures) {
+                return;
+            }
+            StringBuilder sb = new StringBuilder();
+            if (!completed) {
+                sb.append("deadline of ").append(Timing.duration(settings.deadlineNanos)).append(" exceeded, ")
+                        .append(completedAtDeadline).append(" of ").append(settings.tasks)
+                        .append(" tasks completed, ").append(failures).append(" failed");
+            } else {
+                sb.append(failures).append(" of ").append(settings.tasks)
+                        .append(settings.tasks == 1 ? " task" : " tasks").append(" failed");
+            }
+            throw report(sb, failures);
+        }
+
+        private boolean runOnVirtualThreads(long deadline) {
+            ExecutorService executor;
+            try {
+                executor = (ExecutorService) VIRTUAL_EXECUTOR.invoke();
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            boolean completed = false;
+            try {
+                for (int i = 0; i < settings.tasks; ++i) {
+                    if (i % CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+                        return false;
+                    }
+                    final int index = i;
+                    executor.execute(() -> runTask(index));
+                }
+                completed = await(deadline);
+                return completed;
+            } finally {
+                if (completed) {
+                    executor.shutdown();
+                } else {
+                    cancel();
+                    executor.shutdownNow();
+                }
+            }
+        }
+
+        private boolean runOnPlatformThreads(int threads, long deadline) {
+            AtomicInteger next = new AtomicInteger();
+            Thread[] workers = new Thread[threads];
+            for (int i = 0; i < threads; ++i) {
+                workers[i] = new Thread(() -> {
+                    int index;
+                    while (!cancelled && (index = next.getAndIncrement()) < settings.tasks) {
+                        runTask(index);
+                    }
+                }, "osgl-ut-concurrently-" + i);
+                workers[i].setDaemon(true);
+                workers[i].start();
+            }
+            boolean completed = false;
+            try {
+                completed = await(deadline);
+                return completed;
+            } finally {
+                if (!completed) {
+                    cancel();
+                    for (Thread worker : workers) {
+                        worker.interrupt();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Skip the tasks not started yet, before interrupting the running
+         * ones, which then complete.
+         */
+        private void cancel() {
+            completedAtDeadline = settings.tasks - done.getCount();
+            cancelled = true;
+        }
+
+        private void runTask(int index) {
+            if (cancelled) {
+                return;
+            }
+            try {
+                settings.task.accept(index);
+            } catch (Throwable e) {
+                long n = failed.getAndIncrement();
+                if (n < failures.length()) {
+                    failures.set((int) n, new Failure(index, e));
+                }
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private boolean await(long deadline) {
+            try {
+                return done.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private AssertionError report(StringBuilder sb, long failed) {
+            int recorded = (int) Math.min(failed, failures.length());
+            Throwable cause = null;
+            int rendered = 0;
+            for (int i = 0; i < recorded; ++i) {
+                Failure failure = failures.get(i);
+                if (null == failure) {
+                    // still being recorded by a task running past the deadline
+                    continue;
+                }
+                if (null == cause) {
+                    cause = failure.error;
+                }
+                sb.append("\n  ").append(++rendered).append(") task #").append(failure.index).append(": ")
+                        .append(failure.error);
+            }
+            long more = failed - rendered;
+            if (more > 0) {
+                sb.append("\n  ... ").append(more).append(" more failures not recorded");
+            }
+            return new AssertionError(sb.toString(), cause);
+        }
+    }
+
+    private static final class Failure {
+        private final int index;
+        private final Throwable error;
+
+        Failure(int index, Throwable error) {
+            this.index = index;
+            this.error = error;
+        }
+    }
+
+}
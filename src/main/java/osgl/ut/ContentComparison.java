@@ -0,0 +1,465 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Comparison of binary content.
+ *
+ * Files are compared chunk by chunk through read only memory mappings, the
+ * content is never copied to the heap. Streams and channels are read into two
+ * reusable buffers of {@link #BUFFER} bytes, direct buffers for channels. All
+ * content is compared with the vectorized `ByteBuffer.mismatch` on Java 11+ and
+ * with a long-wise loop on older versions.
+ */
+final class ContentComparison {
+
+    /**
+     * Size of the file regions mapped at a time.
+     */
+    static final int CHUNK = 1 << 26;
+
+    /**
+     * Size of the buffers streams and channels are read into.
+     */
+    static final int BUFFER = 1 << 16;
+
+    /**
+     * Number of bytes shown on each side of the first differing byte.
+     */
+    static final int CONTEXT = 16;
+
+    private static final MethodHandle BYTE_BUFFER_MISMATCH = byteBufferMismatchHandle();
+
+    private ContentComparison() {
+    }
+
+    /**
+     * Compare the content of two files. Sizes are compared first, so files of
+     * different sizes are reported without reading any content.
+     *
+     * @param expected
+     *      the expected file
+     * @param actual
+     *      the actual file
+     * @return `null` if the files have the same content, otherwise the
+     *      description of the first difference
+     * @throws IOException
+     *      if any of the files can't be read
+     */
+    static String difference(Path expected, Path actual) throws IOException {
+        return difference(expected, actual, CHUNK);
+    }
+
+    /**
+     * Compare the content of two files mapping `chunk` bytes at a time.
+     */
+    static String difference(Path expected, Path actual, int chunk) throws IOException {
+        if (Files.isSameFile(expected, actual)) {
+            return null;
+        }
+        long size = Files.size(expected);
+        long actualSize = Files.size(actual);
+        if (size != actualSize) {
+            return "file sizes differed, expected.size=" + size + " actual.size=" + actualSize;
+        }
+        try (FileChannel expectedChannel = FileChannel.open(expected, StandardOpenOption.READ);
+             FileChannel actualChannel = FileChannel.open(actual, StandardOpenOption.READ)) {
+            for (long position = 0; position < size; position += chunk) {
+                long len = Math.min(chunk, size - position);
+                MappedByteBuffer expectedChunk = expectedChannel.map(FileChannel.MapMode.READ_ONLY, position, len);
+                MappedByteBuffer actualChunk = actualChannel.map(FileChannel.MapMode.READ_ONLY, position, len);
+                int index = mismatch(expectedChunk, actualChunk);
+                if (index >= 0) {
+                    return describe(expectedChannel, actualChannel, position + index, chunk);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compare the remaining content of two byte buffers. The positions of the
+     * buffers are not changed.
+     *
+     * @param expected
+     *      the expected buffer, `null` okay
+     * @param actual
+     *      the actual buffer, `null` okay
+     * @return `null` if the remaining content is equal, otherwise the
+     *      description of the first difference, offsets are relative to the
+     *      positions of the buffers
+     */
+    @SuppressWarnings("ReferenceEquality")
+    static String difference(ByteBuffer expected, ByteBuffer actual) {
+        // identity only: ByteBuffer.equals compares the remaining content, as mismatch does below
+        if (expected == actual) {
+            return null;
+        }
+        if (null == expected || null == actual) {
+            return (null == expected ? "expected" : "actual") + " buffer was null";
+        }
+        int index = mismatch(expected, actual);
+        if (index < 0) {
+            return null;
+        }
+        return describe("buffer contents", expected, actual, 0, index, false, false);
+    }
+
+    /**
+     * Compare the content of two input streams until the first difference
+     * or the end of both streams. The streams are not closed.
+     *
+     * @param expected
+     *      the expected stream
+     * @param actual
+     *      the actual stream
+     * @return `null` if the streams have the same content, otherwise the
+     *      description of the first difference
+     * @throws IOException
+     *      if any of the streams can't be read
+     */
+    static String difference(InputStream expected, InputStream actual) throws IOException {
+        if (expected == actual) {
+            return null;
+        }
+        return difference("stream contents", source(expected), source(actual),
+                ByteBuffer.allocate(BUFFER), ByteBuffer.allocate(BUFFER));
+    }
+
+    /**
+     * Compare the content of two channels until the first difference or the
+     * end of both channels. The channels are not closed.
+     *
+     * @param expected
+     *      the expected channel
+     * @param actual
+     *      the actual channel
+     * @return `null` if the channels have the same content, otherwise the
+     *      description of the first difference
+     * @throws IOException
+     *      if any of the channels can't be read
+     */
+    static String difference(ReadableByteChannel expected, ReadableByteChannel actual) throws IOException {
+        if (expected == actual) {
+            return null;
+        }
+        return difference("channel contents", expected, actual,
+                ByteBuffer.allocateDirect(BUFFER), ByteBuffer.allocateDirect(BUFFER));
+    }
+
+    /**
+     * Compare two sources chunk by chunk. In every round both buffers are
+     * filled, the common length is compared and consumed, and the rest is
+     * compacted, so index `0` of both buffers is always at the same offset.
+     */
+    private static String difference(String what, ReadableByteChannel expected, ReadableByteChannel actual,
+                                     ByteBuffer expectedBuffer, ByteBuffer actualBuffer) throws IOException {
+        long offset = 0;
+        boolean expectedEnd = false;
+        boolean actualEnd = false;
+        while (true) {
+            expectedEnd = expectedEnd || fill(expected, expectedBuffer);
+            actualEnd = actualEnd || fill(actual, actualBuffer);
+            expectedBuffer.flip();
+            actualBuffer.flip();
+            int n = Math.min(expectedBuffer.remaining(), actualBuffer.remaining());
+            int index = mismatch(expectedBuffer, actualBuffer);
+            boolean expectedDone = expectedEnd && expectedBuffer.remaining() == n;
+            boolean actualDone = actualEnd && actualBuffer.remaining() == n;
+            if (index >= 0 && (index < n || expectedDone || actualDone)) {
+                // a differing byte, or one of the sources ended before the other one
+                return describe(what, expectedBuffer, actualBuffer, offset, index, !expectedEnd, !actualEnd);
+            }
+            if (index < 0 && expectedDone && actualDone) {
+                return null;
+            }
+            expectedBuffer.position(n);
+            actualBuffer.position(n);
+            expectedBuffer.compact();
+            actualBuffer.compact();
+            offset += n;
+        }
+    }
+
+    /**
+     * Read from a source until the buffer is full or the source ends.
+     *
+     * @return `true` if the source ended
+     */
+    private static boolean fill(ReadableByteChannel source, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = source.read(buffer);
+            if (n < 0) {
+                return true;
+            }
+            if (n == 0) {
+                // nothing available right now
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adapt an input stream to a channel that reads directly into the array
+     * of a heap buffer.
+     */
+    private static ReadableByteChannel source(final InputStream in) {
+        return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                int n = in.read(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+                if (n > 0) {
+                    dst.position(dst.position() + n);
+                }
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Describe the first difference of two buffers, the difference is at
+     * `index` relative to the buffer positions.
+     */
+    private static String describe(String what, ByteBuffer expected, ByteBuffer actual, long offset, int index,
+                                   boolean expectedMore, boolean actualMore) {
+        int from = Math.max(0, index - CONTEXT);
+        ByteBuffer expectedContext = context(expected, from, index);
+        ByteBuffer actualContext = context(actual, from, index);
+        boolean expectedAfter = expectedMore || expected.position() + index + CONTEXT + 1 < expected.limit();
+        boolean actualAfter = actualMore || actual.position() + index + CONTEXT + 1 < actual.limit();
+        return describe(what, offset + index, "", expectedContext, actualContext, offset + from,
+                offset + from > 0, expectedAfter, actualAfter);
+    }
+
+    private static ByteBuffer context(ByteBuffer buffer, int from, int index) {
+        ByteBuffer context = buffer.duplicate();
+        int start = buffer.position() + from;
+        context.position(start);
+        context.limit(Math.min(buffer.limit(), Math.max(start, buffer.position() + index + CONTEXT + 1)));
+        return context;
+    }
+
+    /**
+     * Find the first differing byte in the remaining content of two buffers.
+     * The positions of the buffers are not changed.
+     *
+     * @param a
+     *      a buffer
+     * @param b
+     *      another buffer
+     * @return
+     *      `-1` if the remaining bytes are equal, the first differing index
+     *      relative to the positions or the smaller remaining size if the
+     *      remaining bytes of one buffer is a prefix of the other one
+     */
+    static int mismatch(ByteBuffer a, ByteBuffer b) {
+        if (null != BYTE_BUFFER_MISMATCH) {
+            try {
+                return (int) BYTE_BUFFER_MISMATCH.invokeExact(a, b);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return scan(a, b);
+    }
+
+    /**
+     * The Java 8 implementation of {@link #mismatch(ByteBuffer, ByteBuffer)}.
+     */
+    static int scan(ByteBuffer a, ByteBuffer b) {
+        int n = Math.min(a.remaining(), b.remaining());
+        int pa = a.position();
+        int pb = b.position();
+        int i = 0;
+        // 8 bytes at a time only when both buffers read longs in the same byte order,
+        // otherwise different bytes could give equal longs
+        if (a.order() == b.order()) {
+            while (i + 8 <= n && a.getLong(pa + i) == b.getLong(pb + i)) {
+                i += 8;
+            }
+        }
+        for (; i < n; ++i) {
+            if (a.get(pa + i) != b.get(pb + i)) {
+                return i;
+            }
+        }
+        return a.remaining() == b.remaining() ? -1 : n;
+    }
+
+    /**
+     * Describe the first differing byte of two files of the same size,
+     * including its line and column counted in the expected file.
+     */
+    private static String describe(FileChannel expected, FileChannel actual, long offset, int chunk)
+            throws IOException {
+        long line = 1;
+        long lineStart = 0;
+        for (long position = 0; position < offset; position += chunk) {
+            int len = (int) Math.min(chunk, offset - position);
+            MappedByteBuffer buffer = expected.map(FileChannel.MapMode.READ_ONLY, position, len);
+            for (int i = 0; i < len; ++i) {
+                if (buffer.get(i) == '\n') {
+                    ++line;
+                    lineStart = position + i + 1;
+                }
+            }
+        }
+        long size = expected.size();
+        long from = Math.max(0, offset - CONTEXT);
+        long to = Math.min(size, offset + CONTEXT + 1);
+        ByteBuffer expectedContext = read(expected, from, to);
+        ByteBuffer actualContext = read(actual, from, to);
+        return describe("file contents", offset, ", line " + line + ", column " + (offset - lineStart + 1),
+                expectedContext, actualContext, from, from > 0, to < size, to < size);
+    }
+
+    /**
+     * Describe the first differing byte.
+     *
+     * @param what
+     *      what differed, e.g. `"file contents"`
+     * @param offset
+     *      the absolute offset of the first differing byte
+     * @param position
+     *      extra position information, e.g. line and column, `""` if not available
+     * @param expected
+     *      the expected bytes around `offset`, from position to limit
+     * @param actual
+     *      the actual bytes around `offset`, from position to limit
+     * @param from
+     *      the absolute offset of the first context byte
+     * @param before
+     *      `true` if there are bytes before the context
+     * @param expectedAfter
+     *      `true` if there are expected bytes after the context
+     * @param actualAfter
+     *      `true` if there are actual bytes after the context
+     * @return the description
+     */
+    static String describe(String what, long offset, String position, ByteBuffer expected, ByteBuffer actual,
+                           long from, boolean before, boolean expectedAfter, boolean actualAfter) {
+        int index = (int) (offset - from);
+        StringBuilder sb = new StringBuilder(what).append(" differed at byte offset ").append(offset)
+                .append(position).append("; expected:<");
+        hexOrEnd(sb, expected, index).append("> but was:<");
+        hexOrEnd(sb, actual, index).append(">");
+        sb.append("\nExpected");
+        context(sb, expected, from, before, expectedAfter);
+        sb.append("\nActual  ");
+        context(sb, actual, from, before, actualAfter);
+        return sb.toString();
+    }
+
+    private static StringBuilder hexOrEnd(StringBuilder sb, ByteBuffer buffer, int index) {
+        if (index >= buffer.remaining()) {
+            return sb.append("EOF");
+        }
+        int b = buffer.get(buffer.position() + index) & 0xFF;
+        return sb.append("0x").append(Character.forDigit(b >> 4, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+
+    private static void context(StringBuilder sb, ByteBuffer buffer, long from, boolean before, boolean after) {
+        int len = buffer.remaining();
+        sb.append('[').append(from).append("..").append(from + len - 1).append("]: ");
+        if (before) {
+            sb.append("...");
+        }
+        sb.append('"');
+        for (int i = 0; i < len; ++i) {
+            escape(sb, buffer.get(buffer.position() + i) & 0xFF);
+        }
+        sb.append('"');
+        if (after) {
+            sb.append("...");
+        }
+    }
+
+    private static void escape(StringBuilder sb, int b) {
+        switch (b) {
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            case '"':
+                sb.append("\\\"");
+                break;
+            case '\\':
+                sb.append("\\\\");
+                break;
+            default:
+                if (b >= 0x20 && b < 0x7F) {
+                    sb.append((char) b);
+                } else {
+                    sb.append("\\x").append(Character.forDigit(b >> 4, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long from, long to) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, from + buffer.position()) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static MethodHandle byteBufferMismatchHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(ByteBuffer.class, "mismatch",
+                    MethodType.methodType(int.class, ByteBuffer.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // Java 8, 9 and 10
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,436 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Line and element diff rendered as a unified diff.
+ *
+ * Lines (or list elements) are interned to `int` ids first, so the diff
+ * compares `int`s only. The common prefix and suffix are skipped, and the
+ * rest is compared with the linear space variant of Myers' O(ND) algorithm:
+ * the middle snake of the optimal edit path is found by searching forward and
+ * backward at the same time, and both halves are diffed recursively. The
+ * number of steps is capped by {@link #MAX_WORK}, inputs that need more
+ * give no diff instead of hanging the build. The memory is bounded as well:
+ * inputs of more than {@link #MAX_SIZE} lines or elements, or strings of
+ * more than {@link #MAX_CHARS} characters, give no diff without being copied.
+ */
+final class Diff {
+
+    /**
+     * Number of unchanged lines shown around each change.
+     */
+    static final int CONTEXT = 3;
+
+    /**
+     * Maximum number of steps spent on a diff.
+     */
+    static final long MAX_WORK = 1L << 24;
+
+    /**
+     * Maximum number of lines or elements of each input.
+     */
+    static final int MAX_SIZE = 100_000;
+
+    /**
+     * Maximum number of characters of each string.
+     */
+    static final int MAX_CHARS = 1 << 24;
+
+    private final int[] a;
+    private final int[] b;
+    private final boolean[] deleted;
+    private final boolean[] inserted;
+    private final long maxWork;
+    private int[] forward;
+    private int[] backward;
+    private long work;
+
+    private Diff(int[] a, int[] b, long maxWork) {
+        this.a = a;
+        this.b = b;
+        this.deleted = new boolean[a.length];
+        this.inserted = new boolean[b.length];
+        this.maxWork = maxWork;
+    }
+
+    /**
+     * Diff two strings line by line.
+     *
+     * @param expected
+     *      the expected string
+     * @param actual
+     *      the actual string
+     * @param limit
+     *      the approximate maximum number of characters rendered
+     * @return the unified diff, or `null` if the lines are equal or the diff
+     *      is too expensive
+     */
+    static String unified(String expected, String actual, int limit) {
+        if (expected.length() > MAX_CHARS || actual.length() > MAX_CHARS) {
+            return null;
+        }
+        String[] e = lines(expected);
+        String[] a = null == e ? null : lines(actual);
+        return null == a ? null : unified(e, a, limit, MAX_WORK);
+    }
+
+    /**
+     * Diff two lists element by element.
+     *
+     * @param expected
+     *      the expected list
+     * @param actual
+     *      the actual list
+     * @param limit
+     *      the approximate maximum number of characters rendered
+     * @return the unified diff, or `null` if the elements are equal or the
+     *      diff is too expensive
+     */
+    static String unified(List<?> expected, List<?> actual, int limit) {
+        if (expected.size() > MAX_SIZE || actual.size() > MAX_SIZE) {
+            return null;
+        }
+        return unified(expected.toArray(), actual.toArray(), limit, MAX_WORK);
+    }
+
+    /**
+     * Diff two arrays element by element spending at most `maxWork` steps.
+     */
+    static String unified(Object[] expected, Object[] actual, int limit, long maxWork) {
+        if (expected.length > MAX_SIZE || actual.length > MAX_SIZE) {
+            return null;
+        }
+        Map<Object, Integer> ids = new HashMap<>();
+        int[] a = ids(expected, ids);
+        int[] b = ids(actual, ids);
+        Diff diff = new Diff(a, b, maxWork);
+        if (!diff.run(ids.size())) {
+            return null;
+        }
+        return diff.render(expected, actual, limit);
+    }
+
+    /**
+     * @return the lines of `s`, or `null` if there are more than {@link #MAX_SIZE}
+     */
+    private static String[] lines(String s) {
+        int count = 1;
+        for (int i = s.indexOf('\n'); i >= 0; i = s.indexOf('\n', i + 1)) {
+            if (++count > MAX_SIZE) {
+                return null;
+            }
+        }
+        String[] lines = new String[count];
+        int from = 0;
+        for (int i = 0; i < count - 1; ++i) {
+            int to = s.indexOf('\n', from);
+            lines[i] = s.substring(from, to);
+            from = to + 1;
+        }
+        lines[count - 1] = s.substring(from);
+        return lines;
+    }
+
+    private static int[] ids(Object[] elements, Map<Object, Integer> ids) {
+        int[] result = new int[elements.length];
+        for (int i = 0; i < elements.length; ++i) {
+            Integer id = ids.get(elements[i]);
+            if (null == id) {
+                id = ids.size();
+                ids.put(elements[i], id);
+            }
+            result[i] = id;
+        }
+        return result;
+    }
+
+    /**
+     * @param distinct
+     *      the number of distinct ids
+     * @return `false` if the work cap was exceeded
+     */
+    private boolean run(int distinct) {
+        if (disjoint(distinct)) {
+            return true;
+        }
+        int max = (a.length + b.length + 1) / 2 * 2 + 2;
+        forward = new int[max];
+        backward = new int[max];
+        diff(0, a.length, 0, b.length);
+        return work <= maxWork;
+    }
+
+    /**
+     * Mark every element as changed if no element is both expected and
+     * actual, apart from the common prefix and suffix. That is the diff, and
+     * the search would have to go all the way to find it.
+     */
+    private boolean disjoint(int distinct) {
+        int aLo = 0;
+        int aHi = a.length;
+        int bLo = 0;
+        int bHi = b.length;
+        while (aLo < aHi && bLo < bHi && a[aLo] == b[bLo]) {
+            ++aLo;
+            ++bLo;
+        }
+        while (aLo < aHi && bLo < bHi && a[aHi - 1] == b[bHi - 1]) {
+            --aHi;
+            --bHi;
+        }
+        boolean[] expected = new boolean[distinct];
+        for (int i = aLo; i < aHi; ++i) {
+            expected[a[i]] = true;
+        }
+        for (int j = bLo; j < bHi; ++j) {
+            if (expected[b[j]]) {
+                return false;
+            }
+        }
+        Arrays.fill(deleted, aLo, aHi, true);
+        Arrays.fill(inserted, bLo, bHi, true);
+        return true;
+    }
+
+    private void diff(int aLo, int aHi, int bLo, int bHi) {
+        while (aLo < aHi && bLo < bHi && a[aLo] == b[bLo]) {
+            ++aLo;
+            ++bLo;
+        }
+        while (aLo < aHi && bLo < bHi && a[aHi - 1] == b[bHi - 1]) {
+            --aHi;
+            --bHi;
+        }
+        if (aLo == aHi) {
+            Arrays.fill(inserted, bLo, bHi, true);
+            return;
+        }
+        if (bLo == bHi) {
+            Arrays.fill(deleted, aLo, aHi, true);
+            return;
+        }
+        long split = middleSnake(aLo, aHi, bLo, bHi);
+        if (work > maxWork) {
+            return;
+        }
+        if (split < 0) {
+            Arrays.fill(deleted, aLo, aHi, true);
+            Arrays.fill(inserted, bLo, bHi, true);
+            return;
+        }
+        int x = (int) (split >>> 32);
+        int y = (int) split;
+        diff(aLo, x, bLo, y);
+        diff(x, aHi, y, bHi);
+    }
+
+    /**
+     * Find a point on the middle snake of an optimal edit path of
+     * `a[aLo, aHi)` and `b[bLo, bHi)`, neither empty and with different first
+     * and last elements.
+     *
+     * @return the point as `x << 32 | y`, or `-1` if there is none or the work
+     *      cap was exceeded
+     */
+    private long middleSnake(int aLo, int aHi, int bLo, int bHi) {
+        int n = aHi - aLo;
+        int m = bHi - bLo;
+        int maxD = (n + m + 1) / 2;
+        int offset = maxD;
+        int len = 2 * maxD;
+        int[] vf = forward;
+        int[] vb = backward;
+        Arrays.fill(vf, 0, len + 2, -1);
+        Arrays.fill(vb, 0, len + 2, -1);
+        vf[offset + 1] = 0;
+        vb[offset + 1] = 0;
+        int delta = n - m;
+        // with an odd delta the forward path meets the backward one
+        boolean front = (delta & 1) != 0;
+        int kfStart = 0;
+        int kfEnd = 0;
+        int kbStart = 0;
+        int kbEnd = 0;
+        for (int d = 0; d < maxD; ++d) {
+            if (work > maxWork) {
+                return -1;
+            }
+            for (int k = -d + kfStart; k <= d - kfEnd; k += 2) {
+                int kOffset = offset + k;
+                int x = k == -d || (k != d && vf[kOffset - 1] < vf[kOffset + 1]) ? vf[kOffset + 1] : vf[kOffset - 1] + 1;
+                int y = x - k;
+                int snake = x;
+                while (x < n && y < m && a[aLo + x] == b[bLo + y]) {
+                    ++x;
+                    ++y;
+                }
+                work += x - snake + 1;
+                vf[kOffset] = x;
+                if (x > n) {
+                    kfEnd += 2;
+                } else if (y > m) {
+                    kfStart += 2;
+                } else if (front) {
+                    int kbOffset = offset + delta - k;
+                    if (kbOffset >= 0 && kbOffset < len && vb[kbOffset] != -1 && x >= n - vb[kbOffset]) {
+                        return (long) (aLo + x) << 32 | (bLo + y);
+                    }
+                }
+            }
+            for (int k = -d + kbStart; k <= d - kbEnd; k += 2) {
+                int kOffset = offset + k;
+                int x = k == -d || (k != d && vb[kOffset - 1] < vb[kOffset + 1]) ? vb[kOffset + 1] : vb[kOffset - 1] + 1;
+                int y = x - k;
+                int snake = x;
+                while (x < n && y < m && a[aHi - x - 1] == b[bHi - y - 1]) {
+                    ++x;
+                    ++y;
+                }
+                work += x - snake + 1;
+                vb[kOffset] = x;
+                if (x > n) {
+                    kbEnd += 2;
+                } else if (y > m) {
+                    kbStart += 2;
+                } else if (!front) {
+                    int kfOffset = offset + delta - k;
+                    if (kfOffset >= 0 && kfOffset < len && vf[kfOffset] != -1) {
+                        int xf = vf[kfOffset];
+                        int yf = offset + xf - kfOffset;
+                        if (xf >= n - x) {
+                            return (long) (aLo + xf) << 32 | (bLo + yf);
+                        }
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Render the changes as unified diff hunks until about `limit`
+     * characters, the remaining hunks are counted only.
+     */
+    private String render(Object[] expected, Object[] actual, int limit) {
+        Blocks blocks = new Blocks();
+        if (!blocks.next()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder("--- expected\n+++ actual");
+        int more = 0;
+        boolean hasNext = true;
+        while (hasNext) {
+            int i0 = blocks.i0;
+            int j0 = blocks.j0;
+            int aStart = Math.max(0, i0 - CONTEXT);
+            int bStart = j0 - (i0 - aStart);
+            if (sb.length() >= limit) {
+                ++more;
+                // skip the blocks of this hunk
+                do {
+                    int i1 = blocks.i1;
+                    hasNext = blocks.next();
+                    if (hasNext && blocks.i0 - i1 > 2 * CONTEXT) {
+                        break;
+                    }
+                } while (hasNext);
+                continue;
+            }
+            StringBuilder hunk = new StringBuilder();
+            int i = aStart;
+            int j = bStart;
+            do {
+                for (; i < blocks.i0; ++i, ++j) {
+                    line(hunk, ' ', expected[i]);
+                }
+                for (; i < blocks.i1; ++i) {
+                    line(hunk, '-', expected[i]);
+                }
+                for (; j < blocks.j1; ++j) {
+                    line(hunk, '+', actual[j]);
+                }
+                hasNext = blocks.next();
+            } while (hasNext && blocks.i0 - i <= 2 * CONTEXT);
+            int aEnd = Math.min(expected.length, i + CONTEXT);
+            int bEnd = j + (aEnd - i);
+            for (; i < aEnd; ++i) {
+                line(hunk, ' ', expected[i]);
+            }
+            sb.append("\n@@ -").append(start(aStart, aEnd)).append(',').append(aEnd - aStart)
+                    .append(" +").append(start(bStart, bEnd)).append(',').append(bEnd - bStart).append(" @@")
+                    .append(hunk);
+        }
+        if (more > 0) {
+            sb.append("\n... ").append(more).append(more == 1 ? " more hunk" : " more hunks");
+        }
+        return sb.toString();
+    }
+
+    private static int start(int from, int to) {
+        // an empty range starts at the line before it
+        return from == to ? from : from + 1;
+    }
+
+    private static void line(StringBuilder sb, char prefix, Object element) {
+        sb.append('\n').append(prefix).append(FailureRendering.truncate(String.valueOf(element)));
+    }
+
+    /**
+     * Iterates over the changed blocks, `[i0, i1)` of `a` is replaced with
+     * `[j0, j1)` of `b`.
+     */
+    private final class Blocks {
+        int i0;
+        int i1;
+        int j0;
+        int j1;
+        private int i;
+        private int j;
+
+        boolean next() {
+            while (i < a.length && j < b.length && !deleted[i] && !inserted[j]) {
+                ++i;
+                ++j;
+            }
+            if (i == a.length && j == b.length) {
+                return false;
+            }
+            i0 = i;
+            j0 = j;
+            while (i < a.length && deleted[i]) {
+                ++i;
+            }
+            while (j < b.length && inserted[j]) {
+                ++j;
+            }
+            i1 = i;
+            j1 = j;
+            return true;
+        }
+    }
+
+}
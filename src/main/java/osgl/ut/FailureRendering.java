@@ -0,0 +1,542 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Assert;
+import org.junit.ComparisonFailure;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rendering of failure messages with a bounded size.
+ *
+ * Values that render within the budget are reported exactly as JUnit does,
+ * strings with a {@link ComparisonFailure}. Larger values are never rendered
+ * in full: lists and multi-line strings are reported as a unified {@link Diff}
+ * of about `2 * budget` characters, collections and maps are rendered element
+ * by element up to the budget, and other strings report a window of at most
+ * `budget` characters around the first differing character. When a diff is
+ * too expensive, lists report a window around the first differing element and
+ * strings a window around the first differing character. The budget is
+ * the maximum number of characters rendered for each value, and is read
+ * from the {@link #BUDGET_PROPERTY} system property when a failure is
+ * reported. Strings, arrays, collections and maps nested in a value are
+ * rendered only up to the budget, see {@link Rendering}.
+ */
+final class FailureRendering {
+
+    /**
+     * The system property that sets the budget.
+     */
+    static final String BUDGET_PROPERTY = "osgl.ut.failure.budget";
+
+    /**
+     * The budget when {@link #BUDGET_PROPERTY} is not set.
+     */
+    static final int DEFAULT_BUDGET = 1000;
+
+    /**
+     * The smallest budget accepted, smaller values are raised to it.
+     */
+    static final int MIN_BUDGET = 32;
+
+    /**
+     * Values other than character sequences are rendered up to this many
+     * budgets to find where their representations differ.
+     */
+    private static final int SEARCHED_BUDGETS = 4;
+
+    private FailureRendering() {
+    }
+
+    /**
+     * Returns the current budget.
+     *
+     * @return the maximum number of characters rendered for each value
+     */
+    static int budget() {
+        return Math.max(MIN_BUDGET, Integer.getInteger(BUDGET_PROPERTY, DEFAULT_BUDGET));
+    }
+
+    /**
+     * Fails with a message describing why two unequal objects differ.
+     *
+     * @param message
+     *      the failure message, `null` okay
+     * @param expected
+     *      the expected value, not an array
+     * @param actual
+     *      the actual value
+     */
+    static void failNotEquals(String message, Object expected, Object actual) {
+        int budget = budget();
+        if (expected instanceof String && actual instanceof String) {
+            String e = (String) expected;
+            String a = (String) actual;
+            if (e.length() <= budget && a.length() <= budget) {
+                Assert.assertEquals(message, e, a);
+            }
+            throw new BoundedComparisonFailure(header(message), e, a, budget);
+        }
+        String difference = largeDifference(expected, actual, budget);
+        if (null != difference) {
+            throw new AssertionError(header(message) + difference);
+        }
+        String prefix = null == message || message.isEmpty() ? "" : message + " ";
+        throw new AssertionError(prefix + smallDifference(expected, actual, budget));
+    }
+
+    /**
+     * Describes why two unequal objects differ.
+     *
+     * @param expected
+     *      the expected value, not an array
+     * @param actual
+     *      the actual value
+     * @return `expected:<..> but was:<..>` if both values render within the
+     *      budget, otherwise a bounded description
+     */
+    static String difference(Object expected, Object actual) {
+        int budget = budget();
+        String difference = largeDifference(expected, actual, budget);
+        return null != difference ? difference : smallDifference(expected, actual, budget);
+    }
+
+    /**
+     * Renders a value within the budget.
+     *
+     * @param o
+     *      a value, arrays are rendered as {@link java.util.Arrays#deepToString(Object[])} does
+     * @return the representation of `o` or its first `budget` characters
+     *      followed by its length
+     */
+    static String render(Object o) {
+        return truncated(o, budget());
+    }
+
+    /**
+     * Truncates a string to the budget.
+     *
+     * @param s
+     *      a string
+     * @return `s` or its first `budget` characters followed by its length
+     */
+    static String truncate(String s) {
+        int budget = budget();
+        if (s.length() <= budget) {
+            return s;
+        }
+        return s.substring(0, budget) + "...(length=" + s.length() + ")";
+    }
+
+    /**
+     * Describe values with too many elements to render, or `null` if both
+     * values may render within the budget.
+     */
+    private static String largeDifference(Object expected, Object actual, int budget) {
+        if (!isLarge(expected, budget) && !isLarge(actual, budget)) {
+            return null;
+        }
+        if (expected instanceof List && actual instanceof List) {
+            List<?> e = (List<?>) expected;
+            List<?> a = (List<?>) actual;
+            String diff = Diff.unified(e, a, 2 * budget);
+            if (null != diff) {
+                return "lists differed, expected.size=" + e.size() + " actual.size=" + a.size() + "\n" + diff;
+            }
+            String difference = SequenceComparison.difference("list", e.iterator(), a.iterator());
+            if (null != difference) {
+                return difference;
+            }
+        }
+        return "expected:<" + bounded(expected, budget) + "> but was:<" + bounded(actual, budget) + ">";
+    }
+
+    private static String smallDifference(Object expected, Object actual, int budget) {
+        CharSequence e = representation(expected, SEARCHED_BUDGETS * budget);
+        CharSequence a = representation(actual, SEARCHED_BUDGETS * budget);
+        if (e.length() > budget || a.length() > budget) {
+            if (contentEquals(e, a)) {
+                return "expected: " + className(expected) + "<" + truncated(e, budget) + "> but was: "
+                        + className(actual) + "<" + truncated(a, budget) + ">";
+            }
+            return stringDifference("string representations", e, a, budget);
+        }
+        return difference(e.toString(), a.toString(), expected, actual);
+    }
+
+    private static String difference(String e, String a, Object expected, Object actual) {
+        if (e.equals(a)) {
+            return "expected: " + className(expected) + "<" + e + "> but was: " + className(actual) + "<" + a + ">";
+        }
+        return "expected:<" + e + "> but was:<" + a + ">";
+    }
+
+    /**
+     * A lower bound of the rendered size is `2` characters per element, as
+     * in `"[, ]"`, so these values surely exceed the budget.
+     */
+    private static boolean isLarge(Object o, int budget) {
+        if (o instanceof Collection) {
+            return ((Collection<?>) o).size() >= budget / 2;
+        }
+        if (o instanceof Map) {
+            return ((Map<?, ?>) o).size() >= budget / 2;
+        }
+        return false;
+    }
+
+    private static String bounded(Object o, int budget) {
+        if (o instanceof Collection) {
+            Collection<?> collection = (Collection<?>) o;
+            StringBuilder sb = new StringBuilder("[");
+            int rendered = 0;
+            for (Iterator<?> it = collection.iterator(); it.hasNext(); ++rendered) {
+                Object element = it.next();
+                if (!append(sb, element == o ? "(this Collection)" : representation(element, budget), rendered, budget)) {
+                    break;
+                }
+            }
+            return more(sb, collection.size() - rendered).append(']').toString();
+        }
+        if (o instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) o;
+            StringBuilder sb = new StringBuilder("{");
+            int rendered = 0;
+            for (Iterator<? extends Map.Entry<?, ?>> it = map.entrySet().iterator(); it.hasNext(); ++rendered) {
+                Map.Entry<?, ?> entry = it.next();
+                CharSequence key = entry.getKey() == o ? "(this Map)" : representation(entry.getKey(), budget);
+                CharSequence value = entry.getValue() == o ? "(this Map)" : representation(entry.getValue(), budget);
+                if (!append(sb, key, value, rendered, budget)) {
+                    break;
+                }
+            }
+            return more(sb, map.size() - rendered).append('}').toString();
+        }
+        return truncated(o, budget);
+    }
+
+    /**
+     * Renders a value within a limit, character sequences are returned as is.
+     */
+    private static CharSequence representation(Object o, int limit) {
+        return o instanceof CharSequence ? (CharSequence) o : new Rendering(limit).value(o);
+    }
+
+    private static String truncated(Object o, int budget) {
+        CharSequence s = representation(o, budget);
+        if (s.length() <= budget && !isCut(s)) {
+            return s.toString();
+        }
+        return new StringBuilder(budget + 32).append(s, 0, budget).append("...(length").append(length(s)).append(')')
+                .toString();
+    }
+
+    private static boolean isCut(CharSequence s) {
+        return s instanceof Rendering && ((Rendering) s).cut;
+    }
+
+    /**
+     * @return `"=" + s.length()`, or `">" + s.length()` if `s` is a cut rendering
+     */
+    private static String length(CharSequence s) {
+        return (isCut(s) ? ">" : "=") + s.length();
+    }
+
+    private static boolean contentEquals(CharSequence e, CharSequence a) {
+        int n = e.length();
+        if (n != a.length() || isCut(e) != isCut(a)) {
+            return false;
+        }
+        for (int i = 0; i < n; ++i) {
+            if (e.charAt(i) != a.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Append an element if it fits in the budget. The first element is
+     * always appended, truncated if needed.
+     *
+     * @return `false` if the element does not fit
+     */
+    private static boolean append(StringBuilder sb, CharSequence element, int rendered, int budget) {
+        if (rendered > 0) {
+            if (element.length() > budget - sb.length() - 2) {
+                return false;
+            }
+            sb.append(", ").append(element);
+        } else if (element.length() > budget - sb.length()) {
+            sb.append(element, 0, Math.max(0, budget - sb.length())).append("...");
+        } else {
+            sb.append(element);
+        }
+        return true;
+    }
+
+    private static boolean append(StringBuilder sb, CharSequence key, CharSequence value, int rendered, int budget) {
+        // an entry longer than the budget is truncated or dropped anyway
+        StringBuilder entry = new StringBuilder().append(key, 0, Math.min(key.length(), budget + 1));
+        if (entry.length() <= budget) {
+            entry.append('=').append(value, 0, Math.min(value.length(), budget + 1 - entry.length()));
+        }
+        return append(sb, entry, rendered, budget);
+    }
+
+    private static StringBuilder more(StringBuilder sb, int more) {
+        return more > 0 ? sb.append(", ... ").append(more).append(" more") : sb;
+    }
+
+    /**
+     * Describe the first differing character of two strings with a window of
+     * at most `budget` characters of each string around it.
+     */
+    private static String stringDifference(String kind, CharSequence e, CharSequence a, int budget) {
+        int n = Math.min(e.length(), a.length());
+        int index = 0;
+        while (index < n && e.charAt(index) == a.charAt(index)) {
+            ++index;
+        }
+        int from = index - Math.min(index, budget / 4);
+        StringBuilder sb = new StringBuilder(kind).append(" differed at index ").append(index)
+                .append(", expected.length").append(length(e)).append(" actual.length").append(length(a));
+        if (hasLines(e) || hasLines(a)) {
+            String diff = Diff.unified(e.toString(), a.toString(), 2 * budget);
+            if (null != diff) {
+                return sb.append('\n').append(diff).toString();
+            }
+        }
+        sb.append("\nExpected");
+        window(sb, e, from, budget);
+        sb.append("\nActual  ");
+        window(sb, a, from, budget);
+        return sb.toString();
+    }
+
+    private static boolean hasLines(CharSequence s) {
+        for (int i = 0, n = s.length(); i < n; ++i) {
+            if (s.charAt(i) == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void window(StringBuilder sb, CharSequence s, int from, int budget) {
+        int to = Math.min(s.length(), from + budget);
+        sb.append('[').append(from).append("..").append(to - 1).append("]: ");
+        if (from > 0) {
+            sb.append("...");
+        }
+        sb.append('"');
+        for (int i = from; i < to; ++i) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        sb.append('"');
+        if (to < s.length() || isCut(s)) {
+            sb.append("...");
+        }
+    }
+
+    private static String header(String message) {
+        return null == message || message.isEmpty() ? "" : message + ": ";
+    }
+
+    private static String className(Object o) {
+        return null == o ? "null" : o.getClass().getName();
+    }
+
+    /**
+     * Renders values as {@link String#valueOf(Object)} and
+     * {@link java.util.Arrays#deepToString(Object[])} do, but stops at a
+     * limit: strings, arrays, collections and maps, nested or not, are
+     * rendered only up to the limit. Other values are rendered with their
+     * `toString` method before being cut.
+     */
+    private static final class Rendering implements CharSequence {
+
+        private final StringBuilder sb = new StringBuilder();
+        private final int limit;
+        private Set<Object> ancestors;
+        private boolean cut;
+
+        Rendering(int limit) {
+            this.limit = limit;
+        }
+
+        Rendering value(Object o) {
+            if (cut) {
+                return this;
+            }
+            if (o instanceof CharSequence) {
+                return append((CharSequence) o);
+            }
+            if (null != o && o.getClass().isArray()) {
+                return container(o, "[...]", '[', ']');
+            }
+            if (o instanceof Collection) {
+                return container(o, "(this Collection)", '[', ']');
+            }
+            if (o instanceof Map) {
+                return container(o, "(this Map)", '{', '}');
+            }
+            return append(String.valueOf(o));
+        }
+
+        private Rendering container(Object o, String cycle, char open, char close) {
+            if (null == ancestors) {
+                ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            if (!ancestors.add(o)) {
+                return append(cycle);
+            }
+            append(String.valueOf(open));
+            if (o instanceof Collection) {
+                elements(((Collection<?>) o).iterator());
+            } else if (o instanceof Map) {
+                entries(((Map<?, ?>) o).entrySet().iterator());
+            } else {
+                for (int i = 0, n = Array.getLength(o); i < n && !cut; ++i) {
+                    if (i > 0) {
+                        append(", ");
+                    }
+                    value(Array.get(o, i));
+                }
+            }
+            ancestors.remove(o);
+            return append(String.valueOf(close));
+        }
+
+        private void elements(Iterator<?> it) {
+            for (boolean first = true; it.hasNext() && !cut; first = false) {
+                if (!first) {
+                    append(", ");
+                }
+                value(it.next());
+            }
+        }
+
+        private void entries(Iterator<? extends Map.Entry<?, ?>> it) {
+            for (boolean first = true; it.hasNext() && !cut; first = false) {
+                Map.Entry<?, ?> entry = it.next();
+                if (!first) {
+                    append(", ");
+                }
+                value(entry.getKey());
+                append("=");
+                value(entry.getValue());
+            }
+        }
+
+        private Rendering append(CharSequence s) {
+            if (cut) {
+                return this;
+            }
+            int room = limit - sb.length();
+            if (s.length() > room) {
+                sb.append(s, 0, room);
+                cut = true;
+            } else {
+                sb.append(s);
+            }
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return sb.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return sb.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return sb.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
+
+    /**
+     * A {@link ComparisonFailure} that keeps the full strings for IDEs but
+     * reports a bounded message, rendered when it is first requested as
+     * JUnit does.
+     */
+    private static final class BoundedComparisonFailure extends ComparisonFailure {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String header;
+        private final int budget;
+        private String message;
+
+        BoundedComparisonFailure(String header, String expected, String actual, int budget) {
+            super(header, expected, actual);
+            this.header = header;
+            this.budget = budget;
+        }
+
+        @Override
+        public String getMessage() {
+            String s = message;
+            if (null == s) {
+                s = header + stringDifference("strings", getExpected(), getActual(), budget);
+                message = s;
+            }
+            return s;
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Key aware comparison of maps.
+ *
+ * The entries of the expected map are looked up in the actual map, and the
+ * keys of the actual map are looked up in the expected map only if some
+ * actual keys were not found that way, so equal maps are compared in one
+ * pass that relies on the maps' own hashing and copies nothing. Values are
+ * compared with {@link Objects#deepEquals(Object, Object)}.
+ *
+ * A failure lists the missing keys, the unexpected keys and the differing
+ * values, each capped to {@link #maxReported()} entries, in the iteration
+ * order of the maps.
+ */
+final class MapComparison {
+
+    /**
+     * The system property that sets the maximum number of entries reported
+     * for each kind of difference.
+     */
+    static final String MAX_REPORTED_PROPERTY = "osgl.ut.map.maxReported";
+
+    /**
+     * The number of entries reported when {@link #MAX_REPORTED_PROPERTY} is not set.
+     */
+    static final int DEFAULT_MAX_REPORTED = UnorderedComparison.MAX_REPORTED;
+
+    private MapComparison() {
+    }
+
+    /**
+     * Returns the maximum number of entries reported for each kind of difference.
+     *
+     * @return the value of {@link #MAX_REPORTED_PROPERTY}, at least `1`
+     */
+    static int maxReported() {
+        return Math.max(1, Integer.getInteger(MAX_REPORTED_PROPERTY, DEFAULT_MAX_REPORTED));
+    }
+
+    /**
+     * Compare two maps key by key.
+     *
+     * @param expected
+     *      the expected map, `null` okay
+     * @param actual
+     *      the actual map, `null` okay
+     * @return `null` if both maps have the same keys mapped to equal values,
+     *      otherwise the description of the differences
+     */
+    static String difference(Map<?, ?> expected, Map<?, ?> actual) {
+        if (expected == actual) {
+            return null;
+        }
+        if (null == expected) {
+            return "expected map was null";
+        }
+        if (null == actual) {
+            return "actual map was null";
+        }
+        int maxReported = maxReported();
+        Report missing = new Report(maxReported);
+        Report differing = new Report(maxReported);
+        int found = 0;
+        for (Map.Entry<?, ?> entry : expected.entrySet()) {
+            Object key = entry.getKey();
+            Object value = lookup(actual, key);
+            if (null == value && !containsKey(actual, key)) {
+                missing.entry(key, entry.getValue());
+                continue;
+            }
+            ++found;
+            if (!Objects.deepEquals(entry.getValue(), value)) {
+                differing.difference(key, entry.getValue(), value);
+            }
+        }
+        Report unexpected = new Report(maxReported);
+        if (found < actual.size()) {
+            for (Map.Entry<?, ?> entry : actual.entrySet()) {
+                if (!containsKey(expected, entry.getKey())) {
+                    unexpected.entry(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        if (0 == missing.count && 0 == unexpected.count && 0 == differing.count) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder("maps differed, expected.size=").append(expected.size())
+                .append(" actual.size=").append(actual.size());
+        missing.render(sb, "\nMissing   : ");
+        unexpected.render(sb, "\nUnexpected: ");
+        differing.render(sb, "\nDiffering : ");
+        return sb.toString();
+    }
+
+    /**
+     * Like {@link java.util.AbstractMap#equals(Object)}, a key the map can't
+     * look up is a missing key.
+     */
+    private static Object lookup(Map<?, ?> map, Object key) {
+        try {
+            return map.get(key);
+        } catch (ClassCastException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private static boolean containsKey(Map<?, ?> map, Object key) {
+        try {
+            return map.containsKey(key);
+        } catch (ClassCastException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    private static String str(Object o) {
+        if (null != o && o.getClass().isArray()) {
+            String s = Arrays.deepToString(new Object[] {o});
+            return FailureRendering.truncate(s.substring(1, s.length() - 1));
+        }
+        return FailureRendering.truncate(String.valueOf(o));
+    }
+
+    /**
+     * Renders up to `max` entries, and counts all of them.
+     */
+    private static final class Report {
+        private final StringBuilder entries = new StringBuilder();
+        private final int max;
+        private long count;
+
+        Report(int max) {
+            this.max = max;
+        }
+
+        void entry(Object key, Object value) {
+            if (count++ < max) {
+                entries.append("\n  ").append(str(key)).append('=').append(str(value));
+            }
+        }
+
+        void difference(Object key, Object expected, Object actual) {
+            if (count++ < max) {
+                String e = str(expected);
+                String a = str(actual);
+                entries.append("\n  ").append(str(key)).append(": ");
+                if (e.equals(a)) {
+                    entries.append("expected: ").append(className(expected)).append('<').append(e)
+                            .append("> but was: ").append(className(actual)).append('<').append(a).append('>');
+                } else {
+                    entries.append("expected:<").append(e).append("> but was:<").append(a).append('>');
+                }
+            }
+        }
+
+        void render(StringBuilder sb, String title) {
+            if (0 == count) {
+                return;
+            }
+            sb.append(title).append(count).append(1 == count ? " entry" : " entries").append(entries);
+            if (count > max) {
+                sb.append("\n  ... ").append(count - max).append(" more");
+            }
+        }
+
+        private static String className(Object o) {
+            return null == o ? "null" : o.getClass().getName();
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Evaluation of Hamcrest matchers that runs each matcher once.
+ *
+ * {@link org.hamcrest.MatcherAssert#assertThat(String, Object, Matcher)}
+ * evaluates a matcher, and on failure evaluates it again in
+ * {@link Matcher#describeMismatch(Object, Description)}. Matchers are
+ * evaluated here with the public {@link Matcher#matches(Object)} and
+ * described with {@link Matcher#describeMismatch(Object, Description)},
+ * which by default only renders the value.
+ *
+ * Diagnosing matchers, e.g. `allOf`, `hasItem` or `everyItem`, describe the
+ * mismatch in the same pass that evaluates them, but that pass is protected.
+ * It is called through {@link OnePass} when the Hamcrest internals can be
+ * accessed, so these matchers are evaluated once and the mismatch described
+ * on that pass is kept. Otherwise they fall back to the public methods.
+ *
+ * Failure descriptions are rendered as `MatcherAssert` does.
+ */
+final class Matching {
+
+    private Matching() {
+    }
+
+    /**
+     * Evaluate a matcher once.
+     *
+     * @param actual
+     *      the value
+     * @param matcher
+     *      the matcher
+     * @return `null` if `matcher` matches `actual`, otherwise the description
+     *      of the mismatch, starting with `"\nExpected: "`
+     */
+    static String mismatch(Object actual, Matcher<?> matcher) {
+        return mismatch(actual, matcher, isDiagnosing(matcher) ? Internals.ONE_PASS : OnePass.NONE);
+    }
+
+    /**
+     * Evaluate a matcher, in one pass if `onePass` can evaluate it.
+     *
+     * @see #mismatch(Object, Matcher)
+     */
+    static String mismatch(Object actual, Matcher<?> matcher, OnePass onePass) {
+        Description mismatch = new StringDescription();
+        if (diagnose(actual, matcher, mismatch, onePass)) {
+            return null;
+        }
+        Description description = new StringDescription();
+        description.appendText("\nExpected: ").appendDescriptionOf(matcher).appendText("\n     but: ");
+        return description.toString() + mismatch;
+    }
+
+    /**
+     * Evaluate a matcher once.
+     *
+     * @param actual
+     *      the value
+     * @param matcher
+     *      the matcher
+     * @return `null` if `matcher` does not match `actual`, otherwise the
+     *      description of the match, starting with `"\nExpected: not "`
+     */
+    static String match(Object actual, Matcher<?> matcher) {
+        if (!matcher.matches(actual)) {
+            return null;
+        }
+        Description description = new StringDescription();
+        description.appendText("\nExpected: not ").appendDescriptionOf(matcher)
+                .appendText("\n     but: was ").appendValue(actual);
+        return description.toString();
+    }
+
+    /**
+     * Accesses the Hamcrest internals, loaded the first time a diagnosing
+     * matcher is evaluated.
+     */
+    private static final class Internals {
+        static final OnePass ONE_PASS = new OnePass("matches", "matchesSafely", "expectedType");
+    }
+
+    private static boolean isDiagnosing(Matcher<?> matcher) {
+        return matcher instanceof DiagnosingMatcher || matcher instanceof TypeSafeDiagnosingMatcher;
+    }
+
+    /**
+     * Evaluate a matcher and, if it does not match, describe the mismatch.
+     */
+    private static boolean diagnose(Object actual, Matcher<?> matcher, Description mismatch, OnePass onePass) {
+        Boolean matches = onePass.matches(actual, matcher, mismatch);
+        if (null != matches) {
+            return matches;
+        }
+        if (matcher.matches(actual)) {
+            return true;
+        }
+        matcher.describeMismatch(actual, mismatch);
+        return false;
+    }
+
+    /**
+     * Calls the protected pass of the diagnosing matchers that evaluates the
+     * matcher and describes the mismatch. The members are looked up by name,
+     * when one can't be found or accessed, e.g. with another Hamcrest version
+     * or when the module system denies access, the pass is not available.
+     */
+    static final class OnePass {
+
+        /**
+         * Evaluates no matcher in one pass.
+         */
+        static final OnePass NONE = new OnePass(null, null, null);
+
+        /**
+         * `DiagnosingMatcher.matches(Object, Description)`, `null` if it can't be accessed.
+         */
+        private final MethodHandle diagnosing;
+
+        /**
+         * `TypeSafeDiagnosingMatcher.matchesSafely(Object, Description)`, `null` if it can't be accessed.
+         */
+        private final MethodHandle typeSafeDiagnosing;
+
+        /**
+         * Getter of `TypeSafeDiagnosingMatcher.expectedType`, `null` if it can't be accessed.
+         */
+        private final MethodHandle expectedType;
+
+        OnePass(String matches, String matchesSafely, String expectedType) {
+            this.diagnosing = method(DiagnosingMatcher.class, matches);
+            this.typeSafeDiagnosing = method(TypeSafeDiagnosingMatcher.class, matchesSafely);
+            this.expectedType = null == typeSafeDiagnosing ? null : getter(expectedType);
+        }
+
+        /**
+         * @return whether any diagnosing matcher can be evaluated in one pass
+         */
+        boolean available() {
+            return null != diagnosing || null != typeSafeDiagnosing;
+        }
+
+        /**
+         * Evaluate a diagnosing matcher in one pass.
+         *
+         * @return `null` if the matcher can't be evaluated in one pass,
+         *      otherwise whether it matches `actual`
+         */
+        Boolean matches(Object actual, Matcher<?> matcher, Description mismatch) {
+            try {
+                if (null != diagnosing && matcher instanceof DiagnosingMatcher) {
+                    return (boolean) diagnosing.invokeExact((DiagnosingMatcher<?>) matcher, actual, mismatch);
+                }
+                if (null != expectedType && matcher instanceof TypeSafeDiagnosingMatcher) {
+                    Class<?> type = (Class<?>) expectedType.invokeExact((TypeSafeDiagnosingMatcher<?>) matcher);
+                    if (type.isInstance(actual)) {
+                        return (boolean) typeSafeDiagnosing.invokeExact(
+                                (TypeSafeDiagnosingMatcher<?>) matcher, actual, mismatch);
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        }
+
+        private static MethodHandle method(Class<?> type, String name) {
+            if (null == name) {
+                return null;
+            }
+            try {
+                Method method = type.getDeclaredMethod(name, Object.class, Description.class);
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method)
+                        .asType(MethodType.methodType(boolean.class, type, Object.class, Description.class));
+            } catch (NoSuchMethodException | IllegalAccessException | RuntimeException | LinkageError e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle getter(String name) {
+            if (null == name) {
+                return null;
+            }
+            try {
+                Field field = TypeSafeDiagnosingMatcher.class.getDeclaredField(name);
+                field.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(field)
+                        .asType(MethodType.methodType(Class.class, TypeSafeDiagnosingMatcher.class));
+            } catch (NoSuchFieldException | IllegalAccessException | RuntimeException | LinkageError e) {
+                return null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.function.Supplier;
+
+/**
+ * A deferred failure message.
+ *
+ * A `Message` keeps the message template and arguments as they are and
+ * formats them with {@link String#format(String, Object...)} only when
+ * {@link #get()} is called for the first time. It can be passed to any
+ * `TestBase` assertion that accepts a `Supplier<String>` message:
+ *
+ * ```
+ * Message msg = Message.of("record %s", id);
+ * eq(expected, actual, msg);
+ * ```
+ */
+public final class Message implements Supplier<String> {
+
+    private final String template;
+    private final Object[] args;
+    private String rendered;
+
+    private Message(String template, Object[] args) {
+        this.template = template;
+        this.args = args;
+    }
+
+    /**
+     * Returns the formatted message. The message is formatted once and
+     * then cached.
+     *
+     * @return the formatted message or empty string `""` if the template is `null`
+     */
+    @Override
+    public String get() {
+        String s = rendered;
+        if (null == s) {
+            s = TestBase.fmt(template, args);
+            rendered = s;
+        }
+        return s;
+    }
+
+    @Override
+    public String toString() {
+        return get();
+    }
+
+    /**
+     * Create a deferred message.
+     *
+     * @param template
+     *              the message template, `null` okay
+     * @param args
+     *              the message arguments
+     * @return a `Message` that formats the template on demand
+     */
+    public static Message of(String template, Object... args) {
+        return new Message(template, args);
+    }
+
+    /**
+     * Render a message supplier. `null` supplier and `null` supplied value
+     * are rendered as empty string `""`.
+     *
+     * @param message
+     *              the message supplier, `null` okay
+     * @return the message string
+     */
+    static String render(Supplier<String> message) {
+        if (null == message) {
+            return "";
+        }
+        String s = message.get();
+        return null == s ? "" : s;
+    }
+
+}
@@ -0,0 +1,438 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sortedness of arrays and lists.
+ *
+ * Every element is compared with the one before it, the first element that
+ * is out of order is reported with its predecessor. Primitive arrays are in
+ * the order of {@link java.util.Arrays#sort(int[])}, floating point values in
+ * the total order of {@link Double#compare(double, double)}, where `-0.0` is
+ * less than `0.0` and `NaN` is greater than any other value, and `false` is
+ * less than `true`.
+ *
+ * Large arrays and random access lists are split across a {@link ForkJoinPool}.
+ * Each chunk also compares its first element with the last element of the
+ * chunk before it, so no boundary is left unchecked. As in
+ * {@link ParallelArrayComparison}, tasks share the lowest out of order index
+ * found so far and the left half always wins, so the reported index is the
+ * lowest one regardless of the scheduling.
+ */
+final class OrderComparison {
+
+    /**
+     * Minimum number of primitive elements checked by one task.
+     */
+    static final int PRIMITIVE_THRESHOLD = ParallelArrayComparison.PRIMITIVE_THRESHOLD;
+
+    /**
+     * Minimum number of elements checked with a comparator by one task.
+     */
+    static final int OBJECT_THRESHOLD = 1 << 12;
+
+    private OrderComparison() {
+    }
+
+    /**
+     * Check that a primitive array is sorted.
+     *
+     * @param array
+     *      a primitive array, `null` okay
+     * @param strict
+     *      whether equal neighbours are out of order
+     * @param pool
+     *      the pool that checks large arrays
+     * @return `null` if the array is sorted, otherwise the description of the
+     *      first element out of order
+     */
+    static String difference(Object array, boolean strict, ForkJoinPool pool) {
+        if (null == array) {
+            return "array was null";
+        }
+        int index = outOfOrder(scanner(array, strict), Array.getLength(array), PRIMITIVE_THRESHOLD, pool);
+        return index < 0 ? null : report("array", strict, index, Array.get(array, index - 1), Array.get(array, index));
+    }
+
+    /**
+     * Check that an object array is sorted.
+     *
+     * @param array
+     *      an array, `null` okay
+     * @param comparator
+     *      the order of the elements, `null` for their natural order
+     * @param strict
+     *      whether equal neighbours are out of order
+     * @param pool
+     *      the pool that checks large arrays
+     * @return `null` if the array is sorted, otherwise the description of the
+     *      first element out of order
+     */
+    static <T> String difference(T[] array, Comparator<? super T> comparator, boolean strict, ForkJoinPool pool) {
+        if (null == array) {
+            return "array was null";
+        }
+        Comparator<? super T> order = order(comparator);
+        Scan scan = (from, to) -> outOfOrder(array, order, strict, from, to);
+        int index = outOfOrder(scan, array.length, OBJECT_THRESHOLD, pool);
+        return index < 0 ? null : report("array", strict, index, array[index - 1], array[index]);
+    }
+
+    /**
+     * Check that a list is sorted. Lists that are not {@link RandomAccess}
+     * are iterated sequentially.
+     *
+     * @param list
+     *      a list, `null` okay
+     * @param comparator
+     *      the order of the elements, `null` for their natural order
+     * @param strict
+     *      whether equal neighbours are out of order
+     * @param pool
+     *      the pool that checks large lists
+     * @return `null` if the list is sorted, otherwise the description of the
+     *      first element out of order
+     */
+    static <T> String difference(List<T> list, Comparator<? super T> comparator, boolean strict, ForkJoinPool pool) {
+        if (null == list) {
+            return "list was null";
+        }
+        Comparator<? super T> order = order(comparator);
+        if (!(list instanceof RandomAccess)) {
+            return sequentialDifference(list.iterator(), order, strict);
+        }
+        Scan scan = (from, to) -> outOfOrder(list, order, strict, from, to);
+        int index = outOfOrder(scan, list.size(), OBJECT_THRESHOLD, pool);
+        return index < 0 ? null : report("list", strict, index, list.get(index - 1), list.get(index));
+    }
+
+    private static <T> String sequentialDifference(Iterator<T> iterator, Comparator<? super T> order, boolean strict) {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        T previous = iterator.next();
+        for (int index = 1; iterator.hasNext(); ++index) {
+            T element = iterator.next();
+            if (outOfOrder(order.compare(previous, element), strict)) {
+                return report("list", strict, index, previous, element);
+            }
+            previous = element;
+        }
+        return null;
+    }
+
+    private static int outOfOrder(Scan scan, int length, int threshold, ForkJoinPool pool) {
+        if (length < threshold << 1) {
+            return scan.outOfOrder(1, length);
+        }
+        return pool.invoke(new OrderTask(scan, 1, length, threshold, new AtomicInteger(Integer.MAX_VALUE)));
+    }
+
+    private static String report(String kind, boolean strict, int index, Object previous, Object element) {
+        return kind + (strict ? " not strictly sorted" : " not sorted") + " at index " + index
+                + ": [" + (index - 1) + "]=<" + str(previous) + (strict ? "> is not less than [" : "> is greater than [")
+                + index + "]=<" + str(element) + ">";
+    }
+
+    private static String str(Object o) {
+        return FailureRendering.truncate(String.valueOf(o));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> order(Comparator<? super T> comparator) {
+        return null == comparator ? (Comparator<? super T>) Comparator.naturalOrder() : comparator;
+    }
+
+    private static boolean outOfOrder(int comparison, boolean strict) {
+        return strict ? comparison >= 0 : comparison > 0;
+    }
+
+    private static <T> int outOfOrder(T[] a, Comparator<? super T> order, boolean strict, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (outOfOrder(order.compare(a[i - 1], a[i]), strict)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <T> int outOfOrder(List<T> list, Comparator<? super T> order, boolean strict, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+        T previous = list.get(from - 1);
+        for (int i = from; i < to; ++i) {
+            T element = list.get(i);
+            if (outOfOrder(order.compare(previous, element), strict)) {
+                return i;
+            }
+            previous = element;
+        }
+        return -1;
+    }
+
+    private static Scan scanner(Object array, boolean strict) {
+        if (array instanceof boolean[]) {
+            boolean[] a = (boolean[]) array;
+            return strict ? (from, to) -> strictlyOutOfOrder(a, from, to) : (from, to) -> outOfOrder(a, from, to);
+        }
+        if (array instanceof byte[]) {
+            byte[] a = (byte[]) array;
+            return strict ? (from, to) -> strictlyOutOfOrder(a, from, to) : (from, to) -> outOfOrder(a, from, to);
+        }
+        if (array instanceof char[]) {
+            char[] a = (char[]) array;
+            return strict ? (from, to) -> strictlyOutOfOrder(a, from, to) : (from, to) -> outOfOrder(a, from, to);
+        }
+        if (array instanceof short[]) {
+            short[] a = (short[]) array;
+            return strict ? (from, to) -> strictlyOutOfOrder(a, from, to) : (from, to) -> outOfOrder(a, from, to);
+        }
+        if (array instanceof int[]) {
+            int[] a = (int[]) array;
+            return strict ? (from, to) -> strictlyOutOfOrder(a, from, to) : (from, to) -> outOfOrder(a, from, to);
+        }
+        if (array instanceof long[]) {
+            long[] a = (long[]) array;
+            return strict ? (from, to) -> strictlyOutOfOrder(a, from, to) : (from, to) -> outOfOrder(a, from, to);
+        }
+        if (array instanceof float[]) {
+            float[] a = (float[]) array;
+            return strict ? (from, to) -> strictlyOutOfOrder(a, from, to) : (from, to) -> outOfOrder(a, from, to);
+        }
+        if (array instanceof double[]) {
+            double[] a = (double[]) array;
+            return strict ? (from, to) -> strictlyOutOfOrder(a, from, to) : (from, to) -> outOfOrder(a, from, to);
+        }
+        throw new IllegalArgumentException("not a primitive array: " + array.getClass().getName());
+    }
+
+    private static int outOfOrder(boolean[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] && !a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int strictlyOutOfOrder(boolean[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] || !a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int outOfOrder(byte[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] > a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int strictlyOutOfOrder(byte[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] >= a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int outOfOrder(char[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] > a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int strictlyOutOfOrder(char[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] >= a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int outOfOrder(short[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] > a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int strictlyOutOfOrder(short[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] >= a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int outOfOrder(int[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] > a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int strictlyOutOfOrder(int[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] >= a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int outOfOrder(long[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] > a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int strictlyOutOfOrder(long[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (a[i - 1] >= a[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int outOfOrder(float[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (Float.compare(a[i - 1], a[i]) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int strictlyOutOfOrder(float[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (Float.compare(a[i - 1], a[i]) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int outOfOrder(double[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (Double.compare(a[i - 1], a[i]) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int strictlyOutOfOrder(double[] a, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (Double.compare(a[i - 1], a[i]) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first index `i` in `[from, to)` whose element is out of order
+     * with the element at `i - 1`, or `-1`.
+     */
+    private interface Scan {
+        int outOfOrder(int from, int to);
+    }
+
+    /**
+     * Finds the lowest out of order index in `[from, to)`, or `-1`.
+     */
+    private static final class OrderTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Scan scan;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final AtomicInteger lowest;
+
+        OrderTask(Scan scan, int from, int to, int threshold, AtomicInteger lowest) {
+            this.scan = scan;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.lowest = lowest;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (from >= lowest.get()) {
+                // a lower out of order index has been found
+                return -1;
+            }
+            if (to - from <= threshold) {
+                int index = scan.outOfOrder(from, to);
+                if (index >= 0) {
+                    lowest.accumulateAndGet(index, Math::min);
+                }
+                return index;
+            }
+            int mid = (from + to) >>> 1;
+            OrderTask right = new OrderTask(scan, mid, to, threshold, lowest);
+            right.fork();
+            int index = new OrderTask(scan, from, mid, threshold, lowest).compute();
+            if (index >= 0) {
+                // the right half can't have a lower index
+                if (!right.tryUnfork()) {
+                    right.join();
+                }
+                return index;
+            }
+            return right.join();
+        }
+    }
+
+}
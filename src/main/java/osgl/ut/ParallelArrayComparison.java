@@ -0,0 +1,320 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.ComparisonFailure;
+import org.junit.internal.ArrayComparisonFailure;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Parallel comparison of arrays.
+ *
+ * The index range of an array is split recursively across a {@link ForkJoinPool}.
+ * Elements of object arrays that are arrays themselves, e.g. the rows of a
+ * `double[][]`, are compared by nested tasks when they are large. Tasks share
+ * the lowest mismatching index found so far and skip ranges above it, and the
+ * result of the left half always wins over the right half, so the reported
+ * index is the lowest mismatching index regardless of the scheduling.
+ */
+final class ParallelArrayComparison {
+
+    /**
+     * Minimum number of primitive elements compared by one task.
+     */
+    static final int PRIMITIVE_THRESHOLD = 1 << 15;
+
+    /**
+     * Minimum number of object array elements compared by one task.
+     */
+    static final int OBJECT_THRESHOLD = 1 << 8;
+
+    private static final ClassValue<MethodHandle> RANGE_MISMATCH = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> arrayType) {
+            try {
+                return MethodHandles.publicLookup().findStatic(Arrays.class, "mismatch",
+                        MethodType.methodType(int.class, arrayType, int.class, int.class, arrayType, int.class, int.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // Java 8
+                return null;
+            }
+        }
+    };
+
+    private ParallelArrayComparison() {
+    }
+
+    /**
+     * Asserts two arrays of the same type are equal.
+     *
+     * @param message
+     *      supplies the failure message, called only when the assertion fails. `null` okay
+     * @param expecteds
+     *      the expected array
+     * @param actuals
+     *      the actual array, same type as `expecteds` or `null`
+     * @param pool
+     *      the pool that runs the comparison
+     */
+    static void assertEquals(Supplier<String> message, Object expecteds, Object actuals, ForkJoinPool pool) {
+        if (expecteds == actuals) {
+            return;
+        }
+        if (null == actuals) {
+            throw new AssertionError(header(message) + "actual array was null");
+        }
+        int index = mismatch(expecteds, actuals, pool);
+        if (index < 0) {
+            return;
+        }
+        if (ArrayComparison.isPrimitiveArray(expecteds) || Array.getLength(expecteds) != Array.getLength(actuals)) {
+            ArrayComparison.fail(header(message), expecteds, actuals, index);
+        }
+        Object expected = ((Object[]) expecteds)[index];
+        Object actual = ((Object[]) actuals)[index];
+        if (isArrayPair(expected, actual)) {
+            try {
+                assertEquals(message, expected, actual, pool);
+            } catch (ArrayComparisonFailure e) {
+                e.addDimension(index);
+                throw e;
+            }
+        } else {
+            throw new ArrayComparisonFailure(header(message), elementFailure(expected, actual), index);
+        }
+    }
+
+    /**
+     * Find the first differing index of two arrays of the same type.
+     *
+     * @param expecteds
+     *      the expected array
+     * @param actuals
+     *      the actual array, same type as `expecteds`
+     * @param pool
+     *      the pool that runs the comparison
+     * @return
+     *      `-1` if the arrays are equal, the first differing index or the
+     *      length of the shorter array if it is a prefix of the other one
+     */
+    static int mismatch(Object expecteds, Object actuals, ForkJoinPool pool) {
+        int expectedLen = Array.getLength(expecteds);
+        int actualLen = Array.getLength(actuals);
+        int len = Math.min(expectedLen, actualLen);
+        int index = pool.invoke(new MismatchTask(expecteds, actuals, 0, len, new AtomicInteger(Integer.MAX_VALUE)));
+        if (index < 0 && expectedLen != actualLen) {
+            return len;
+        }
+        return index;
+    }
+
+    private static String header(Supplier<String> message) {
+        return null == message ? "" : ArrayComparison.header(Message.render(message));
+    }
+
+    /**
+     * Describes two unequal elements as {@link org.junit.Assert#assertEquals(Object, Object)} does.
+     */
+    private static AssertionError elementFailure(Object expected, Object actual) {
+        if (expected instanceof String && actual instanceof String) {
+            return new ComparisonFailure("", (String) expected, (String) actual);
+        }
+        return new AssertionError(FailureRendering.difference(expected, actual));
+    }
+
+    private static boolean isArrayPair(Object expected, Object actual) {
+        return null != expected && null != actual && expected.getClass().isArray()
+                && expected.getClass() == actual.getClass();
+    }
+
+    private static boolean elementEquals(Object expected, Object actual) {
+        if (expected == actual) {
+            return true;
+        }
+        if (!isArrayPair(expected, actual)) {
+            return Objects.deepEquals(expected, actual);
+        }
+        int len = Array.getLength(expected);
+        if (len != Array.getLength(actual)) {
+            return false;
+        }
+        int threshold = ArrayComparison.isPrimitiveArray(expected) ? PRIMITIVE_THRESHOLD : OBJECT_THRESHOLD;
+        if (len < threshold << 1) {
+            return TestBase.deepEquals(expected, actual);
+        }
+        // runs in the current worker and forks sub tasks to the same pool
+        return new MismatchTask(expected, actual, 0, len, new AtomicInteger(Integer.MAX_VALUE)).invoke() < 0;
+    }
+
+    /**
+     * Find the first differing index of two primitive arrays in `[from, to)`.
+     */
+    private static int rangeMismatch(Object a, Object b, int from, int to) {
+        MethodHandle mh = RANGE_MISMATCH.get(a.getClass());
+        if (null != mh) {
+            try {
+                int i = (int) mh.invoke(a, from, to, b, from, to);
+                return i < 0 ? -1 : from + i;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        if (a instanceof int[]) {
+            int[] x = (int[]) a;
+            int[] y = (int[]) b;
+            for (int i = from; i < to; ++i) {
+                if (x[i] != y[i]) {
+                    return i;
+                }
+            }
+        } else if (a instanceof long[]) {
+            long[] x = (long[]) a;
+            long[] y = (long[]) b;
+            for (int i = from; i < to; ++i) {
+                if (x[i] != y[i]) {
+                    return i;
+                }
+            }
+        } else if (a instanceof double[]) {
+            double[] x = (double[]) a;
+            double[] y = (double[]) b;
+            for (int i = from; i < to; ++i) {
+                if (Double.doubleToLongBits(x[i]) != Double.doubleToLongBits(y[i])) {
+                    return i;
+                }
+            }
+        } else if (a instanceof float[]) {
+            float[] x = (float[]) a;
+            float[] y = (float[]) b;
+            for (int i = from; i < to; ++i) {
+                if (Float.floatToIntBits(x[i]) != Float.floatToIntBits(y[i])) {
+                    return i;
+                }
+            }
+        } else if (a instanceof byte[]) {
+            byte[] x = (byte[]) a;
+            byte[] y = (byte[]) b;
+            for (int i = from; i < to; ++i) {
+                if (x[i] != y[i]) {
+                    return i;
+                }
+            }
+        } else if (a instanceof char[]) {
+            char[] x = (char[]) a;
+            char[] y = (char[]) b;
+            for (int i = from; i < to; ++i) {
+                if (x[i] != y[i]) {
+                    return i;
+                }
+            }
+        } else if (a instanceof short[]) {
+            short[] x = (short[]) a;
+            short[] y = (short[]) b;
+            for (int i = from; i < to; ++i) {
+                if (x[i] != y[i]) {
+                    return i;
+                }
+            }
+        } else {
+            boolean[] x = (boolean[]) a;
+            boolean[] y = (boolean[]) b;
+            for (int i = from; i < to; ++i) {
+                if (x[i] != y[i]) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the lowest mismatching index in `[from, to)`, or `-1`.
+     */
+    private static final class MismatchTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object expecteds;
+        private final Object actuals;
+        private final int from;
+        private final int to;
+        private final AtomicInteger lowest;
+
+        MismatchTask(Object expecteds, Object actuals, int from, int to, AtomicInteger lowest) {
+            this.expecteds = expecteds;
+            this.actuals = actuals;
+            this.from = from;
+            this.to = to;
+            this.lowest = lowest;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (from >= lowest.get()) {
+                // a lower mismatch has been found
+                return -1;
+            }
+            boolean primitive = ArrayComparison.isPrimitiveArray(expecteds);
+            int threshold = primitive ? PRIMITIVE_THRESHOLD : OBJECT_THRESHOLD;
+            if (to - from <= threshold) {
+                int index = primitive ? rangeMismatch(expecteds, actuals, from, to) : objectMismatch();
+                if (index >= 0) {
+                    lowest.accumulateAndGet(index, Math::min);
+                }
+                return index;
+            }
+            int mid = (from + to) >>> 1;
+            MismatchTask right = new MismatchTask(expecteds, actuals, mid, to, lowest);
+            right.fork();
+            int index = new MismatchTask(expecteds, actuals, from, mid, lowest).compute();
+            if (index >= 0) {
+                // the right half can't have a lower index
+                if (!right.tryUnfork()) {
+                    right.join();
+                }
+                return index;
+            }
+            return right.join();
+        }
+
+        private int objectMismatch() {
+            Object[] a = (Object[]) expecteds;
+            Object[] b = (Object[]) actuals;
+            for (int i = from; i < to; ++i) {
+                if (!elementEquals(a[i], b[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+}
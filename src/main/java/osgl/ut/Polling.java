@@ -0,0 +1,207 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waiting for asynchronous state.
+ *
+ * Conditions and assertions are retried with an adaptive {@link Backoff}:
+ * the first retries only yield, so state that changes quickly is seen
+ * quickly, then the thread parks for exponentially growing pauses, so a
+ * long wait costs little CPU. Pauses are capped by a fraction of the timeout
+ * and never extend past the deadline, and the condition is checked a last
+ * time at the deadline. Latches and futures are not polled, the waiting
+ * thread blocks on them until they complete or time out.
+ */
+final class Polling {
+
+    private Polling() {
+    }
+
+    /**
+     * Retry a condition until it is `true` or the timeout passes.
+     *
+     * @param condition
+     *      the condition
+     * @param timeoutNanos
+     *      the timeout
+     * @return `null` if the condition became `true`, otherwise the
+     *      description of the timeout
+     */
+    static String eventually(BooleanSupplier condition, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        Backoff backoff = new Backoff(timeoutNanos);
+        int attempts = 0;
+        while (true) {
+            ++attempts;
+            if (condition.getAsBoolean()) {
+                return null;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return "condition not satisfied within " + Timing.duration(timeoutNanos) + attempts(attempts);
+            }
+            if (!backoff.pause(remaining)) {
+                return "interrupted while waiting for condition" + attempts(attempts);
+            }
+        }
+    }
+
+    /**
+     * Retry an assertion until it passes or the timeout passes.
+     *
+     * @param assertion
+     *      the assertion, fails by throwing an {@link AssertionError}
+     * @param timeoutNanos
+     *      the timeout
+     * @param header
+     *      the header of the failure message
+     * @throws AssertionError
+     *      if the assertion didn't pass in time, the last failure is the cause
+     */
+    static void eventually(Runnable assertion, long timeoutNanos, String header) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        Backoff backoff = new Backoff(timeoutNanos);
+        int attempts = 0;
+        while (true) {
+            ++attempts;
+            AssertionError last;
+            try {
+                assertion.run();
+                return;
+            } catch (AssertionError e) {
+                last = e;
+            }
+            long remaining = deadline - System.nanoTime();
+            String failure = null;
+            if (remaining <= 0) {
+                failure = "assertion not satisfied within " + Timing.duration(timeoutNanos);
+            } else if (!backoff.pause(remaining)) {
+                failure = "interrupted while waiting for assertion";
+            }
+            if (null != failure) {
+                throw new AssertionError(header + failure + attempts(attempts) + ", last failure: "
+                        + last.getMessage(), last);
+            }
+        }
+    }
+
+    /**
+     * Wait until a latch is released.
+     *
+     * @return `null` if the latch was released in time, otherwise the
+     *      description of the timeout
+     */
+    static String await(CountDownLatch latch, long timeoutNanos) {
+        try {
+            if (latch.await(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+            return "latch not released within " + Timing.duration(timeoutNanos) + ", count=" + latch.getCount();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted while waiting for latch, count=" + latch.getCount();
+        }
+    }
+
+    /**
+     * Wait until a future completes.
+     *
+     * @param header
+     *      the header of the failure message
+     * @return the value of the future
+     * @throws AssertionError
+     *      if the future didn't complete in time, was cancelled or failed,
+     *      the failure of the future is the cause
+     */
+    static <T> T await(Future<T> future, long timeoutNanos, String header) {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new AssertionError(header + "future not completed within " + Timing.duration(timeoutNanos));
+        } catch (CancellationException e) {
+            throw new AssertionError(header + "future was cancelled", e);
+        } catch (ExecutionException e) {
+            throw new AssertionError(header + "future failed: " + e.getCause(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(header + "interrupted while waiting for future", e);
+        }
+    }
+
+    private static String attempts(int attempts) {
+        return attempts == 1 ? " (1 attempt)" : " (" + attempts + " attempts)";
+    }
+
+    /**
+     * Exponential backoff: {@link #YIELDS} yields, then parks starting from
+     * {@link #MIN_PARK_NANOS} and doubling up to {@link #MAX_PARK_NANOS} or
+     * `1/16` of the timeout, whichever is smaller.
+     */
+    static final class Backoff {
+        static final int YIELDS = 4;
+        static final long MIN_PARK_NANOS = 10_000;
+        static final long MAX_PARK_NANOS = 100_000_000;
+
+        private final long maxPark;
+        private int yields;
+        private long park = MIN_PARK_NANOS;
+
+        Backoff(long timeoutNanos) {
+            this.maxPark = Math.max(MIN_PARK_NANOS, Math.min(MAX_PARK_NANOS, timeoutNanos / 16));
+        }
+
+        /**
+         * Pause before the next attempt.
+         *
+         * @param remaining
+         *      the nanoseconds left until the deadline
+         * @return `false` if the thread was interrupted
+         */
+        boolean pause(long remaining) {
+            if (yields < YIELDS) {
+                ++yields;
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(Math.min(park, remaining));
+                park = Math.min(park * 2, maxPark);
+            }
+            return !Thread.currentThread().isInterrupted();
+        }
+
+        /**
+         * Returns the next park duration.
+         */
+        long nextPark() {
+            return yields < YIELDS ? 0 : park;
+        }
+    }
+
+}
@@ -0,0 +1,271 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+/**
+ * Streaming comparison of sequences.
+ *
+ * Sequences are consumed element by element and never materialized. Only the
+ * last {@link ArrayComparison#WINDOW} elements of each sequence are kept, and
+ * after the first mismatch up to {@link ArrayComparison#WINDOW} more elements
+ * are read, so a failure reports the elements around the mismatch in constant
+ * memory. Elements are rendered only when a failure is reported, sequences that
+ * reuse mutable element instances may therefore show the latest state in the
+ * context. Each element is truncated to the {@link FailureRendering#budget() budget}.
+ */
+final class SequenceComparison {
+
+    private static final int WINDOW = ArrayComparison.WINDOW;
+
+    private SequenceComparison() {
+    }
+
+    /**
+     * Compare two sequences element by element with {@link Objects#deepEquals(Object, Object)}.
+     *
+     * @param expected
+     *      the expected elements
+     * @param actual
+     *      the actual elements
+     * @return `null` if both sequences are equal, otherwise the description
+     *      of the first difference
+     */
+    static String difference(Iterator<?> expected, Iterator<?> actual) {
+        return difference("sequence", expected, actual);
+    }
+
+    /**
+     * Compare two sequences element by element with {@link Objects#deepEquals(Object, Object)}.
+     *
+     * @param kind
+     *      what the sequences are, e.g. `"list"`
+     * @param expected
+     *      the expected elements
+     * @param actual
+     *      the actual elements
+     * @return `null` if both sequences are equal, otherwise the description
+     *      of the first difference
+     */
+    static String difference(String kind, Iterator<?> expected, Iterator<?> actual) {
+        Context expectedContext = new Context();
+        Context actualContext = new Context();
+        long index = 0;
+        while (expected.hasNext()) {
+            Object e = expected.next();
+            if (!actual.hasNext()) {
+                expectedContext.mismatch(e, expected);
+                actualContext.end();
+                return "actual " + kind + " ended at element [" + index + "], expected:<" + str(e) + ">"
+                        + window(expectedContext, actualContext, index);
+            }
+            Object a = actual.next();
+            if (!Objects.deepEquals(e, a)) {
+                expectedContext.mismatch(e, expected);
+                actualContext.mismatch(a, actual);
+                return kind + "s first differed at element [" + index + "]; " + expectedButWas(e, a)
+                        + window(expectedContext, actualContext, index);
+            }
+            expectedContext.push(e);
+            actualContext.push(a);
+            ++index;
+        }
+        if (actual.hasNext()) {
+            Object a = actual.next();
+            actualContext.mismatch(a, actual);
+            expectedContext.end();
+            return "expected " + kind + " ended at element [" + index + "], but was:<" + str(a) + ">"
+                    + window(expectedContext, actualContext, index);
+        }
+        return null;
+    }
+
+    /**
+     * Compare a sequence with the elements produced by a generator. The
+     * expected element at index `i` is `expected.apply(i)`.
+     *
+     * @param expected
+     *      the generator of the expected elements
+     * @param actual
+     *      the actual elements
+     * @return `null` if every actual element equals to the generated one,
+     *      otherwise the description of the first difference
+     */
+    static String difference(LongFunction<?> expected, Iterator<?> actual) {
+        Context expectedContext = new Context();
+        Context actualContext = new Context();
+        long index = 0;
+        while (actual.hasNext()) {
+            Object a = actual.next();
+            Object e = expected.apply(index);
+            if (!Objects.deepEquals(e, a)) {
+                expectedContext.mismatch(e, expected, index);
+                actualContext.mismatch(a, actual);
+                return "sequences first differed at element [" + index + "]; " + expectedButWas(e, a)
+                        + window(expectedContext, actualContext, index);
+            }
+            expectedContext.push(e);
+            actualContext.push(a);
+            ++index;
+        }
+        return null;
+    }
+
+    /**
+     * Find the first element that does (or does not) match a predicate.
+     *
+     * @param elements
+     *      the elements
+     * @param predicate
+     *      the predicate
+     * @param expected
+     *      the expected result of the predicate for every element
+     * @return `null` if the predicate returns `expected` for every element,
+     *      otherwise the description of the first element it doesn't
+     */
+    static <T> String unmatched(Iterator<T> elements, Predicate<? super T> predicate, boolean expected) {
+        Context context = new Context();
+        long index = 0;
+        while (elements.hasNext()) {
+            T t = elements.next();
+            if (predicate.test(t) != expected) {
+                context.mismatch(t, elements);
+                return "element [" + index + "] " + (expected ? "did not match" : "matched") + ": <" + str(t) + ">"
+                        + "\nElements" + context.render(index);
+            }
+            context.push(t);
+            ++index;
+        }
+        return null;
+    }
+
+    private static String window(Context expected, Context actual, long index) {
+        return "\nExpected" + expected.render(index) + "\nActual  " + actual.render(index);
+    }
+
+    private static String expectedButWas(Object expected, Object actual) {
+        String e = str(expected);
+        String a = str(actual);
+        if (e.equals(a)) {
+            return "expected: " + className(expected) + "<" + e + "> but was: " + className(actual) + "<" + a + ">";
+        }
+        return "expected:<" + e + "> but was:<" + a + ">";
+    }
+
+    private static String className(Object o) {
+        return null == o ? "null" : o.getClass().getName();
+    }
+
+    private static String str(Object o) {
+        if (null != o && o.getClass().isArray()) {
+            String s = Arrays.deepToString(new Object[] {o});
+            return FailureRendering.truncate(s.substring(1, s.length() - 1));
+        }
+        return FailureRendering.truncate(String.valueOf(o));
+    }
+
+    /**
+     * The last {@link #WINDOW} elements before the mismatch and up to
+     * {@link #WINDOW} elements from the mismatch on.
+     */
+    private static final class Context {
+        private final Object[] before = new Object[WINDOW];
+        private final Object[] after = new Object[WINDOW + 1];
+        private long count;
+        private int afterCount;
+        private boolean more;
+
+        void push(Object o) {
+            before[(int) (count % WINDOW)] = o;
+            ++count;
+        }
+
+        void mismatch(Object o, Iterator<?> rest) {
+            after[afterCount++] = o;
+            while (afterCount <= WINDOW && rest.hasNext()) {
+                after[afterCount++] = rest.next();
+            }
+            more = rest.hasNext();
+        }
+
+        /**
+         * A bounded generator, e.g. one that reads an array, may not be
+         * defined past the end of the actual sequence: a generator that fails
+         * ends the window.
+         */
+        void mismatch(Object o, LongFunction<?> generator, long index) {
+            after[afterCount++] = o;
+            more = true;
+            while (afterCount <= WINDOW) {
+                try {
+                    after[afterCount] = generator.apply(index + afterCount);
+                } catch (RuntimeException e) {
+                    more = false;
+                    break;
+                }
+                ++afterCount;
+            }
+        }
+
+        void end() {
+            more = false;
+        }
+
+        String render(long index) {
+            int beforeCount = (int) Math.min(count, WINDOW);
+            long from = index - beforeCount;
+            long to = index + afterCount - 1;
+            StringBuilder sb = new StringBuilder();
+            if (from > to) {
+                return sb.append('[').append(index).append("..]: []").toString();
+            }
+            sb.append('[').append(from).append("..").append(to).append("]: [");
+            if (from > 0) {
+                sb.append("..., ");
+            }
+            boolean first = true;
+            for (long i = count - beforeCount; i < count; ++i) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(str(before[(int) (i % WINDOW)]));
+                first = false;
+            }
+            for (int i = 0; i < afterCount; ++i) {
+                if (!first) {
+                    sb.append(", ");
+                }
+                sb.append(str(after[i]));
+                first = false;
+            }
+            if (more) {
+                sb.append(", ...");
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+}
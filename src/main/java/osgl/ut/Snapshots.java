@@ -0,0 +1,484 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import osgl.ut.AssertionStats.Family;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Snapshot assertions: compares values against expected renderings stored on
+ * disk instead of constants maintained by hand.
+ *
+ * ```
+ * private static final Snapshots snapshots = Snapshots.of(ReportTest.class);
+ *
+ * {@literal @}Test
+ * public void monthlyReport() {
+ *     snapshots.eq("monthlyReport", report.render(month));
+ * }
+ * ```
+ *
+ * A value is rendered to a canonical text: strings as they are, collections
+ * and arrays one element per line, sets and maps sorted by the rendering of
+ * their elements and keys, other objects with {@link String#valueOf(Object)}.
+ *
+ * All snapshots of a test class are kept in one file,
+ * `<dir>/<class name>.snap`, where `<dir>` is read from the
+ * {@link #DIR_PROPERTY} system property. The file starts with an index of
+ * the snapshot names and is followed by the snapshots, each deflated on its
+ * own. The file is read with a single call on the first check, and a
+ * snapshot is inflated only when it is checked, and only if its length
+ * matches the rendered value.
+ *
+ * When the {@link #UPDATE_PROPERTY} system property is `true`, missing and
+ * differing snapshots are recorded instead of failing, and the file is
+ * rewritten by {@link #save()} or when the JVM exits. Unchanged snapshots are
+ * copied without being compressed again, so the file changes only where a
+ * snapshot changed.
+ *
+ * A `Snapshots` instance is thread safe.
+ */
+public final class Snapshots {
+
+    /**
+     * The system property that sets the directory of snapshot files.
+     */
+    public static final String DIR_PROPERTY = "osgl.ut.snapshot.dir";
+
+    /**
+     * The system property that turns update mode on.
+     */
+    public static final String UPDATE_PROPERTY = "osgl.ut.snapshot.update";
+
+    /**
+     * The directory of snapshot files when {@link #DIR_PROPERTY} is not set.
+     */
+    public static final String DEFAULT_DIR = "src/test/snapshots";
+
+    private static final int MAGIC = 0x534E4150;
+    private static final int VERSION = 1;
+
+    private static final ClassValue<Snapshots> SNAPSHOTS = new ClassValue<Snapshots>() {
+        @Override
+        protected Snapshots computeValue(Class<?> type) {
+            Path dir = Paths.get(System.getProperty(DIR_PROPERTY, DEFAULT_DIR));
+            return new Snapshots(dir.resolve(type.getName() + ".snap"), Boolean.getBoolean(UPDATE_PROPERTY));
+        }
+    };
+
+    private final Path file;
+    private final boolean update;
+    private final Inflater inflater = new Inflater();
+    private Map<String, Snapshot> snapshots;
+    private boolean dirty;
+    private boolean hooked;
+
+    Snapshots(Path file, boolean update) {
+        this.file = file;
+        this.update = update;
+    }
+
+    /**
+     * Returns the snapshots of a test class.
+     *
+     * @param testClass
+     *      the test class
+     * @return the snapshots stored for `testClass`, the same instance for every call
+     */
+    public static Snapshots of(Class<?> testClass) {
+        return SNAPSHOTS.get(testClass);
+    }
+
+    /**
+     * Returns the file the snapshots are stored in.
+     *
+     * @return the snapshot file, it may not exist yet
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Checks that the rendering of a value equals to a stored snapshot.
+     *
+     * @param name
+     *      the name of the snapshot, unique in the test class
+     * @param actual
+     *      the actual value
+     * @param message
+     *      the failure message, `null` okay
+     * @param messageArgs
+     *      the failure message arguments
+     */
+    public void eq(String name, Object actual, String message, Object... messageArgs) {
+        check(name, actual, message, messageArgs);
+    }
+
+    /**
+     * Checks that the rendering of a value equals to a stored snapshot.
+     *
+     * @param name
+     *      the name of the snapshot, unique in the test class
+     * @param actual
+     *      the actual value
+     * @param message
+     *      supplies the failure message, `null` okay
+     */
+    public void eq(String name, Object actual, Supplier<String> message) {
+        check(name, actual, message, null);
+    }
+
+    /**
+     * Checks that the rendering of a value equals to a stored snapshot.
+     *
+     * @param name
+     *      the name of the snapshot, unique in the test class
+     * @param actual
+     *      the actual value
+     * @see #eq(String, Object, String, Object...)
+     */
+    public void eq(String name, Object actual) {
+        check(name, actual, null, null);
+    }
+
+    /**
+     * Writes the snapshots recorded in update mode. Does nothing if no
+     * snapshot was recorded since the file was read or last saved.
+     *
+     * @throws UncheckedIOException
+     *      if the file cannot be written
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        try {
+            write();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to write snapshots " + file, e);
+        }
+        dirty = false;
+    }
+
+    /**
+     * Render a value to its canonical text.
+     *
+     * @param value
+     *      the value, `null` okay
+     * @return the canonical rendering of `value`
+     */
+    static String render(Object value) {
+        if (value instanceof CharSequence) {
+            return value.toString();
+        }
+        StringBuilder sb = new StringBuilder();
+        render(sb, value, "");
+        return sb.toString();
+    }
+
+    private void check(String name, Object actual, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (null == name) {
+                throw new NullPointerException("name");
+            }
+            String rendered = render(actual);
+            byte[] bytes = rendered.getBytes(StandardCharsets.UTF_8);
+            String stored;
+            synchronized (this) {
+                Snapshot snapshot = snapshots().get(name);
+                if (null != snapshot && snapshot.matches(bytes, inflater)) {
+                    return;
+                }
+                if (update) {
+                    record(name, bytes);
+                    return;
+                }
+                stored = null == snapshot ? null : snapshot.text(name, inflater, file);
+            }
+            String header = ArrayComparison.header(TestBase.msg(message, messageArgs));
+            if (null == stored) {
+                throw new AssertionError(header + "no snapshot " + name + " in " + file
+                        + ", run with -D" + UPDATE_PROPERTY + "=true to record it");
+            }
+            FailureRendering.failNotEquals(header + "snapshot " + name + " differed", stored, rendered);
+        } finally {
+            AssertionStats.exit(Family.EQ_SNAPSHOT, timer);
+        }
+    }
+
+    private Map<String, Snapshot> snapshots() {
+        if (null == snapshots) {
+            snapshots = new HashMap<>();
+            if (Files.isRegularFile(file)) {
+                try {
+                    read(Files.readAllBytes(file));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("failed to read snapshots " + file, e);
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    private void read(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (data.length < 12 || MAGIC != in.readInt()) {
+            throw new IllegalStateException("not a snapshot file: " + file);
+        }
+        int version = in.readInt();
+        if (VERSION != version) {
+            throw new IllegalStateException("unsupported snapshot file version " + version + ": " + file);
+        }
+        int count = in.readInt();
+        String[] names = new String[count];
+        int[] lengths = new int[count];
+        int[] sizes = new int[count];
+        for (int i = 0; i < count; ++i) {
+            names[i] = in.readUTF();
+            lengths[i] = in.readInt();
+            sizes[i] = in.readInt();
+        }
+        int offset = data.length - in.available();
+        for (int i = 0; i < count; ++i) {
+            if (sizes[i] < 0 || sizes[i] > data.length - offset) {
+                throw new IllegalStateException("truncated snapshot file: " + file);
+            }
+            snapshots.put(names[i], new Snapshot(data, offset, sizes[i], lengths[i]));
+            offset += sizes[i];
+        }
+    }
+
+    private void record(String name, byte[] bytes) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            byte[] buffer = new byte[Math.max(64, bytes.length / 2)];
+            int size = 0;
+            while (!deflater.finished()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                size += deflater.deflate(buffer, size, buffer.length - size);
+            }
+            snapshots.put(name, new Snapshot(buffer, 0, size, bytes.length));
+        } finally {
+            deflater.end();
+        }
+        dirty = true;
+        if (!hooked) {
+            hooked = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(this::save, "osgl-ut-snapshots"));
+        }
+    }
+
+    private void write() throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        // sorted, so the file does not depend on the order tests run in
+        Map<String, Snapshot> sorted = new TreeMap<>(snapshots);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(sorted.size());
+                for (Map.Entry<String, Snapshot> entry : sorted.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().length);
+                    out.writeInt(entry.getValue().size);
+                }
+                for (Snapshot snapshot : sorted.values()) {
+                    out.write(snapshot.data, snapshot.offset, snapshot.size);
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void render(StringBuilder sb, Object value, String indent) {
+        if (value instanceof CharSequence) {
+            quote(sb, value.toString());
+        } else if (value instanceof Map) {
+            List<String> entries = new ArrayList<>();
+            String inner = indent + "  ";
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                StringBuilder e = new StringBuilder();
+                render(e, entry.getKey(), inner);
+                e.append(": ");
+                render(e, entry.getValue(), inner);
+                entries.add(e.toString());
+            }
+            Collections.sort(entries);
+            block(sb, '{', entries, '}', indent);
+        } else if (value instanceof Iterable) {
+            List<String> elements = new ArrayList<>();
+            for (Object element : (Iterable<?>) value) {
+                elements.add(rendered(element, indent + "  "));
+            }
+            if (value instanceof Set) {
+                Collections.sort(elements);
+            }
+            block(sb, '[', elements, ']', indent);
+        } else if (null != value && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<String> elements = new ArrayList<>(length);
+            for (int i = 0; i < length; ++i) {
+                elements.add(rendered(Array.get(value, i), indent + "  "));
+            }
+            block(sb, '[', elements, ']', indent);
+        } else {
+            sb.append(value);
+        }
+    }
+
+    private static String rendered(Object value, String indent) {
+        StringBuilder sb = new StringBuilder();
+        render(sb, value, indent);
+        return sb.toString();
+    }
+
+    private static void block(StringBuilder sb, char open, List<String> elements, char close, String indent) {
+        sb.append(open);
+        if (!elements.isEmpty()) {
+            for (String element : elements) {
+                sb.append('\n').append(indent).append("  ").append(element);
+            }
+            sb.append('\n').append(indent);
+        }
+        sb.append(close);
+    }
+
+    private static void quote(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); ++i) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * A deflated snapshot, a slice of the file read or of a buffer recorded
+     * in update mode.
+     */
+    private static final class Snapshot {
+        final byte[] data;
+        final int offset;
+        final int size;
+        /**
+         * The length of the rendering in UTF-8 bytes.
+         */
+        final int length;
+
+        Snapshot(byte[] data, int offset, int size, int length) {
+            this.data = data;
+            this.offset = offset;
+            this.size = size;
+            this.length = length;
+        }
+
+        boolean matches(byte[] bytes, Inflater inflater) {
+            return bytes.length == length && Arrays.equals(bytes, inflate(inflater));
+        }
+
+        String text(String name, Inflater inflater, Path file) {
+            byte[] bytes = inflate(inflater);
+            if (null == bytes) {
+                throw new IllegalStateException("corrupted snapshot " + name + " in " + file);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @return the rendering, `null` if the snapshot is corrupted
+         */
+        private byte[] inflate(Inflater inflater) {
+            byte[] bytes = new byte[length];
+            inflater.reset();
+            inflater.setInput(data, offset, size);
+            try {
+                int n = 0;
+                while (n < length && !inflater.finished()) {
+                    int inflated = inflater.inflate(bytes, n, length - n);
+                    if (0 == inflated && (inflater.needsInput() || inflater.needsDictionary())) {
+                        return null;
+                    }
+                    n += inflated;
+                }
+                return n == length ? bytes : null;
+            } catch (DataFormatException e) {
+                return null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,1017 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Collects assertion failures instead of throwing on the first one.
+ *
+ * `SoftAssertions` provides the `yes`, `no`, `eq`, `ne`, `isNull`, `notNull`,
+ * `same` and `notSame` vocabulary of {@link TestBase}. A failed check is
+ * recorded without creating an exception, and {@link #assertAll()} throws one
+ * {@link AssertionError} that reports all of them:
+ *
+ * ```
+ * SoftAssertions.softly(softly -> {
+ *     for (Record record : records) {
+ *         softly.eq(expected(record), record.value(), Message.of("record %s", record.id()));
+ *     }
+ * });
+ * ```
+ *
+ * Memory is bounded: only the first {@link #maxRecorded()} failures are kept,
+ * subsequent failures are counted only and allocate nothing. The difference
+ * of the values is described when a failure is recorded, the failure message
+ * is rendered when the aggregated error is reported.
+ *
+ * A `SoftAssertions` instance is not thread safe.
+ */
+public final class SoftAssertions {
+
+    /**
+     * The default number of failures kept for reporting.
+     */
+    public static final int DEFAULT_MAX_RECORDED = 100;
+
+    private final Failure[] failures;
+    private long checks;
+    private long failed;
+
+    /**
+     * Construct a `SoftAssertions` that keeps the first {@link #DEFAULT_MAX_RECORDED}
+     * failures.
+     */
+    public SoftAssertions() {
+        this(DEFAULT_MAX_RECORDED);
+    }
+
+    /**
+     * Construct a `SoftAssertions` that keeps the first `maxRecorded` failures.
+     *
+     * @param maxRecorded
+     *              the maximum number of failures kept for reporting
+     * @throws IllegalArgumentException
+     *              if `maxRecorded` is negative
+     */
+    public SoftAssertions(int maxRecorded) {
+        if (maxRecorded < 0) {
+            throw new IllegalArgumentException("maxRecorded shall not be negative: " + maxRecorded);
+        }
+        this.failures = new Failure[maxRecorded];
+    }
+
+    /**
+     * Run a block of soft assertions and then {@link #assertAll() assert all} of them.
+     *
+     * If the block throws, the failures recorded before are attached to the
+     * exception thrown as a suppressed {@link AssertionError}.
+     *
+     * @param block
+     *              the code that runs the soft assertions
+     * @throws AssertionError
+     *              if any of the soft assertions failed
+     */
+    public static void softly(Consumer<SoftAssertions> block) {
+        SoftAssertions softly = new SoftAssertions();
+        try {
+            block.accept(softly);
+        } catch (RuntimeException | Error e) {
+            if (softly.hasFailures()) {
+                e.addSuppressed(new AssertionError(softly.report()));
+            }
+            throw e;
+        }
+        softly.assertAll();
+    }
+
+    /**
+     * Returns the number of checks run so far.
+     *
+     * @return the number of checks
+     */
+    public long checkCount() {
+        return checks;
+    }
+
+    /**
+     * Returns the number of failed checks so far, including failures
+     * that are not recorded.
+     *
+     * @return the number of failed checks
+     */
+    public long failureCount() {
+        return failed;
+    }
+
+    /**
+     * Returns the maximum number of failures kept for reporting.
+     *
+     * @return the maximum number of recorded failures
+     */
+    public int maxRecorded() {
+        return failures.length;
+    }
+
+    /**
+     * Check if any check failed.
+     *
+     * @return `true` if at least one check failed
+     */
+    public boolean hasFailures() {
+        return failed > 0;
+    }
+
+    /**
+     * Throws an {@link AssertionError} if any check failed. The error message
+     * reports the number of failures and the recorded failures.
+     *
+     * @throws AssertionError
+     *              if any check failed
+     */
+    public void assertAll() {
+        if (failed > 0) {
+            throw new AssertionError(report());
+        }
+    }
+
+    /**
+     * Checks that a condition is `true`.
+     *
+     * @param condition
+     *              condition to be checked
+     */
+    public void yes(boolean condition) {
+        ++checks;
+        if (!condition && countFailure()) {
+            record(null, null);
+        }
+    }
+
+    /**
+     * Checks that a condition is `true`.
+     *
+     * @param condition
+     *              condition to be checked
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public void yes(boolean condition, String message, Object... messageArgs) {
+        ++checks;
+        if (!condition && countFailure()) {
+            record(message(message, messageArgs), null);
+        }
+    }
+
+    /**
+     * Checks that a condition is `true`.
+     *
+     * @param condition
+     *              condition to be checked
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void yes(boolean condition, Supplier<String> message) {
+        ++checks;
+        if (!condition && countFailure()) {
+            record(message, null);
+        }
+    }
+
+    /**
+     * Checks that a condition is `false`.
+     *
+     * @param condition
+     *              condition to be checked
+     */
+    public void no(boolean condition) {
+        yes(!condition);
+    }
+
+    /**
+     * Checks that a condition is `false`.
+     *
+     * @param condition
+     *              condition to be checked
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public void no(boolean condition, String message, Object... messageArgs) {
+        yes(!condition, message, messageArgs);
+    }
+
+    /**
+     * Checks that a condition is `false`.
+     *
+     * @param condition
+     *              condition to be checked
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void no(boolean condition, Supplier<String> message) {
+        yes(!condition, message);
+    }
+
+    /**
+     * Checks that two objects (including arrays) are equal.
+     *
+     * @param expected
+     *              expected value, could be any object including array
+     * @param actual
+     *              actual value
+     */
+    public void eq(Object expected, Object actual) {
+        eq(expected, actual, (Supplier<String>) null);
+    }
+
+    /**
+     * Checks that two objects (including arrays) are equal.
+     *
+     * @param expected
+     *              expected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public void eq(Object expected, Object actual, String message, Object... messageArgs) {
+        ++checks;
+        if (!equal(expected, actual) && countFailure()) {
+            record(message(message, messageArgs), difference(expected, actual));
+        }
+    }
+
+    /**
+     * Checks that two objects (including arrays) are equal.
+     *
+     * @param expected
+     *              expected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void eq(Object expected, Object actual, Supplier<String> message) {
+        ++checks;
+        if (!equal(expected, actual) && countFailure()) {
+            record(message, difference(expected, actual));
+        }
+    }
+
+    /**
+     * Checks that two `int` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     */
+    public void eq(int expected, int actual) {
+        eq(expected, actual, null);
+    }
+
+    /**
+     * Checks that two `int` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void eq(int expected, int actual, Supplier<String> message) {
+        ++checks;
+        if (expected != actual && countFailure()) {
+            record(message, "expected:<" + expected + "> but was:<" + actual + ">");
+        }
+    }
+
+    /**
+     * Checks that two `long` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     */
+    public void eq(long expected, long actual) {
+        eq(expected, actual, null);
+    }
+
+    /**
+     * Checks that two `long` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void eq(long expected, long actual, Supplier<String> message) {
+        ++checks;
+        if (expected != actual && countFailure()) {
+            record(message, "expected:<" + expected + "> but was:<" + actual + ">");
+        }
+    }
+
+    /**
+     * Checks that two `short` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     */
+    public void eq(short expected, short actual) {
+        eq(expected, actual, null);
+    }
+
+    /**
+     * Checks that two `short` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void eq(short expected, short actual, Supplier<String> message) {
+        ++checks;
+        if (expected != actual && countFailure()) {
+            record(message, "expected:<" + expected + "> but was:<" + actual + ">");
+        }
+    }
+
+    /**
+     * Checks that two `byte` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     */
+    public void eq(byte expected, byte actual) {
+        eq(expected, actual, null);
+    }
+
+    /**
+     * Checks that two `byte` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void eq(byte expected, byte actual, Supplier<String> message) {
+        ++checks;
+        if (expected != actual && countFailure()) {
+            record(message, "expected:<" + expected + "> but was:<" + actual + ">");
+        }
+    }
+
+    /**
+     * Checks that two `char` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     */
+    public void eq(char expected, char actual) {
+        eq(expected, actual, null);
+    }
+
+    /**
+     * Checks that two `char` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void eq(char expected, char actual, Supplier<String> message) {
+        ++checks;
+        if (expected != actual && countFailure()) {
+            record(message, "expected:<" + expected + "> but was:<" + actual + ">");
+        }
+    }
+
+    /**
+     * Checks that two `boolean` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     */
+    public void eq(boolean expected, boolean actual) {
+        eq(expected, actual, null);
+    }
+
+    /**
+     * Checks that two `boolean` values are equal.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void eq(boolean expected, boolean actual, Supplier<String> message) {
+        ++checks;
+        if (expected != actual && countFailure()) {
+            record(message, "expected:<" + expected + "> but was:<" + actual + ">");
+        }
+    }
+
+    /**
+     * Checks that two `double` values are equal within a positive delta.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     * @param delta
+     *              the maximum delta between `expected` and `actual` for which
+     *              both numbers are still considered equal
+     */
+    public void eq(double expected, double actual, double delta) {
+        eq(expected, actual, delta, null);
+    }
+
+    /**
+     * Checks that two `double` values are equal within a positive delta.
+     *
+     * @param expected
+     *              the expected value
+     * @param actual
+     *              the actual value
+     * @param delta
+     *              the maximum delta between `expected` and `actual` for which
+     *              both numbers are still considered equal
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void eq(double expected, double actual, double delta, Supplier<String> message) {
+        ++checks;
+        if (TestBase.doubleIsDifferent(expected, actual, delta) && countFailure()) {
+            record(message, "expected:<" + expected + "> but was:<" + actual + ">");
+        }
+    }
+
+    /**
+     * Checks that two objects (including arrays) are not equal.
+     *
+     * @param unexpected
+     *              unexpected value, could be any object including array
+     * @param actual
+     *              actual value
+     */
+    public void ne(Object unexpected, Object actual) {
+        ne(unexpected, actual, (Supplier<String>) null);
+    }
+
+    /**
+     * Checks that two objects (including arrays) are not equal.
+     *
+     * @param unexpected
+     *              unexpected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public void ne(Object unexpected, Object actual, String message, Object... messageArgs) {
+        ++checks;
+        if (equal(unexpected, actual) && countFailure()) {
+            record(message(message, messageArgs), "Values should be different. Actual: " + str(actual));
+        }
+    }
+
+    /**
+     * Checks that two objects (including arrays) are not equal.
+     *
+     * @param unexpected
+     *              unexpected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void ne(Object unexpected, Object actual, Supplier<String> message) {
+        ++checks;
+        if (equal(unexpected, actual) && countFailure()) {
+            record(message, "Values should be different. Actual: " + str(actual));
+        }
+    }
+
+    /**
+     * Checks that two `int` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     */
+    public void ne(int unexpected, int actual) {
+        ne(unexpected, actual, null);
+    }
+
+    /**
+     * Checks that two `int` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void ne(int unexpected, int actual, Supplier<String> message) {
+        ++checks;
+        if (unexpected == actual && countFailure()) {
+            record(message, "Values should be different. Actual: " + actual);
+        }
+    }
+
+    /**
+     * Checks that two `long` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     */
+    public void ne(long unexpected, long actual) {
+        ne(unexpected, actual, null);
+    }
+
+    /**
+     * Checks that two `long` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void ne(long unexpected, long actual, Supplier<String> message) {
+        ++checks;
+        if (unexpected == actual && countFailure()) {
+            record(message, "Values should be different. Actual: " + actual);
+        }
+    }
+
+    /**
+     * Checks that two `short` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     */
+    public void ne(short unexpected, short actual) {
+        ne(unexpected, actual, null);
+    }
+
+    /**
+     * Checks that two `short` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void ne(short unexpected, short actual, Supplier<String> message) {
+        ++checks;
+        if (unexpected == actual && countFailure()) {
+            record(message, "Values should be different. Actual: " + actual);
+        }
+    }
+
+    /**
+     * Checks that two `byte` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     */
+    public void ne(byte unexpected, byte actual) {
+        ne(unexpected, actual, null);
+    }
+
+    /**
+     * Checks that two `byte` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void ne(byte unexpected, byte actual, Supplier<String> message) {
+        ++checks;
+        if (unexpected == actual && countFailure()) {
+            record(message, "Values should be different. Actual: " + actual);
+        }
+    }
+
+    /**
+     * Checks that two `char` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     */
+    public void ne(char unexpected, char actual) {
+        ne(unexpected, actual, null);
+    }
+
+    /**
+     * Checks that two `char` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void ne(char unexpected, char actual, Supplier<String> message) {
+        ++checks;
+        if (unexpected == actual && countFailure()) {
+            record(message, "Values should be different. Actual: " + actual);
+        }
+    }
+
+    /**
+     * Checks that two `boolean` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     */
+    public void ne(boolean unexpected, boolean actual) {
+        ne(unexpected, actual, null);
+    }
+
+    /**
+     * Checks that two `boolean` values are not equal.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void ne(boolean unexpected, boolean actual, Supplier<String> message) {
+        ++checks;
+        if (unexpected == actual && countFailure()) {
+            record(message, "Values should be different. Actual: " + actual);
+        }
+    }
+
+    /**
+     * Checks that two `double` values are not equal within a positive delta.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     * @param delta
+     *              the maximum delta between `unexpected` and `actual` for which
+     *              both numbers are still considered equal
+     */
+    public void ne(double unexpected, double actual, double delta) {
+        ne(unexpected, actual, delta, null);
+    }
+
+    /**
+     * Checks that two `double` values are not equal within a positive delta.
+     *
+     * @param unexpected
+     *              the unexpected value
+     * @param actual
+     *              the actual value
+     * @param delta
+     *              the maximum delta between `unexpected` and `actual` for which
+     *              both numbers are still considered equal
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void ne(double unexpected, double actual, double delta, Supplier<String> message) {
+        ++checks;
+        if (!TestBase.doubleIsDifferent(unexpected, actual, delta) && countFailure()) {
+            record(message, "Values should be different. Actual: " + actual);
+        }
+    }
+
+    /**
+     * Checks that an object is `null`.
+     *
+     * @param object
+     *              the object to check
+     */
+    public void isNull(Object object) {
+        isNull(object, (Supplier<String>) null);
+    }
+
+    /**
+     * Checks that an object is `null`.
+     *
+     * @param object
+     *              the object to check
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public void isNull(Object object, String message, Object... messageArgs) {
+        ++checks;
+        if (null != object && countFailure()) {
+            record(message(message, messageArgs), "expected null, but was:<" + str(object) + ">");
+        }
+    }
+
+    /**
+     * Checks that an object is `null`.
+     *
+     * @param object
+     *              the object to check
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void isNull(Object object, Supplier<String> message) {
+        ++checks;
+        if (null != object && countFailure()) {
+            record(message, "expected null, but was:<" + str(object) + ">");
+        }
+    }
+
+    /**
+     * Checks that an object isn't `null`.
+     *
+     * @param object
+     *              the object to check
+     */
+    public void notNull(Object object) {
+        notNull(object, (Supplier<String>) null);
+    }
+
+    /**
+     * Checks that an object isn't `null`.
+     *
+     * @param object
+     *              the object to check
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public void notNull(Object object, String message, Object... messageArgs) {
+        ++checks;
+        if (null == object && countFailure()) {
+            record(message(message, messageArgs), "expected not null");
+        }
+    }
+
+    /**
+     * Checks that an object isn't `null`.
+     *
+     * @param object
+     *              the object to check
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void notNull(Object object, Supplier<String> message) {
+        ++checks;
+        if (null == object && countFailure()) {
+            record(message, "expected not null");
+        }
+    }
+
+    /**
+     * Checks that two objects refer to the same object.
+     *
+     * @param expected
+     *              the expected object
+     * @param actual
+     *              the object to compare to `expected`
+     */
+    public void same(Object expected, Object actual) {
+        same(expected, actual, (Supplier<String>) null);
+    }
+
+    /**
+     * Checks that two objects refer to the same object.
+     *
+     * @param expected
+     *              the expected object
+     * @param actual
+     *              the object to compare to `expected`
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public void same(Object expected, Object actual, String message, Object... messageArgs) {
+        ++checks;
+        if (expected != actual && countFailure()) {
+            record(message(message, messageArgs), "expected same:<" + str(expected) + "> was not:<" + str(actual) + ">");
+        }
+    }
+
+    /**
+     * Checks that two objects refer to the same object.
+     *
+     * @param expected
+     *              the expected object
+     * @param actual
+     *              the object to compare to `expected`
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void same(Object expected, Object actual, Supplier<String> message) {
+        ++checks;
+        if (expected != actual && countFailure()) {
+            record(message, "expected same:<" + str(expected) + "> was not:<" + str(actual) + ">");
+        }
+    }
+
+    /**
+     * Checks that two objects do not refer to the same object.
+     *
+     * @param unexpected
+     *              the object you don't expect
+     * @param actual
+     *              the object to compare to `unexpected`
+     */
+    public void notSame(Object unexpected, Object actual) {
+        notSame(unexpected, actual, (Supplier<String>) null);
+    }
+
+    /**
+     * Checks that two objects do not refer to the same object.
+     *
+     * @param unexpected
+     *              the object you don't expect
+     * @param actual
+     *              the object to compare to `unexpected`
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public void notSame(Object unexpected, Object actual, String message, Object... messageArgs) {
+        ++checks;
+        if (unexpected == actual && countFailure()) {
+            record(message(message, messageArgs), "expected not same");
+        }
+    }
+
+    /**
+     * Checks that two objects do not refer to the same object.
+     *
+     * @param unexpected
+     *              the object you don't expect
+     * @param actual
+     *              the object to compare to `unexpected`
+     * @param message
+     *              supplies the failure message. `null` Okay
+     */
+    public void notSame(Object unexpected, Object actual, Supplier<String> message) {
+        ++checks;
+        if (unexpected == actual && countFailure()) {
+            record(message, "expected not same");
+        }
+    }
+
+    /**
+     * Count a failed check.
+     *
+     * @return `true` if the failure shall be recorded, i.e. there are less
+     *      than {@link #maxRecorded()} failures recorded
+     */
+    private boolean countFailure() {
+        return failed++ < failures.length;
+    }
+
+    /**
+     * Record the last counted failure.
+     *
+     * @param message
+     *              supplies the user message, rendered when the failure is reported
+     * @param detail
+     *              the description of the failure, `null` okay
+     */
+    private void record(Supplier<String> message, String detail) {
+        failures[(int) failed - 1] = new Failure(checks, message, detail);
+    }
+
+    String report() {
+        int recorded = (int) Math.min(failed, failures.length);
+        StringBuilder sb = new StringBuilder();
+        sb.append(failed).append(" of ").append(checks).append(failed == 1 ? " check" : " checks").append(" failed");
+        for (int i = 0; i < recorded; ++i) {
+            sb.append("\n  ").append(i + 1).append(") ");
+            failures[i].render(sb);
+        }
+        if (failed > recorded) {
+            sb.append("\n  ... ").append(failed - recorded).append(" more failures not recorded");
+        }
+        return sb.toString();
+    }
+
+    private static Supplier<String> message(String message, Object[] messageArgs) {
+        return null == message ? null : Message.of(message, messageArgs);
+    }
+
+    private static boolean equal(Object expected, Object actual) {
+        if (null == expected) {
+            return null == actual;
+        }
+        if (expected.getClass().isArray()) {
+            return TestBase.deepEquals(expected, actual);
+        }
+        return expected.equals(actual);
+    }
+
+    private static String difference(Object expected, Object actual) {
+        if (null != expected && null != actual && expected.getClass().isArray()
+                && expected.getClass() == actual.getClass()) {
+            return ArrayComparison.describe(expected, actual, ArrayComparison.firstDifference(expected, actual));
+        }
+        return FailureRendering.difference(expected, actual);
+    }
+
+    private static String str(Object o) {
+        return FailureRendering.render(o);
+    }
+
+    private static final class Failure {
+        private final long check;
+        private final Supplier<String> message;
+        private final String detail;
+
+        Failure(long check, Supplier<String> message, String detail) {
+            this.check = check;
+            this.message = message;
+            this.detail = detail;
+        }
+
+        void render(StringBuilder sb) {
+            sb.append("check #").append(check);
+            String msg = Message.render(message);
+            if (!msg.isEmpty()) {
+                sb.append(": ").append(msg);
+            }
+            if (null != detail) {
+                sb.append(msg.isEmpty() ? ": " : ", ").append(detail);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,397 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A stress test of concurrent code.
+ *
+ * Every round creates a fresh state, runs each actor once on its own thread
+ * with that state and then checks the invariant on the state, typically with
+ * `TestBase` assertions:
+ *
+ * ```
+ * Stress.of(() -> new MpscQueue<Integer>(16))
+ *         .actor(q -> q.offer(1))
+ *         .actor(q -> q.offer(2))
+ *         .invariant(q -> eq(2, q.size()))
+ *         .rounds(100_000)
+ *         .run();
+ * ```
+ *
+ * The actor threads are started once and reused for all rounds. Between
+ * rounds they spin on a volatile round number, so all actors are released
+ * together and their code overlaps as much as the cores allow. Spinning
+ * threads yield, so more actors than cores still make progress.
+ *
+ * The order in which the actors finish each round is counted, a stress test
+ * that reports only one interleaving has not raced. When an actor throws or
+ * the invariant fails, the run stops and reports the first failing round.
+ *
+ * `Stress` is immutable, the settings return a new `Stress`.
+ *
+ * @param <S>
+ *      the type of the state
+ */
+public final class Stress<S> {
+
+    /**
+     * The default number of rounds.
+     */
+    public static final int DEFAULT_ROUNDS = 10_000;
+
+    /**
+     * The maximum number of actors whose finishing order is counted.
+     */
+    public static final int MAX_ORDERED_ACTORS = 16;
+
+    private static final int SPINS = 64;
+
+    private final Supplier<? extends S> state;
+    private final List<Consumer<? super S>> actors;
+    private final Consumer<? super S> invariant;
+    private final int rounds;
+
+    private Stress(Supplier<? extends S> state, List<Consumer<? super S>> actors, Consumer<? super S> invariant,
+                   int rounds) {
+        this.state = state;
+        this.actors = actors;
+        this.invariant = invariant;
+        this.rounds = rounds;
+    }
+
+    /**
+     * Create a `Stress` without actors.
+     *
+     * @param state
+     *              creates the state of a round, called once per round
+     * @param <S>
+     *              the type of the state
+     * @return a `Stress` with {@link #DEFAULT_ROUNDS} rounds and no invariant
+     */
+    public static <S> Stress<S> of(Supplier<? extends S> state) {
+        if (null == state) {
+            throw new NullPointerException("state");
+        }
+        return new Stress<>(state, Collections.<Consumer<? super S>>emptyList(), s -> {
+        }, DEFAULT_ROUNDS);
+    }
+
+    /**
+     * Add an actor that runs on its own thread.
+     *
+     * @param actor
+     *              the actor, called once per round
+     * @return a `Stress` with the actor added
+     */
+    public Stress<S> actor(Consumer<? super S> actor) {
+        return actors(1, actor);
+    }
+
+    /**
+     * Add `count` copies of an actor, each running on its own thread. Use
+     * {@link Runtime#availableProcessors()} to load every core.
+     *
+     * @param count
+     *              the number of copies
+     * @param actor
+     *              the actor, called once per round by each copy
+     * @return a `Stress` with the actors added
+     * @throws IllegalArgumentException
+     *              if `count` is not positive
+     */
+    public Stress<S> actors(int count, Consumer<? super S> actor) {
+        if (null == actor) {
+            throw new NullPointerException("actor");
+        }
+        if (count < 1) {
+            throw new IllegalArgumentException("count shall be positive: " + count);
+        }
+        List<Consumer<? super S>> list = new ArrayList<>(actors);
+        for (int i = 0; i < count; ++i) {
+            list.add(actor);
+        }
+        return new Stress<>(state, Collections.unmodifiableList(list), invariant, rounds);
+    }
+
+    /**
+     * Set the invariant checked after each round, when all actors finished.
+     * The invariant fails by throwing, e.g. with a `TestBase` assertion.
+     *
+     * @param invariant
+     *              the invariant
+     * @return a `Stress` with the new invariant
+     */
+    public Stress<S> invariant(Consumer<? super S> invariant) {
+        if (null == invariant) {
+            throw new NullPointerException("invariant");
+        }
+        return new Stress<>(state, actors, invariant, rounds);
+    }
+
+    /**
+     * Set the number of rounds.
+     *
+     * @param rounds
+     *              the number of rounds
+     * @return a `Stress` with the new setting
+     * @throws IllegalArgumentException
+     *              if `rounds` is not positive
+     */
+    public Stress<S> rounds(int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("rounds shall be positive: " + rounds);
+        }
+        return new Stress<>(state, actors, invariant, rounds);
+    }
+
+    /**
+     * Run all rounds.
+     *
+     * @return the report of the rounds
+     * @throws AssertionError
+     *              if an actor threw or the invariant failed, the first
+     *              failure is the cause
+     * @throws IllegalStateException
+     *              if there is no actor
+     */
+    public Report run() {
+        if (actors.isEmpty()) {
+            throw new IllegalStateException("no actor");
+        }
+        return new Run<S>(this).run();
+    }
+
+    /**
+     * The outcome of a stress test.
+     */
+    public static final class Report {
+        private final int rounds;
+        private final Map<List<Integer>, Long> interleavings;
+
+        Report(int rounds, Map<List<Integer>, Long> interleavings) {
+            this.rounds = rounds;
+            this.interleavings = Collections.unmodifiableMap(interleavings);
+        }
+
+        /**
+         * Returns the number of rounds run, including the failing one.
+         *
+         * @return the number of rounds
+         */
+        public int rounds() {
+            return rounds;
+        }
+
+        /**
+         * Returns how many rounds the actors finished in each order. The
+         * keys are the actor indexes, in the order they are added, listed in
+         * finishing order. Empty if there are more than
+         * {@link #MAX_ORDERED_ACTORS} actors.
+         *
+         * @return the number of rounds per finishing order, most frequent first
+         */
+        public Map<List<Integer>, Long> interleavings() {
+            return interleavings;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("rounds: ").append(rounds);
+            if (!interleavings.isEmpty()) {
+                sb.append(", interleavings (actor finishing order): ");
+                boolean first = true;
+                for (Map.Entry<List<Integer>, Long> entry : interleavings.entrySet()) {
+                    if (!first) {
+                        sb.append(", ");
+                    }
+                    sb.append(entry.getKey()).append('=').append(entry.getValue());
+                    first = false;
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * The state of one {@link #run()}. The coordinator publishes the state of
+     * a round and then the round number, actors spin until the round number
+     * reaches their next round.
+     */
+    private static final class Run<S> {
+        private final Stress<S> stress;
+        private final int actorCount;
+        private final boolean ordered;
+        private final int[] order;
+        private final AtomicInteger ready = new AtomicInteger();
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicInteger ticket = new AtomicInteger();
+        private final AtomicReference<String> failure = new AtomicReference<>();
+        private volatile Throwable cause;
+        private volatile S current;
+        private volatile int round;
+        private volatile boolean stopped;
+
+        Run(Stress<S> stress) {
+            this.stress = stress;
+            this.actorCount = stress.actors.size();
+            this.ordered = actorCount <= MAX_ORDERED_ACTORS;
+            this.order = new int[actorCount];
+        }
+
+        Report run() {
+            Thread[] threads = new Thread[actorCount];
+            for (int i = 0; i < actorCount; ++i) {
+                final int index = i;
+                threads[i] = new Thread(() -> act(index), "osgl-ut-stress-" + i);
+                threads[i].setDaemon(true);
+                threads[i].start();
+            }
+            Map<Long, long[]> counts = new HashMap<>();
+            int r = 0;
+            try {
+                // start barrier, all actors are spinning before the first round
+                spinUntil(() -> ready.get() == actorCount);
+                while (r < stress.rounds && null == failure.get()) {
+                    ++r;
+                    current = stress.state.get();
+                    done.set(0);
+                    ticket.set(0);
+                    round = r;
+                    final int expected = actorCount;
+                    spinUntil(() -> done.get() == expected);
+                    if (ordered) {
+                        counts.computeIfAbsent(key(), k -> new long[1])[0]++;
+                    }
+                    if (null == failure.get()) {
+                        try {
+                            stress.invariant.accept(current);
+                        } catch (RuntimeException | AssertionError e) {
+                            fail("invariant failed in round " + r, e);
+                        }
+                    }
+                }
+            } finally {
+                stopped = true;
+                for (Thread thread : threads) {
+                    join(thread);
+                }
+            }
+            Report report = new Report(r, interleavings(counts));
+            String message = failure.get();
+            if (null != message) {
+                throw new AssertionError(message + " of " + stress.rounds + ": " + cause + "\n" + report, cause);
+            }
+            return report;
+        }
+
+        private void act(int index) {
+            Consumer<? super S> actor = stress.actors.get(index);
+            ready.incrementAndGet();
+            for (int r = 1; r <= stress.rounds; ++r) {
+                final int next = r;
+                spinUntil(() -> round >= next || stopped);
+                if (round < next) {
+                    return;
+                }
+                try {
+                    actor.accept(current);
+                } catch (Throwable e) {
+                    fail("actor " + index + " failed in round " + r, e);
+                }
+                if (ordered) {
+                    order[ticket.getAndIncrement()] = index;
+                }
+                done.incrementAndGet();
+            }
+        }
+
+        private void fail(String message, Throwable e) {
+            if (failure.compareAndSet(null, message)) {
+                cause = e;
+            }
+        }
+
+        /**
+         * Pack the finishing order of the current round, 4 bits per actor.
+         */
+        private long key() {
+            long key = 0;
+            for (int i = actorCount - 1; i >= 0; --i) {
+                key = (key << 4) | order[i];
+            }
+            return key;
+        }
+
+        private Map<List<Integer>, Long> interleavings(Map<Long, long[]> counts) {
+            List<Map.Entry<Long, long[]>> entries = new ArrayList<>(counts.entrySet());
+            entries.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+            Map<List<Integer>, Long> interleavings = new LinkedHashMap<>();
+            for (Map.Entry<Long, long[]> entry : entries) {
+                List<Integer> order = new ArrayList<>(actorCount);
+                for (int i = 0; i < actorCount; ++i) {
+                    order.add((int) ((entry.getKey() >>> (4 * i)) & 0xF));
+                }
+                interleavings.put(Collections.unmodifiableList(order), entry.getValue()[0]);
+            }
+            return interleavings;
+        }
+
+        private static void join(Thread thread) {
+            boolean interrupted = false;
+            while (thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Busy wait for a condition, yielding after a few spins so waiting
+     * threads don't starve the running ones.
+     */
+    private static void spinUntil(BooleanSupplier condition) {
+        int spins = 0;
+        while (!condition.getAsBoolean()) {
+            if (++spins > SPINS) {
+                Thread.yield();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,651 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Field by field comparison of object graphs.
+ *
+ * Objects of application classes are compared by their fields, including
+ * the inherited ones but not the static, transient and synthetic ones,
+ * whether or not the class overrides `equals`. The fields of a class are
+ * looked up once and cached in a {@link ClassValue} as {@link MethodHandle}
+ * getters, primitive fields are read without boxing. Lists, other ordered
+ * collections and arrays are compared element by element, maps key by key,
+ * sets and JDK classes like `String` or `BigDecimal` with `equals`. Classes
+ * whose fields can't be accessed, e.g. in a module that is not open, are
+ * compared with `equals` too.
+ *
+ * Cycles and shared references are handled by remembering every pair of
+ * objects that may hold references, i.e. objects with reference fields,
+ * collections, maps and object arrays: a pair met again is assumed equal, as
+ * its comparison is already in progress or has passed. Each pair is therefore
+ * compared at most once, back references like `parent` pointers cost one
+ * lookup. Pairs are kept in an identity hash table that allocates nothing per
+ * pair.
+ * The failure reports the path to the first difference, e.g.
+ * `orders[3].lines[7].qty`. The path is kept in a reusable stack and is
+ * rendered only when the comparison fails.
+ */
+final class StructuralComparison {
+
+    private static final ClassValue<Shape> SHAPES = new ClassValue<Shape>() {
+        @Override
+        protected Shape computeValue(Class<?> type) {
+            return Shape.of(type);
+        }
+    };
+
+    private static final byte FIELD = 0;
+    private static final byte INDEX = 1;
+    private static final byte KEY = 2;
+
+    private Object[] segments = new Object[16];
+    private int[] indexes = new int[16];
+    private byte[] kinds = new byte[16];
+    private int depth;
+    private final PairTable visited = new PairTable();
+    private String failure;
+
+    private StructuralComparison() {
+    }
+
+    /**
+     * Compare two object graphs field by field.
+     *
+     * @param expected
+     *      the expected object, `null` okay
+     * @param actual
+     *      the actual object, `null` okay
+     * @return `null` if the graphs are equal, otherwise the description of
+     *      the first difference and its path
+     */
+    static String difference(Object expected, Object actual) {
+        StructuralComparison comparison = new StructuralComparison();
+        return comparison.compare(expected, actual) ? null : comparison.failure;
+    }
+
+    private boolean compare(Object expected, Object actual) {
+        if (expected == actual) {
+            return true;
+        }
+        if (null == expected || null == actual) {
+            return fail(expected, actual);
+        }
+        Class<?> type = expected.getClass();
+        Shape shape = SHAPES.get(type);
+        if (type != actual.getClass() && !shape.comparable(SHAPES.get(actual.getClass()))) {
+            return fail("expected type:<" + type.getName() + "> but was:<" + actual.getClass().getName() + ">");
+        }
+        switch (shape.kind) {
+            case Shape.FIELDS:
+                return (0 != shape.references.length && enter(expected, actual))
+                        || compareFields(shape, expected, actual);
+            case Shape.SEQUENCE:
+                return enter(expected, actual) || compareSequences((Collection<?>) expected, (Collection<?>) actual);
+            case Shape.MAP:
+                return enter(expected, actual) || compareMaps((Map<?, ?>) expected, (Map<?, ?>) actual);
+            case Shape.ARRAY:
+                return (!ArrayComparison.isPrimitiveArray(expected) && enter(expected, actual))
+                        || compareArrays(expected, actual);
+            default:
+                return expected.equals(actual) || fail(expected, actual);
+        }
+    }
+
+    private boolean compareFields(Shape shape, Object expected, Object actual) {
+        if (null != shape.values && !valuesEqual(shape.values, expected, actual)) {
+            // find the first differing field in declaration order
+            return compareFields(shape.accessors, expected, actual);
+        }
+        return compareFields(shape.references, expected, actual);
+    }
+
+    private static boolean valuesEqual(MethodHandle values, Object expected, Object actual) {
+        try {
+            return (boolean) values.invokeExact(expected, actual);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean compareFields(Accessor[] accessors, Object expected, Object actual) {
+        for (Accessor accessor : accessors) {
+            push(FIELD, accessor.name, 0);
+            if (!accessor.compare(expected, actual, this)) {
+                return false;
+            }
+            --depth;
+        }
+        return true;
+    }
+
+    /**
+     * Remember a pair of objects being compared.
+     *
+     * @return `true` if the pair is being compared or has been compared
+     */
+    private boolean enter(Object expected, Object actual) {
+        return !visited.add(expected, actual);
+    }
+
+    private boolean compareSequences(Collection<?> expected, Collection<?> actual) {
+        if (expected instanceof List && expected instanceof RandomAccess
+                && actual instanceof List && actual instanceof RandomAccess) {
+            return compareLists((List<?>) expected, (List<?>) actual);
+        }
+        Iterator<?> e = expected.iterator();
+        Iterator<?> a = actual.iterator();
+        int index = 0;
+        while (e.hasNext() && a.hasNext()) {
+            push(INDEX, null, index);
+            if (!compare(e.next(), a.next())) {
+                return false;
+            }
+            --depth;
+            ++index;
+        }
+        if (e.hasNext() || a.hasNext()) {
+            return fail("expected.size=" + expected.size() + " actual.size=" + actual.size());
+        }
+        return true;
+    }
+
+    private boolean compareLists(List<?> expected, List<?> actual) {
+        int n = Math.min(expected.size(), actual.size());
+        for (int i = 0; i < n; ++i) {
+            push(INDEX, null, i);
+            if (!compare(expected.get(i), actual.get(i))) {
+                return false;
+            }
+            --depth;
+        }
+        if (expected.size() != actual.size()) {
+            return fail("expected.size=" + expected.size() + " actual.size=" + actual.size());
+        }
+        return true;
+    }
+
+    private boolean compareMaps(Map<?, ?> expected, Map<?, ?> actual) {
+        for (Map.Entry<?, ?> entry : expected.entrySet()) {
+            Object key = entry.getKey();
+            if (!actual.containsKey(key)) {
+                return fail("missing key:<" + str(key) + ">");
+            }
+            push(KEY, key, 0);
+            if (!compare(entry.getValue(), actual.get(key))) {
+                return false;
+            }
+            --depth;
+        }
+        if (expected.size() != actual.size()) {
+            for (Object key : actual.keySet()) {
+                if (!expected.containsKey(key)) {
+                    return fail("unexpected key:<" + str(key) + ">");
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean compareArrays(Object expected, Object actual) {
+        int expectedLength = Array.getLength(expected);
+        int actualLength = Array.getLength(actual);
+        if (ArrayComparison.isPrimitiveArray(expected)) {
+            int index = ArrayComparison.mismatch(expected, actual);
+            if (index < 0) {
+                return true;
+            }
+            if (index < Math.min(expectedLength, actualLength)) {
+                push(INDEX, null, index);
+                return fail(Array.get(expected, index), Array.get(actual, index));
+            }
+        } else {
+            Object[] e = (Object[]) expected;
+            Object[] a = (Object[]) actual;
+            int n = Math.min(e.length, a.length);
+            for (int i = 0; i < n; ++i) {
+                push(INDEX, null, i);
+                if (!compare(e[i], a[i])) {
+                    return false;
+                }
+                --depth;
+            }
+            if (expectedLength == actualLength) {
+                return true;
+            }
+        }
+        return fail("expected.length=" + expectedLength + " actual.length=" + actualLength);
+    }
+
+    private boolean fail(Object expected, Object actual) {
+        String e = str(expected);
+        String a = str(actual);
+        if (e.equals(a)) {
+            return fail("expected: " + className(expected) + "<" + e + "> but was: " + className(actual) + "<" + a + ">");
+        }
+        return fail("expected:<" + e + "> but was:<" + a + ">");
+    }
+
+    private boolean fail(String detail) {
+        String path = path();
+        failure = (path.isEmpty() ? "objects differed; " : "objects differed at " + path + "; ") + detail;
+        return false;
+    }
+
+    private void push(byte kind, Object segment, int index) {
+        if (depth == kinds.length) {
+            segments = Arrays.copyOf(segments, depth * 2);
+            indexes = Arrays.copyOf(indexes, depth * 2);
+            kinds = Arrays.copyOf(kinds, depth * 2);
+        }
+        kinds[depth] = kind;
+        segments[depth] = segment;
+        indexes[depth] = index;
+        ++depth;
+    }
+
+    private String path() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; ++i) {
+            switch (kinds[i]) {
+                case FIELD:
+                    if (sb.length() > 0) {
+                        sb.append('.');
+                    }
+                    sb.append(segments[i]);
+                    break;
+                case INDEX:
+                    sb.append('[').append(indexes[i]).append(']');
+                    break;
+                default:
+                    sb.append('[').append(str(segments[i])).append(']');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String className(Object o) {
+        return null == o ? "null" : o.getClass().getName();
+    }
+
+    private static String str(Object o) {
+        if (null != o && o.getClass().isArray()) {
+            String s = Arrays.deepToString(new Object[] {o});
+            return FailureRendering.truncate(s.substring(1, s.length() - 1));
+        }
+        return FailureRendering.truncate(String.valueOf(o));
+    }
+
+    /**
+     * How the instances of a class are compared, looked up once per class
+     * so the interfaces of a class are not checked on every visit.
+     */
+    private static final class Shape {
+        static final int EQUALS = 0;
+        static final int FIELDS = 1;
+        static final int SEQUENCE = 2;
+        static final int MAP = 3;
+        static final int ARRAY = 4;
+
+        private static final MethodHandle FALSE = MethodHandles.dropArguments(
+                MethodHandles.constant(boolean.class, false), 0, Object.class, Object.class);
+
+        final int kind;
+        final boolean list;
+        final boolean set;
+        /**
+         * All fields, in declaration order.
+         */
+        final Accessor[] accessors;
+        /**
+         * The fields compared recursively.
+         */
+        final Accessor[] references;
+        /**
+         * `(Object, Object)boolean` comparing all primitive and value fields,
+         * `null` if there is none.
+         */
+        final MethodHandle values;
+
+        private Shape(int kind, boolean list, boolean set) {
+            this(kind, list, set, null);
+        }
+
+        private Shape(int kind, boolean list, boolean set, Accessor[] accessors) {
+            this.kind = kind;
+            this.list = list;
+            this.set = set;
+            this.accessors = accessors;
+            if (null == accessors) {
+                this.references = null;
+                this.values = null;
+                return;
+            }
+            List<Accessor> references = new ArrayList<>();
+            MethodHandle values = null;
+            for (int i = accessors.length - 1; i >= 0; --i) {
+                MethodHandle equality = accessors[i].equality();
+                if (null == equality) {
+                    references.add(0, accessors[i]);
+                } else {
+                    values = null == values ? equality : MethodHandles.guardWithTest(equality, values, FALSE);
+                }
+            }
+            this.references = references.toArray(new Accessor[0]);
+            this.values = values;
+        }
+
+        /**
+         * Instances of different classes are compared if both are lists,
+         * sets or maps.
+         */
+        boolean comparable(Shape other) {
+            return (kind == MAP && other.kind == MAP) || (list && other.list) || (set && other.set);
+        }
+
+        static Shape of(Class<?> type) {
+            if (type.isArray()) {
+                return new Shape(ARRAY, false, false);
+            }
+            if (Map.class.isAssignableFrom(type)) {
+                return new Shape(MAP, false, false);
+            }
+            if (Set.class.isAssignableFrom(type)) {
+                return new Shape(EQUALS, false, true);
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                return new Shape(SEQUENCE, List.class.isAssignableFrom(type), false);
+            }
+            if (isValueType(type)) {
+                return new Shape(EQUALS, false, false);
+            }
+            List<Accessor> accessors = new ArrayList<>();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                for (Class<?> c = type; null != c && Object.class != c; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                            continue;
+                        }
+                        field.setAccessible(true);
+                        accessors.add(Accessor.of(field.getName(), field.getType(), lookup.unreflectGetter(field)));
+                    }
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                // e.g. InaccessibleObjectException of a module that is not open
+                return new Shape(EQUALS, false, false);
+            }
+            return new Shape(FIELDS, false, false, accessors.toArray(new Accessor[0]));
+        }
+
+        private static boolean isValueType(Class<?> type) {
+            if (type.isEnum() || null == type.getClassLoader()) {
+                return true;
+            }
+            String name = type.getName();
+            return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.");
+        }
+    }
+
+    /**
+     * Reads and compares one field. Integral and `char` fields are read as
+     * `long`, floating point fields as `double` and compared like
+     * {@link Double#equals(Object)}, so primitives are not boxed.
+     */
+    private static final class Accessor {
+        private static final int OBJECT = 0;
+        private static final int LONG = 1;
+        private static final int DOUBLE = 2;
+        private static final int BOOLEAN = 3;
+        private static final int VALUE = 4;
+
+        private static final MethodHandle EQUAL_LONGS = equality("equalLongs", long.class);
+        private static final MethodHandle EQUAL_DOUBLES = equality("equalDoubles", double.class);
+        private static final MethodHandle EQUAL_BOOLEANS = equality("equalBooleans", boolean.class);
+        private static final MethodHandle EQUAL_VALUES = equality("equalValues", Object.class);
+
+        private final String name;
+        private final Class<?> type;
+        private final int kind;
+        private final MethodHandle getter;
+
+        private Accessor(String name, Class<?> type, int kind, MethodHandle getter) {
+            this.name = name;
+            this.type = type;
+            this.kind = kind;
+            this.getter = getter;
+        }
+
+        static Accessor of(String name, Class<?> type, MethodHandle getter) {
+            int kind;
+            Class<?> read;
+            if (!type.isPrimitive()) {
+                // the value of a final value type field is always compared with equals
+                boolean value = Modifier.isFinal(type.getModifiers()) && !type.isArray() && Shape.isValueType(type);
+                kind = value ? VALUE : OBJECT;
+                read = Object.class;
+            } else if (boolean.class == type) {
+                kind = BOOLEAN;
+                read = boolean.class;
+            } else if (double.class == type || float.class == type) {
+                kind = DOUBLE;
+                read = double.class;
+            } else {
+                kind = LONG;
+                read = long.class;
+            }
+            return new Accessor(name, type, kind, getter.asType(MethodType.methodType(read, Object.class)));
+        }
+
+        /**
+         * Returns `(Object, Object)boolean` comparing this field of two
+         * objects, or `null` if the field is compared recursively.
+         */
+        MethodHandle equality() {
+            MethodHandle equals;
+            switch (kind) {
+                case LONG:
+                    equals = EQUAL_LONGS;
+                    break;
+                case DOUBLE:
+                    equals = EQUAL_DOUBLES;
+                    break;
+                case BOOLEAN:
+                    equals = EQUAL_BOOLEANS;
+                    break;
+                case VALUE:
+                    equals = EQUAL_VALUES;
+                    break;
+                default:
+                    return null;
+            }
+            return MethodHandles.filterArguments(equals, 0, getter, getter);
+        }
+
+        boolean compare(Object expected, Object actual, StructuralComparison comparison) {
+            switch (kind) {
+                case LONG: {
+                    long e = readLong(expected);
+                    long a = readLong(actual);
+                    return e == a || comparison.fail(box(e), box(a));
+                }
+                case DOUBLE: {
+                    double e = readDouble(expected);
+                    double a = readDouble(actual);
+                    if (Double.doubleToLongBits(e) == Double.doubleToLongBits(a)) {
+                        return true;
+                    }
+                    return float.class == type ? comparison.fail((float) e, (float) a) : comparison.fail(e, a);
+                }
+                case BOOLEAN: {
+                    boolean e = readBoolean(expected);
+                    boolean a = readBoolean(actual);
+                    return e == a || comparison.fail(e, a);
+                }
+                case VALUE: {
+                    Object e = read(expected);
+                    Object a = read(actual);
+                    return null == e ? null == a || comparison.fail(null, a) : e.equals(a) || comparison.fail(e, a);
+                }
+                default:
+                    return comparison.compare(read(expected), read(actual));
+            }
+        }
+
+        private Object read(Object o) {
+            try {
+                return (Object) getter.invokeExact(o);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private long readLong(Object o) {
+            try {
+                return (long) getter.invokeExact(o);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private double readDouble(Object o) {
+            try {
+                return (double) getter.invokeExact(o);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private boolean readBoolean(Object o) {
+            try {
+                return (boolean) getter.invokeExact(o);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static boolean equalLongs(long a, long b) {
+            return a == b;
+        }
+
+        private static boolean equalDoubles(double a, double b) {
+            return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+        }
+
+        private static boolean equalBooleans(boolean a, boolean b) {
+            return a == b;
+        }
+
+        private static boolean equalValues(Object a, Object b) {
+            return null == a ? null == b : a.equals(b);
+        }
+
+        private static MethodHandle equality(String name, Class<?> type) {
+            try {
+                return MethodHandles.lookup().findStatic(Accessor.class, name,
+                        MethodType.methodType(boolean.class, type, type));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Object box(long value) {
+            if (char.class == type) {
+                return (char) value;
+            }
+            if (int.class == type) {
+                return (int) value;
+            }
+            if (short.class == type) {
+                return (short) value;
+            }
+            if (byte.class == type) {
+                return (byte) value;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A set of pairs of objects compared by identity, in an open addressing
+     * table with linear probing. Slot `i` holds a pair in `keys[2 * i]` and
+     * `keys[2 * i + 1]`.
+     */
+    private static final class PairTable {
+        private Object[] keys = new Object[64];
+        private int size;
+
+        /**
+         * @return `false` if the pair is already in the table
+         */
+        boolean add(Object expected, Object actual) {
+            if (size >= keys.length >> 2) {
+                grow();
+            }
+            int mask = (keys.length >> 1) - 1;
+            int slot = hash(expected, actual) & mask;
+            while (null != keys[slot << 1]) {
+                if (keys[slot << 1] == expected && keys[(slot << 1) + 1] == actual) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot << 1] = expected;
+            keys[(slot << 1) + 1] = actual;
+            ++size;
+            return true;
+        }
+
+        private void grow() {
+            Object[] old = keys;
+            keys = new Object[old.length << 1];
+            size = 0;
+            for (int i = 0; i < old.length; i += 2) {
+                if (null != old[i]) {
+                    add(old[i], old[i + 1]);
+                }
+            }
+        }
+
+        private static int hash(Object expected, Object actual) {
+            int h = 31 * System.identityHashCode(expected) + System.identityHashCode(actual);
+            // spread the high bits, identity hashes of adjacent objects may differ in them only
+            return h ^ (h >>> 16);
+        }
+    }
+
+}
@@ -20,22 +20,57 @@ package osgl.ut;
  * #L%
  */
 
-import static org.hamcrest.Matchers.not;
 
 import org.hamcrest.Matcher;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.internal.ArrayComparisonFailure;
 import org.junit.internal.ExactComparisonCriteria;
-import org.junit.internal.InexactComparisonCriteria;
+import osgl.ut.AssertionStats.Family;
 import osgl.version.Version;
 
-import java.lang.reflect.Array;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * The `TestBase` provides simplified assertion methods.
+ *
+ * Failure messages are rendered only when an assertion fails. Assertion
+ * methods that take `String message, Object... messageArgs` format the
+ * message only on failure, and assertion methods that take a
+ * `Supplier<String>` message, e.g. a lambda or a {@link Message}, call the
+ * supplier only on failure.
+ *
+ * `eq` and `ne` have overloads for `int`, `long`, `short`, `byte`, `char` and
+ * `boolean` values that compare without boxing. Values of different primitive
+ * types are widened like Java's `==` does, so `eq(1, 1L)`, `eq('a', 97)` and
+ * `eq((byte) 1, 1)` pass and `ne(1, 1L)` fails, while they used to compare the
+ * boxed values, e.g. `Integer` `1` and `Long` `1`, which are not equal. Cast
+ * the values to `Object` to keep comparing them boxed. Note the compiler cannot choose
+ * between a primitive overload and `eq(Object, Object)` when a boxed value is
+ * compared with a primitive value, e.g. `eq(Integer.valueOf(1), 1)`, cast one
+ * side explicitly in that case.
  */
 public abstract class TestBase extends Assert {
 
@@ -53,7 +88,21 @@ public abstract class TestBase extends Assert {
      *              the error message arguments
      */
     public static void yes(boolean condition, String message, Object ... messageArgs) {
-        assertTrue(fmt(message, messageArgs), condition);
+        condition(Family.YES, condition, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a condition is `true`. If it isn't then throws an
+     * {@link AssertionError} with the message supplied.
+     *
+     * @param condition
+     *              condition to be checked
+     * @param message
+     *              supplies the error message, called only when the condition
+     *              is `false`. `null` Okay
+     */
+    public static void yes(boolean condition, Supplier<String> message) {
+        condition(Family.YES, condition, message, null);
     }
 
     /**
@@ -62,11 +111,13 @@ public abstract class TestBase extends Assert {
      * @param condition condition to be checked
      */
     public static void yes(boolean condition) {
-        assertTrue(condition);
+        condition(Family.YES, condition, NO_MESSAGE, null);
     }
 
     /**
-     * Alias of {@link #assertThat(Object, Matcher)}.
+     * Alias of {@link #assertThat(Object, Matcher)}, except that a diagnosing
+     * matcher, e.g. `allOf` or `hasItem`, is evaluated only once, also when
+     * the assertion fails.
      *
      * @param actual
      *              the computed value being compared
@@ -80,7 +131,7 @@ public abstract class TestBase extends Assert {
      * @see org.junit.matchers.JUnitMatchers
      */
     public static <T> void yes(T actual, Matcher<T> matcher) {
-        assertThat(actual, matcher);
+        matching(actual, matcher, true, NO_MESSAGE, null);
     }
 
     /**
@@ -111,9 +162,24 @@ public abstract class TestBase extends Assert {
      * @see org.junit.matchers.JUnitMatchers
      */
     public static <T> void yes(T actual, Matcher<T> matcher, String message, Object... messageArgs) {
-        if (!matcher.matches(actual)) {
-            assertThat(fmt(message, messageArgs), actual, matcher);
-        }
+        matching(actual, matcher, true, message, messageArgs);
+    }
+
+    /**
+     * Require `actual` satisfied the condition specified by `matcher`. If not
+     * an {@link AssertionError} is thrown with the message supplied and information
+     * about the matcher and failing value.
+     *
+     * @param actual the computed value being compared
+     * @param matcher an expression, built of {@link Matcher}s, specifying allowed values
+     * @param message
+     *              supplies additional information about the error, called only
+     *              when the matcher does not match
+     * @param <T>
+     *              the static type accepted by the matcher
+     */
+    public static <T> void yes(T actual, Matcher<T> matcher, Supplier<String> message) {
+        matching(actual, matcher, true, message, null);
     }
 
     /**
@@ -122,7 +188,7 @@ public abstract class TestBase extends Assert {
      * @param condition condition to be checked
      */
     public static void no(boolean condition) {
-        assertFalse(condition);
+        condition(Family.NO, !condition, NO_MESSAGE, null);
     }
 
     /**
@@ -137,7 +203,21 @@ public abstract class TestBase extends Assert {
      *              the error message arguments
      */
     public static void no(boolean condition, String message, Object... messageArgs) {
-        assertTrue(String.format(message, messageArgs), !condition);
+        condition(Family.NO, !condition, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a condition is `false`. If it isn't then throws an
+     * {@link AssertionError} with the message supplied.
+     *
+     * @param condition
+     *              condition to be checked
+     * @param message
+     *              supplies the error message, called only when the condition
+     *              is `true`. `null` Okay
+     */
+    public static void no(boolean condition, Supplier<String> message) {
+        condition(Family.NO, !condition, message, null);
     }
 
     /**
@@ -166,7 +246,7 @@ public abstract class TestBase extends Assert {
      * @see org.junit.matchers.JUnitMatchers
      */
     public static <T> void no(T actual, Matcher<T> matcher) {
-        assertThat(actual, not(matcher));
+        matching(actual, matcher, false, NO_MESSAGE, null);
     }
 
     /**
@@ -197,9 +277,24 @@ public abstract class TestBase extends Assert {
      * @see org.junit.matchers.JUnitMatchers
      */
     public static <T> void no(T actual, Matcher<T> matcher, String message, Object... messageArgs) {
-        if (matcher.matches(actual)) {
-            assertThat(fmt(message, messageArgs), actual, not(matcher));
-        }
+        matching(actual, matcher, false, message, messageArgs);
+    }
+
+    /**
+     * Require `actual` **NOT** satisfied the condition specified by `matcher`. Otherwise
+     * an {@link AssertionError} is thrown with the message supplied and information
+     * about the matcher and failing value.
+     *
+     * @param actual the computed value being compared
+     * @param matcher an expression, built of {@link Matcher}s, specifying disallowed values
+     * @param message
+     *              supplies additional information about the error, called only
+     *              when the matcher matches
+     * @param <T>
+     *              the static type accepted by the matcher
+     */
+    public static <T> void no(T actual, Matcher<T> matcher, Supplier<String> message) {
+        matching(actual, matcher, false, message, null);
     }
 
     /**
@@ -212,7 +307,7 @@ public abstract class TestBase extends Assert {
      * @see AssertionError
      */
     public static void fail(String message, Object ... args) {
-        fail(fmt(message, args));
+        condition(Family.FAIL, false, message, args);
     }
 
     /**
@@ -221,6 +316,13 @@ public abstract class TestBase extends Assert {
      * the given message. If`expected` and `actual` are `null`,
      * they are considered equal.
      *
+     * The failure message is bounded. Values that render within the budget
+     * are reported as JUnit does. Otherwise at most budget characters of
+     * each value are rendered: strings and lists show a window around the
+     * first difference, other collections and maps show their first
+     * elements. The budget defaults to `1000` characters and can be set with
+     * the `osgl.ut.failure.budget` system property.
+     *
      * @param expected
      *              expected value, could be any object including array
      * @param actual
@@ -231,29 +333,26 @@ public abstract class TestBase extends Assert {
      *              the failure message arguments
      */
     public static void eq(Object expected, Object actual, String message, Object ... messageArgs) {
-        if (null == expected) {
-            isNull(actual, message, messageArgs);
-            return;
-        }
-        Class<?> expectedClass = expected.getClass();
-        String userMessage = fmt(message, messageArgs);
-        if (expectedClass.isArray()) {
-            Class<?> actualClass = actual.getClass();
-            if (!expectedClass.equals(actualClass)) {
-                if (null == message || "".equals(message.trim())) {
-                    fail("arrays type differed\nExpected: %s\nActual  : %s",
-                            expectedClass.getName(), actualClass.getName());
-                } else {
-                    fail("%s: arrays type differed\nExpected: %s\nActual  : %s",
-                            userMessage, expectedClass.getName(), actualClass.getName());
-                }
-            }
-            new ExactComparisonCriteria().arrayEquals(fmt(message, messageArgs), expected, actual);
-        } else {
-            assertEquals(fmt(message, messageArgs), expected, actual);
-        }
+        equality(expected, actual, message, messageArgs);
     }
 
+    /**
+     * Asserts that two objects (including arrays) are equal.
+     * If they are not, an {@link AssertionError} is thrown with
+     * the message supplied. If`expected` and `actual` are `null`,
+     * they are considered equal.
+     *
+     * @param expected
+     *              expected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(Object expected, Object actual, Supplier<String> message) {
+        equality(expected, actual, message, null);
+    }
 
     /**
      * Asserts that two objects (including arrays) are equal.
@@ -267,809 +366,4891 @@ public abstract class TestBase extends Assert {
      *              actual value
      */
     public static void eq(Object expected, Object actual) {
-        if (null == expected) {
-            isNull(actual);
-            return;
-        }
-        Class<?> expectedClass = expected.getClass();
-        if (expectedClass.isArray()) {
-            Class<?> actualClass = actual.getClass();
-            if (!expectedClass.equals(actualClass)) {
-                fail("arrays type differed\nExpected: %s\nActual  : %s", expectedClass.getName(), actualClass.getName());
-            }
-            new ExactComparisonCriteria().arrayEquals(null, expected, actual);
-        } else {
-            assertEquals(null, expected, actual);
-        }
+        equality(expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that two double arrays are equal. If they are not, an
-     * {@link AssertionError} is thrown with the given message.
+     * Asserts that two objects (including arrays) are equal, comparing arrays
+     * in parallel. If they are not, an {@link AssertionError} is thrown with
+     * the given message.
      *
-     * @param expecteds
-     *              double array with expected values.
-     * @param actuals
-     *              double array with actual values
-     * @param delta
-     *              the maximum delta between `expected` and `actual`
-     *              for which both numbers are still considered equal.
+     * Arrays are split across the {@link ForkJoinPool#commonPool() common pool},
+     * and large nested arrays, e.g. rows of a `double[][]`, are split as well.
+     * The failure reports the same lowest mismatching index as
+     * {@link #eq(Object, Object, String, Object...)} does. Whether this is
+     * faster than `eq` depends on the cores available to the pool, and
+     * splitting has a cost: use `eq` for small arrays.
+     *
+     * @param expected
+     *              expected value, could be any object including array
+     * @param actual
+     *              actual value
      * @param message
-     *              the identifying message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
      *              the failure message arguments
      */
-    public static void eq(double[] expecteds, double[] actuals, double delta,
-                          String message, Object ... messageArgs) throws ArrayComparisonFailure {
-        new InexactComparisonCriteria(delta).arrayEquals(fmt(message, messageArgs), expecteds, actuals);
+    public static void eqParallel(Object expected, Object actual, String message, Object ... messageArgs) {
+        parallelEquality(expected, actual, message, messageArgs);
     }
 
     /**
-     * Alias of {@link #assertArrayEquals(double[], double[], double)}.
+     * Asserts that two objects (including arrays) are equal, comparing arrays
+     * in parallel. If they are not, an {@link AssertionError} is thrown with
+     * the message supplied.
      *
-     * @param expecteds
-     *              double array with expected values.
-     * @param actuals
-     *              double array with actual values
-     * @param delta
-     *              the maximum delta between `expected` and `actual`
-     *              for which both numbers are still considered equal.
+     * @param expected
+     *              expected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqParallel(Object, Object, String, Object...)
      */
-    public static void eq(double[] expecteds, double[] actuals, double delta) throws ArrayComparisonFailure {
-        assertArrayEquals(expecteds, actuals, delta);
+    public static void eqParallel(Object expected, Object actual, Supplier<String> message) {
+        parallelEquality(expected, actual, message, null);
     }
 
     /**
-     * Asserts that two float arrays are equal. If they are not, an
-     * {@link AssertionError} is thrown with the given message.
+     * Asserts that two objects (including arrays) are equal, comparing arrays
+     * in parallel. If they are not, an {@link AssertionError} is thrown.
      *
-     * @param expecteds
-     *              double array with expected values.
-     * @param actuals
-     *              double array with actual values
-     * @param delta
-     *              the maximum delta between `expected` and `actual`
-     *              for which both numbers are still considered equal.
+     * @param expected
+     *              expected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @see #eqParallel(Object, Object, String, Object...)
+     */
+    public static void eqParallel(Object expected, Object actual) {
+        parallelEquality(expected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two collections contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown with the given message that lists the missing and the unexpected
+     * elements. If `expected` and `actual` are `null`, they are considered equal.
+     *
+     * Elements are counted in a hash table, the assertion runs in linear time.
+     *
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
      * @param message
-     *              the identifying message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
      *              the failure message arguments
      */
-    public static void eq(float[] expecteds, float[] actuals, float delta,
-                          String message, Object ... messageArgs) throws ArrayComparisonFailure {
-        new InexactComparisonCriteria(delta).arrayEquals(fmt(message, messageArgs), expecteds, actuals);
+    public static void eqIgnoreOrder(Collection<?> expected, Collection<?> actual, String message, Object... messageArgs) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that two float arrays are equal. If they are not, an
-     * {@link AssertionError} is thrown with the given message.
+     * Asserts that two collections contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown with the message supplied.
      *
-     * @param expecteds
-     *              double array with expected values.
-     * @param actuals
-     *              double array with actual values
-     * @param delta
-     *              the maximum delta between `expected` and `actual`
-     *              for which both numbers are still considered equal.
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqIgnoreOrder(Collection, Collection, String, Object...)
      */
-    public static void eq(float[] expecteds, float[] actuals, float delta) throws ArrayComparisonFailure {
-        assertArrayEquals(expecteds, actuals, delta);
+    public static void eqIgnoreOrder(Collection<?> expected, Collection<?> actual, Supplier<String> message) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, message, null);
     }
 
     /**
-     * Asserts that two doubles or floats are equal to within a positive delta.
-     * If they are not, an {@link AssertionError} is thrown with the given
-     * message. If the expected value is infinity then the delta value is
-     * ignored. NaNs are considered equal:
+     * Asserts that two collections contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown.
      *
-     * `eq(Double.NaN, Double.NaN, *)` passes
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @see #eqIgnoreOrder(Collection, Collection, String, Object...)
+     */
+    public static void eqIgnoreOrder(Collection<?> expected, Collection<?> actual) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two `int` arrays contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown with the given message that lists the missing and the unexpected
+     * elements. If `expected` and `actual` are `null`, they are considered equal.
+     *
+     * Elements are counted in a hash table of `int` keys without boxing, the
+     * assertion runs in linear time.
      *
      * @param expected
-     *              expected value
+     *              the expected elements
      * @param actual
-     *              the value to check against `expected`
-     * @param delta
-     *              the maximum delta between `expected` and
-     *              `actual` for which both numbers are still
-     *              considered equal.
+     *              the actual elements
      * @param message
-     *              the failure message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
      *              the failure message arguments
      */
-    public static void eq(double expected, double actual, double delta, String message, Object... messageArgs) {
-        assertEquals(fmt(message, messageArgs), expected, actual, delta);
+    public static void eqIgnoreOrder(int[] expected, int[] actual, String message, Object... messageArgs) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that two doubles or floats are equal to within a positive delta.
-     * If they are not, an {@link AssertionError} is thrown with the given
-     * message. If the expected value is infinity then the delta value is
-     * ignored. NaNs are considered equal:
+     * Asserts that two `int` arrays contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown with the message supplied.
      *
-     * `eq(Double.NaN, Double.NaN, *)` passes
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqIgnoreOrder(int[], int[], String, Object...)
+     */
+    public static void eqIgnoreOrder(int[] expected, int[] actual, Supplier<String> message) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, message, null);
+    }
+
+    /**
+     * Asserts that two `int` arrays contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown.
      *
      * @param expected
-     *              expected value
+     *              the expected elements
      * @param actual
-     *              the value to check against `expected`
-     * @param delta
-     *              the maximum delta between `expected` and
-     *              `actual` for which both numbers are still
-     *              considered equal.
+     *              the actual elements
+     * @see #eqIgnoreOrder(int[], int[], String, Object...)
      */
-    public static void eq(double expected, double actual, double delta) {
-        assertEquals(null, expected, actual, delta);
+    public static void eqIgnoreOrder(int[] expected, int[] actual) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that two objects (including arrays) are not equal.
-     * If they are, an {@link AssertionError} is thrown with the
-     * given message. If `unexpected` and `actual` are `null`,
-     * they are considered equal.
+     * Asserts that two `long` arrays contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown with the given message that lists the missing and the unexpected
+     * elements. If `expected` and `actual` are `null`, they are considered equal.
      *
-     * @param unexpected
-     *              unexpected value, could be any object including array
+     * Elements are counted in a hash table of `long` keys without boxing, the
+     * assertion runs in linear time.
+     *
+     * @param expected
+     *              the expected elements
      * @param actual
-     *              actual value
+     *              the actual elements
      * @param message
      *              the failure message. `null` Okay
      * @param messageArgs
      *              the failure message arguments
      */
-    public static void ne(Object unexpected, Object actual, String message, Object ... messageArgs) {
-        if (null == unexpected) {
-            notNull(actual, message, messageArgs);
-            return;
-        }
-        Class<?> unexpectedClass = unexpected.getClass();
-        String userMessage = fmt(message, messageArgs);
-        if (unexpectedClass.isArray()) {
-            if (null == actual || !actual.getClass().isArray()) {
-                return;
-            }
-            arrayNotEquals(userMessage, unexpected, actual);
-        } else {
-            assertNotEquals(userMessage, unexpected, actual);
-        }
+    public static void eqIgnoreOrder(long[] expected, long[] actual, String message, Object... messageArgs) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that two objects (including arrays) are not equal.
-     * If they are, an {@link AssertionError} is thrown with the
-     * given message. If `unexpected` and `actual` are `null`,
-     * they are considered equal.
+     * Asserts that two `long` arrays contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown with the message supplied.
      *
-     * @param unexpected
-     *              unexpected value, could be any object including array
+     * @param expected
+     *              the expected elements
      * @param actual
-     *              actual value
+     *              the actual elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqIgnoreOrder(long[], long[], String, Object...)
      */
-    public static void ne(Object unexpected, Object actual) {
-        if (null == unexpected) {
-            notNull(actual);
-            return;
-        }
-        Class<?> unexpectedClass = unexpected.getClass();
-        if (unexpectedClass.isArray()) {
-            if (null == actual || !actual.getClass().isArray()) {
-                return;
-            }
-            arrayNotEquals(null, unexpected, actual);
-        } else {
-            assertNotEquals(null, unexpected, actual);
-        }
+    public static void eqIgnoreOrder(long[] expected, long[] actual, Supplier<String> message) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, message, null);
     }
 
     /**
-     * Asserts that two double arrays are not equal. If they are, an
-     * {@link AssertionError} is thrown with the given message.
+     * Asserts that two `long` arrays contain the same elements with the same
+     * multiplicities, ignoring the order. If they don't, an {@link AssertionError}
+     * is thrown.
      *
-     * @param unexpecteds
-     *              unexpected double array
-     * @param actuals
-     *              actual double array
-     * @param delta
-     *              the maximum delta between `expected` and `actual`
-     *              for which both numbers are still considered equal.
-     * @param message
-     *              the identifying message for the {@link AssertionError} (`null` okay)
-     * @param messageArgs
-     *              the failure message arguments
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @see #eqIgnoreOrder(long[], long[], String, Object...)
      */
-    public static void ne(double[] unexpecteds, double[] actuals, double delta,
-                          String message, Object ... messageArgs) throws AssertionError {
-        arrayNotEquals(fmt(message, messageArgs), unexpecteds, actuals, delta);
+    public static void eqIgnoreOrder(long[] expected, long[] actual) {
+        verify(Family.EQ_IGNORE_ORDER, UnorderedComparison::difference, expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that two double arrays are not equal. If they are, an
-     * {@link AssertionError} is thrown.
+     * Asserts that two maps have the same keys mapped to equal values. If
+     * they don't, an {@link AssertionError} is thrown with the given message
+     * that lists the missing keys, the unexpected keys and the differing
+     * values. If `expected` and `actual` are `null`, they are considered equal.
      *
-     * @param unexpecteds
-     *              unexpected double array
-     * @param actuals
-     *              actual double array
-     * @param delta
-     *              the maximum delta between `expected` and `actual`
-     *              for which both numbers are still considered equal.
+     * The entries of `expected` are looked up in `actual` with the maps' own
+     * hashing, nothing is copied and equal maps are compared in one pass.
+     * Values are compared with {@link java.util.Objects#deepEquals(Object, Object)}.
+     * Each kind of difference lists at most 20 entries, set the
+     * `osgl.ut.map.maxReported` system property to change it.
+     *
+     * @param expected
+     *              the expected map
+     * @param actual
+     *              the actual map
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
      */
-    public static void ne(double[] unexpecteds, double[] actuals, double delta) throws AssertionError {
-        arrayNotEquals(null, unexpecteds, actuals, delta);
+    public static void eqMap(Map<?, ?> expected, Map<?, ?> actual, String message, Object... messageArgs) {
+        verify(Family.EQ_MAP, MapComparison::difference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that two float arrays are not equal. If they are, an
-     * {@link AssertionError} is thrown with the given message.
+     * Asserts that two maps have the same keys mapped to equal values. If
+     * they don't, an {@link AssertionError} is thrown with the message supplied.
      *
-     * @param unexpecteds
-     *              unexpected double array
-     * @param actuals
-     *              actual double array
-     * @param delta
-     *              the maximum delta between `expected` and `actual`
-     *              for which both numbers are still considered equal.
+     * @param expected
+     *              the expected map
+     * @param actual
+     *              the actual map
      * @param message
-     *              the identifying message for the {@link AssertionError} (`null` okay)
-     * @param messageArgs
-     *              the failure message arguments
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqMap(Map, Map, String, Object...)
      */
-    public static void ne(float[] unexpecteds, float[] actuals, float delta,
-                          String message, Object ... messageArgs) throws AssertionError {
-        arrayNotEquals(fmt(message, messageArgs), unexpecteds, actuals, delta);
+    public static void eqMap(Map<?, ?> expected, Map<?, ?> actual, Supplier<String> message) {
+        verify(Family.EQ_MAP, MapComparison::difference, expected, actual, message, null);
     }
 
     /**
-     * Asserts that two float arrays are not equal. If they are, an
-     * {@link AssertionError} is thrown.
+     * Asserts that two maps have the same keys mapped to equal values. If
+     * they don't, an {@link AssertionError} is thrown.
      *
-     * @param unexpecteds
-     *              unexpected double array
-     * @param actuals
-     *              actual double array
-     * @param delta
-     *              the maximum delta between `expected` and `actual`
-     *              for which both numbers are still considered equal.
+     * @param expected
+     *              the expected map
+     * @param actual
+     *              the actual map
+     * @see #eqMap(Map, Map, String, Object...)
      */
-    public static void ne(float[] unexpecteds, float[] actuals, float delta) throws AssertionError {
-        arrayNotEquals(null, unexpecteds, actuals, delta);
+    public static void eqMap(Map<?, ?> expected, Map<?, ?> actual) {
+        verify(Family.EQ_MAP, MapComparison::difference, expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that two doubles or floats are **not** equal to within a positive delta.
-     * If they are, an {@link AssertionError} is thrown with the given message.
-     * If the expected value is infinity then the delta value is ignored.
-     * NaNs are considered equal:
+     * Asserts that two iterators produce equal elements in the same order.
+     * If they don't, an {@link AssertionError} is thrown with the given message.
      *
-     * `ne(Double.NaN, Double.NaN, *)` fails
+     * The sequences are consumed element by element and compared with
+     * {@link java.util.Objects#deepEquals(Object, Object)}, nothing is
+     * materialized, so the assertion runs in constant memory. It stops at the
+     * first mismatch and reports its index together with up to three elements
+     * before and after it. Elements are rendered only when the assertion fails.
      *
-     * @param unexpected
-     *              expected value
+     * @param expected
+     *              the expected elements
      * @param actual
-     *              the value to check against `expected`
-     * @param delta
-     *              the maximum delta between `expected` and
-     *              `actual` for which both numbers are still
-     *              considered equal.
+     *              the actual elements
      * @param message
-     *              the failure message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
      *              the failure message arguments
      */
-    public static void ne(double unexpected, double actual, double delta, String message, Object... messageArgs) {
-        assertNotEquals(fmt(message, messageArgs), unexpected, actual, delta);
+    public static void eqSequence(Iterator<?> expected, Iterator<?> actual, String message, Object... messageArgs) {
+        verify(Family.EQ_SEQUENCE, SequenceComparison::difference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that two doubles or floats are **not** equal to within a positive delta.
-     * If they are, an {@link AssertionError} is thrown with the given message.
-     * If the expected value is infinity then the delta value is ignored.
-     * NaNs are considered equal:
-     *
-     * `ne(Double.NaN, Double.NaN, *)` fails
+     * Asserts that two iterators produce equal elements in the same order. If not,
+     * an {@link AssertionError} is thrown with the message supplied.
      *
-     * @param unexpected
-     *              expected value
+     * @param expected
+     *              the expected elements
      * @param actual
-     *              the value to check against `expected`
-     * @param delta
-     *              the maximum delta between `expected` and
-     *              `actual` for which both numbers are still
-     *              considered equal.
+     *              the actual elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqSequence(Iterator, Iterator, String, Object...)
      */
-    public static void ne(double unexpected, double actual, double delta) {
-        assertNotEquals(null, unexpected, actual, delta);
+    public static void eqSequence(Iterator<?> expected, Iterator<?> actual, Supplier<String> message) {
+        verify(Family.EQ_SEQUENCE, SequenceComparison::difference, expected, actual, message, null);
     }
 
     /**
-     * Asserts that an object isn't null. If it is an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that two iterators produce equal elements in the same order. If not,
+     * an {@link AssertionError} is thrown.
      *
-     * @param object
-     *            Object to check or `null`
-     * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
-     * @param messageArgs
-     *            the message arguments
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @see #eqSequence(Iterator, Iterator, String, Object...)
      */
-    public static void notNull(Object object, String message, Object... messageArgs) {
-        yes(object != null, message, messageArgs);
+    public static void eqSequence(Iterator<?> expected, Iterator<?> actual) {
+        verify(Family.EQ_SEQUENCE, SequenceComparison::difference, expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Alias of {@link #assertNotNull(Object)}.
+     * Asserts that two iterables produce equal elements in the same order.
+     * If they don't, an {@link AssertionError} is thrown with the given message.
      *
-     * @param object Object to check or `null`
+     * See {@link #eqSequence(Iterator, Iterator, String, Object...)} for details.
+     *
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
      */
-    public static void notNull(Object object) {
-        assertNotNull(null, object);
+    public static void eqSequence(Iterable<?> expected, Iterable<?> actual, String message, Object... messageArgs) {
+        verify(Family.EQ_SEQUENCE, (e, a) -> SequenceComparison.difference(e.iterator(), a.iterator()),
+                expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that an object is null. If it is not, an {@link AssertionError}
-     * is thrown with the given message.
+     * Asserts that two iterables produce equal elements in the same order. If not,
+     * an {@link AssertionError} is thrown with the message supplied.
      *
-     * @param object
-     *              Object to check or `null`
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
      * @param message
-     *              Failure message
-     * @param messageArgs
-     *              Failure message arguments
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqSequence(Iterable, Iterable, String, Object...)
      */
-    public static void isNull(Object object, String message, Object... messageArgs) {
-        assertTrue(fmt(message, messageArgs), object == null);
+    public static void eqSequence(Iterable<?> expected, Iterable<?> actual, Supplier<String> message) {
+        verify(Family.EQ_SEQUENCE, (e, a) -> SequenceComparison.difference(e.iterator(), a.iterator()),
+                expected, actual, message, null);
     }
 
     /**
-     * Alias of {@link #assertNull(Object)}.
+     * Asserts that two iterables produce equal elements in the same order. If not,
+     * an {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @see #eqSequence(Iterable, Iterable, String, Object...)
      */
-    public static void isNull(Object object) {
-        assertNull(null, object);
+    public static void eqSequence(Iterable<?> expected, Iterable<?> actual) {
+        verify(Family.EQ_SEQUENCE, (e, a) -> SequenceComparison.difference(e.iterator(), a.iterator()),
+                expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that a string isn't empty. If it is an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that two streams produce equal elements in the same order.
+     * If they don't, an {@link AssertionError} is thrown with the given message.
      *
-     * A string is said to be empty when either one of the following cases is true:
-     *
-     * * it is `null`
-     * * it is an empty string `""`
+     * See {@link #eqSequence(Iterator, Iterator, String, Object...)} for details.
      *
-     * @param str
-     *            a string to be checked
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
      * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
-     *            the message arguments
+     *              the failure message arguments
      */
-    public static void notEmpty(String str, String message, Object... messageArgs) {
-        yes(null != str && !"".equals(str), message, messageArgs);
+    public static void eqSequence(Stream<?> expected, Stream<?> actual, String message, Object... messageArgs) {
+        verify(Family.EQ_SEQUENCE, TestBase::sequenceDifference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that a string isn't empty. If it is an {@link AssertionError} is
-     * thrown.
-     *
-     * A string is said to be empty when either one of the following cases is true:
-     *
-     * * it is `null`
-     * * it is an empty string `""`
+     * Asserts that two streams produce equal elements in the same order. If not,
+     * an {@link AssertionError} is thrown with the message supplied.
      *
-     * @param str
-     *            a string to be checked
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqSequence(Stream, Stream, String, Object...)
      */
-    public static void notEmpty(String str) {
-        assertTrue(null != str && !"".equals(str));
+    public static void eqSequence(Stream<?> expected, Stream<?> actual, Supplier<String> message) {
+        verify(Family.EQ_SEQUENCE, TestBase::sequenceDifference, expected, actual, message, null);
     }
 
     /**
-     * Asserts that a collection isn't empty. If it is an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that two streams produce equal elements in the same order. If not,
+     * an {@link AssertionError} is thrown.
      *
-     * @param col
-     *            a collection to be checked
-     * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
-     * @param messageArgs
-     *            the message arguments
-     * @throws NullPointerException
-     *            if the collection specified is `null`
+     * @param expected
+     *              the expected elements
+     * @param actual
+     *              the actual elements
+     * @see #eqSequence(Stream, Stream, String, Object...)
      */
-    public static void notEmpty(Collection<?> col, String message, Object ... messageArgs) {
-        no(col.isEmpty(), message, messageArgs);
+    public static void eqSequence(Stream<?> expected, Stream<?> actual) {
+        verify(Family.EQ_SEQUENCE, TestBase::sequenceDifference, expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that a collection isn't empty. If it is an {@link AssertionError} is
-     * thrown.
+     * Asserts that every element of an iterator equals to the element generated for
+     * its index, i.e. element `i` equals to `expected.apply(i)`. If not, an
+     * {@link AssertionError} is thrown with the given message.
      *
-     * @param col
-     *            a collection to be checked
-     * @throws NullPointerException
-     *            if the collection specified is `null`
+     * The assertion runs in constant memory and reports the first mismatch in
+     * the same way as {@link #eqSequence(Iterator, Iterator, String, Object...)}.
+     *
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
      */
-    public static void notEmpty(Collection<?> col) {
-        assertFalse(col.isEmpty());
+    public static void eqSequence(LongFunction<?> expected, Iterator<?> actual, String message, Object... messageArgs) {
+        verify(Family.EQ_SEQUENCE, SequenceComparison::difference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that a map isn't empty. If it is an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that every element of an iterator equals to the element generated
+     * for its index. If not, an {@link AssertionError} is thrown with the message
+     * supplied.
      *
-     * @param map
-     *            a map to be checked
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
      * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
-     * @param messageArgs
-     *            the message arguments
-     * @throws NullPointerException
-     *            if the collection specified is `null`
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqSequence(LongFunction, Iterator, String, Object...)
      */
-    public static void notEmpty(Map<?, ?> map, String message, Object ... messageArgs) {
-        no(map.isEmpty(), message, messageArgs);
+    public static void eqSequence(LongFunction<?> expected, Iterator<?> actual, Supplier<String> message) {
+        verify(Family.EQ_SEQUENCE, SequenceComparison::difference, expected, actual, message, null);
     }
 
     /**
-     * Asserts that a map isn't empty. If it is an {@link AssertionError} is
-     * thrown.
+     * Asserts that every element of an iterator equals to the element generated
+     * for its index. If not, an {@link AssertionError} is thrown.
      *
-     * @param map
-     *            a map to be checked
-     * @throws NullPointerException
-     *            if the collection specified is `null`
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
+     * @see #eqSequence(LongFunction, Iterator, String, Object...)
      */
-    public static void notEmpty(Map<?, ?> map) {
-        assertFalse(map.isEmpty());
+    public static void eqSequence(LongFunction<?> expected, Iterator<?> actual) {
+        verify(Family.EQ_SEQUENCE, SequenceComparison::difference, expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that an array isn't empty. If it is an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that every element of an iterable equals to the element generated for
+     * its index, i.e. element `i` equals to `expected.apply(i)`. If not, an
+     * {@link AssertionError} is thrown with the given message.
      *
-     * @param array
-     *            an array to be checked
+     * The assertion runs in constant memory and reports the first mismatch in
+     * the same way as {@link #eqSequence(Iterator, Iterator, String, Object...)}.
+     *
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
      * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
-     *            the message arguments
-     * @throws NullPointerException
-     *            if the array specified is `null`
+     *              the failure message arguments
      */
-    public static <T> void notEmpty(T[] array, String message, Object... messageArgs) {
-        yes(array.length > 0, message, messageArgs);
+    public static void eqSequence(LongFunction<?> expected, Iterable<?> actual, String message, Object... messageArgs) {
+        verify(Family.EQ_SEQUENCE, (e, a) -> SequenceComparison.difference(e, a.iterator()),
+                expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that an array isn't empty. If it is an {@link AssertionError} is
-     * thrown.
+     * Asserts that every element of an iterable equals to the element generated
+     * for its index. If not, an {@link AssertionError} is thrown with the message
+     * supplied.
      *
-     * @param array
-     *            an array to be checked
-     * @throws NullPointerException
-     *            if the array specified is `null`
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqSequence(LongFunction, Iterable, String, Object...)
      */
-    public static <T> void notEmpty(T[] array) {
-        assertTrue(array.length > 0);
+    public static void eqSequence(LongFunction<?> expected, Iterable<?> actual, Supplier<String> message) {
+        verify(Family.EQ_SEQUENCE, (e, a) -> SequenceComparison.difference(e, a.iterator()), expected, actual, message, null);
     }
 
     /**
-     * Asserts that a string is empty. If it isn't an {@link AssertionError} is
-     * thrown with the given message.
-     *
-     * A string is said to be empty when either one of the following cases is true:
+     * Asserts that every element of an iterable equals to the element generated
+     * for its index. If not, an {@link AssertionError} is thrown.
      *
-     * * it is `null`
-     * * it is an empty string `""`
-     *
-     * @param str
-     *            a string to be checked
-     * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
-     * @param messageArgs
-     *            the message arguments
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
+     * @see #eqSequence(LongFunction, Iterable, String, Object...)
      */
-    public static void isEmpty(String str, String message, Object... messageArgs) {
-        yes(null == str || "".equals(str), message, messageArgs);
+    public static void eqSequence(LongFunction<?> expected, Iterable<?> actual) {
+        verify(Family.EQ_SEQUENCE, (e, a) -> SequenceComparison.difference(e, a.iterator()), expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that a string is empty. If it isn't an {@link AssertionError} is
-     * thrown.
-     *
-     * A string is said to be empty when either one of the following cases is true:
+     * Asserts that every element of a stream equals to the element generated for
+     * its index, i.e. element `i` equals to `expected.apply(i)`. If not, an
+     * {@link AssertionError} is thrown with the given message.
      *
-     * * it is `null`
-     * * it is an empty string `""`
+     * The assertion runs in constant memory and reports the first mismatch in
+     * the same way as {@link #eqSequence(Iterator, Iterator, String, Object...)}.
      *
-     * @param str
-     *            a string to be checked
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
      */
-    public static void isEmpty(String str) {
-        assertTrue(null == str || "".equals(str));
+    public static void eqSequence(LongFunction<?> expected, Stream<?> actual, String message, Object... messageArgs) {
+        verify(Family.EQ_SEQUENCE, TestBase::sequenceDifference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Asserts that a collection is empty. If it is not an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that every element of a stream equals to the element generated for
+     * its index. If not, an {@link AssertionError} is thrown with the message
+     * supplied.
      *
-     * @param col
-     *            a collection to be checked
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
      * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
-     * @param messageArgs
-     *            the message arguments
-     * @throws NullPointerException
-     *            if the collection specified is `null`
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqSequence(LongFunction, Stream, String, Object...)
      */
-    public static void isEmpty(Collection<?> col, String message, Object... messageArgs) {
-        yes(col.isEmpty(), message, messageArgs);
+    public static void eqSequence(LongFunction<?> expected, Stream<?> actual, Supplier<String> message) {
+        verify(Family.EQ_SEQUENCE, TestBase::sequenceDifference, expected, actual, message, null);
     }
 
     /**
-     * Asserts that a collection is empty. If it is not an {@link AssertionError} is
-     * thrown.
+     * Asserts that every element of a stream equals to the element generated for
+     * its index. If not, an {@link AssertionError} is thrown.
      *
-     * @param col
-     *            a collection to be checked
-     * @throws NullPointerException
-     *            if the collection specified is `null`
+     * @param expected
+     *              generates the expected element for an index
+     * @param actual
+     *              the actual elements
+     * @see #eqSequence(LongFunction, Stream, String, Object...)
      */
-    public static void isEmpty(Collection<?> col) {
-        yes(col.isEmpty());
+    public static void eqSequence(LongFunction<?> expected, Stream<?> actual) {
+        verify(Family.EQ_SEQUENCE, TestBase::sequenceDifference, expected, actual, NO_MESSAGE, null);
     }
 
     /**
-     * Asserts that a map is empty. If it is not an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that every element of an iterator matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the given message.
      *
-     * @param map
-     *            a map to be checked
+     * The elements are consumed one by one in constant memory. The assertion
+     * stops at the first offending element and reports its index together with
+     * up to three elements before and after it.
+     *
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
      * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
-     *            the message arguments
-     * @throws NullPointerException
-     *            if the collection specified is `null`
+     *              the failure message arguments
      */
-    public static void isEmpty(Map<?, ?> map, String message, Object... messageArgs) {
-        yes(map.isEmpty(), message, messageArgs);
+    public static <T> void allMatch(Iterator<T> elements, Predicate<? super T> predicate, String message, Object... messageArgs) {
+        verify(Family.ALL_MATCH, (e, p) -> SequenceComparison.unmatched(e, p, true), elements, predicate, message, messageArgs);
     }
 
     /**
-     * Asserts that a Map is empty. If it is not an {@link AssertionError} is
-     * thrown.
+     * Asserts that every element of an iterator matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the message supplied.
      *
-     * @param map
-     *            a collection to be checked
-     * @throws NullPointerException
-     *            if the collection specified is `null`
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #allMatch(Iterator, Predicate, String, Object...)
      */
-    public static void isEmpty(Map<?, ?> map) {
-        yes(map.isEmpty());
+    public static <T> void allMatch(Iterator<T> elements, Predicate<? super T> predicate, Supplier<String> message) {
+        verify(Family.ALL_MATCH, (e, p) -> SequenceComparison.unmatched(e, p, true), elements, predicate, message, null);
     }
 
     /**
-     * Asserts that an array is empty. If it is not an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that every element of an iterator matches a predicate. If not, an
+     * {@link AssertionError} is thrown.
      *
-     * @param array
-     *            an array to be checked
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @see #allMatch(Iterator, Predicate, String, Object...)
+     */
+    public static <T> void allMatch(Iterator<T> elements, Predicate<? super T> predicate) {
+        verify(Family.ALL_MATCH, (e, p) -> SequenceComparison.unmatched(e, p, true), elements, predicate, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that every element of an iterable matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * The elements are consumed one by one in constant memory. The assertion
+     * stops at the first offending element and reports its index together with
+     * up to three elements before and after it.
+     *
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
      * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
-     *            the message arguments
-     * @throws NullPointerException
-     *            if the array specified is `null`
+     *              the failure message arguments
      */
-    public static <T> void isEmpty(T[] array, String message, Object... messageArgs) {
-        yes(array.length == 0, message, messageArgs);
+    public static <T> void allMatch(Iterable<T> elements, Predicate<? super T> predicate, String message, Object... messageArgs) {
+        verify(Family.ALL_MATCH, (e, p) -> SequenceComparison.unmatched(e.iterator(), p, true),
+                elements, predicate, message, messageArgs);
     }
 
     /**
-     * Asserts that an array is empty. If it is not an {@link AssertionError} is
-     * thrown.
+     * Asserts that every element of an iterable matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the message supplied.
      *
-     * @param array
-     *            an array to be checked
-     * @throws NullPointerException
-     *            if the array specified is `null`
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #allMatch(Iterable, Predicate, String, Object...)
      */
-    public static <T> void isEmpty(T[] array) {
-        assertTrue(array.length == 0);
+    public static <T> void allMatch(Iterable<T> elements, Predicate<? super T> predicate, Supplier<String> message) {
+        verify(Family.ALL_MATCH, (e, p) -> SequenceComparison.unmatched(e.iterator(), p, true),
+                elements, predicate, message, null);
     }
 
     /**
-     * Asserts that a string isn't blank. If it is an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that every element of an iterable matches a predicate. If not, an
+     * {@link AssertionError} is thrown.
      *
-     * A string is said to be blank when either one of the following cases is true:
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @see #allMatch(Iterable, Predicate, String, Object...)
+     */
+    public static <T> void allMatch(Iterable<T> elements, Predicate<? super T> predicate) {
+        verify(Family.ALL_MATCH, (e, p) -> SequenceComparison.unmatched(e.iterator(), p, true),
+                elements, predicate, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that every element of a stream matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the given message.
      *
-     * * it is `null`
-     * * it is an empty string `""`
-     * * it is a string with only space characters including tab `'\t'` and backspace `'\b'`
+     * The elements are consumed one by one in constant memory. The assertion
+     * stops at the first offending element and reports its index together with
+     * up to three elements before and after it.
      *
-     * @param str
-     *            a string to be checked
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
      * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
-     *            the message arguments
+     *              the failure message arguments
      */
-    public static void notBlank(String str, String message, Object... messageArgs) {
-        yes(null != str && !"".equals(str.trim()), message, messageArgs);
+    public static <T> void allMatch(Stream<T> elements, Predicate<? super T> predicate, String message, Object... messageArgs) {
+        verify(Family.ALL_MATCH, (e, p) -> unmatched(e, p, true), elements, predicate, message, messageArgs);
     }
 
     /**
-     * Asserts that a string isn't blank. If it is an {@link AssertionError} is
-     * thrown.
+     * Asserts that every element of a stream matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the message supplied.
      *
-     * A string is said to be blank when either one of the following cases is true:
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #allMatch(Stream, Predicate, String, Object...)
+     */
+    public static <T> void allMatch(Stream<T> elements, Predicate<? super T> predicate, Supplier<String> message) {
+        verify(Family.ALL_MATCH, (e, p) -> unmatched(e, p, true), elements, predicate, message, null);
+    }
+
+    /**
+     * Asserts that every element of a stream matches a predicate. If not, an
+     * {@link AssertionError} is thrown.
      *
-     * * it is `null`
-     * * it is an empty string `""`
-     * * it is a string with only space characters including tab `'\t'` and backspace `'\b'`
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @see #allMatch(Stream, Predicate, String, Object...)
+     */
+    public static <T> void allMatch(Stream<T> elements, Predicate<? super T> predicate) {
+        verify(Family.ALL_MATCH, (e, p) -> unmatched(e, p, true), elements, predicate, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that no element of an iterator matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the given message.
      *
-     * @param str
-     *            a string to be checked
+     * The elements are consumed one by one in constant memory. The assertion
+     * stops at the first offending element and reports its index together with
+     * up to three elements before and after it.
+     *
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
      */
-    public static void notBlank(String str) {
-        assertTrue(null != str && !"".equals(str.trim()));
+    public static <T> void noneMatch(Iterator<T> elements, Predicate<? super T> predicate,
+                                     String message, Object... messageArgs) {
+        verify(Family.NONE_MATCH, (e, p) -> SequenceComparison.unmatched(e, p, false), elements, predicate, message, messageArgs);
     }
 
     /**
-     * Asserts that a string is blank. If it isn't an {@link AssertionError} is
-     * thrown with the given message.
+     * Asserts that no element of an iterator matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the message supplied.
      *
-     * A string is said to be blank when either one of the following cases is true:
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #noneMatch(Iterator, Predicate, String, Object...)
+     */
+    public static <T> void noneMatch(Iterator<T> elements, Predicate<? super T> predicate, Supplier<String> message) {
+        verify(Family.NONE_MATCH, (e, p) -> SequenceComparison.unmatched(e, p, false), elements, predicate, message, null);
+    }
+
+    /**
+     * Asserts that no element of an iterator matches a predicate. If not, an
+     * {@link AssertionError} is thrown.
      *
-     * * it is `null`
-     * * it is an empty string `""`
-     * * it is a string with only space characters including tab `'\t'` and backspace `'\b'`
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @see #noneMatch(Iterator, Predicate, String, Object...)
+     */
+    public static <T> void noneMatch(Iterator<T> elements, Predicate<? super T> predicate) {
+        verify(Family.NONE_MATCH, (e, p) -> SequenceComparison.unmatched(e, p, false), elements, predicate, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that no element of an iterable matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the given message.
      *
-     * @param str
-     *            a string to be checked
+     * The elements are consumed one by one in constant memory. The assertion
+     * stops at the first offending element and reports its index together with
+     * up to three elements before and after it.
+     *
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
      * @param message
-     *            the identifying message for the {@link AssertionError} (`null` okay)
+     *              the failure message. `null` Okay
      * @param messageArgs
-     *            the message arguments
+     *              the failure message arguments
      */
-    public static void isBlank(String str, String message, Object... messageArgs) {
-        yes(null == str || "".equals(str.trim()), message, messageArgs);
+    public static <T> void noneMatch(Iterable<T> elements, Predicate<? super T> predicate,
+                                     String message, Object... messageArgs) {
+        verify(Family.NONE_MATCH, (e, p) -> SequenceComparison.unmatched(e.iterator(), p, false),
+                elements, predicate, message, messageArgs);
     }
 
     /**
-     * Asserts that a string is blank. If it isn't an {@link AssertionError} is
-     * thrown.
+     * Asserts that no element of an iterable matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the message supplied.
      *
-     * A string is said to be blank when either one of the following cases is true:
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #noneMatch(Iterable, Predicate, String, Object...)
+     */
+    public static <T> void noneMatch(Iterable<T> elements, Predicate<? super T> predicate, Supplier<String> message) {
+        verify(Family.NONE_MATCH, (e, p) -> SequenceComparison.unmatched(e.iterator(), p, false),
+                elements, predicate, message, null);
+    }
+
+    /**
+     * Asserts that no element of an iterable matches a predicate. If not, an
+     * {@link AssertionError} is thrown.
      *
-     * * it is `null`
-     * * it is an empty string `""`
-     * * it is a string with only space characters including tab `'\t'` and backspace `'\b'`
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @see #noneMatch(Iterable, Predicate, String, Object...)
+     */
+    public static <T> void noneMatch(Iterable<T> elements, Predicate<? super T> predicate) {
+        verify(Family.NONE_MATCH, (e, p) -> SequenceComparison.unmatched(e.iterator(), p, false),
+                elements, predicate, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that no element of a stream matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the given message.
      *
-     * @param str
-     *            a string to be checked
+     * The elements are consumed one by one in constant memory. The assertion
+     * stops at the first offending element and reports its index together with
+     * up to three elements before and after it.
+     *
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
      */
-    public static void isBlank(String str) {
-        assertTrue(null == str || "".equals(str.trim()));
+    public static <T> void noneMatch(Stream<T> elements, Predicate<? super T> predicate, String message, Object... messageArgs) {
+        verify(Family.NONE_MATCH, (e, p) -> unmatched(e, p, false), elements, predicate, message, messageArgs);
     }
 
     /**
-     * Asserts that two objects refer to the same object. If they are not, an
+     * Asserts that no element of a stream matches a predicate. If not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #noneMatch(Stream, Predicate, String, Object...)
+     */
+    public static <T> void noneMatch(Stream<T> elements, Predicate<? super T> predicate, Supplier<String> message) {
+        verify(Family.NONE_MATCH, (e, p) -> unmatched(e, p, false), elements, predicate, message, null);
+    }
+
+    /**
+     * Asserts that no element of a stream matches a predicate. If not, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param elements
+     *              the elements to be checked
+     * @param predicate
+     *              the predicate
+     * @param <T>
+     *              the element type
+     * @see #noneMatch(Stream, Predicate, String, Object...)
+     */
+    public static <T> void noneMatch(Stream<T> elements, Predicate<? super T> predicate) {
+        verify(Family.NONE_MATCH, (e, p) -> unmatched(e, p, false), elements, predicate, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two object graphs are equal field by field. If they are
+     * not, an {@link AssertionError} is thrown with the given message.
+     *
+     * Objects of application classes are compared by their non static, non
+     * transient fields, whether or not they override `equals`. Lists, other
+     * ordered collections and arrays are compared element by element, maps
+     * key by key, sets and JDK classes like `String` with `equals`. Cycles
+     * are supported. The failure reports the path to the first difference,
+     * e.g. `orders[3].lines[7].qty`. The fields of each class are looked up
+     * once and read with cached method handles.
+     *
+     * @param expected
+     *              the expected object graph
+     * @param actual
+     *              the actual object graph
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void eqStructure(Object expected, Object actual, String message, Object... messageArgs) {
+        verify(Family.EQ_STRUCTURE, StructuralComparison::difference, expected, actual, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two object graphs are equal field by field. If they are
+     * not, an {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              the expected object graph
+     * @param actual
+     *              the actual object graph
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqStructure(Object, Object, String, Object...)
+     */
+    public static void eqStructure(Object expected, Object actual, Supplier<String> message) {
+        verify(Family.EQ_STRUCTURE, StructuralComparison::difference, expected, actual, message, null);
+    }
+
+    /**
+     * Asserts that two object graphs are equal field by field. If they are
+     * not, an {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              the expected object graph
+     * @param actual
+     *              the actual object graph
+     * @see #eqStructure(Object, Object, String, Object...)
+     */
+    public static void eqStructure(Object expected, Object actual) {
+        verify(Family.EQ_STRUCTURE, StructuralComparison::difference, expected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two files have the same content. If they don't, an
      * {@link AssertionError} is thrown with the given message.
      *
+     * The sizes are compared first, files of different sizes fail without
+     * reading any content. Otherwise both files are memory mapped and compared
+     * chunk by chunk, the content is never copied to the heap. The failure
+     * reports the offset of the first differing byte, its line and column
+     * counted in the expected file, and the bytes around it.
+     *
      * @param expected
-     *              the expected object
+     *              the expected file
      * @param actual
-     *              the object to compare to `expected`
+     *              the actual file
      * @param message
-     *              Failure message
+     *              the failure message. `null` Okay
      * @param messageArgs
      *              the failure message arguments
+     * @throws java.io.UncheckedIOException
+     *              if any of the files can't be read
      */
-    public static void same(Object expected, Object actual, String message, Object... messageArgs) {
-        assertSame(fmt(message, messageArgs) + ",", expected, actual);
+    public static void eqContent(Path expected, Path actual, String message, Object... messageArgs) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, message, messageArgs);
     }
 
     /**
-     * Alias of {@link #assertSame(Object, Object)}.
+     * Asserts that two files have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the message supplied.
      *
      * @param expected
-     *              the expected object
+     *              the expected file
      * @param actual
-     *              the object to compare to `expected`
+     *              the actual file
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @throws java.io.UncheckedIOException
+     *              if any of the files can't be read
+     * @see #eqContent(Path, Path, String, Object...)
      */
-    public static void same(Object expected, Object actual) {
-        assertSame(null, expected, actual);
+    public static void eqContent(Path expected, Path actual, Supplier<String> message) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, message, null);
     }
 
     /**
-     * Asserts that two objects do not refer to the same object. If they do
-     * refer to the same object, an {@link AssertionError} is thrown with the
-     * given message.
+     * Asserts that two files have the same content. If they don't, an
+     * {@link AssertionError} is thrown.
      *
-     * @param unexpected
-     *              the object you don't expect
+     * @param expected
+     *              the expected file
      * @param actual
-     *              the object to compare to `unexpected`
+     *              the actual file
+     * @throws java.io.UncheckedIOException
+     *              if any of the files can't be read
+     * @see #eqContent(Path, Path, String, Object...)
+     */
+    public static void eqContent(Path expected, Path actual) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two files have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * See {@link #eqContent(Path, Path, String, Object...)} for details.
+     *
+     * @param expected
+     *              the expected file
+     * @param actual
+     *              the actual file
      * @param message
-     *              the failure message
+     *              the failure message. `null` Okay
      * @param messageArgs
      *              the failure message arguments
+     * @throws java.io.UncheckedIOException
+     *              if any of the files can't be read
      */
-    public static void notSame(Object unexpected, Object actual, String message, Object... messageArgs) {
-        assertNotSame(fmt(message, messageArgs) + ",", unexpected, actual);
+    public static void eqContent(File expected, File actual, String message, Object... messageArgs) {
+        verify(Family.EQ_CONTENT, (e, a) -> contentDifference(e.toPath(), a.toPath()), expected, actual, message, messageArgs);
     }
 
     /**
-     * Alias of {@link #assertNotSame(Object, Object)}.
+     * Asserts that two files have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the message supplied.
      *
-     * @param unexpected
-     *              the object you don't expect
+     * @param expected
+     *              the expected file
      * @param actual
-     *              the object to compare to `unexpected`
+     *              the actual file
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @throws java.io.UncheckedIOException
+     *              if any of the files can't be read
+     * @see #eqContent(Path, Path, String, Object...)
      */
-    public static void notSame(Object unexpected, Object actual) {
-        assertNotSame(null, unexpected, actual);
+    public static void eqContent(File expected, File actual, Supplier<String> message) {
+        verify(Family.EQ_CONTENT, (e, a) -> contentDifference(e.toPath(), a.toPath()), expected, actual, message, null);
     }
 
     /**
-     * Format a message with message arguments using {@link String#format(String, Object...)}.
+     * Asserts that two files have the same content. If they don't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              the expected file
+     * @param actual
+     *              the actual file
+     * @throws java.io.UncheckedIOException
+     *              if any of the files can't be read
+     * @see #eqContent(Path, Path, String, Object...)
+     */
+    public static void eqContent(File expected, File actual) {
+        verify(Family.EQ_CONTENT, (e, a) -> contentDifference(e.toPath(), a.toPath()), expected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two byte buffers have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * The remaining bytes, from position to limit, are compared in place,
+     * heap and direct buffers can be mixed and the positions are not changed.
+     * The failure reports the offset of the first differing byte relative to
+     * the positions, and the bytes around it.
+     *
+     * @param expected
+     *              the expected buffer
+     * @param actual
+     *              the actual buffer
      * @param message
-     *      the message, `null` okay
+     *              the failure message. `null` Okay
      * @param messageArgs
-     *      the message arguments
-     * @return
-     *      empty string `""` if `messsage` is `null` or
-     *      result of {@link String#format(String, Object...)}
+     *              the failure message arguments
      */
-    private static String fmt(String message, Object... messageArgs) {
-        if (null == message) {
-            return "";
-        }
-        return String.format(message, messageArgs);
+    public static void eqContent(ByteBuffer expected, ByteBuffer actual, String message, Object... messageArgs) {
+        verify(Family.EQ_CONTENT, ContentComparison::difference, expected, actual, message, messageArgs);
     }
 
-    private static void arrayNotEquals(String message, Object expecteds, Object actuals)
-            throws ArrayComparisonFailure {
-        if (expecteds == actuals
-                || Arrays.deepEquals(new Object[] {expecteds}, new Object[] {actuals})) {
-            // The reflection-based loop below is potentially very slow, especially for primitive
-            // arrays. The deepEquals check allows us to circumvent it in the usual case where
-            // the arrays are exactly equal.
-            fail(message);
-        }
+    /**
+     * Asserts that two byte buffers have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              the expected buffer
+     * @param actual
+     *              the actual buffer
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eqContent(ByteBuffer, ByteBuffer, String, Object...)
+     */
+    public static void eqContent(ByteBuffer expected, ByteBuffer actual, Supplier<String> message) {
+        verify(Family.EQ_CONTENT, ContentComparison::difference, expected, actual, message, null);
     }
 
-    private static void arrayNotEquals(String message, Object expecteds, Object actuals, Object delta) {
-        if (expecteds == actuals
-                || Arrays.deepEquals(new Object[] {expecteds}, new Object[] {actuals})) {
-            // The reflection-based loop below is potentially very slow, especially for primitive
-            // arrays. The deepEquals check allows us to circumvent it in the usual case where
-            // the arrays are exactly equal.
-            fail(message);
-        }
-        int expectedLen = Array.getLength(expecteds);
-        int actualLen = Array.getLength(actuals);
-        if (expectedLen != actualLen) {
-            return;
-        }
-        for (int i = 0; i < expectedLen; ++i) {
-            if (delta instanceof Double) {
-                Double expectedElement = (Double)Array.get(expecteds, i);
-                Double actualElement = (Double) Array.get(actuals, i);
-                if ((Math.abs(expectedElement - actualElement) > (Double) delta)) {
-                    return;
-                }
-            } else {
-                Float expectedElement = (Float)Array.get(expecteds, i);
-                Float actualElement = (Float) Array.get(actuals, i);
-                if ((Math.abs(expectedElement - actualElement) > (Float) delta)) {
-                    return;
-                }
-            }
+    /**
+     * Asserts that two byte buffers have the same content. If they don't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              the expected buffer
+     * @param actual
+     *              the actual buffer
+     * @see #eqContent(ByteBuffer, ByteBuffer, String, Object...)
+     */
+    public static void eqContent(ByteBuffer expected, ByteBuffer actual) {
+        verify(Family.EQ_CONTENT, ContentComparison::difference, expected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two input streams have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * The streams are read chunk by chunk into two reusable buffers and
+     * compared until the first difference or the end of both streams. The
+     * failure reports the absolute offset of the first differing byte, and the
+     * bytes around it. The streams are not closed.
+     *
+     * @param expected
+     *              the expected stream
+     * @param actual
+     *              the actual stream
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @throws java.io.UncheckedIOException
+     *              if any of the input streams can't be read
+     */
+    public static void eqContent(InputStream expected, InputStream actual, String message, Object... messageArgs) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two input streams have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              the expected stream
+     * @param actual
+     *              the actual stream
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @throws java.io.UncheckedIOException
+     *              if any of the input streams can't be read
+     * @see #eqContent(InputStream, InputStream, String, Object...)
+     */
+    public static void eqContent(InputStream expected, InputStream actual, Supplier<String> message) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, message, null);
+    }
+
+    /**
+     * Asserts that two input streams have the same content. If they don't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              the expected stream
+     * @param actual
+     *              the actual stream
+     * @throws java.io.UncheckedIOException
+     *              if any of the input streams can't be read
+     * @see #eqContent(InputStream, InputStream, String, Object...)
+     */
+    public static void eqContent(InputStream expected, InputStream actual) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two channels have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * The channels are read chunk by chunk into two reusable direct buffers
+     * and compared until the first difference or the end of both channels. The
+     * failure reports the absolute offset of the first differing byte, and the
+     * bytes around it. The channels are not closed.
+     *
+     * @param expected
+     *              the expected channel
+     * @param actual
+     *              the actual channel
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @throws java.io.UncheckedIOException
+     *              if any of the channels can't be read
+     */
+    public static void eqContent(ReadableByteChannel expected, ReadableByteChannel actual,
+                                 String message, Object... messageArgs) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two channels have the same content. If they don't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              the expected channel
+     * @param actual
+     *              the actual channel
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @throws java.io.UncheckedIOException
+     *              if any of the channels can't be read
+     * @see #eqContent(ReadableByteChannel, ReadableByteChannel, String, Object...)
+     */
+    public static void eqContent(ReadableByteChannel expected, ReadableByteChannel actual, Supplier<String> message) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, message, null);
+    }
+
+    /**
+     * Asserts that two channels have the same content. If they don't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              the expected channel
+     * @param actual
+     *              the actual channel
+     * @throws java.io.UncheckedIOException
+     *              if any of the channels can't be read
+     * @see #eqContent(ReadableByteChannel, ReadableByteChannel, String, Object...)
+     */
+    public static void eqContent(ReadableByteChannel expected, ReadableByteChannel actual) {
+        verify(Family.EQ_CONTENT, TestBase::contentDifference, expected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two double arrays are equal. If they are not, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param expecteds
+     *              double array with expected values.
+     * @param actuals
+     *              double array with actual values
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     * @param message
+     *              the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void eq(double[] expecteds, double[] actuals, double delta,
+                          String message, Object ... messageArgs) throws ArrayComparisonFailure {
+        closeness(expecteds, actuals, delta, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two double arrays are equal. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expecteds
+     *              double array with expected values.
+     * @param actuals
+     *              double array with actual values
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(double[] expecteds, double[] actuals, double delta,
+                          Supplier<String> message) throws ArrayComparisonFailure {
+        closeness(expecteds, actuals, delta, true, message, null);
+    }
+
+    /**
+     * Asserts that two double arrays are equal. If they are not, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expecteds
+     *              double array with expected values.
+     * @param actuals
+     *              double array with actual values
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     */
+    public static void eq(double[] expecteds, double[] actuals, double delta) throws ArrayComparisonFailure {
+        closeness(expecteds, actuals, delta, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two float arrays are equal. If they are not, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param expecteds
+     *              double array with expected values.
+     * @param actuals
+     *              double array with actual values
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     * @param message
+     *              the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void eq(float[] expecteds, float[] actuals, float delta,
+                          String message, Object ... messageArgs) throws ArrayComparisonFailure {
+        closeness(expecteds, actuals, delta, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two float arrays are equal. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expecteds
+     *              float array with expected values.
+     * @param actuals
+     *              float array with actual values
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(float[] expecteds, float[] actuals, float delta,
+                          Supplier<String> message) throws ArrayComparisonFailure {
+        closeness(expecteds, actuals, delta, true, message, null);
+    }
+
+    /**
+     * Asserts that two float arrays are equal. If they are not, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param expecteds
+     *              double array with expected values.
+     * @param actuals
+     *              double array with actual values
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     */
+    public static void eq(float[] expecteds, float[] actuals, float delta) throws ArrayComparisonFailure {
+        closeness(expecteds, actuals, delta, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two doubles or floats are equal to within a positive delta.
+     * If they are not, an {@link AssertionError} is thrown with the given
+     * message. If the expected value is infinity then the delta value is
+     * ignored. NaNs are considered equal:
+     *
+     * `eq(Double.NaN, Double.NaN, *)` passes
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              the value to check against `expected`
+     * @param delta
+     *              the maximum delta between `expected` and
+     *              `actual` for which both numbers are still
+     *              considered equal.
+     * @param message
+     *              the failure message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void eq(double expected, double actual, double delta, String message, Object... messageArgs) {
+        closeness(expected, actual, delta, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two doubles or floats are equal to within a positive delta.
+     * If they are not, an {@link AssertionError} is thrown with the message
+     * supplied. If the expected value is infinity then the delta value is
+     * ignored. NaNs are considered equal.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              the value to check against `expected`
+     * @param delta
+     *              the maximum delta between `expected` and
+     *              `actual` for which both numbers are still
+     *              considered equal.
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(double expected, double actual, double delta, Supplier<String> message) {
+        closeness(expected, actual, delta, true, message, null);
+    }
+
+    /**
+     * Asserts that two doubles or floats are equal to within a positive delta.
+     * If they are not, an {@link AssertionError} is thrown with the given
+     * message. If the expected value is infinity then the delta value is
+     * ignored. NaNs are considered equal:
+     *
+     * `eq(Double.NaN, Double.NaN, *)` passes
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              the value to check against `expected`
+     * @param delta
+     *              the maximum delta between `expected` and
+     *              `actual` for which both numbers are still
+     *              considered equal.
+     */
+    public static void eq(double expected, double actual, double delta) {
+        closeness(expected, actual, delta, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two ints are equal. If they are not, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     */
+    public static void eq(int expected, int actual) {
+        equality(expected, actual, true, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two ints are equal. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(int expected, int actual, Supplier<String> message) {
+        equality(expected, actual, true, message);
+    }
+
+    /**
+     * Asserts that two longs are equal. If they are not, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     */
+    public static void eq(long expected, long actual) {
+        equality(expected, actual, true, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two longs are equal. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(long expected, long actual, Supplier<String> message) {
+        equality(expected, actual, true, message);
+    }
+
+    /**
+     * Asserts that two shorts are equal. If they are not, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     */
+    public static void eq(short expected, short actual) {
+        equality(expected, actual, true, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two shorts are equal. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(short expected, short actual, Supplier<String> message) {
+        equality(expected, actual, true, message);
+    }
+
+    /**
+     * Asserts that two bytes are equal. If they are not, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     */
+    public static void eq(byte expected, byte actual) {
+        equality(expected, actual, true, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two bytes are equal. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(byte expected, byte actual, Supplier<String> message) {
+        equality(expected, actual, true, message);
+    }
+
+    /**
+     * Asserts that two chars are equal. If they are not, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     */
+    public static void eq(char expected, char actual) {
+        equality(expected, actual, true, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two chars are equal. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(char expected, char actual, Supplier<String> message) {
+        equality(expected, actual, true, message);
+    }
+
+    /**
+     * Asserts that two booleans are equal. If they are not, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     */
+    public static void eq(boolean expected, boolean actual) {
+        equality(expected, actual, true, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two booleans are equal. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              expected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void eq(boolean expected, boolean actual, Supplier<String> message) {
+        equality(expected, actual, true, message);
+    }
+
+    /**
+     * Asserts that two objects (including arrays) are not equal.
+     * If they are, an {@link AssertionError} is thrown with the
+     * given message. If `unexpected` and `actual` are `null`,
+     * they are considered equal.
+     *
+     * @param unexpected
+     *              unexpected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void ne(Object unexpected, Object actual, String message, Object ... messageArgs) {
+        inequality(unexpected, actual, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two objects (including arrays) are not equal.
+     * If they are, an {@link AssertionError} is thrown with the
+     * message supplied. If `unexpected` and `actual` are `null`,
+     * they are considered equal.
+     *
+     * @param unexpected
+     *              unexpected value, could be any object including array
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(Object unexpected, Object actual, Supplier<String> message) {
+        inequality(unexpected, actual, message, null);
+    }
+
+    /**
+     * Asserts that two objects (including arrays) are not equal.
+     * If they are, an {@link AssertionError} is thrown with the
+     * given message. If `unexpected` and `actual` are `null`,
+     * they are considered equal.
+     *
+     * @param unexpected
+     *              unexpected value, could be any object including array
+     * @param actual
+     *              actual value
+     */
+    public static void ne(Object unexpected, Object actual) {
+        inequality(unexpected, actual, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two double arrays are not equal. If they are, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param unexpecteds
+     *              unexpected double array
+     * @param actuals
+     *              actual double array
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     * @param message
+     *              the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void ne(double[] unexpecteds, double[] actuals, double delta,
+                          String message, Object ... messageArgs) throws AssertionError {
+        closeness(unexpecteds, actuals, delta, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two double arrays are not equal. If they are, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param unexpecteds
+     *              unexpected double array
+     * @param actuals
+     *              actual double array
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(double[] unexpecteds, double[] actuals, double delta,
+                          Supplier<String> message) throws AssertionError {
+        closeness(unexpecteds, actuals, delta, false, message, null);
+    }
+
+    /**
+     * Asserts that two double arrays are not equal. If they are, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param unexpecteds
+     *              unexpected double array
+     * @param actuals
+     *              actual double array
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     */
+    public static void ne(double[] unexpecteds, double[] actuals, double delta) throws AssertionError {
+        closeness(unexpecteds, actuals, delta, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two float arrays are not equal. If they are, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param unexpecteds
+     *              unexpected double array
+     * @param actuals
+     *              actual double array
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     * @param message
+     *              the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void ne(float[] unexpecteds, float[] actuals, float delta,
+                          String message, Object ... messageArgs) throws AssertionError {
+        closeness(unexpecteds, actuals, delta, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two float arrays are not equal. If they are, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param unexpecteds
+     *              unexpected float array
+     * @param actuals
+     *              actual float array
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(float[] unexpecteds, float[] actuals, float delta,
+                          Supplier<String> message) throws AssertionError {
+        closeness(unexpecteds, actuals, delta, false, message, null);
+    }
+
+    /**
+     * Asserts that two float arrays are not equal. If they are, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param unexpecteds
+     *              unexpected double array
+     * @param actuals
+     *              actual double array
+     * @param delta
+     *              the maximum delta between `expected` and `actual`
+     *              for which both numbers are still considered equal.
+     */
+    public static void ne(float[] unexpecteds, float[] actuals, float delta) throws AssertionError {
+        closeness(unexpecteds, actuals, delta, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two doubles or floats are **not** equal to within a positive delta.
+     * If they are, an {@link AssertionError} is thrown with the given message.
+     * If the expected value is infinity then the delta value is ignored.
+     * NaNs are considered equal:
+     *
+     * `ne(Double.NaN, Double.NaN, *)` fails
+     *
+     * @param unexpected
+     *              expected value
+     * @param actual
+     *              the value to check against `expected`
+     * @param delta
+     *              the maximum delta between `expected` and
+     *              `actual` for which both numbers are still
+     *              considered equal.
+     * @param message
+     *              the failure message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void ne(double unexpected, double actual, double delta, String message, Object... messageArgs) {
+        closeness(unexpected, actual, delta, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two doubles or floats are **not** equal to within a positive delta.
+     * If they are, an {@link AssertionError} is thrown with the message supplied.
+     * If the expected value is infinity then the delta value is ignored.
+     * NaNs are considered equal.
+     *
+     * @param unexpected
+     *              expected value
+     * @param actual
+     *              the value to check against `expected`
+     * @param delta
+     *              the maximum delta between `expected` and
+     *              `actual` for which both numbers are still
+     *              considered equal.
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(double unexpected, double actual, double delta, Supplier<String> message) {
+        closeness(unexpected, actual, delta, false, message, null);
+    }
+
+    /**
+     * Asserts that two doubles or floats are **not** equal to within a positive delta.
+     * If they are, an {@link AssertionError} is thrown with the given message.
+     * If the expected value is infinity then the delta value is ignored.
+     * NaNs are considered equal:
+     *
+     * `ne(Double.NaN, Double.NaN, *)` fails
+     *
+     * @param unexpected
+     *              expected value
+     * @param actual
+     *              the value to check against `expected`
+     * @param delta
+     *              the maximum delta between `expected` and
+     *              `actual` for which both numbers are still
+     *              considered equal.
+     */
+    public static void ne(double unexpected, double actual, double delta) {
+        closeness(unexpected, actual, delta, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two ints are not equal. If they are, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     */
+    public static void ne(int unexpected, int actual) {
+        equality(unexpected, actual, false, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two ints are not equal. If they are, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(int unexpected, int actual, Supplier<String> message) {
+        equality(unexpected, actual, false, message);
+    }
+
+    /**
+     * Asserts that two longs are not equal. If they are, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     */
+    public static void ne(long unexpected, long actual) {
+        equality(unexpected, actual, false, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two longs are not equal. If they are, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(long unexpected, long actual, Supplier<String> message) {
+        equality(unexpected, actual, false, message);
+    }
+
+    /**
+     * Asserts that two shorts are not equal. If they are, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     */
+    public static void ne(short unexpected, short actual) {
+        equality(unexpected, actual, false, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two shorts are not equal. If they are, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(short unexpected, short actual, Supplier<String> message) {
+        equality(unexpected, actual, false, message);
+    }
+
+    /**
+     * Asserts that two bytes are not equal. If they are, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     */
+    public static void ne(byte unexpected, byte actual) {
+        equality(unexpected, actual, false, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two bytes are not equal. If they are, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(byte unexpected, byte actual, Supplier<String> message) {
+        equality(unexpected, actual, false, message);
+    }
+
+    /**
+     * Asserts that two chars are not equal. If they are, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     */
+    public static void ne(char unexpected, char actual) {
+        equality(unexpected, actual, false, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two chars are not equal. If they are, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(char unexpected, char actual, Supplier<String> message) {
+        equality(unexpected, actual, false, message);
+    }
+
+    /**
+     * Asserts that two booleans are not equal. If they are, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     */
+    public static void ne(boolean unexpected, boolean actual) {
+        equality(unexpected, actual, false, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that two booleans are not equal. If they are, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param unexpected
+     *              unexpected value
+     * @param actual
+     *              actual value
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     */
+    public static void ne(boolean unexpected, boolean actual, Supplier<String> message) {
+        equality(unexpected, actual, false, message);
+    }
+
+    /**
+     * Asserts that an object isn't null. If it is an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * @param object
+     *            Object to check or `null`
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     */
+    public static void notNull(Object object, String message, Object... messageArgs) {
+        nullity(object, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that an object isn't null. If it is an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param object
+     *            Object to check or `null`
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     */
+    public static void notNull(Object object, Supplier<String> message) {
+        nullity(object, false, message, null);
+    }
+
+    /**
+     * Alias of {@link #assertNotNull(Object)}.
+     *
+     * @param object Object to check or `null`
+     */
+    public static void notNull(Object object) {
+        nullity(object, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that an object is null. If it is not, an {@link AssertionError}
+     * is thrown with the given message.
+     *
+     * @param object
+     *              Object to check or `null`
+     * @param message
+     *              Failure message
+     * @param messageArgs
+     *              Failure message arguments
+     */
+    public static void isNull(Object object, String message, Object... messageArgs) {
+        nullity(object, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that an object is null. If it is not, an {@link AssertionError}
+     * is thrown with the message supplied.
+     *
+     * @param object
+     *              Object to check or `null`
+     * @param message
+     *              supplies the failure message, called only when the assertion fails
+     */
+    public static void isNull(Object object, Supplier<String> message) {
+        nullity(object, true, message, null);
+    }
+
+    /**
+     * Alias of {@link #assertNull(Object)}.
+     */
+    public static void isNull(Object object) {
+        nullity(object, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a string isn't empty. If it is an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * A string is said to be empty when either one of the following cases is true:
+     *
+     * * it is `null`
+     * * it is an empty string `""`
+     *
+     * @param str
+     *            a string to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     */
+    public static void notEmpty(String str, String message, Object... messageArgs) {
+        condition(Family.NOT_EMPTY, null != str && !"".equals(str), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a string isn't empty. If it is an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param str
+     *            a string to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     */
+    public static void notEmpty(String str, Supplier<String> message) {
+        condition(Family.NOT_EMPTY, null != str && !"".equals(str), message, null);
+    }
+
+    /**
+     * Asserts that a string isn't empty. If it is an {@link AssertionError} is
+     * thrown.
+     *
+     * A string is said to be empty when either one of the following cases is true:
+     *
+     * * it is `null`
+     * * it is an empty string `""`
+     *
+     * @param str
+     *            a string to be checked
+     */
+    public static void notEmpty(String str) {
+        condition(Family.NOT_EMPTY, null != str && !"".equals(str), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a collection isn't empty. If it is an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * @param col
+     *            a collection to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void notEmpty(Collection<?> col, String message, Object ... messageArgs) {
+        condition(Family.NOT_EMPTY, !col.isEmpty(), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a collection isn't empty. If it is an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param col
+     *            a collection to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void notEmpty(Collection<?> col, Supplier<String> message) {
+        condition(Family.NOT_EMPTY, !col.isEmpty(), message, null);
+    }
+
+    /**
+     * Asserts that a collection isn't empty. If it is an {@link AssertionError} is
+     * thrown.
+     *
+     * @param col
+     *            a collection to be checked
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void notEmpty(Collection<?> col) {
+        condition(Family.NOT_EMPTY, !col.isEmpty(), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a map isn't empty. If it is an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * @param map
+     *            a map to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void notEmpty(Map<?, ?> map, String message, Object ... messageArgs) {
+        condition(Family.NOT_EMPTY, !map.isEmpty(), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a map isn't empty. If it is an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param map
+     *            a map to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     * @throws NullPointerException
+     *            if the map specified is `null`
+     */
+    public static void notEmpty(Map<?, ?> map, Supplier<String> message) {
+        condition(Family.NOT_EMPTY, !map.isEmpty(), message, null);
+    }
+
+    /**
+     * Asserts that a map isn't empty. If it is an {@link AssertionError} is
+     * thrown.
+     *
+     * @param map
+     *            a map to be checked
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void notEmpty(Map<?, ?> map) {
+        condition(Family.NOT_EMPTY, !map.isEmpty(), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that an array isn't empty. If it is an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * @param array
+     *            an array to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     * @throws NullPointerException
+     *            if the array specified is `null`
+     */
+    public static <T> void notEmpty(T[] array, String message, Object... messageArgs) {
+        condition(Family.NOT_EMPTY, array.length > 0, message, messageArgs);
+    }
+
+    /**
+     * Asserts that an array isn't empty. If it is an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param array
+     *            an array to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     * @param <T>
+     *            the array element type
+     * @throws NullPointerException
+     *            if the array specified is `null`
+     */
+    public static <T> void notEmpty(T[] array, Supplier<String> message) {
+        condition(Family.NOT_EMPTY, array.length > 0, message, null);
+    }
+
+    /**
+     * Asserts that an array isn't empty. If it is an {@link AssertionError} is
+     * thrown.
+     *
+     * @param array
+     *            an array to be checked
+     * @throws NullPointerException
+     *            if the array specified is `null`
+     */
+    public static <T> void notEmpty(T[] array) {
+        condition(Family.NOT_EMPTY, array.length > 0, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a string is empty. If it isn't an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * A string is said to be empty when either one of the following cases is true:
+     *
+     * * it is `null`
+     * * it is an empty string `""`
+     *
+     * @param str
+     *            a string to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     */
+    public static void isEmpty(String str, String message, Object... messageArgs) {
+        condition(Family.IS_EMPTY, null == str || "".equals(str), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a string is empty. If it isn't an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param str
+     *            a string to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     */
+    public static void isEmpty(String str, Supplier<String> message) {
+        condition(Family.IS_EMPTY, null == str || "".equals(str), message, null);
+    }
+
+    /**
+     * Asserts that a string is empty. If it isn't an {@link AssertionError} is
+     * thrown.
+     *
+     * A string is said to be empty when either one of the following cases is true:
+     *
+     * * it is `null`
+     * * it is an empty string `""`
+     *
+     * @param str
+     *            a string to be checked
+     */
+    public static void isEmpty(String str) {
+        condition(Family.IS_EMPTY, null == str || "".equals(str), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a collection is empty. If it is not an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * @param col
+     *            a collection to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void isEmpty(Collection<?> col, String message, Object... messageArgs) {
+        condition(Family.IS_EMPTY, col.isEmpty(), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a collection is empty. If it is not an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param col
+     *            a collection to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void isEmpty(Collection<?> col, Supplier<String> message) {
+        condition(Family.IS_EMPTY, col.isEmpty(), message, null);
+    }
+
+    /**
+     * Asserts that a collection is empty. If it is not an {@link AssertionError} is
+     * thrown.
+     *
+     * @param col
+     *            a collection to be checked
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void isEmpty(Collection<?> col) {
+        condition(Family.IS_EMPTY, col.isEmpty(), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a map is empty. If it is not an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * @param map
+     *            a map to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void isEmpty(Map<?, ?> map, String message, Object... messageArgs) {
+        condition(Family.IS_EMPTY, map.isEmpty(), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a map is empty. If it is not an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param map
+     *            a map to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     * @throws NullPointerException
+     *            if the map specified is `null`
+     */
+    public static void isEmpty(Map<?, ?> map, Supplier<String> message) {
+        condition(Family.IS_EMPTY, map.isEmpty(), message, null);
+    }
+
+    /**
+     * Asserts that a Map is empty. If it is not an {@link AssertionError} is
+     * thrown.
+     *
+     * @param map
+     *            a collection to be checked
+     * @throws NullPointerException
+     *            if the collection specified is `null`
+     */
+    public static void isEmpty(Map<?, ?> map) {
+        condition(Family.IS_EMPTY, map.isEmpty(), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that an array is empty. If it is not an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * @param array
+     *            an array to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     * @throws NullPointerException
+     *            if the array specified is `null`
+     */
+    public static <T> void isEmpty(T[] array, String message, Object... messageArgs) {
+        condition(Family.IS_EMPTY, array.length == 0, message, messageArgs);
+    }
+
+    /**
+     * Asserts that an array is empty. If it is not an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param array
+     *            an array to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     * @param <T>
+     *            the array element type
+     * @throws NullPointerException
+     *            if the array specified is `null`
+     */
+    public static <T> void isEmpty(T[] array, Supplier<String> message) {
+        condition(Family.IS_EMPTY, array.length == 0, message, null);
+    }
+
+    /**
+     * Asserts that an array is empty. If it is not an {@link AssertionError} is
+     * thrown.
+     *
+     * @param array
+     *            an array to be checked
+     * @throws NullPointerException
+     *            if the array specified is `null`
+     */
+    public static <T> void isEmpty(T[] array) {
+        condition(Family.IS_EMPTY, array.length == 0, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a string isn't blank. If it is an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * A string is said to be blank when either one of the following cases is true:
+     *
+     * * it is `null`
+     * * it is an empty string `""`
+     * * it is a string with only space characters including tab `'\t'` and backspace `'\b'`,
+     *   i.e. any character up to `U+0020`, and Unicode whitespace such as `U+00A0` and `U+3000`
+     *
+     * @param str
+     *            a string to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     */
+    public static void notBlank(String str, String message, Object... messageArgs) {
+        blankness(str, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a string isn't blank. If it is an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param str
+     *            a string to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     */
+    public static void notBlank(String str, Supplier<String> message) {
+        blankness(str, false, message, null);
+    }
+
+    /**
+     * Asserts that a string isn't blank. If it is an {@link AssertionError} is
+     * thrown.
+     *
+     * A string is said to be blank when either one of the following cases is true:
+     *
+     * * it is `null`
+     * * it is an empty string `""`
+     * * it is a string with only space characters including tab `'\t'` and backspace `'\b'`,
+     *   i.e. any character up to `U+0020`, and Unicode whitespace such as `U+00A0` and `U+3000`
+     *
+     * @param str
+     *            a string to be checked
+     */
+    public static void notBlank(String str) {
+        blankness(str, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a string is blank. If it isn't an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * A string is said to be blank when either one of the following cases is true:
+     *
+     * * it is `null`
+     * * it is an empty string `""`
+     * * it is a string with only space characters including tab `'\t'` and backspace `'\b'`,
+     *   i.e. any character up to `U+0020`, and Unicode whitespace such as `U+00A0` and `U+3000`
+     *
+     * @param str
+     *            a string to be checked
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     */
+    public static void isBlank(String str, String message, Object... messageArgs) {
+        blankness(str, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a string is blank. If it isn't an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param str
+     *            a string to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     */
+    public static void isBlank(String str, Supplier<String> message) {
+        blankness(str, true, message, null);
+    }
+
+    /**
+     * Asserts that a string is blank. If it isn't an {@link AssertionError} is
+     * thrown.
+     *
+     * A string is said to be blank when either one of the following cases is true:
+     *
+     * * it is `null`
+     * * it is an empty string `""`
+     * * it is a string with only space characters including tab `'\t'` and backspace `'\b'`,
+     *   i.e. any character up to `U+0020`, and Unicode whitespace such as `U+00A0` and `U+3000`
+     *
+     * @param str
+     *            a string to be checked
+     */
+    public static void isBlank(String str) {
+        blankness(str, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a char sequence isn't blank. If it is an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * The sequence is scanned in place up to the first non blank character, it is
+     * never converted to a string. See {@link #notBlank(String, String, Object...)}
+     * for the definition of blank.
+     *
+     * @param chars
+     *            a char sequence to be checked, e.g. a `StringBuilder` or a `CharBuffer`
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     */
+    public static void notBlank(CharSequence chars, String message, Object... messageArgs) {
+        blankness(chars, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a char sequence isn't blank. If it is an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param chars
+     *            a char sequence to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     * @see #notBlank(CharSequence, String, Object...)
+     */
+    public static void notBlank(CharSequence chars, Supplier<String> message) {
+        blankness(chars, false, message, null);
+    }
+
+    /**
+     * Asserts that a char sequence isn't blank. If it is an {@link AssertionError} is
+     * thrown.
+     *
+     * @param chars
+     *            a char sequence to be checked
+     * @see #notBlank(CharSequence, String, Object...)
+     */
+    public static void notBlank(CharSequence chars) {
+        blankness(chars, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a char sequence is blank. If it isn't an {@link AssertionError} is
+     * thrown with the given message.
+     *
+     * The sequence is scanned in place up to the first non blank character, it is
+     * never converted to a string. See {@link #isBlank(String, String, Object...)}
+     * for the definition of blank.
+     *
+     * @param chars
+     *            a char sequence to be checked, e.g. a `StringBuilder` or a `CharBuffer`
+     * @param message
+     *            the identifying message for the {@link AssertionError} (`null` okay)
+     * @param messageArgs
+     *            the message arguments
+     */
+    public static void isBlank(CharSequence chars, String message, Object... messageArgs) {
+        blankness(chars, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a char sequence is blank. If it isn't an {@link AssertionError} is
+     * thrown with the message supplied.
+     *
+     * @param chars
+     *            a char sequence to be checked
+     * @param message
+     *            supplies the failure message, called only when the assertion fails
+     * @see #isBlank(CharSequence, String, Object...)
+     */
+    public static void isBlank(CharSequence chars, Supplier<String> message) {
+        blankness(chars, true, message, null);
+    }
+
+    /**
+     * Asserts that a char sequence is blank. If it isn't an {@link AssertionError} is
+     * thrown.
+     *
+     * @param chars
+     *            a char sequence to be checked
+     * @see #isBlank(CharSequence, String, Object...)
+     */
+    public static void isBlank(CharSequence chars) {
+        blankness(chars, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two objects refer to the same object. If they are not, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param expected
+     *              the expected object
+     * @param actual
+     *              the object to compare to `expected`
+     * @param message
+     *              Failure message
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void same(Object expected, Object actual, String message, Object... messageArgs) {
+        identity(expected, actual, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two objects refer to the same object. If they are not, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param expected
+     *              the expected object
+     * @param actual
+     *              the object to compare to `expected`
+     * @param message
+     *              supplies the failure message, called only when the assertion fails
+     */
+    public static void same(Object expected, Object actual, Supplier<String> message) {
+        identity(expected, actual, true, message, null);
+    }
+
+    /**
+     * Alias of {@link #assertSame(Object, Object)}.
+     *
+     * @param expected
+     *              the expected object
+     * @param actual
+     *              the object to compare to `expected`
+     */
+    public static void same(Object expected, Object actual) {
+        identity(expected, actual, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that two objects do not refer to the same object. If they do
+     * refer to the same object, an {@link AssertionError} is thrown with the
+     * given message.
+     *
+     * @param unexpected
+     *              the object you don't expect
+     * @param actual
+     *              the object to compare to `unexpected`
+     * @param message
+     *              the failure message
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void notSame(Object unexpected, Object actual, String message, Object... messageArgs) {
+        identity(unexpected, actual, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that two objects do not refer to the same object. If they do
+     * refer to the same object, an {@link AssertionError} is thrown with the
+     * message supplied.
+     *
+     * @param unexpected
+     *              the object you don't expect
+     * @param actual
+     *              the object to compare to `unexpected`
+     * @param message
+     *              supplies the failure message, called only when the assertion fails
+     */
+    public static void notSame(Object unexpected, Object actual, Supplier<String> message) {
+        identity(unexpected, actual, false, message, null);
+    }
+
+    /**
+     * Alias of {@link #assertNotSame(Object, Object)}.
+     *
+     * @param unexpected
+     *              the object you don't expect
+     * @param actual
+     *              the object to compare to `unexpected`
+     */
+    public static void notSame(Object unexpected, Object actual) {
+        identity(unexpected, actual, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that timed code runs within a budget. If the chosen
+     * {@link Timing#percentile(double) percentile} of the call durations is
+     * over the budget, an {@link AssertionError} is thrown with the given
+     * message.
+     *
+     * The code is warmed up and then timed in batches as configured by the
+     * {@link Timing}. The failure reports the percentile, the budget and the
+     * distribution of the samples. Wall clock time depends on the machine
+     * and its load, choose budgets with a margin.
+     *
+     * @param timing
+     *              the code to time and the measurement settings
+     * @param budget
+     *              the maximum duration of a call
+     * @param unit
+     *              the unit of `budget`
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void runsWithin(Timing timing, long budget, TimeUnit unit, String message, Object... messageArgs) {
+        verify(Family.RUNS_WITHIN, (t, nanos) -> t.measure().exceeded(nanos), timing, unit.toNanos(budget), message, messageArgs);
+    }
+
+    /**
+     * Asserts that timed code runs within a budget. If it doesn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param timing
+     *              the code to time and the measurement settings
+     * @param budget
+     *              the maximum duration of a call
+     * @param unit
+     *              the unit of `budget`
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #runsWithin(Timing, long, TimeUnit, String, Object...)
+     */
+    public static void runsWithin(Timing timing, long budget, TimeUnit unit, Supplier<String> message) {
+        verify(Family.RUNS_WITHIN, (t, nanos) -> t.measure().exceeded(nanos), timing, unit.toNanos(budget), message, null);
+    }
+
+    /**
+     * Asserts that timed code runs within a budget. If it doesn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param timing
+     *              the code to time and the measurement settings
+     * @param budget
+     *              the maximum duration of a call
+     * @param unit
+     *              the unit of `budget`
+     * @see #runsWithin(Timing, long, TimeUnit, String, Object...)
+     */
+    public static void runsWithin(Timing timing, long budget, TimeUnit unit) {
+        verify(Family.RUNS_WITHIN, (t, nanos) -> t.measure().exceeded(nanos), timing, unit.toNanos(budget), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a block allocates at most `maxBytes` bytes per invocation
+     * on the current thread. If it allocates more, an {@link AssertionError}
+     * is thrown with the given message.
+     *
+     * The block is warmed up so the JIT has compiled it, then the bytes
+     * allocated by `1000` invocations are read
+     * from the thread allocation counter of the JVM and averaged. Allocations
+     * the JIT removes by escape analysis are not counted, as in production.
+     * The bytes allocated by the measurement itself are subtracted. On JVMs
+     * without thread allocation counters the assertion is skipped as a failed
+     * {@link org.junit.Assume assumption}.
+     *
+     * @param maxBytes
+     *              the maximum number of bytes allocated per invocation
+     * @param block
+     *              the block to measure
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void allocatesAtMost(long maxBytes, Runnable block, String message, Object... messageArgs) {
+        verify(Family.ALLOCATES_AT_MOST, TestBase::allocationDifference, maxBytes, block, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a block allocates at most `maxBytes` bytes per invocation
+     * on the current thread. If it allocates more, an {@link AssertionError}
+     * is thrown with the message supplied.
+     *
+     * @param maxBytes
+     *              the maximum number of bytes allocated per invocation
+     * @param block
+     *              the block to measure
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #allocatesAtMost(long, Runnable, String, Object...)
+     */
+    public static void allocatesAtMost(long maxBytes, Runnable block, Supplier<String> message) {
+        verify(Family.ALLOCATES_AT_MOST, TestBase::allocationDifference, maxBytes, block, message, null);
+    }
+
+    /**
+     * Asserts that a block allocates at most `maxBytes` bytes per invocation
+     * on the current thread. If it allocates more, an {@link AssertionError}
+     * is thrown.
+     *
+     * @param maxBytes
+     *              the maximum number of bytes allocated per invocation
+     * @param block
+     *              the block to measure
+     * @see #allocatesAtMost(long, Runnable, String, Object...)
+     */
+    public static void allocatesAtMost(long maxBytes, Runnable block) {
+        verify(Family.ALLOCATES_AT_MOST, TestBase::allocationDifference, maxBytes, block, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a condition becomes `true` within a timeout. If it
+     * doesn't, an {@link AssertionError} is thrown with the given message.
+     *
+     * The condition is retried with an adaptive backoff instead of a fixed
+     * sleep: the first retries only yield, then the thread parks for pauses
+     * that double up to `100` ms or `1/16` of the timeout. The condition is
+     * checked a last time at the deadline. Exceptions thrown by the condition
+     * are not retried.
+     *
+     * @param condition
+     *              the condition
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void eventually(BooleanSupplier condition, long timeout, TimeUnit unit,
+                                  String message, Object... messageArgs) {
+        verify(Family.EVENTUALLY, Polling::eventually, condition, unit.toNanos(timeout), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a condition becomes `true` within a timeout. If it
+     * doesn't, an {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param condition
+     *              the condition
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eventually(BooleanSupplier, long, TimeUnit, String, Object...)
+     */
+    public static void eventually(BooleanSupplier condition, long timeout, TimeUnit unit, Supplier<String> message) {
+        verify(Family.EVENTUALLY, Polling::eventually, condition, unit.toNanos(timeout), message, null);
+    }
+
+    /**
+     * Asserts that a condition becomes `true` within a timeout. If it
+     * doesn't, an {@link AssertionError} is thrown.
+     *
+     * @param condition
+     *              the condition
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @see #eventually(BooleanSupplier, long, TimeUnit, String, Object...)
+     */
+    public static void eventually(BooleanSupplier condition, long timeout, TimeUnit unit) {
+        verify(Family.EVENTUALLY, Polling::eventually, condition, unit.toNanos(timeout), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that an assertion passes within a timeout, e.g.
+     * `eventually(() -> eq(3, queue.size()), 5, SECONDS)`. If it doesn't, an
+     * {@link AssertionError} is thrown with the given message, reporting the
+     * last failure of the assertion as the cause.
+     *
+     * The assertion is retried while it throws an `AssertionError`, with the
+     * backoff of {@link #eventually(BooleanSupplier, long, TimeUnit, String, Object...)}.
+     * Other exceptions are not retried.
+     *
+     * @param assertion
+     *              the assertion
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void eventually(Runnable assertion, long timeout, TimeUnit unit, String message, Object... messageArgs) {
+        retrying(assertion, unit.toNanos(timeout), message, messageArgs);
+    }
+
+    /**
+     * Asserts that an assertion passes within a timeout. If it doesn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param assertion
+     *              the assertion
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #eventually(Runnable, long, TimeUnit, String, Object...)
+     */
+    public static void eventually(Runnable assertion, long timeout, TimeUnit unit, Supplier<String> message) {
+        retrying(assertion, unit.toNanos(timeout), message, null);
+    }
+
+    /**
+     * Asserts that an assertion passes within a timeout. If it doesn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param assertion
+     *              the assertion
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @see #eventually(Runnable, long, TimeUnit, String, Object...)
+     */
+    public static void eventually(Runnable assertion, long timeout, TimeUnit unit) {
+        retrying(assertion, unit.toNanos(timeout), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a latch is released within a timeout. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * The thread blocks on the latch, nothing is polled.
+     *
+     * @param latch
+     *              the latch
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void await(CountDownLatch latch, long timeout, TimeUnit unit, String message, Object... messageArgs) {
+        verify(Family.AWAIT, Polling::await, latch, unit.toNanos(timeout), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a latch is released within a timeout. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param latch
+     *              the latch
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #await(CountDownLatch, long, TimeUnit, String, Object...)
+     */
+    public static void await(CountDownLatch latch, long timeout, TimeUnit unit, Supplier<String> message) {
+        verify(Family.AWAIT, Polling::await, latch, unit.toNanos(timeout), message, null);
+    }
+
+    /**
+     * Asserts that a latch is released within a timeout. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param latch
+     *              the latch
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @see #await(CountDownLatch, long, TimeUnit, String, Object...)
+     */
+    public static void await(CountDownLatch latch, long timeout, TimeUnit unit) {
+        verify(Family.AWAIT, Polling::await, latch, unit.toNanos(timeout), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a future completes normally within a timeout and returns
+     * its value. If it doesn't, an {@link AssertionError} is thrown with the
+     * given message, reporting the failure of the future as the cause.
+     *
+     * The thread blocks on the future, nothing is polled.
+     *
+     * @param future
+     *              the future
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @param <T>
+     *              the type of the value
+     * @return the value of the future
+     */
+    public static <T> T await(Future<T> future, long timeout, TimeUnit unit, String message, Object... messageArgs) {
+        return awaiting(future, unit.toNanos(timeout), message, messageArgs);
+    }
+
+    /**
+     * Asserts that a future completes normally within a timeout and returns
+     * its value. If it doesn't, an {@link AssertionError} is thrown with the
+     * message supplied.
+     *
+     * @param future
+     *              the future
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @param <T>
+     *              the type of the value
+     * @return the value of the future
+     * @see #await(Future, long, TimeUnit, String, Object...)
+     */
+    public static <T> T await(Future<T> future, long timeout, TimeUnit unit, Supplier<String> message) {
+        return awaiting(future, unit.toNanos(timeout), message, null);
+    }
+
+    /**
+     * Asserts that a future completes normally within a timeout and returns
+     * its value. If it doesn't, an {@link AssertionError} is thrown.
+     *
+     * @param future
+     *              the future
+     * @param timeout
+     *              the maximum time to wait
+     * @param unit
+     *              the unit of `timeout`
+     * @param <T>
+     *              the type of the value
+     * @return the value of the future
+     * @see #await(Future, long, TimeUnit, String, Object...)
+     */
+    public static <T> T await(Future<T> future, long timeout, TimeUnit unit) {
+        return awaiting(future, unit.toNanos(timeout), NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `long` value is greater than a bound. If it isn't, an
+     * {@link AssertionError} is thrown. Passing allocates nothing, so the
+     * comparison assertions `gt`, `ge`, `lt`, `le` and `between` can be used
+     * in tight loops where a matcher would box the value.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the exclusive lower bound
+     */
+    public static void gt(long actual, long bound) {
+        comparison(actual > bound, "greater than", actual, bound, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `long` value is greater than a bound. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the exclusive lower bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #gt(long, long)
+     */
+    public static void gt(long actual, long bound, Supplier<String> message) {
+        comparison(actual > bound, "greater than", actual, bound, message);
+    }
+
+    /**
+     * Asserts that a `long` value is greater than or equal to a bound. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the inclusive lower bound
+     */
+    public static void ge(long actual, long bound) {
+        comparison(actual >= bound, "at least", actual, bound, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `long` value is greater than or equal to a bound. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the inclusive lower bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #ge(long, long)
+     */
+    public static void ge(long actual, long bound, Supplier<String> message) {
+        comparison(actual >= bound, "at least", actual, bound, message);
+    }
+
+    /**
+     * Asserts that a `long` value is less than a bound. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the exclusive upper bound
+     */
+    public static void lt(long actual, long bound) {
+        comparison(actual < bound, "less than", actual, bound, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `long` value is less than a bound. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the exclusive upper bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #lt(long, long)
+     */
+    public static void lt(long actual, long bound, Supplier<String> message) {
+        comparison(actual < bound, "less than", actual, bound, message);
+    }
+
+    /**
+     * Asserts that a `long` value is less than or equal to a bound. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the inclusive upper bound
+     */
+    public static void le(long actual, long bound) {
+        comparison(actual <= bound, "at most", actual, bound, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `long` value is less than or equal to a bound. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the inclusive upper bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #le(long, long)
+     */
+    public static void le(long actual, long bound, Supplier<String> message) {
+        comparison(actual <= bound, "at most", actual, bound, message);
+    }
+
+    /**
+     * Asserts that a `long` value is between two bounds, inclusive. If it
+     * isn't, an {@link AssertionError} is thrown.
+     *
+     * @param actual
+     *              the actual value
+     * @param min
+     *              the inclusive lower bound
+     * @param max
+     *              the inclusive upper bound
+     * @throws IllegalArgumentException
+     *              if `min` is greater than `max`
+     */
+    public static void between(long actual, long min, long max) {
+        range(actual, min, max, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `long` value is between two bounds, inclusive. If it
+     * isn't, an {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param min
+     *              the inclusive lower bound
+     * @param max
+     *              the inclusive upper bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #between(long, long, long)
+     */
+    public static void between(long actual, long min, long max, Supplier<String> message) {
+        range(actual, min, max, message);
+    }
+
+    /**
+     * Asserts that a `double` value is greater than a bound. If it isn't, an
+     * {@link AssertionError} is thrown. `NaN` is not comparable and always fails.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the exclusive lower bound
+     */
+    public static void gt(double actual, double bound) {
+        comparison(actual > bound, "greater than", actual, bound, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `double` value is greater than a bound. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the exclusive lower bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #gt(double, double)
+     */
+    public static void gt(double actual, double bound, Supplier<String> message) {
+        comparison(actual > bound, "greater than", actual, bound, message);
+    }
+
+    /**
+     * Asserts that a `double` value is greater than or equal to a bound. If it isn't, an
+     * {@link AssertionError} is thrown. `NaN` is not comparable and always fails.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the inclusive lower bound
+     */
+    public static void ge(double actual, double bound) {
+        comparison(actual >= bound, "at least", actual, bound, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `double` value is greater than or equal to a bound. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the inclusive lower bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #ge(double, double)
+     */
+    public static void ge(double actual, double bound, Supplier<String> message) {
+        comparison(actual >= bound, "at least", actual, bound, message);
+    }
+
+    /**
+     * Asserts that a `double` value is less than a bound. If it isn't, an
+     * {@link AssertionError} is thrown. `NaN` is not comparable and always fails.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the exclusive upper bound
+     */
+    public static void lt(double actual, double bound) {
+        comparison(actual < bound, "less than", actual, bound, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `double` value is less than a bound. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the exclusive upper bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #lt(double, double)
+     */
+    public static void lt(double actual, double bound, Supplier<String> message) {
+        comparison(actual < bound, "less than", actual, bound, message);
+    }
+
+    /**
+     * Asserts that a `double` value is less than or equal to a bound. If it isn't, an
+     * {@link AssertionError} is thrown. `NaN` is not comparable and always fails.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the inclusive upper bound
+     */
+    public static void le(double actual, double bound) {
+        comparison(actual <= bound, "at most", actual, bound, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `double` value is less than or equal to a bound. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param bound
+     *              the inclusive upper bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #le(double, double)
+     */
+    public static void le(double actual, double bound, Supplier<String> message) {
+        comparison(actual <= bound, "at most", actual, bound, message);
+    }
+
+    /**
+     * Asserts that a `double` value is between two bounds, inclusive. If it
+     * isn't, an {@link AssertionError} is thrown.
+     *
+     * @param actual
+     *              the actual value
+     * @param min
+     *              the inclusive lower bound
+     * @param max
+     *              the inclusive upper bound
+     * @throws IllegalArgumentException
+     *              if `min` is greater than `max`
+     */
+    public static void between(double actual, double min, double max) {
+        range(actual, min, max, NO_MESSAGE);
+    }
+
+    /**
+     * Asserts that a `double` value is between two bounds, inclusive. If it
+     * isn't, an {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param actual
+     *              the actual value
+     * @param min
+     *              the inclusive lower bound
+     * @param max
+     *              the inclusive upper bound
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #between(double, double, double)
+     */
+    public static void between(double actual, double min, double max, Supplier<String> message) {
+        range(actual, min, max, message);
+    }
+
+    /**
+     * Asserts that a `int` array is sorted. If
+     * it isn't, an {@link AssertionError} is thrown with the given message
+     * that reports the first element out of order and the one before it.
+     *
+     * Large inputs are checked in parallel chunks on the
+     * {@link ForkJoinPool#commonPool() common pool}, each chunk also checks
+     * its first element against the last element of the chunk before it. The
+     * reported index is the lowest out of order index.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void isSorted(int[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `int` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(int[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, null);
+    }
+
+    /**
+     * Asserts that a `int` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(int[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `boolean` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array, `false` is less than `true`
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(boolean[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `boolean` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array, `false` is less than `true`
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(boolean[], String, Object...)
+     */
+    public static void isSorted(boolean[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, null);
+    }
+
+    /**
+     * Asserts that a `boolean` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array, `false` is less than `true`
+     * @see #isSorted(boolean[], String, Object...)
+     */
+    public static void isSorted(boolean[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `byte` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(byte[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `byte` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(byte[], String, Object...)
+     */
+    public static void isSorted(byte[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, null);
+    }
+
+    /**
+     * Asserts that a `byte` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isSorted(byte[], String, Object...)
+     */
+    public static void isSorted(byte[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `char` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(char[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `char` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(char[], String, Object...)
+     */
+    public static void isSorted(char[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, null);
+    }
+
+    /**
+     * Asserts that a `char` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isSorted(char[], String, Object...)
+     */
+    public static void isSorted(char[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `short` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(short[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `short` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(short[], String, Object...)
+     */
+    public static void isSorted(short[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, null);
+    }
+
+    /**
+     * Asserts that a `short` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isSorted(short[], String, Object...)
+     */
+    public static void isSorted(short[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `long` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(long[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `long` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(long[], String, Object...)
+     */
+    public static void isSorted(long[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, null);
+    }
+
+    /**
+     * Asserts that a `long` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isSorted(long[], String, Object...)
+     */
+    public static void isSorted(long[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `float` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array, in the order of {@link Float#compare(float, float)}
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(float[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `float` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array, in the order of {@link Float#compare(float, float)}
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(float[], String, Object...)
+     */
+    public static void isSorted(float[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, null);
+    }
+
+    /**
+     * Asserts that a `float` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array, in the order of {@link Float#compare(float, float)}
+     * @see #isSorted(float[], String, Object...)
+     */
+    public static void isSorted(float[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `double` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array, in the order of {@link Double#compare(double, double)}
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static void isSorted(double[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `double` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array, in the order of {@link Double#compare(double, double)}
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(double[], String, Object...)
+     */
+    public static void isSorted(double[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, message, null);
+    }
+
+    /**
+     * Asserts that a `double` array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array, in the order of {@link Double#compare(double, double)}
+     * @see #isSorted(double[], String, Object...)
+     */
+    public static void isSorted(double[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, false, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that an array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static <T> void isSorted(T[] array, Comparator<? super T> comparator, String message, Object... messageArgs) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, false, ForkJoinPool.commonPool()),
+                array, comparator, message, messageArgs);
+    }
+
+    /**
+     * Asserts that an array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(Object[], Comparator, String, Object...)
+     */
+    public static <T> void isSorted(T[] array, Comparator<? super T> comparator, Supplier<String> message) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, false, ForkJoinPool.commonPool()),
+                array, comparator, message, null);
+    }
+
+    /**
+     * Asserts that an array is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @see #isSorted(Object[], Comparator, String, Object...)
+     */
+    public static <T> void isSorted(T[] array, Comparator<? super T> comparator) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, false, ForkJoinPool.commonPool()),
+                array, comparator, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a list is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param list
+     *              the list, checked in parallel only if it is {@link java.util.RandomAccess}
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isSorted(int[], String, Object...)
+     */
+    public static <T> void isSorted(List<T> list, Comparator<? super T> comparator, String message, Object... messageArgs) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, false, ForkJoinPool.commonPool()),
+                list, comparator, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a list is sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param list
+     *              the list, checked in parallel only if it is {@link java.util.RandomAccess}
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isSorted(List, Comparator, String, Object...)
+     */
+    public static <T> void isSorted(List<T> list, Comparator<? super T> comparator, Supplier<String> message) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, false, ForkJoinPool.commonPool()),
+                list, comparator, message, null);
+    }
+
+    /**
+     * Asserts that a list is sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param list
+     *              the list, checked in parallel only if it is {@link java.util.RandomAccess}
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @see #isSorted(List, Comparator, String, Object...)
+     */
+    public static <T> void isSorted(List<T> list, Comparator<? super T> comparator) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, false, ForkJoinPool.commonPool()),
+                list, comparator, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `int` array is strictly sorted, no element equal to the one before it. If
+     * it isn't, an {@link AssertionError} is thrown with the given message
+     * that reports the first element out of order and the one before it.
+     *
+     * Large inputs are checked in parallel chunks on the
+     * {@link ForkJoinPool#commonPool() common pool}, each chunk also checks
+     * its first element against the last element of the chunk before it. The
+     * reported index is the lowest out of order index.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     */
+    public static void isStrictlySorted(int[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `int` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(int[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, null);
+    }
+
+    /**
+     * Asserts that a `int` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(int[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `boolean` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(boolean[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `boolean` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(boolean[], String, Object...)
+     */
+    public static void isStrictlySorted(boolean[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, null);
+    }
+
+    /**
+     * Asserts that a `boolean` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isStrictlySorted(boolean[], String, Object...)
+     */
+    public static void isStrictlySorted(boolean[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `byte` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(byte[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `byte` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(byte[], String, Object...)
+     */
+    public static void isStrictlySorted(byte[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, null);
+    }
+
+    /**
+     * Asserts that a `byte` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isStrictlySorted(byte[], String, Object...)
+     */
+    public static void isStrictlySorted(byte[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `char` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(char[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `char` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(char[], String, Object...)
+     */
+    public static void isStrictlySorted(char[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, null);
+    }
+
+    /**
+     * Asserts that a `char` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isStrictlySorted(char[], String, Object...)
+     */
+    public static void isStrictlySorted(char[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `short` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(short[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `short` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(short[], String, Object...)
+     */
+    public static void isStrictlySorted(short[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, null);
+    }
+
+    /**
+     * Asserts that a `short` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isStrictlySorted(short[], String, Object...)
+     */
+    public static void isStrictlySorted(short[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `long` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(long[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `long` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(long[], String, Object...)
+     */
+    public static void isStrictlySorted(long[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, null);
+    }
+
+    /**
+     * Asserts that a `long` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @see #isStrictlySorted(long[], String, Object...)
+     */
+    public static void isStrictlySorted(long[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `float` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array, in the order of {@link Float#compare(float, float)}
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(float[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `float` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array, in the order of {@link Float#compare(float, float)}
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(float[], String, Object...)
+     */
+    public static void isStrictlySorted(float[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, null);
+    }
+
+    /**
+     * Asserts that a `float` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array, in the order of {@link Float#compare(float, float)}
+     * @see #isStrictlySorted(float[], String, Object...)
+     */
+    public static void isStrictlySorted(float[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a `double` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array, in the order of {@link Double#compare(double, double)}
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static void isStrictlySorted(double[] array, String message, Object... messageArgs) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a `double` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array, in the order of {@link Double#compare(double, double)}
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(double[], String, Object...)
+     */
+    public static void isStrictlySorted(double[] array, Supplier<String> message) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, message, null);
+    }
+
+    /**
+     * Asserts that a `double` array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array, in the order of {@link Double#compare(double, double)}
+     * @see #isStrictlySorted(double[], String, Object...)
+     */
+    public static void isStrictlySorted(double[] array) {
+        verify(Family.SORTED, TestBase::orderDifference, array, true, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that an array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param array
+     *              the array
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static <T> void isStrictlySorted(T[] array, Comparator<? super T> comparator, String message, Object... messageArgs) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, true, ForkJoinPool.commonPool()),
+                array, comparator, message, messageArgs);
+    }
+
+    /**
+     * Asserts that an array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param array
+     *              the array
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(Object[], Comparator, String, Object...)
+     */
+    public static <T> void isStrictlySorted(T[] array, Comparator<? super T> comparator, Supplier<String> message) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, true, ForkJoinPool.commonPool()),
+                array, comparator, message, null);
+    }
+
+    /**
+     * Asserts that an array is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param array
+     *              the array
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @see #isStrictlySorted(Object[], Comparator, String, Object...)
+     */
+    public static <T> void isStrictlySorted(T[] array, Comparator<? super T> comparator) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, true, ForkJoinPool.commonPool()),
+                array, comparator, NO_MESSAGE, null);
+    }
+
+    /**
+     * Asserts that a list is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the given message.
+     *
+     * @param list
+     *              the list, checked in parallel only if it is {@link java.util.RandomAccess}
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @param message
+     *              the failure message. `null` Okay
+     * @param messageArgs
+     *              the failure message arguments
+     * @see #isStrictlySorted(int[], String, Object...)
+     */
+    public static <T> void isStrictlySorted(List<T> list, Comparator<? super T> comparator,
+                                            String message, Object... messageArgs) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, true, ForkJoinPool.commonPool()),
+                list, comparator, message, messageArgs);
+    }
+
+    /**
+     * Asserts that a list is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown with the message supplied.
+     *
+     * @param list
+     *              the list, checked in parallel only if it is {@link java.util.RandomAccess}
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @param message
+     *              supplies the failure message, called only when the
+     *              assertion fails. `null` Okay
+     * @see #isStrictlySorted(List, Comparator, String, Object...)
+     */
+    public static <T> void isStrictlySorted(List<T> list, Comparator<? super T> comparator, Supplier<String> message) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, true, ForkJoinPool.commonPool()),
+                list, comparator, message, null);
+    }
+
+    /**
+     * Asserts that a list is strictly sorted. If it isn't, an
+     * {@link AssertionError} is thrown.
+     *
+     * @param list
+     *              the list, checked in parallel only if it is {@link java.util.RandomAccess}
+     * @param comparator
+     *              the order of the elements, `null` for their natural order
+     * @param <T>
+     *              the type of the elements
+     * @see #isStrictlySorted(List, Comparator, String, Object...)
+     */
+    public static <T> void isStrictlySorted(List<T> list, Comparator<? super T> comparator) {
+        verify(Family.SORTED, (a, c) -> OrderComparison.difference(a, c, true, ForkJoinPool.commonPool()),
+                list, comparator, NO_MESSAGE, null);
+    }
+
+    /**
+     * The message passed by the assertions called without a message.
+     */
+    private static final Object NO_MESSAGE = new Object();
+
+    /**
+     * Format a message with message arguments using {@link String#format(String, Object...)}.
+     * @param message
+     *      the message, `null` okay
+     * @param messageArgs
+     *      the message arguments
+     * @return
+     *      empty string `""` if `messsage` is `null` or
+     *      result of {@link String#format(String, Object...)}
+     */
+    static String fmt(String message, Object... messageArgs) {
+        if (null == message) {
+            return "";
+        }
+        return String.format(message, messageArgs);
+    }
+
+    /**
+     * Render the failure message of an assertion that accepts either a `String`
+     * message template with arguments or a `Supplier<String>` message.
+     *
+     * @param message
+     *      a `String` template, a `Supplier<String>` or `null`
+     * @param messageArgs
+     *      the message arguments used when `message` is a template
+     * @return
+     *      `null` if `message` is `null` or {@link #NO_MESSAGE}, or the rendered message
+     */
+    @SuppressWarnings("unchecked")
+    static String msg(Object message, Object[] messageArgs) {
+        if (null == message || NO_MESSAGE == message) {
+            return null;
+        }
+        if (message instanceof Supplier) {
+            return Message.render((Supplier<String>) message);
+        }
+        return fmt((String) message, messageArgs);
+    }
+
+    /**
+     * Render the failure message of an assertion that reports the message
+     * alone or passes it to JUnit. A `null` message or supplier renders as
+     * `""` while {@link #NO_MESSAGE} renders as `null`, so JUnit reports its
+     * default message.
+     */
+    private static String text(Object message, Object[] messageArgs) {
+        if (NO_MESSAGE == message) {
+            return null;
+        }
+        return null == message ? "" : msg(message, messageArgs);
+    }
+
+    /**
+     * The assertions delegate to the family helpers below, the only places
+     * that record {@link AssertionStats}. A helper called by another one, e.g.
+     * `nullity` by `equality`, is recorded for the outer family only.
+     *
+     * This helper checks assertions that describe a failure with a difference,
+     * reported after the message header.
+     */
+    private static <E, A> void verify(Family family, BiFunction<E, A, String> difference, E expected, A actual,
+                                      Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            String failure = difference.apply(expected, actual);
+            if (null != failure) {
+                fail(ArrayComparison.header(msg(message, messageArgs)) + failure);
+            }
+        } finally {
+            AssertionStats.exit(family, timer);
+        }
+    }
+
+    private static void condition(Family family, boolean condition, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (!condition) {
+                fail(text(message, messageArgs));
+            }
+        } finally {
+            AssertionStats.exit(family, timer);
+        }
+    }
+
+    private static <T> void matching(T actual, Matcher<T> matcher, boolean expected, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            String failure = expected ? Matching.mismatch(actual, matcher) : Matching.match(actual, matcher);
+            if (null != failure) {
+                String header = text(message, messageArgs);
+                throw new AssertionError((null == header ? "" : header) + failure);
+            }
+        } finally {
+            AssertionStats.exit(expected ? Family.YES : Family.NO, timer);
+        }
+    }
+
+    private static void nullity(Object object, boolean expected, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (expected != (null == object)) {
+                if (expected && NO_MESSAGE == message) {
+                    assertNull(null, object);
+                }
+                fail(text(message, messageArgs));
+            }
+        } finally {
+            AssertionStats.exit(expected ? Family.IS_NULL : Family.NOT_NULL, timer);
+        }
+    }
+
+    private static void blankness(CharSequence chars, boolean expected, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (expected != blank(chars)) {
+                fail(text(message, messageArgs));
+            }
+        } finally {
+            AssertionStats.exit(expected ? Family.IS_BLANK : Family.NOT_BLANK, timer);
+        }
+    }
+
+    private static void equality(Object expected, Object actual, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (null == expected) {
+                nullity(actual, true, message, messageArgs);
+            } else if (expected.getClass().isArray()) {
+                arrayEquals(expected, actual, message, messageArgs);
+            } else if (!expected.equals(actual)) {
+                FailureRendering.failNotEquals(text(message, messageArgs), expected, actual);
+            }
+        } finally {
+            AssertionStats.exit(Family.EQ, timer);
+        }
+    }
+
+    private static void parallelEquality(Object expected, Object actual, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (expected != actual && null != expected && null != actual && expected.getClass().isArray()
+                    && expected.getClass() == actual.getClass()) {
+                Supplier<String> header = null == message || NO_MESSAGE == message ? null : () -> msg(message, messageArgs);
+                ParallelArrayComparison.assertEquals(header, expected, actual, ForkJoinPool.commonPool());
+            } else {
+                equality(expected, actual, message, messageArgs);
+            }
+        } finally {
+            AssertionStats.exit(Family.EQ_PARALLEL, timer);
+        }
+    }
+
+    private static void inequality(Object unexpected, Object actual, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (null == unexpected) {
+                nullity(actual, false, message, messageArgs);
+            } else if (unexpected.getClass().isArray()) {
+                if (null != actual && actual.getClass().isArray() && deepEquals(unexpected, actual)) {
+                    fail(text(message, messageArgs));
+                }
+            } else if (unexpected.equals(actual)) {
+                assertNotEquals(text(message, messageArgs), unexpected, actual);
+            }
+        } finally {
+            AssertionStats.exit(Family.NE, timer);
+        }
+    }
+
+    private static void closeness(double expected, double actual, double delta, boolean equal,
+                                  Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (equal == doubleIsDifferent(expected, actual, delta)) {
+                if (equal) {
+                    assertEquals(text(message, messageArgs), expected, actual, delta);
+                } else {
+                    assertNotEquals(text(message, messageArgs), expected, actual, delta);
+                }
+            }
+        } finally {
+            AssertionStats.exit(equal ? Family.EQ : Family.NE, timer);
+        }
+    }
+
+    private static void closeness(double[] expecteds, double[] actuals, double delta, boolean equal,
+                                  Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (equal != ArrayComparison.equals(expecteds, actuals, delta)) {
+                if (equal) {
+                    ArrayComparison.assertEquals(text(message, messageArgs), expecteds, actuals, delta);
+                }
+                fail(text(message, messageArgs));
+            }
+        } finally {
+            AssertionStats.exit(equal ? Family.EQ : Family.NE, timer);
+        }
+    }
+
+    private static void closeness(float[] expecteds, float[] actuals, float delta, boolean equal,
+                                  Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (equal != ArrayComparison.equals(expecteds, actuals, delta)) {
+                if (equal) {
+                    ArrayComparison.assertEquals(text(message, messageArgs), expecteds, actuals, delta);
+                }
+                fail(text(message, messageArgs));
+            }
+        } finally {
+            AssertionStats.exit(equal ? Family.EQ : Family.NE, timer);
+        }
+    }
+
+    /**
+     * Compares `int`, `long`, `short` and `byte` values, the failure shows
+     * the same digits for all of them.
+     */
+    private static void equality(long expected, long actual, boolean equal, Object message) {
+        long timer = AssertionStats.enter();
+        try {
+            if (equal != (expected == actual)) {
+                if (equal) {
+                    assertEquals(text(message, null), (Object) expected, (Object) actual);
+                } else {
+                    assertNotEquals(text(message, null), (Object) expected, (Object) actual);
+                }
+            }
+        } finally {
+            AssertionStats.exit(equal ? Family.EQ : Family.NE, timer);
+        }
+    }
+
+    private static void equality(char expected, char actual, boolean equal, Object message) {
+        long timer = AssertionStats.enter();
+        try {
+            if (equal != (expected == actual)) {
+                if (equal) {
+                    assertEquals(text(message, null), (Object) expected, (Object) actual);
+                } else {
+                    assertNotEquals(text(message, null), (Object) expected, (Object) actual);
+                }
+            }
+        } finally {
+            AssertionStats.exit(equal ? Family.EQ : Family.NE, timer);
+        }
+    }
+
+    private static void equality(boolean expected, boolean actual, boolean equal, Object message) {
+        long timer = AssertionStats.enter();
+        try {
+            if (equal != (expected == actual)) {
+                if (equal) {
+                    assertEquals(text(message, null), (Object) expected, (Object) actual);
+                } else {
+                    assertNotEquals(text(message, null), (Object) expected, (Object) actual);
+                }
+            }
+        } finally {
+            AssertionStats.exit(equal ? Family.EQ : Family.NE, timer);
+        }
+    }
+
+    private static void identity(Object expected, Object actual, boolean same, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            if (same != (expected == actual)) {
+                String header = text(message, messageArgs);
+                if (null != header) {
+                    header += ",";
+                }
+                if (same) {
+                    assertSame(header, expected, actual);
+                } else {
+                    assertNotSame(header, expected, actual);
+                }
+            }
+        } finally {
+            AssertionStats.exit(same ? Family.SAME : Family.NOT_SAME, timer);
+        }
+    }
+
+    private static void comparison(boolean passed, String relation, long actual, long bound, Object message) {
+        long timer = AssertionStats.enter();
+        try {
+            if (!passed) {
+                fail(ArrayComparison.header(msg(message, null))
+                        + "expected " + relation + ":<" + bound + "> but was:<" + actual + ">");
+            }
+        } finally {
+            AssertionStats.exit(Family.COMPARE, timer);
+        }
+    }
+
+    private static void comparison(boolean passed, String relation, double actual, double bound, Object message) {
+        long timer = AssertionStats.enter();
+        try {
+            if (!passed) {
+                fail(ArrayComparison.header(msg(message, null))
+                        + "expected " + relation + ":<" + bound + "> but was:<" + actual + ">");
+            }
+        } finally {
+            AssertionStats.exit(Family.COMPARE, timer);
+        }
+    }
+
+    private static void range(long actual, long min, long max, Object message) {
+        long timer = AssertionStats.enter();
+        try {
+            if (actual < min || actual > max) {
+                fail(ArrayComparison.header(msg(message, null)) + betweenDifference(actual, min, max));
+            }
+        } finally {
+            AssertionStats.exit(Family.COMPARE, timer);
+        }
+    }
+
+    private static void range(double actual, double min, double max, Object message) {
+        long timer = AssertionStats.enter();
+        try {
+            if (!(actual >= min && actual <= max)) {
+                fail(ArrayComparison.header(msg(message, null)) + betweenDifference(actual, min, max));
+            }
+        } finally {
+            AssertionStats.exit(Family.COMPARE, timer);
+        }
+    }
+
+    private static void retrying(Runnable assertion, long timeoutNanos, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            Polling.eventually(assertion, timeoutNanos, ArrayComparison.header(msg(message, messageArgs)));
+        } finally {
+            AssertionStats.exit(Family.EVENTUALLY, timer);
+        }
+    }
+
+    private static <T> T awaiting(Future<T> future, long timeoutNanos, Object message, Object[] messageArgs) {
+        long timer = AssertionStats.enter();
+        try {
+            return Polling.await(future, timeoutNanos, ArrayComparison.header(msg(message, messageArgs)));
+        } finally {
+            AssertionStats.exit(Family.AWAIT, timer);
+        }
+    }
+
+    private static void arrayEquals(Object expecteds, Object actuals, Object message, Object[] messageArgs) {
+        Class<?> expectedClass = expecteds.getClass();
+        if (null != actuals) {
+            Class<?> actualClass = actuals.getClass();
+            if (!expectedClass.equals(actualClass)) {
+                String userMessage = msg(message, messageArgs);
+                if (null == userMessage || "".equals(userMessage.trim())) {
+                    fail("arrays type differed\nExpected: %s\nActual  : %s",
+                            expectedClass.getName(), actualClass.getName());
+                } else {
+                    fail("%s: arrays type differed\nExpected: %s\nActual  : %s",
+                            userMessage, expectedClass.getName(), actualClass.getName());
+                }
+            }
+        }
+        if (ArrayComparison.isPrimitiveArray(expecteds)) {
+            if (expecteds != actuals && (null == actuals || ArrayComparison.mismatch(expecteds, actuals) >= 0)) {
+                ArrayComparison.assertEquals(msg(message, messageArgs), expecteds, actuals);
+            }
+        } else if (!deepEquals(expecteds, actuals)) {
+            new ExactComparisonCriteria().arrayEquals(msg(message, messageArgs), expecteds, actuals);
+        }
+    }
+
+    /**
+     * Scans up to the first non blank character without allocating. Characters up
+     * to `U+0020` are blank as in {@link String#trim()}, as are Unicode whitespace
+     * and space separators.
+     */
+    static boolean blank(CharSequence chars) {
+        if (null == chars) {
+            return true;
+        }
+        for (int i = 0, len = chars.length(); i < len; ++i) {
+            char c = chars.charAt(i);
+            if (c > ' ' && (c < 0x80 || (!Character.isWhitespace(c) && !Character.isSpaceChar(c)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Streams are closed once consumed, so streams backed by I/O resources,
+     * e.g. {@link java.nio.file.Files#lines(Path)}, don't leak.
+     */
+    private static String sequenceDifference(Stream<?> expected, Stream<?> actual) {
+        try (Stream<?> e = expected; Stream<?> a = actual) {
+            return SequenceComparison.difference(e.iterator(), a.iterator());
+        }
+    }
+
+    private static String sequenceDifference(LongFunction<?> expected, Stream<?> actual) {
+        try (Stream<?> a = actual) {
+            return SequenceComparison.difference(expected, a.iterator());
+        }
+    }
+
+    private static <T> String unmatched(Stream<T> elements, Predicate<? super T> predicate, boolean expected) {
+        try (Stream<T> s = elements) {
+            return SequenceComparison.unmatched(s.iterator(), predicate, expected);
+        }
+    }
+
+    private static String contentDifference(Path expected, Path actual) {
+        try {
+            return ContentComparison.difference(expected, actual);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String contentDifference(InputStream expected, InputStream actual) {
+        try {
+            return ContentComparison.difference(expected, actual);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String contentDifference(ReadableByteChannel expected, ReadableByteChannel actual) {
+        try {
+            return ContentComparison.difference(expected, actual);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String orderDifference(Object array, boolean strict) {
+        return OrderComparison.difference(array, strict, ForkJoinPool.commonPool());
+    }
+
+    private static String betweenDifference(long actual, long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min shall not be greater than max: " + min + " > " + max);
+        }
+        return "expected between:<" + min + "> and:<" + max + "> but was:<" + actual + ">";
+    }
+
+    private static String betweenDifference(double actual, double min, double max) {
+        if (min > max) {
+            throw new IllegalArgumentException("min shall not be greater than max: " + min + " > " + max);
+        }
+        return "expected between:<" + min + "> and:<" + max + "> but was:<" + actual + ">";
+    }
+
+    private static String allocationDifference(long maxBytes, Runnable block) {
+        Assume.assumeTrue("thread allocation counters are not supported by this JVM", AllocationMeter.supported());
+        return AllocationMeter.difference(maxBytes, block);
+    }
+
+    static boolean deepEquals(Object expecteds, Object actuals) {
+        if (expecteds == actuals) {
+            return true;
+        }
+        if (null != expecteds && null != actuals && expecteds.getClass() == actuals.getClass()
+                && ArrayComparison.isPrimitiveArray(expecteds)) {
+            return ArrayComparison.mismatch(expecteds, actuals) < 0;
+        }
+        return Arrays.deepEquals(new Object[] {expecteds}, new Object[] {actuals});
+    }
+
+    static boolean doubleIsDifferent(double d1, double d2, double delta) {
+        if (Double.compare(d1, d2) == 0) {
+            return false;
+        }
+        return !(Math.abs(d1 - d2) <= delta);
+    }
+
+    static boolean floatIsDifferent(float f1, float f2, float delta) {
+        if (Float.compare(f1, f2) == 0) {
+            return false;
         }
-        fail(message);
+        return !(Math.abs(f1 - f2) <= delta);
     }
 }
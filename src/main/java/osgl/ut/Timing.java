@@ -0,0 +1,317 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * A piece of code to time, with its warmup and measurement settings.
+ *
+ * ```
+ * runsWithin(Timing.of(() -> parser.parse(input)).percentile(99), 50, TimeUnit.MICROSECONDS);
+ * ```
+ *
+ * The code is called at least {@link #warmup(int) warmup} times before it is
+ * timed, so the JIT has compiled it, and then timed in {@link #samples(int)
+ * samples}. Calls that take about as long as the granularity of
+ * {@link System#nanoTime()} can't be timed one by one, so calls are timed in
+ * batches: during warmup the batch size is doubled until a batch takes at
+ * least {@link #MIN_SAMPLE_NANOS} and `100` times the timer granularity, and
+ * each sample is the average duration of a call in its batch. The values
+ * returned by a `Supplier` are consumed, so the JIT can't eliminate the code
+ * that computes them as dead code.
+ *
+ * `Timing` is immutable, the settings return a new `Timing`.
+ */
+public final class Timing {
+
+    /**
+     * The default minimum number of calls before timing.
+     */
+    public static final int DEFAULT_WARMUP = 1000;
+
+    /**
+     * The default number of samples.
+     */
+    public static final int DEFAULT_SAMPLES = 100;
+
+    /**
+     * The default percentile, the median.
+     */
+    public static final double DEFAULT_PERCENTILE = 50;
+
+    /**
+     * The minimum duration of a batch of calls.
+     */
+    public static final long MIN_SAMPLE_NANOS = 10_000;
+
+    private static final int MAX_BATCH = 1 << 24;
+
+    private static volatile long granularity;
+
+    private final Supplier<?> code;
+    private final int warmup;
+    private final int samples;
+    private final double percentile;
+
+    private Timing(Supplier<?> code, int warmup, int samples, double percentile) {
+        this.code = code;
+        this.warmup = warmup;
+        this.samples = samples;
+        this.percentile = percentile;
+    }
+
+    /**
+     * Create a `Timing` of code that returns a value, the value is consumed.
+     *
+     * @param code
+     *              the code to time
+     * @return a `Timing` with the default settings
+     */
+    public static Timing of(Supplier<?> code) {
+        if (null == code) {
+            throw new NullPointerException("code");
+        }
+        return new Timing(code, DEFAULT_WARMUP, DEFAULT_SAMPLES, DEFAULT_PERCENTILE);
+    }
+
+    /**
+     * Create a `Timing` of code that returns nothing.
+     *
+     * @param code
+     *              the code to time
+     * @return a `Timing` with the default settings
+     */
+    public static Timing of(Runnable code) {
+        if (null == code) {
+            throw new NullPointerException("code");
+        }
+        return of(() -> {
+            code.run();
+            return null;
+        });
+    }
+
+    /**
+     * Set the minimum number of calls before timing.
+     *
+     * @param warmup
+     *              the minimum number of calls before timing
+     * @return a `Timing` with the new setting
+     * @throws IllegalArgumentException
+     *              if `warmup` is negative
+     */
+    public Timing warmup(int warmup) {
+        if (warmup < 0) {
+            throw new IllegalArgumentException("warmup shall not be negative: " + warmup);
+        }
+        return new Timing(code, warmup, samples, percentile);
+    }
+
+    /**
+     * Set the number of samples. Each sample times one batch of calls.
+     *
+     * @param samples
+     *              the number of samples
+     * @return a `Timing` with the new setting
+     * @throws IllegalArgumentException
+     *              if `samples` is not positive
+     */
+    public Timing samples(int samples) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("samples shall be positive: " + samples);
+        }
+        return new Timing(code, warmup, samples, percentile);
+    }
+
+    /**
+     * Set the percentile of the samples compared with the budget, e.g. `50`
+     * for the median or `99` for the 99th percentile.
+     *
+     * @param percentile
+     *              the percentile, greater than `0` and at most `100`
+     * @return a `Timing` with the new setting
+     * @throws IllegalArgumentException
+     *              if `percentile` is not in `(0, 100]`
+     */
+    public Timing percentile(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile shall be in (0, 100]: " + percentile);
+        }
+        return new Timing(code, warmup, samples, percentile);
+    }
+
+    /**
+     * Warm up and time the code.
+     *
+     * @return the samples
+     */
+    Result measure() {
+        Sink sink = new Sink();
+        long target = Math.max(MIN_SAMPLE_NANOS, 100 * granularity());
+        int batch = 1;
+        long calls = 0;
+        while (true) {
+            long elapsed = run(batch, sink);
+            calls += batch;
+            if (elapsed < target && batch < MAX_BATCH) {
+                batch <<= 1;
+            } else if (calls >= warmup) {
+                break;
+            }
+        }
+        long[] nanos = new long[samples];
+        for (int i = 0; i < samples; ++i) {
+            nanos[i] = run(batch, sink);
+        }
+        sink.publish();
+        Arrays.sort(nanos);
+        return new Result(nanos, batch, percentile);
+    }
+
+    private long run(int batch, Sink sink) {
+        Supplier<?> code = this.code;
+        long start = System.nanoTime();
+        for (int i = 0; i < batch; ++i) {
+            sink.consume(code.get());
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Returns the smallest non zero difference between two readings of
+     * {@link System#nanoTime()}, measured once.
+     */
+    static long granularity() {
+        long g = granularity;
+        if (0 == g) {
+            g = Long.MAX_VALUE;
+            for (int i = 0; i < 100; ++i) {
+                long start = System.nanoTime();
+                long next;
+                do {
+                    next = System.nanoTime();
+                } while (next == start);
+                g = Math.min(g, next - start);
+            }
+            granularity = g;
+        }
+        return g;
+    }
+
+    /**
+     * Render a duration with a unit that keeps 1 to 3 integer digits.
+     */
+    static String duration(double nanos) {
+        if (nanos < 1e3) {
+            return String.format(Locale.ROOT, "%.1f ns", nanos);
+        }
+        if (nanos < 1e6) {
+            return String.format(Locale.ROOT, "%.3f us", nanos / 1e3);
+        }
+        if (nanos < 1e9) {
+            return String.format(Locale.ROOT, "%.3f ms", nanos / 1e6);
+        }
+        return String.format(Locale.ROOT, "%.3f s", nanos / 1e9);
+    }
+
+    /**
+     * The sorted samples of a {@link #measure() measurement}.
+     */
+    static final class Result {
+        private final long[] nanos;
+        private final int batch;
+        private final double percentile;
+
+        Result(long[] sortedNanos, int batch, double percentile) {
+            this.nanos = sortedNanos;
+            this.batch = batch;
+            this.percentile = percentile;
+        }
+
+        int batch() {
+            return batch;
+        }
+
+        /**
+         * Returns the nearest rank percentile of the call durations.
+         *
+         * @param p
+         *      the percentile, in `(0, 100]`
+         * @return the duration of a call in nanoseconds
+         */
+        double percentile(double p) {
+            int rank = (int) Math.ceil(p / 100 * nanos.length);
+            return (double) nanos[Math.max(0, Math.min(nanos.length, rank) - 1)] / batch;
+        }
+
+        /**
+         * Compare the chosen percentile with a budget.
+         *
+         * @param budgetNanos
+         *      the budget in nanoseconds
+         * @return `null` if the percentile is within the budget, otherwise
+         *      the description of the samples
+         */
+        String exceeded(long budgetNanos) {
+            double value = percentile(percentile);
+            if (value <= budgetNanos) {
+                return null;
+            }
+            return String.format(Locale.ROOT, "%s of %d samples was %s, over the budget of %s"
+                            + "\nsamples (batch of %d calls): min=%s median=%s p90=%s max=%s",
+                    label(percentile), nanos.length, duration(value), duration(budgetNanos),
+                    batch, duration(percentile(0)), duration(percentile(50)), duration(percentile(90)),
+                    duration(percentile(100)));
+        }
+
+        private static String label(double p) {
+            if (p == 50) {
+                return "median";
+            }
+            return p == Math.rint(p) ? "p" + (long) p : "p" + p;
+        }
+    }
+
+    /**
+     * Consumes values so the JIT can't prove them unused. The comparison with
+     * a volatile field can't be folded, so every value must be computed.
+     */
+    private static final class Sink {
+        private static volatile Object escaped;
+
+        private volatile Object bait = new Object();
+        private Object last;
+
+        void consume(Object o) {
+            if (o == bait) {
+                last = o;
+            }
+        }
+
+        void publish() {
+            escaped = last;
+        }
+    }
+
+}
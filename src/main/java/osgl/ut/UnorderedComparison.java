@@ -0,0 +1,433 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Order insensitive comparison of collections and primitive arrays.
+ *
+ * Elements are counted in a hash table, `+1` for every expected element and
+ * `-1` for every actual element, so the comparison runs in linear time. After
+ * counting, a positive count is a missing element and a negative count is an
+ * unexpected element. `int[]` and `long[]` are counted in an open addressing
+ * table of primitive keys and do not box. The table grows with the number
+ * of distinct elements, up to {@link #MAX_CAPACITY} slots: arrays with more
+ * distinct elements are sorted and compared in `O(n log n)` time.
+ */
+final class UnorderedComparison {
+
+    /**
+     * Maximum number of missing and of unexpected elements listed in a failure message.
+     */
+    static final int MAX_REPORTED = 20;
+
+    /**
+     * Maximum number of slots of the table counting primitive elements.
+     */
+    static final int MAX_CAPACITY = 1 << 29;
+
+    private UnorderedComparison() {
+    }
+
+    /**
+     * Compare two collections ignoring the order of elements.
+     *
+     * @param expected
+     *      the expected elements, `null` okay
+     * @param actual
+     *      the actual elements, `null` okay
+     * @return `null` if both contain the same elements with the same
+     *      multiplicities, otherwise the description of the difference
+     */
+    static String difference(Collection<?> expected, Collection<?> actual) {
+        if (expected == actual) {
+            return null;
+        }
+        String nullDifference = nullDifference("collection", expected, actual);
+        if (null != nullDifference) {
+            return nullDifference;
+        }
+        Map<Object, int[]> counts = new HashMap<>(capacity(expected.size()));
+        for (Object o : expected) {
+            int[] count = counts.get(o);
+            if (null == count) {
+                counts.put(o, new int[] {1});
+            } else {
+                ++count[0];
+            }
+        }
+        boolean differed = expected.size() != actual.size();
+        for (Object o : actual) {
+            int[] count = counts.get(o);
+            if (null == count) {
+                counts.put(o, new int[] {-1});
+                differed = true;
+            } else {
+                --count[0];
+            }
+        }
+        if (!differed && !hasNonZero(counts)) {
+            return null;
+        }
+        Report missing = new Report();
+        Report unexpected = new Report();
+        // report in the order of first appearance
+        Map<Object, int[]> reported = new LinkedHashMap<>();
+        for (Object o : expected) {
+            reported.putIfAbsent(o, counts.get(o));
+        }
+        for (Object o : actual) {
+            reported.putIfAbsent(o, counts.get(o));
+        }
+        for (Map.Entry<Object, int[]> entry : reported.entrySet()) {
+            int count = entry.getValue()[0];
+            if (count > 0) {
+                missing.add(entry.getKey(), count);
+            } else if (count < 0) {
+                unexpected.add(entry.getKey(), -count);
+            }
+        }
+        return report("collections", expected.size(), actual.size(), missing, unexpected);
+    }
+
+    /**
+     * Compare two `int` arrays ignoring the order of elements.
+     *
+     * @param expected
+     *      the expected elements, `null` okay
+     * @param actual
+     *      the actual elements, `null` okay
+     * @return `null` if both contain the same elements with the same
+     *      multiplicities, otherwise the description of the difference
+     */
+    static String difference(int[] expected, int[] actual) {
+        return difference(expected, actual, MAX_CAPACITY);
+    }
+
+    static String difference(int[] expected, int[] actual, int maxCapacity) {
+        if (expected == actual) {
+            return null;
+        }
+        String nullDifference = nullDifference("array", expected, actual);
+        if (null != nullDifference) {
+            return nullDifference;
+        }
+        if (ArrayComparison.mismatch(expected, actual) < 0) {
+            return null;
+        }
+        LongCounter counter = new LongCounter(maxCapacity);
+        for (int i : expected) {
+            if (!counter.add(i, 1)) {
+                return sortedDifference(expected, actual);
+            }
+        }
+        for (int i : actual) {
+            if (!counter.add(i, -1)) {
+                return sortedDifference(expected, actual);
+            }
+        }
+        if (expected.length == actual.length && counter.allZero()) {
+            return null;
+        }
+        Report missing = new Report();
+        Report unexpected = new Report();
+        for (int i : expected) {
+            counter.report(i, missing, unexpected);
+        }
+        for (int i : actual) {
+            counter.report(i, missing, unexpected);
+        }
+        return report("arrays", expected.length, actual.length, missing, unexpected);
+    }
+
+    /**
+     * Compare two `long` arrays ignoring the order of elements.
+     *
+     * @param expected
+     *      the expected elements, `null` okay
+     * @param actual
+     *      the actual elements, `null` okay
+     * @return `null` if both contain the same elements with the same
+     *      multiplicities, otherwise the description of the difference
+     */
+    static String difference(long[] expected, long[] actual) {
+        return difference(expected, actual, MAX_CAPACITY);
+    }
+
+    static String difference(long[] expected, long[] actual, int maxCapacity) {
+        if (expected == actual) {
+            return null;
+        }
+        String nullDifference = nullDifference("array", expected, actual);
+        if (null != nullDifference) {
+            return nullDifference;
+        }
+        if (ArrayComparison.mismatch(expected, actual) < 0) {
+            return null;
+        }
+        LongCounter counter = new LongCounter(maxCapacity);
+        for (long l : expected) {
+            if (!counter.add(l, 1)) {
+                return sortedDifference(expected, actual);
+            }
+        }
+        for (long l : actual) {
+            if (!counter.add(l, -1)) {
+                return sortedDifference(expected, actual);
+            }
+        }
+        if (expected.length == actual.length && counter.allZero()) {
+            return null;
+        }
+        Report missing = new Report();
+        Report unexpected = new Report();
+        for (long l : expected) {
+            counter.report(l, missing, unexpected);
+        }
+        for (long l : actual) {
+            counter.report(l, missing, unexpected);
+        }
+        return report("arrays", expected.length, actual.length, missing, unexpected);
+    }
+
+    private static String sortedDifference(int[] expected, int[] actual) {
+        int[] e = expected.clone();
+        int[] a = actual.clone();
+        Arrays.sort(e);
+        Arrays.sort(a);
+        return sortedDifference(i -> e[i], e.length, i -> a[i], a.length);
+    }
+
+    private static String sortedDifference(long[] expected, long[] actual) {
+        long[] e = expected.clone();
+        long[] a = actual.clone();
+        Arrays.sort(e);
+        Arrays.sort(a);
+        return sortedDifference(i -> e[i], e.length, i -> a[i], a.length);
+    }
+
+    /**
+     * Compare sorted elements run by run, differences are reported in
+     * ascending order.
+     */
+    private static String sortedDifference(IntToLongFunction e, int expectedSize, IntToLongFunction a, int actualSize) {
+        Report missing = new Report();
+        Report unexpected = new Report();
+        int i = 0;
+        int j = 0;
+        while (i < expectedSize || j < actualSize) {
+            long element = j == actualSize || (i < expectedSize && e.applyAsLong(i) < a.applyAsLong(j))
+                    ? e.applyAsLong(i) : a.applyAsLong(j);
+            long count = 0;
+            for (; i < expectedSize && e.applyAsLong(i) == element; ++i) {
+                ++count;
+            }
+            for (; j < actualSize && a.applyAsLong(j) == element; ++j) {
+                --count;
+            }
+            if (count > 0) {
+                missing.add(element, count);
+            } else if (count < 0) {
+                unexpected.add(element, -count);
+            }
+        }
+        if (0 == missing.distinct && 0 == unexpected.distinct) {
+            return null;
+        }
+        return report("arrays", expectedSize, actualSize, missing, unexpected);
+    }
+
+    private static String nullDifference(String kind, Object expected, Object actual) {
+        if (null == expected) {
+            return "expected " + kind + " was null";
+        }
+        if (null == actual) {
+            return "actual " + kind + " was null";
+        }
+        return null;
+    }
+
+    private static boolean hasNonZero(Map<Object, int[]> counts) {
+        for (int[] count : counts.values()) {
+            if (0 != count[0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int capacity(int size) {
+        return size < 3 ? 4 : (int) (size / 0.75f) + 1;
+    }
+
+    private static String report(String kind, int expectedSize, int actualSize, Report missing, Report unexpected) {
+        StringBuilder sb = new StringBuilder(kind).append(" differed ignoring order, expected.size=")
+                .append(expectedSize).append(" actual.size=").append(actualSize);
+        if (missing.distinct > 0) {
+            sb.append("\nMissing   : ");
+            missing.render(sb);
+        }
+        if (unexpected.distinct > 0) {
+            sb.append("\nUnexpected: ");
+            unexpected.render(sb);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Collects up to {@link #MAX_REPORTED} elements with their multiplicities.
+     */
+    private static final class Report {
+        private final StringBuilder elements = new StringBuilder();
+        private int distinct;
+        private long total;
+
+        void add(Object element, long count) {
+            if (distinct < MAX_REPORTED) {
+                if (distinct > 0) {
+                    elements.append(", ");
+                }
+                elements.append(element);
+                if (count > 1) {
+                    elements.append(" (x").append(count).append(')');
+                }
+            }
+            ++distinct;
+            total += count;
+        }
+
+        void render(StringBuilder sb) {
+            sb.append('[').append(elements);
+            if (distinct > MAX_REPORTED) {
+                sb.append(", ... ").append(distinct - MAX_REPORTED).append(" more");
+            }
+            sb.append("] (").append(total).append(total == 1 ? " element)" : " elements)");
+        }
+    }
+
+    /**
+     * Counts `long` keys in an open addressing table with linear probing.
+     * The table is kept at most half full and doubles as keys are added.
+     */
+    private static final class LongCounter {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int maxCapacity;
+        private long[] keys;
+        private int[] counts;
+        private boolean[] used;
+        private int mask;
+        private int shift;
+        private int size;
+
+        /**
+         * @param maxCapacity
+         *      the maximum number of slots, a power of two
+         */
+        LongCounter(int maxCapacity) {
+            this.maxCapacity = maxCapacity;
+            allocate(Math.min(INITIAL_CAPACITY, maxCapacity));
+        }
+
+        /**
+         * @return `false` if the key is new and the table is full
+         */
+        boolean add(long key, int delta) {
+            int slot = slot(key);
+            if (!used[slot]) {
+                if (size >= keys.length >>> 1) {
+                    if (keys.length >= maxCapacity) {
+                        return false;
+                    }
+                    grow();
+                    slot = slot(key);
+                }
+                used[slot] = true;
+                keys[slot] = key;
+                ++size;
+            }
+            counts[slot] += delta;
+            return true;
+        }
+
+        boolean allZero() {
+            for (int count : counts) {
+                if (0 != count) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Report the count of `key` once and reset it.
+         */
+        void report(long key, Report missing, Report unexpected) {
+            int slot = slot(key);
+            int count = counts[slot];
+            if (count > 0) {
+                missing.add(key, count);
+            } else if (count < 0) {
+                unexpected.add(key, -count);
+            }
+            counts[slot] = 0;
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            counts = new int[capacity];
+            used = new boolean[capacity];
+            mask = capacity - 1;
+            shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldCounts = counts;
+            boolean[] oldUsed = used;
+            allocate(oldKeys.length << 1);
+            for (int i = 0; i < oldKeys.length; ++i) {
+                if (oldUsed[i]) {
+                    int slot = slot(oldKeys[i]);
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        private int slot(long key) {
+            // Fibonacci hashing, the high bits of the product are well mixed
+            int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+}
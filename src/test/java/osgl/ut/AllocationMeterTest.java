@@ -0,0 +1,71 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test {@link AllocationMeter}
+ */
+public class AllocationMeterTest extends TestBase {
+
+    private static Object sink;
+
+    @Before
+    public void requireSupport() {
+        Assume.assumeTrue(AllocationMeter.supported());
+    }
+
+    @Test
+    public void allocationFreeBlockShallMeasureZero() {
+        long[] counter = new long[1];
+        eq(0L, AllocationMeter.allocated(() -> counter[0]++));
+        isNull(AllocationMeter.difference(0, () -> counter[0]++));
+    }
+
+    @Test
+    public void escapingAllocationsShallBeCounted() {
+        long bytes = AllocationMeter.allocated(() -> sink = new long[16]);
+        yes(bytes >= 128L * AllocationMeter.INVOCATIONS, "bytes: %s", bytes);
+        isNull(AllocationMeter.difference(1024, () -> sink = new long[16]));
+    }
+
+    @Test
+    public void differenceShallReportBytesPerInvocation() {
+        String difference = AllocationMeter.difference(16, () -> sink = new byte[1000]);
+        yes(difference.startsWith("allocated 10"), difference);
+        yes(difference.contains(" bytes per invocation, over the budget of 16 bytes ("), difference);
+        yes(difference.endsWith(" bytes in 1000 invocations)"), difference);
+    }
+
+    @Test
+    public void hugeBudgetShallNotOverflow() {
+        isNull(AllocationMeter.difference(Long.MAX_VALUE, () -> sink = new byte[1000]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeBudgetShallBeRejected() {
+        AllocationMeter.difference(-1, () -> { });
+    }
+
+}
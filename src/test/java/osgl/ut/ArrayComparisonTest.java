@@ -0,0 +1,121 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.ArrayComparison.mismatch;
+
+import org.junit.Test;
+
+/**
+ * Test {@link ArrayComparison}
+ */
+public class ArrayComparisonTest extends TestBase {
+
+    @Test
+    public void mismatchShallReturnMinusOneForEqualArrays() {
+        eq(-1, mismatch(new int[]{1, 2, 3}, new int[]{1, 2, 3}));
+        eq(-1, mismatch(new long[]{1, 2, 3}, new long[]{1, 2, 3}));
+        eq(-1, mismatch(new short[]{1, 2, 3}, new short[]{1, 2, 3}));
+        eq(-1, mismatch(new byte[]{1, 2, 3}, new byte[]{1, 2, 3}));
+        eq(-1, mismatch(new char[]{'a', 'b'}, new char[]{'a', 'b'}));
+        eq(-1, mismatch(new boolean[]{true, false}, new boolean[]{true, false}));
+        eq(-1, mismatch(new float[]{1f, Float.NaN}, new float[]{1f, Float.NaN}));
+        eq(-1, mismatch(new double[]{1d, Double.NaN}, new double[]{1d, Double.NaN}));
+        eq(-1, mismatch(new int[0], new int[0]));
+    }
+
+    @Test
+    public void mismatchShallReturnFirstDifferingIndex() {
+        eq(2, mismatch(new int[]{1, 2, 3, 4}, new int[]{1, 2, 0, 0}));
+        eq(0, mismatch(new long[]{1}, new long[]{2}));
+        eq(1, mismatch(new boolean[]{true, false}, new boolean[]{true, true}));
+        eq(1, mismatch((Object) new byte[]{1, 2}, (Object) new byte[]{1, 3}));
+    }
+
+    @Test
+    public void mismatchShallCompareFloatingPointBits() {
+        eq(0, mismatch(new double[]{0.0d}, new double[]{-0.0d}));
+        eq(0, mismatch(new float[]{0.0f}, new float[]{-0.0f}));
+    }
+
+    @Test
+    public void mismatchShallReturnShorterLengthForPrefix() {
+        eq(2, mismatch(new int[]{1, 2}, new int[]{1, 2, 3}));
+        eq(0, mismatch(new char[0], new char[]{'a'}));
+    }
+
+    @Test
+    public void mismatchWithDeltaShallReturnFirstIndexOutOfDelta() {
+        eq(-1, mismatch(new double[]{1.0d, 2.0d}, new double[]{1.05d, 1.95d}, 0.1d));
+        eq(1, mismatch(new double[]{1.0d, 2.0d, 3.0d}, new double[]{1.05d, 2.5d, 4.0d}, 0.1d));
+        eq(-1, mismatch(new float[]{1.0f, Float.NaN}, new float[]{1.05f, Float.NaN}, 0.1f));
+        eq(0, mismatch(new float[]{Float.NaN}, new float[]{1.0f}, 0.1f));
+        eq(1, mismatch(new double[]{1.0d}, new double[]{1.0d, 2.0d}, 0.1d));
+    }
+
+    @Test
+    public void nullArraysShallBeEqualWithinDelta() {
+        yes(ArrayComparison.equals((double[]) null, null, 0.1d));
+        no(ArrayComparison.equals(new float[0], null, 0.1f));
+    }
+
+    @Test
+    public void failureShallShowElementsAroundFirstDifference() {
+        int[] expected = new int[20];
+        int[] actual = new int[20];
+        for (int i = 0; i < 20; ++i) {
+            expected[i] = i;
+            actual[i] = i;
+        }
+        actual[10] = -1;
+        try {
+            ArrayComparison.assertEquals("hi junit", expected, actual);
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError error) {
+            eq("hi junit: arrays first differed at element [10]; expected:<10> but was:<-1>"
+                    + "\nExpected[7..13]: [..., 7, 8, 9, 10, 11, 12, 13, ...]"
+                    + "\nActual  [7..13]: [..., 7, 8, 9, -1, 11, 12, 13, ...]", error.getMessage());
+        }
+    }
+
+    @Test
+    public void failureShallReportLengthDifferenceFirst() {
+        try {
+            ArrayComparison.assertEquals(null, new long[]{1, 2, 3}, new long[]{1, 2});
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError error) {
+            eq("array lengths differed, expected.length=3 actual.length=2"
+                    + "\nExpected[0..2]: [1, 2, 3]"
+                    + "\nActual  [0..1]: [1, 2]", error.getMessage());
+        }
+    }
+
+    @Test
+    public void failureShallReportNullActualArray() {
+        try {
+            ArrayComparison.assertEquals(null, new long[]{1}, null);
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError error) {
+            eq("actual array was null", error.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Test;
+import osgl.ut.AssertionStats.Family;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test {@link AssertionStats}
+ */
+public class AssertionStatsTest extends TestBase {
+
+    @Test
+    public void instrumentationShallBeOffByDefault() {
+        no(AssertionStats.ENABLED);
+        eq(0L, AssertionStats.enter());
+        AssertionStats.exit(Family.EQ, 0L);
+    }
+
+    @Test
+    public void familyLabelsShallMatchMethodNames() {
+        eq("eq", Family.EQ.label);
+        eq("eqIgnoreOrder", Family.EQ_IGNORE_ORDER.label);
+        eq("notBlank", Family.NOT_BLANK.label);
+    }
+
+    @Test
+    public void nestedAssertionsShallBeRecordedOnceForOutermostFamily() {
+        AssertionStats stats = new AssertionStats();
+        long outer = stats.begin();
+        long inner = stats.begin();
+        eq(0L, inner);
+        stats.end(Family.YES, inner);
+        stats.end(Family.NOT_BLANK, outer);
+        eq(1L, (long) stats.getCallCounts().get("notBlank"));
+        eq(0L, (long) stats.getCallCounts().get("yes"));
+        eq(1L, stats.getTotalCalls());
+        yes(stats.getTotalNanos().get("notBlank") >= 0);
+    }
+
+    @Test
+    public void countsShallBeAccurateAcrossThreads() throws InterruptedException {
+        final AssertionStats stats = new AssertionStats();
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; ++t) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 10000; ++i) {
+                    stats.end(Family.EQ, stats.begin());
+                    stats.end(Family.NE, stats.begin());
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        eq(40000L, (long) stats.getCallCounts().get("eq"));
+        eq(40000L, (long) stats.getCallCounts().get("ne"));
+        eq(80000L, stats.getTotalCalls());
+        stats.reset();
+        eq(0L, stats.getTotalCalls());
+    }
+
+    @Test
+    public void dumpShallListUsedFamilies() {
+        AssertionStats stats = new AssertionStats();
+        stats.end(Family.EQ, stats.begin());
+        stats.end(Family.EQ, stats.begin());
+        String dump = stats.dump();
+        yes(dump.startsWith("osgl.ut assertion stats: 2 calls, "), dump);
+        yes(dump.matches("(?s).*\\Req +2 .*"), dump);
+        no(dump.contains("notBlank"), dump);
+    }
+
+}
@@ -0,0 +1,101 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Test {@link Concurrently}
+ */
+public class ConcurrentlyTest extends TestBase {
+
+    @Test
+    public void everyTaskShallRunOnce() {
+        AtomicIntegerArray runs = new AtomicIntegerArray(10_000);
+        Concurrently.of(runs.length(), runs::incrementAndGet).run();
+        for (int i = 0; i < runs.length(); ++i) {
+            eq(1, runs.get(i));
+        }
+    }
+
+    @Test
+    public void millionShortTasksShallRun() {
+        LongAdder sum = new LongAdder();
+        Concurrently.of(1_000_000, sum::add).run();
+        eq(499_999_500_000L, sum.sum());
+    }
+
+    @Test
+    public void noTaskShallPass() {
+        Concurrently.of(0, i -> fail()).run();
+    }
+
+    @Test
+    public void failuresOfAllTasksShallBeReported() {
+        try {
+            Concurrently.of(1000, i -> yes(i % 10 != 0, "task %s", i)).maxRecorded(5).platformThreads(1).run();
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            eq("100 of 1000 tasks failed"
+                    + "\n  1) task #0: java.lang.AssertionError: task 0"
+                    + "\n  2) task #10: java.lang.AssertionError: task 10"
+                    + "\n  3) task #20: java.lang.AssertionError: task 20"
+                    + "\n  4) task #30: java.lang.AssertionError: task 30"
+                    + "\n  5) task #40: java.lang.AssertionError: task 40"
+                    + "\n  ... 95 more failures not recorded", e.getMessage());
+            eq("task 0", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void deadlineShallStopWaitingAndInterruptTasks() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(2);
+        try {
+            Concurrently.of(10, i -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }).deadline(100, TimeUnit.MILLISECONDS).platformThreads(2).run();
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            eq("deadline of 100.000 ms exceeded, 0 of 10 tasks completed, 0 failed", e.getMessage());
+        }
+        yes(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeTaskCountShallBeRejected() {
+        Concurrently.of(-1, i -> { });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroDeadlineShallBeRejected() {
+        Concurrently.of(1, i -> { }).deadline(0, TimeUnit.SECONDS);
+    }
+
+}
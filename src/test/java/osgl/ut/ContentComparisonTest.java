@@ -0,0 +1,219 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.ContentComparison.difference;
+import static osgl.ut.ContentComparison.mismatch;
+import static osgl.ut.ContentComparison.scan;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Test {@link ContentComparison}
+ */
+public class ContentComparisonTest extends TestBase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void filesWithSameContentShallBeEqual() throws IOException {
+        isNull(difference(file("foo\nbar"), file("foo\nbar")));
+        isNull(difference(file(""), file("")));
+        Path path = file("foo");
+        isNull(difference(path, path));
+    }
+
+    @Test
+    public void sizeDifferenceShallBeReported() throws IOException {
+        eq("file sizes differed, expected.size=3 actual.size=4", difference(file("foo"), file("foo\n")));
+    }
+
+    @Test
+    public void firstDifferenceShallBeReportedWithLineAndColumn() throws IOException {
+        eq("file contents differed at byte offset 8, line 2, column 5; expected:<0x64> but was:<0x44>"
+                        + "\nExpected[0..15]: \"foo\\nbar\\tdone\\n\\\"x\\\"\""
+                        + "\nActual  [0..15]: \"foo\\nbar\\tDone\\n\\\"x\\\"\"",
+                difference(file("foo\nbar\tdone\n\"x\""), file("foo\nbar\tDone\n\"x\"")));
+    }
+
+    @Test
+    public void contextShallBeBounded() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            sb.append((char) ('a' + i % 26));
+        }
+        String expected = sb.toString();
+        sb.setCharAt(50, '#');
+        String difference = difference(file(expected), file(sb.toString()));
+        yes(difference.startsWith("file contents differed at byte offset 50, line 1, column 51"), difference);
+        yes(difference.contains("\nActual  [34..66]: ...\"ijklmnopqrstuvwx#zabcdefghijklmno\"..."), difference);
+    }
+
+    @Test
+    public void differenceShallBeFoundAcrossChunks() throws IOException {
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; ++i) {
+            content[i] = (byte) (i % 10 == 9 ? '\n' : 'x');
+        }
+        Path expected = file(content);
+        isNull(difference(expected, file(content), 64));
+        content[777] = 'y';
+        String difference = difference(expected, file(content), 64);
+        yes(difference.startsWith("file contents differed at byte offset 777, line 78, column 8;"), difference);
+        yes(difference.contains("\nActual  [761..793]: ...\"xxxxxxxx\\nxxxxxxxyx\\n"), difference);
+    }
+
+    @Test
+    public void nonPrintableBytesShallBeEscaped() throws IOException {
+        String difference = difference(file(new byte[] {0, 1, (byte) 0xFF}), file(new byte[] {0, 2, (byte) 0xFF}));
+        yes(difference.contains("expected:<0x01> but was:<0x02>"), difference);
+        yes(difference.contains("\"\\x00\\x01\\xff\""), difference);
+    }
+
+    @Test
+    public void mismatchShallCompareRemainingBytes() {
+        ByteBuffer a = ByteBuffer.wrap("xxabcdefghijklmnop".getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer b = ByteBuffer.allocateDirect(16).order(ByteOrder.LITTLE_ENDIAN);
+        b.put("abcdefghijklmnoP".getBytes(StandardCharsets.US_ASCII)).flip();
+        a.position(2);
+        eq(15, mismatch(a, b));
+        eq(2, a.position());
+        b.limit(15);
+        eq(15, mismatch(a, b));
+        a.limit(17);
+        eq(-1, mismatch(a, b));
+    }
+
+    @Test
+    public void scanShallRespectByteOrder() {
+        ByteBuffer a = ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+        ByteBuffer b = ByteBuffer.wrap(new byte[] {8, 7, 6, 5, 4, 3, 2, 1, 9}).order(ByteOrder.LITTLE_ENDIAN);
+        eq(0, scan(a, b));
+        eq(0, mismatch(a, b));
+        b = ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 0}).order(ByteOrder.LITTLE_ENDIAN);
+        eq(8, scan(a, b));
+        b.order(ByteOrder.BIG_ENDIAN);
+        eq(8, scan(a, b));
+        b.limit(8);
+        eq(8, scan(a, b));
+        a.limit(8);
+        eq(-1, scan(a, b));
+    }
+
+    @Test
+    public void buffersShallBeComparedInPlace() {
+        ByteBuffer expected = ByteBuffer.wrap("--foo bar".getBytes(StandardCharsets.US_ASCII));
+        expected.position(2);
+        ByteBuffer actual = ByteBuffer.allocateDirect(7);
+        actual.put("foo baz".getBytes(StandardCharsets.US_ASCII)).flip();
+        eq("buffer contents differed at byte offset 6; expected:<0x72> but was:<0x7a>"
+                        + "\nExpected[0..6]: \"foo bar\""
+                        + "\nActual  [0..6]: \"foo baz\"",
+                difference(expected, actual));
+        eq(2, expected.position());
+        eq(0, actual.position());
+        expected.limit(8);
+        actual.limit(6);
+        isNull(difference(expected, actual));
+        isNull(difference((ByteBuffer) null, null));
+        eq("actual buffer was null", difference(expected, null));
+    }
+
+    @Test
+    public void streamsShallBeComparedAcrossBuffers() throws IOException {
+        byte[] content = new byte[ContentComparison.BUFFER * 3 + 100];
+        Arrays.fill(content, (byte) 'x');
+        byte[] other = content.clone();
+        isNull(difference(new ByteArrayInputStream(content), new ByteArrayInputStream(other)));
+        int offset = ContentComparison.BUFFER * 2 + 5;
+        other[offset] = 'y';
+        String difference = difference(new ByteArrayInputStream(content), new TrickleInputStream(other));
+        yes(difference.startsWith("stream contents differed at byte offset " + offset
+                + "; expected:<0x78> but was:<0x79>"), difference);
+        yes(difference.contains("\nActual  [" + (offset - 5) + ".." + (offset + 16) + "]: ...\"xxxxxyxxxx"), difference);
+    }
+
+    @Test
+    public void shorterStreamShallBeReported() throws IOException {
+        String difference = difference(new ByteArrayInputStream("foo bar".getBytes(StandardCharsets.US_ASCII)),
+                new TrickleInputStream("foo".getBytes(StandardCharsets.US_ASCII)));
+        eq("stream contents differed at byte offset 3; expected:<0x20> but was:<EOF>"
+                        + "\nExpected[0..6]: \"foo bar\""
+                        + "\nActual  [0..2]: \"foo\"",
+                difference);
+        difference = difference(new ByteArrayInputStream(new byte[0]), new ByteArrayInputStream(new byte[] {1}));
+        yes(difference.startsWith("stream contents differed at byte offset 0; expected:<EOF> but was:<0x01>"),
+                difference);
+    }
+
+    @Test
+    public void channelsShallBeCompared() throws IOException {
+        Path expected = file("foo\nbar");
+        try (FileChannel e = FileChannel.open(expected);
+             ReadableByteChannel a = Channels.newChannel(new ByteArrayInputStream("foo\nbar".getBytes()))) {
+            isNull(difference(e, a));
+        }
+        try (FileChannel e = FileChannel.open(expected);
+             ReadableByteChannel a = Channels.newChannel(new ByteArrayInputStream("foo\nbaz".getBytes()))) {
+            yes(difference(e, a).startsWith("channel contents differed at byte offset 6;"));
+        }
+    }
+
+    private Path file(String content) throws IOException {
+        return file(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path file(byte[] content) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, content);
+        return path;
+    }
+
+    /**
+     * Returns at most 1000 bytes per read.
+     */
+    private static class TrickleInputStream extends ByteArrayInputStream {
+        TrickleInputStream(byte[] buf) {
+            super(buf);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1000));
+        }
+    }
+
+}
@@ -0,0 +1,192 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.Diff.unified;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test {@link Diff}
+ */
+public class DiffTest extends TestBase {
+
+    @Test
+    public void equalLinesShallHaveNoDiff() {
+        isNull(unified("foo\nbar", "foo\nbar", 1000));
+        isNull(unified(Arrays.asList(1, 2), Arrays.asList(1, 2), 1000));
+    }
+
+    @Test
+    public void changesShallBeRenderedWithContext() {
+        eq("--- expected\n+++ actual\n@@ -1,3 +1,2 @@\n a\n-b\n c",
+                unified(Arrays.asList("a", "b", "c"), Arrays.asList("a", "c"), 1000));
+        eq("--- expected\n+++ actual\n@@ -0,0 +1,1 @@\n+x",
+                unified(Collections.emptyList(), Collections.singletonList("x"), 1000));
+        eq("--- expected\n+++ actual\n@@ -1,1 +1,1 @@\n-null\n+x",
+                unified(Collections.singletonList(null), Collections.singletonList("x"), 1000));
+    }
+
+    @Test
+    public void closeChangesShallShareAHunk() {
+        List<Integer> expected = range(0, 20);
+        List<Integer> actual = new ArrayList<>(expected);
+        actual.set(5, -5);
+        actual.set(11, -11);
+        eq("--- expected\n+++ actual\n@@ -3,13 +3,13 @@\n 2\n 3\n 4\n-5\n+-5\n 6\n 7\n 8\n 9\n 10\n-11\n+-11\n 12\n 13\n 14",
+                unified(expected, actual, 1000));
+    }
+
+    @Test
+    public void hunksBeyondLimitShallBeCounted() {
+        List<Integer> expected = range(0, 100);
+        List<Integer> actual = new ArrayList<>(expected);
+        for (int i = 10; i < 100; i += 10) {
+            actual.set(i, -i);
+        }
+        String diff = unified(expected, actual, 60);
+        yes(diff.startsWith("--- expected\n+++ actual\n@@ -8,7 +8,7 @@\n 7\n 8\n 9\n-10\n+-10\n 11\n 12\n 13\n..."), diff);
+        yes(diff.endsWith("\n... 8 more hunks"), diff);
+    }
+
+    @Test
+    public void expensiveDiffShallGiveUp() {
+        Object[] expected = new Object[1000];
+        Object[] actual = new Object[1000];
+        for (int i = 0; i < 1000; ++i) {
+            expected[i] = i % 2;
+            actual[i] = i % 3;
+        }
+        isNull(unified(expected, actual, 1000, 1000));
+        notNull(unified(expected, actual, 1000, Diff.MAX_WORK));
+    }
+
+    @Test
+    public void oversizedInputsShallGiveUpWithoutCopying() {
+        List<Integer> expected = range(0, Diff.MAX_SIZE + 1);
+        List<Integer> actual = new ArrayList<>(expected);
+        actual.set(0, -1);
+        isNull(unified(expected, actual, 1000));
+        isNull(unified(expected.toArray(), actual.toArray(), 1000, Diff.MAX_WORK));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= Diff.MAX_SIZE; ++i) {
+            sb.append(i % 10).append('\n');
+        }
+        String lines = sb.toString();
+        isNull(unified(lines, "x" + lines, 1000));
+        notNull(unified(lines.substring(20), "x" + lines.substring(20), 1000));
+    }
+
+    @Test
+    public void disjointElementsShallBeReplacedWithoutSearch() {
+        Object[] expected = {1, 2};
+        Object[] actual = {3, 4, 5};
+        eq("--- expected\n+++ actual\n@@ -1,2 +1,3 @@\n-1\n-2\n+3\n+4\n+5", unified(expected, actual, 1000, 0));
+    }
+
+    @Test
+    public void diffShallBeMinimalAndConsistent() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; ++round) {
+            Object[] expected = randomLetters(random);
+            Object[] actual = randomLetters(random);
+            String diff = unified(expected, actual, Integer.MAX_VALUE, Diff.MAX_WORK);
+            if (Arrays.equals(expected, actual)) {
+                isNull(diff);
+                continue;
+            }
+            int edits = 0;
+            List<Object> oldSide = new ArrayList<>();
+            List<Object> newSide = new ArrayList<>();
+            int aStart = 0;
+            int bStart = 0;
+            for (String line : diff.split("\n")) {
+                if (line.startsWith("@@")) {
+                    checkHunk(expected, aStart, oldSide);
+                    checkHunk(actual, bStart, newSide);
+                    String[] ranges = line.split(" ");
+                    aStart = start(ranges[1]);
+                    bStart = start(ranges[2]);
+                    oldSide.clear();
+                    newSide.clear();
+                } else if (line.startsWith(" ")) {
+                    oldSide.add(line.substring(1));
+                    newSide.add(line.substring(1));
+                } else if (line.startsWith("-") && !line.startsWith("---")) {
+                    oldSide.add(line.substring(1));
+                    ++edits;
+                } else if (line.startsWith("+") && !line.startsWith("+++")) {
+                    newSide.add(line.substring(1));
+                    ++edits;
+                }
+            }
+            checkHunk(expected, aStart, oldSide);
+            checkHunk(actual, bStart, newSide);
+            eq(expected.length + actual.length - 2 * lcs(expected, actual), edits, diff);
+        }
+    }
+
+    private static int start(String range) {
+        String[] parts = range.substring(1).split(",");
+        int start = Integer.parseInt(parts[0]);
+        return "0".equals(parts[1]) ? start : start - 1;
+    }
+
+    private static void checkHunk(Object[] elements, int start, List<Object> lines) {
+        for (int i = 0; i < lines.size(); ++i) {
+            eq(String.valueOf(elements[start + i]), lines.get(i));
+        }
+    }
+
+    private static int lcs(Object[] a, Object[] b) {
+        int[][] table = new int[a.length + 1][b.length + 1];
+        for (int i = 1; i <= a.length; ++i) {
+            for (int j = 1; j <= b.length; ++j) {
+                table[i][j] = a[i - 1].equals(b[j - 1])
+                        ? table[i - 1][j - 1] + 1 : Math.max(table[i - 1][j], table[i][j - 1]);
+            }
+        }
+        return table[a.length][b.length];
+    }
+
+    private static Object[] randomLetters(Random random) {
+        Object[] letters = new Object[random.nextInt(30)];
+        for (int i = 0; i < letters.length; ++i) {
+            letters[i] = String.valueOf((char) ('a' + random.nextInt(4)));
+        }
+        return letters;
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = from; i < to; ++i) {
+            list.add(i);
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,227 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.FailureRendering.difference;
+import static osgl.ut.FailureRendering.failNotEquals;
+import static osgl.ut.FailureRendering.render;
+
+import org.junit.After;
+import org.junit.ComparisonFailure;
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test {@link FailureRendering}
+ */
+public class FailureRenderingTest extends TestBase {
+
+    @After
+    public void clearBudget() {
+        System.clearProperty(FailureRendering.BUDGET_PROPERTY);
+    }
+
+    @Test
+    public void budgetShallBeReadFromSystemProperty() {
+        eq(FailureRendering.DEFAULT_BUDGET, FailureRendering.budget());
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "64");
+        eq(64, FailureRendering.budget());
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "1");
+        eq(FailureRendering.MIN_BUDGET, FailureRendering.budget());
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "lots");
+        eq(FailureRendering.DEFAULT_BUDGET, FailureRendering.budget());
+    }
+
+    @Test
+    public void smallValuesShallBeReportedAsJUnitDoes() {
+        try {
+            failNotEquals("hi", "foo", "bar");
+            fail("expect ComparisonFailure");
+        } catch (ComparisonFailure failure) {
+            eq("hi expected:<[foo]> but was:<[bar]>", failure.getMessage());
+        }
+        try {
+            failNotEquals("", 1, 2);
+            fail("expect AssertionError");
+        } catch (AssertionError error) {
+            eq("expected:<1> but was:<2>", error.getMessage());
+        }
+        eq("expected: java.lang.Integer<1> but was: java.lang.Long<1>", difference(1, 1L));
+    }
+
+    @Test
+    public void largeStringsShallBeReportedAroundFirstDifference() {
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "32");
+        String expected = repeat('a', 100) + "X" + repeat('b', 100);
+        String actual = repeat('a', 100) + "Y" + repeat('b', 100);
+        try {
+            failNotEquals("hi", expected, actual);
+            fail("expect ComparisonFailure");
+        } catch (ComparisonFailure failure) {
+            eq("hi: strings differed at index 100, expected.length=201 actual.length=201"
+                    + "\nExpected[92..123]: ...\"aaaaaaaaX" + repeat('b', 23) + "\"..."
+                    + "\nActual  [92..123]: ...\"aaaaaaaaY" + repeat('b', 23) + "\"...", failure.getMessage());
+            same(expected, failure.getExpected());
+            same(actual, failure.getActual());
+        }
+    }
+
+    @Test
+    public void largeStringRepresentationsShallBeReportedAroundFirstDifference() {
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "32");
+        StringBuilder expected = new StringBuilder(repeat('a', 100)).append("\tX");
+        StringBuilder actual = new StringBuilder(repeat('a', 100)).append("\tY");
+        eq("string representations differed at index 101, expected.length=102 actual.length=102"
+                + "\nExpected[93..101]: ...\"aaaaaaa\\tX\""
+                + "\nActual  [93..101]: ...\"aaaaaaa\\tY\"", difference(expected, actual));
+    }
+
+    @Test
+    public void largeMultiLineStringsShallBeReportedAsUnifiedDiff() {
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "64");
+        StringBuilder sb = new StringBuilder("l0");
+        for (int i = 1; i < 20; ++i) {
+            sb.append("\nl").append(i);
+        }
+        String expected = sb.toString();
+        String actual = expected.replace("l3", "L3") + "\nl20";
+        try {
+            failNotEquals(null, expected, actual);
+            fail("expect ComparisonFailure");
+        } catch (ComparisonFailure failure) {
+            eq("strings differed at index 9, expected.length=69 actual.length=73"
+                    + "\n--- expected\n+++ actual"
+                    + "\n@@ -1,7 +1,7 @@\n l0\n l1\n l2\n-l3\n+L3\n l4\n l5\n l6"
+                    + "\n@@ -18,3 +18,4 @@\n l17\n l18\n l19\n+l20", failure.getMessage());
+        }
+    }
+
+    @Test
+    public void largeListsShallBeReportedAsUnifiedDiff() {
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "32");
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(i);
+        }
+        List<Integer> actual = new ArrayList<>(expected);
+        actual.set(50, -1);
+        eq("lists differed, expected.size=100 actual.size=100"
+                + "\n--- expected\n+++ actual\n@@ -48,7 +48,7 @@"
+                + "\n 47\n 48\n 49\n-50\n+-1\n 51\n 52\n 53", difference(expected, actual));
+    }
+
+    @Test
+    public void hugeListsShallBeReportedWithoutDiff() {
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "32");
+        int n = Diff.MAX_SIZE * 10;
+        List<Integer> expected = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            expected.add(i);
+        }
+        List<Integer> actual = new ArrayList<>(expected);
+        actual.set(n / 2, -1);
+        eq("lists first differed at element [500000]; expected:<500000> but was:<-1>"
+                + "\nExpected[499997..500003]: [..., 499997, 499998, 499999, 500000, 500001, 500002, 500003, ...]"
+                + "\nActual  [499997..500003]: [..., 499997, 499998, 499999, -1, 500001, 500002, 500003, ...]",
+                difference(expected, actual));
+    }
+
+    @Test
+    public void largeCollectionsAndMapsShallBeTruncated() {
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "32");
+        Set<Integer> expected = new LinkedHashSet<>();
+        Map<Integer, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(i);
+            map.put(i, "v");
+        }
+        Set<Integer> actual = new LinkedHashSet<>(expected);
+        actual.add(100);
+        eq("expected:<[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, ... 90 more]>"
+                + " but was:<[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, ... 91 more]>", difference(expected, actual));
+        eq("expected:<{0=v, 1=v, 2=v, 3=v, 4=v, 5=v, ... 94 more}> but was:<null>", difference(map, null));
+    }
+
+    @Test
+    public void longElementsShallBeTruncated() {
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "32");
+        Set<String> expected = new LinkedHashSet<>();
+        for (int i = 0; i < 20; ++i) {
+            expected.add(repeat((char) ('a' + i), 40));
+        }
+        String difference = difference(expected, new LinkedHashSet<String>());
+        eq("expected:<[" + repeat('a', 31) + "..., ... 19 more]> but was:<[]>", difference);
+    }
+
+    @Test
+    public void valuesShallBeRenderedAsDeepToStringDoes() {
+        Object[] cycle = new Object[2];
+        cycle[0] = new int[] {1, 2};
+        cycle[1] = cycle;
+        eq(Arrays.deepToString(cycle), render(cycle));
+        eq("[a, [b], {c=[3.0]}, null]",
+                render(Arrays.asList("a", new StringBuilder("[b]"), Collections.singletonMap("c", new double[] {3}), null)));
+    }
+
+    @Test
+    public void nestedValuesShallBeRenderedWithinBudget() {
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "32");
+        List<Integer> huge = new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                if (index >= 100) {
+                    throw new IllegalStateException("rendered past the budget");
+                }
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return 10_000_000;
+            }
+        };
+        StringBuilder chars = new StringBuilder(repeat('x', 1_000_000));
+        eq("[[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, ...(length>32)", render(new Object[] {huge}));
+        eq("[" + repeat('x', 31) + "...(length>32)", render(Collections.singleton(chars)));
+        eq("string representations differed at index 1, expected.length>128 actual.length>128"
+                + "\nExpected[0..31]: \"[[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, \"..."
+                + "\nActual  [0..31]: \"[" + repeat('x', 31) + "\"...",
+                difference(Collections.singletonList(huge), Collections.singletonList(chars)));
+    }
+
+    private static String repeat(char c, int n) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; ++i) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,119 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.MapComparison.difference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Test {@link MapComparison}
+ */
+public class MapComparisonTest extends TestBase {
+
+    @After
+    public void clearMaxReported() {
+        System.clearProperty(MapComparison.MAX_REPORTED_PROPERTY);
+    }
+
+    @Test
+    public void equalMapsShallHaveNoDifference() {
+        isNull(difference(null, null));
+        isNull(difference(map("a", 1, "b", 2), map("b", 2, "a", 1)));
+        isNull(difference(new HashMap<>(), new TreeMap<>()));
+        isNull(difference(Collections.singletonMap("a", new int[] {1}), Collections.singletonMap("a", new int[] {1})));
+        isNull(difference(Collections.singletonMap("a", null), Collections.singletonMap("a", null)));
+    }
+
+    @Test
+    public void nullMapShallBeReported() {
+        eq("expected map was null", difference(null, map("a", 1)));
+        eq("actual map was null", difference(map("a", 1), null));
+    }
+
+    @Test
+    public void differencesShallBeReportedByKind() {
+        eq("maps differed, expected.size=3 actual.size=3"
+                + "\nMissing   : 1 entry\n  a=1"
+                + "\nUnexpected: 1 entry\n  d=4"
+                + "\nDiffering : 2 entries\n  b: expected:<2> but was:<20>"
+                + "\n  c: expected: java.lang.Integer<3> but was: java.lang.Long<3>",
+                difference(map("a", 1, "b", 2, "c", 3), map("b", 20, "c", 3L, "d", 4)));
+    }
+
+    @Test
+    public void nullValueShallDifferFromMissingKey() {
+        eq("maps differed, expected.size=1 actual.size=1\nMissing   : 1 entry\n  a=null\nUnexpected: 1 entry\n  b=null",
+                difference(Collections.singletonMap("a", null), Collections.singletonMap("b", null)));
+        eq("maps differed, expected.size=1 actual.size=1\nDiffering : 1 entry\n  a: expected:<null> but was:<1>",
+                difference(Collections.singletonMap("a", null), map("a", 1)));
+    }
+
+    @Test
+    public void keysTheMapCannotLookUpShallBeMissing() {
+        Map<Object, Object> expected = new HashMap<>();
+        expected.put(1, "one");
+        Map<Object, Object> actual = new TreeMap<>();
+        actual.put("1", "one");
+        eq("maps differed, expected.size=1 actual.size=1\nMissing   : 1 entry\n  1=one\nUnexpected: 1 entry\n  1=one",
+                difference(expected, actual));
+    }
+
+    @Test
+    public void reportShallBeCapped() {
+        System.setProperty(MapComparison.MAX_REPORTED_PROPERTY, "2");
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        Map<Integer, Integer> actual = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            expected.put(i, i);
+            actual.put(i, i % 100 == 0 ? -i - 1 : i);
+        }
+        eq("maps differed, expected.size=1000 actual.size=1000"
+                + "\nDiffering : 10 entries\n  0: expected:<0> but was:<-1>\n  100: expected:<100> but was:<-101>"
+                + "\n  ... 8 more",
+                difference(expected, actual));
+    }
+
+    @Test
+    public void maxReportedShallBeReadFromSystemProperty() {
+        eq(MapComparison.DEFAULT_MAX_REPORTED, MapComparison.maxReported());
+        System.setProperty(MapComparison.MAX_REPORTED_PROPERTY, "5");
+        eq(5, MapComparison.maxReported());
+        System.setProperty(MapComparison.MAX_REPORTED_PROPERTY, "0");
+        eq(1, MapComparison.maxReported());
+    }
+
+    private static Map<String, Object> map(Object... keyValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return map;
+    }
+
+}
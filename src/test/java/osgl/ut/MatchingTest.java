@@ -0,0 +1,103 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static osgl.ut.Matching.match;
+import static osgl.ut.Matching.mismatch;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.junit.Test;
+import osgl.ut.Matching.OnePass;
+
+import java.util.Arrays;
+
+/**
+ * Test {@link Matching}
+ */
+public class MatchingTest extends TestBase {
+
+    @Test
+    public void matchingValueShallHaveNoMismatch() {
+        isNull(mismatch(1, is(1)));
+        isNull(mismatch("foo", allOf(startsWith("f"), startsWith("fo"))));
+        isNull(mismatch(Arrays.asList(1, 2), everyItem(greaterThan(0))));
+        isNull(match(1, is(2)));
+    }
+
+    @Test
+    public void mismatchShallBeDescribed() {
+        eq("\nExpected: is <1>\n     but: was <2>", mismatch(2, is(1)));
+        eq("\nExpected: every item is a value greater than <1>\n     but: an item <1> was equal to <1>",
+                mismatch(Arrays.asList(1, 2), everyItem(greaterThan(1))));
+        eq("\nExpected: not is <1>\n     but: was <1>", match(1, is(1)));
+    }
+
+    @Test
+    public void diagnosingMatcherShallBeEvaluatedOnce() {
+        int[] evaluations = new int[1];
+        DiagnosingMatcher<Object> odd = odd(evaluations);
+        eq("\nExpected: odd\n     but: was even", mismatch(2, odd));
+        eq(1, evaluations[0]);
+        isNull(mismatch(3, odd));
+        eq(2, evaluations[0]);
+    }
+
+    @Test
+    public void inaccessibleInternalsShallFallBackToPublicMethods() {
+        OnePass broken = new OnePass("noSuchMethod", "noSuchMethod", "noSuchField");
+        no(broken.available());
+        int[] evaluations = new int[1];
+        DiagnosingMatcher<Object> odd = odd(evaluations);
+        eq("\nExpected: odd\n     but: was even", mismatch(2, odd, broken));
+        eq(2, evaluations[0]);
+        isNull(mismatch(3, odd, broken));
+        eq(3, evaluations[0]);
+        eq("\nExpected: every item is a value greater than <1>\n     but: an item <1> was equal to <1>",
+                mismatch(Arrays.asList(1, 2), everyItem(greaterThan(1)), broken));
+        isNull(mismatch("foo", allOf(startsWith("f"), startsWith("fo")), broken));
+    }
+
+    private static DiagnosingMatcher<Object> odd(int[] evaluations) {
+        return new DiagnosingMatcher<Object>() {
+            @Override
+            protected boolean matches(Object item, Description mismatch) {
+                ++evaluations[0];
+                if (((Integer) item) % 2 == 1) {
+                    return true;
+                }
+                mismatch.appendText("was even");
+                return false;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("odd");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,64 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Test;
+
+/**
+ * Test {@link Message}
+ */
+public class MessageTest extends TestBase {
+
+    @Test
+    public void itShallFormatTemplateWithArguments() {
+        eq("Hello junit", Message.of("Hello %s", "junit").get());
+        eq("Hello junit", Message.of("Hello %s", "junit").toString());
+    }
+
+    @Test
+    public void nullTemplateShallBeRenderedAsEmptyString() {
+        eq("", Message.of(null).get());
+    }
+
+    @Test
+    public void itShallFormatOnlyOnce() {
+        Counter counter = new Counter();
+        Message message = Message.of("%s", counter);
+        message.get();
+        message.get();
+        eq(1, counter.n);
+    }
+
+    @Test
+    public void itShallNotFormatUntilRendered() {
+        Message.of("%d", "not a number");
+    }
+
+    private static class Counter {
+        int n;
+
+        @Override
+        public String toString() {
+            return String.valueOf(++n);
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.OrderComparison.OBJECT_THRESHOLD;
+import static osgl.ut.OrderComparison.PRIMITIVE_THRESHOLD;
+import static osgl.ut.OrderComparison.difference;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test {@link OrderComparison}
+ */
+public class OrderComparisonTest extends TestBase {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    public void sortedPrimitiveArraysShallPass() {
+        isNull(difference(new boolean[] {false, false, true}, false, pool));
+        isNull(difference(new byte[] {-1, 0, 0, 1}, false, pool));
+        isNull(difference(new char[] {'a', 'b', '\uffff'}, false, pool));
+        isNull(difference(new short[] {-1, 1}, false, pool));
+        isNull(difference(new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, true, pool));
+        isNull(difference(new long[0], true, pool));
+        isNull(difference(new float[] {-0.0f, 0.0f, Float.NaN}, true, pool));
+        isNull(difference(new double[] {1}, true, pool));
+    }
+
+    @Test
+    public void firstElementOutOfOrderShallBeReported() {
+        eq("array not sorted at index 2: [1]=<true> is greater than [2]=<false>",
+                difference(new boolean[] {false, true, false}, false, pool));
+        eq("array not sorted at index 1: [0]=<b> is greater than [1]=<a>", difference(new char[] {'b', 'a'}, false, pool));
+        eq("array not strictly sorted at index 2: [1]=<3> is not less than [2]=<3>",
+                difference(new int[] {1, 3, 3, 0}, true, pool));
+        eq("array not sorted at index 1: [0]=<NaN> is greater than [1]=<1.0>",
+                difference(new double[] {Double.NaN, 1.0}, false, pool));
+        eq("array not strictly sorted at index 1: [0]=<0.0> is not less than [1]=<-0.0>",
+                difference(new float[] {0.0f, -0.0f}, true, pool));
+        eq("array was null", difference(null, false, pool));
+    }
+
+    @Test
+    public void largeArraysShallReportLowestIndex() {
+        int length = PRIMITIVE_THRESHOLD * 16;
+        long[] array = new long[length];
+        for (int i = 0; i < length; ++i) {
+            array[i] = i;
+        }
+        isNull(difference(array, true, pool));
+        array[length - 1] = 0;
+        array[PRIMITIVE_THRESHOLD * 12 + 7] = 0;
+        eq("array not sorted at index " + (PRIMITIVE_THRESHOLD * 12 + 7) + ": [" + (PRIMITIVE_THRESHOLD * 12 + 6)
+                + "]=<" + (PRIMITIVE_THRESHOLD * 12 + 6) + "> is greater than [" + (PRIMITIVE_THRESHOLD * 12 + 7) + "]=<0>",
+                difference(array, false, pool));
+    }
+
+    @Test
+    public void chunkBoundariesShallBeChecked() {
+        int length = PRIMITIVE_THRESHOLD * 8;
+        for (int boundary = PRIMITIVE_THRESHOLD; boundary < length; boundary += PRIMITIVE_THRESHOLD) {
+            int[] array = new int[length];
+            for (int i = boundary; i < length; ++i) {
+                array[i] = 1;
+            }
+            // each chunk is sorted on its own, the drop is between two chunks
+            array[boundary - 1] = 2;
+            yes(difference(array, false, pool).startsWith("array not sorted at index " + boundary + ":"));
+        }
+    }
+
+    @Test
+    public void objectArraysShallUseComparator() {
+        isNull(difference(new String[] {"a", "b", "b"}, null, false, pool));
+        isNull(difference(new String[] {"bb", "a"}, Comparator.comparing(String::length).reversed(), true, pool));
+        eq("array not sorted at index 1: [0]=<b> is greater than [1]=<a>",
+                difference(new String[] {"b", "a"}, Comparator.naturalOrder(), false, pool));
+        Integer[] array = new Integer[OBJECT_THRESHOLD * 8];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = i / 2;
+        }
+        isNull(difference(array, null, false, pool));
+        eq("array not strictly sorted at index 1: [0]=<0> is not less than [1]=<0>", difference(array, null, true, pool));
+    }
+
+    @Test
+    public void listsShallUseComparator() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < OBJECT_THRESHOLD * 8; ++i) {
+            list.add(i);
+        }
+        isNull(difference(list, null, true, pool));
+        isNull(difference(new LinkedList<>(list), null, true, pool));
+        list.set(OBJECT_THRESHOLD * 5, -1);
+        String expected = "list not sorted at index " + OBJECT_THRESHOLD * 5 + ": [" + (OBJECT_THRESHOLD * 5 - 1) + "]=<"
+                + (OBJECT_THRESHOLD * 5 - 1) + "> is greater than [" + OBJECT_THRESHOLD * 5 + "]=<-1>";
+        eq(expected, difference(list, null, false, pool));
+        eq(expected, difference(new LinkedList<>(list), null, false, pool));
+        isNull(difference(new LinkedList<Integer>(), null, true, pool));
+        isNull(difference(Arrays.asList(3, 2, 1), Comparator.reverseOrder(), true, pool));
+        eq("list was null", difference((List<Integer>) null, null, false, pool));
+    }
+
+    @Test
+    public void emptyAndSingletonListsShallPass() {
+        isNull(difference(new ArrayList<Integer>(), null, true, pool));
+        isNull(difference(new ArrayList<Integer>(), null, false, pool));
+        isNull(difference(new ArrayList<>(Arrays.asList(1)), null, true, pool));
+        isNull(difference(Collections.singletonList(1), null, false, pool));
+        isNull(difference(new Integer[0], null, true, pool));
+        isNull(difference(new Integer[] {1}, null, true, pool));
+    }
+
+}
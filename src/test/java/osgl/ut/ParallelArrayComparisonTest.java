@@ -0,0 +1,156 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.ParallelArrayComparison.OBJECT_THRESHOLD;
+import static osgl.ut.ParallelArrayComparison.PRIMITIVE_THRESHOLD;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test {@link ParallelArrayComparison}
+ */
+public class ParallelArrayComparisonTest extends TestBase {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Test
+    public void mismatchShallReturnMinusOneForEqualArrays() {
+        int n = PRIMITIVE_THRESHOLD * 8 + 3;
+        eq(-1, mismatch(new int[n], new int[n]));
+        eq(-1, mismatch(new long[n], new long[n]));
+        eq(-1, mismatch(new short[n], new short[n]));
+        eq(-1, mismatch(new byte[n], new byte[n]));
+        eq(-1, mismatch(new char[n], new char[n]));
+        eq(-1, mismatch(new boolean[n], new boolean[n]));
+        eq(-1, mismatch(new float[n], new float[n]));
+        eq(-1, mismatch(new double[n], new double[n]));
+        eq(-1, mismatch(new int[0], new int[0]));
+    }
+
+    @Test
+    public void mismatchShallReturnLowestDifferingIndex() {
+        int n = PRIMITIVE_THRESHOLD * 16;
+        int[] a = new int[n];
+        for (int first : new int[] {0, 1, PRIMITIVE_THRESHOLD - 1, PRIMITIVE_THRESHOLD, n / 2 + 7, n - 1}) {
+            int[] b = new int[n];
+            for (int i = first; i < n; i += PRIMITIVE_THRESHOLD / 3) {
+                b[i] = 1;
+            }
+            // repeat to exercise different schedules
+            for (int round = 0; round < 10; ++round) {
+                eq(first, mismatch(a, b));
+            }
+        }
+    }
+
+    @Test
+    public void mismatchShallCompareFloatingPointBits() {
+        eq(0, mismatch(new double[] {0.0d}, new double[] {-0.0d}));
+        eq(-1, mismatch(new float[] {Float.NaN}, new float[] {Float.NaN}));
+    }
+
+    @Test
+    public void mismatchShallReturnShorterLengthForPrefix() {
+        eq(PRIMITIVE_THRESHOLD * 3, mismatch(new long[PRIMITIVE_THRESHOLD * 3], new long[PRIMITIVE_THRESHOLD * 3 + 1]));
+    }
+
+    @Test
+    public void mismatchShallCompareNestedArrays() {
+        double[][] a = matrix(OBJECT_THRESHOLD * 3, 16);
+        double[][] b = matrix(OBJECT_THRESHOLD * 3, 16);
+        eq(-1, mismatch(a, b));
+        b[OBJECT_THRESHOLD + 5][3] = -1;
+        b[OBJECT_THRESHOLD * 2][0] = -1;
+        eq(OBJECT_THRESHOLD + 5, mismatch(a, b));
+    }
+
+    @Test
+    public void mismatchShallCompareLargeRows() {
+        double[][] a = matrix(3, PRIMITIVE_THRESHOLD * 4);
+        double[][] b = matrix(3, PRIMITIVE_THRESHOLD * 4);
+        eq(-1, mismatch(a, b));
+        b[2][PRIMITIVE_THRESHOLD * 3] = -1;
+        eq(2, mismatch(a, b));
+    }
+
+    @Test
+    public void mismatchShallCompareObjectElementsWithEquals() {
+        Object[] a = {"a", 1, null, new int[] {1}};
+        eq(-1, mismatch(a, new Object[] {"a", 1, null, new int[] {1}}));
+        eq(2, mismatch(a, new Object[] {"a", 1, "b", new int[] {1}}));
+        eq(3, mismatch(a, new Object[] {"a", 1, null, new long[] {1}}));
+    }
+
+    @Test
+    public void assertEqualsShallReportNestedIndex() {
+        double[][] a = matrix(4, PRIMITIVE_THRESHOLD * 2);
+        double[][] b = matrix(4, PRIMITIVE_THRESHOLD * 2);
+        b[1][PRIMITIVE_THRESHOLD + 1] = -1;
+        try {
+            ParallelArrayComparison.assertEquals(() -> "matrix", a, b, POOL);
+            fail("AssertionError expected");
+        } catch (AssertionError e) {
+            yes(e.getMessage().startsWith("matrix: arrays first differed at element [1][" + (PRIMITIVE_THRESHOLD + 1)
+                    + "]; expected:<"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void assertEqualsShallReportObjectElement() {
+        try {
+            ParallelArrayComparison.assertEquals(null, new String[] {"a", "b"}, new String[] {"a", "c"}, POOL);
+            fail("AssertionError expected");
+        } catch (AssertionError e) {
+            eq("arrays first differed at element [1]; expected:<[b]> but was:<[c]>", e.getMessage());
+        }
+        try {
+            ParallelArrayComparison.assertEquals(() -> "hi", new Object[] {1, null}, new Object[] {1, 1L}, POOL);
+            fail("AssertionError expected");
+        } catch (AssertionError e) {
+            eq("hi: arrays first differed at element [1]; expected:<null> but was:<1>", e.getMessage());
+        }
+        try {
+            ParallelArrayComparison.assertEquals(null, new Object[] {1}, new Object[] {1L}, POOL);
+            fail("AssertionError expected");
+        } catch (AssertionError e) {
+            eq("arrays first differed at element [0]; expected: java.lang.Integer<1> but was: java.lang.Long<1>",
+                    e.getMessage());
+        }
+    }
+
+    private static int mismatch(Object a, Object b) {
+        return ParallelArrayComparison.mismatch(a, b, POOL);
+    }
+
+    private static double[][] matrix(int rows, int cols) {
+        double[][] m = new double[rows][cols];
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < cols; ++j) {
+                m[i][j] = i * cols + j;
+            }
+        }
+        return m;
+    }
+
+}
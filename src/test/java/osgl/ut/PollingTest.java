@@ -0,0 +1,148 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test {@link Polling}
+ */
+public class PollingTest extends TestBase {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void backoffShallYieldThenDoubleUpToCap() {
+        Polling.Backoff backoff = new Polling.Backoff(TimeUnit.MILLISECONDS.toNanos(16));
+        for (int i = 0; i < Polling.Backoff.YIELDS; ++i) {
+            eq(0L, backoff.nextPark());
+            yes(backoff.pause(SECOND));
+        }
+        eq(10_000L, backoff.nextPark());
+        backoff.pause(SECOND);
+        eq(20_000L, backoff.nextPark());
+        for (int i = 0; i < 10; ++i) {
+            backoff.pause(SECOND);
+        }
+        eq(1_000_000L, backoff.nextPark());
+        eq(Polling.Backoff.MAX_PARK_NANOS, capOf(TimeUnit.MINUTES.toNanos(1)));
+        eq(Polling.Backoff.MIN_PARK_NANOS, capOf(1));
+    }
+
+    @Test
+    public void conditionShallBeRetriedUntilTrue() {
+        AtomicInteger attempts = new AtomicInteger();
+        isNull(Polling.eventually(() -> attempts.incrementAndGet() == 10, SECOND));
+        eq(10, attempts.get());
+    }
+
+    @Test
+    public void conditionTimeoutShallReportAttempts() {
+        String failure = Polling.eventually(() -> false, TimeUnit.MILLISECONDS.toNanos(20));
+        yes(failure.matches("condition not satisfied within 20\\.000 ms \\(\\d+ attempts\\)"), failure);
+    }
+
+    @Test
+    public void assertionTimeoutShallReportLastFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        try {
+            Polling.eventually(() -> eq(-1, attempts.incrementAndGet()), TimeUnit.MILLISECONDS.toNanos(20), "hi: ");
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            String last = "expected:<-1> but was:<" + attempts.get() + ">";
+            yes(e.getMessage().startsWith("hi: assertion not satisfied within 20.000 ms ("), e.getMessage());
+            yes(e.getMessage().endsWith(" attempts), last failure: " + last), e.getMessage());
+            eq(last, e.getCause().getMessage());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void exceptionsShallNotBeRetried() {
+        Polling.eventually(() -> {
+            throw new IllegalStateException();
+        }, SECOND, "");
+    }
+
+    @Test
+    public void interruptShallStopWaiting() {
+        Thread.currentThread().interrupt();
+        try {
+            String failure = Polling.eventually(() -> false, SECOND);
+            eq("interrupted while waiting for condition (1 attempt)", failure);
+        } finally {
+            yes(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void latchShallBeAwaited() {
+        CountDownLatch latch = new CountDownLatch(2);
+        new Thread(() -> {
+            latch.countDown();
+            latch.countDown();
+        }).start();
+        isNull(Polling.await(latch, SECOND));
+        eq("latch not released within 1.000 ms, count=1",
+                Polling.await(new CountDownLatch(1), TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    @Test
+    public void futureShallBeAwaited() {
+        eq("done", Polling.await(CompletableFuture.supplyAsync(() -> "done"), SECOND, ""));
+        try {
+            Polling.await(new CompletableFuture<>(), TimeUnit.MILLISECONDS.toNanos(1), "");
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            eq("future not completed within 1.000 ms", e.getMessage());
+        }
+        CompletableFuture<Object> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+        try {
+            Polling.await(failed, SECOND, "hi: ");
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            eq("hi: future failed: java.lang.IllegalStateException: boom", e.getMessage());
+            yes(e.getCause() instanceof IllegalStateException);
+        }
+        CompletableFuture<Object> cancelled = new CompletableFuture<>();
+        cancelled.cancel(false);
+        try {
+            Polling.await(cancelled, SECOND, "");
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            eq("future was cancelled", e.getMessage());
+        }
+    }
+
+    private static long capOf(long timeout) {
+        Polling.Backoff backoff = new Polling.Backoff(timeout);
+        for (int i = 0; i < 64; ++i) {
+            backoff.pause(1);
+        }
+        return backoff.nextPark();
+    }
+
+}
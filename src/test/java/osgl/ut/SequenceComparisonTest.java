@@ -0,0 +1,133 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.SequenceComparison.difference;
+import static osgl.ut.SequenceComparison.unmatched;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.LongStream;
+
+/**
+ * Test {@link SequenceComparison}
+ */
+public class SequenceComparisonTest extends TestBase {
+
+    @Test
+    public void equalSequencesShallHaveNoDifference() {
+        isNull(difference(Arrays.asList(1, null, new int[] {2}).iterator(),
+                Arrays.asList(1, null, new int[] {2}).iterator()));
+        isNull(difference(Collections.emptyIterator(), Collections.emptyIterator()));
+        isNull(difference(i -> i * 2, LongStream.range(0, 100).map(i -> i * 2).boxed().iterator()));
+    }
+
+    @Test
+    public void firstMismatchShallBeReportedWithContext() {
+        eq("sequences first differed at element [5]; expected:<5> but was:<-5>"
+                + "\nExpected[2..8]: [..., 2, 3, 4, 5, 6, 7, 8, ...]"
+                + "\nActual  [2..8]: [..., 2, 3, 4, -5, 6, 7, 8, ...]",
+                difference(range(0, 20), withMismatch(range(0, 20), 5)));
+    }
+
+    @Test
+    public void mismatchAtTheBoundariesShallBeReported() {
+        eq("sequences first differed at element [0]; expected: java.lang.Integer<0> but was: java.lang.Long<0>"
+                + "\nExpected[0..1]: [0, 1]"
+                + "\nActual  [0..1]: [0, 1]",
+                difference(Arrays.asList(0, 1).iterator(), Arrays.asList(0L, 1L).iterator()));
+    }
+
+    @Test
+    public void shorterActualSequenceShallBeReported() {
+        eq("actual sequence ended at element [2], expected:<2>"
+                + "\nExpected[0..3]: [0, 1, 2, 3]"
+                + "\nActual  [0..1]: [0, 1]",
+                difference(range(0, 4), range(0, 2)));
+        eq("actual sequence ended at element [0], expected:<0>"
+                + "\nExpected[0..0]: [0]"
+                + "\nActual  [0..]: []",
+                difference(range(0, 1), range(0, 0)));
+    }
+
+    @Test
+    public void longerActualSequenceShallBeReported() {
+        eq("expected sequence ended at element [4], but was:<4>"
+                + "\nExpected[1..3]: [..., 1, 2, 3]"
+                + "\nActual  [1..7]: [..., 1, 2, 3, 4, 5, 6, 7, ...]",
+                difference(range(0, 4), range(0, 100)));
+    }
+
+    @Test
+    public void generatorMismatchShallBeReported() {
+        eq("sequences first differed at element [1]; expected:<10> but was:<11>"
+                + "\nExpected[0..4]: [0, 10, 20, 30, 40, ...]"
+                + "\nActual  [0..2]: [0, 11, 20]",
+                difference(i -> i * 10, Arrays.asList(0L, 11L, 20L).iterator()));
+    }
+
+    @Test
+    public void boundedGeneratorShallEndTheWindow() {
+        long[] expected = {1, 2, 3};
+        eq("sequences first differed at element [2]; expected:<3> but was:<4>"
+                + "\nExpected[0..2]: [1, 2, 3]"
+                + "\nActual  [0..2]: [1, 2, 4]",
+                difference(i -> expected[(int) i], Arrays.asList(1L, 2L, 4L).iterator()));
+    }
+
+    @Test
+    public void unmatchedElementShallBeReported() {
+        isNull(unmatched(range(0, 10), i -> i >= 0, true));
+        eq("element [3] did not match: <3>\nElements[0..6]: [0, 1, 2, 3, 4, 5, 6, ...]",
+                unmatched(range(0, 10), i -> i != 3, true));
+        eq("element [9] matched: <9>\nElements[6..9]: [..., 6, 7, 8, 9]",
+                unmatched(range(0, 10), i -> i == 9, false));
+    }
+
+    @Test
+    public void itShallRunInConstantMemory() {
+        long n = 50_000_000L;
+        isNull(difference(range(0, n), range(0, n)));
+    }
+
+    private static Iterator<Long> range(long from, long to) {
+        return LongStream.range(from, to).boxed().iterator();
+    }
+
+    private static Iterator<Long> withMismatch(Iterator<Long> iterator, long index) {
+        return new Iterator<Long>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Long next() {
+                long l = iterator.next();
+                return l == index ? -l : l;
+            }
+        };
+    }
+
+}
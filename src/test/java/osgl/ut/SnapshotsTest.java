@@ -0,0 +1,166 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.Snapshots.render;
+
+import org.junit.ComparisonFailure;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test {@link Snapshots}
+ */
+public class SnapshotsTest extends TestBase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void stringsShallRenderAsTheyAre() {
+        eq("foo\nbar", render("foo\nbar"));
+        eq("null", render(null));
+        eq("42", render(42));
+    }
+
+    @Test
+    public void collectionsShallRenderOneElementPerLine() {
+        eq("[\n  1\n  \"a\\n\"\n  [\n    true\n  ]\n]", render(Arrays.asList(1, "a\n", new boolean[] {true})));
+        eq("[]", render(new int[0]));
+        eq("{}", render(new HashMap<>()));
+    }
+
+    @Test
+    public void setsAndMapsShallRenderSorted() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("b", Arrays.asList(2));
+        map.put("a", 1);
+        eq("{\n  \"a\": 1\n  \"b\": [\n    2\n  ]\n}", render(map));
+        eq(render(new HashSet<>(Arrays.asList("x", "y", "z"))), render(new HashSet<>(Arrays.asList("z", "y", "x"))));
+        eq("[\n  \"x\"\n  \"y\"\n]", render(new HashSet<>(Arrays.asList("y", "x"))));
+    }
+
+    @Test
+    public void missingSnapshotShallFail() {
+        Snapshots snapshots = snapshots(false);
+        try {
+            snapshots.eq("report", "foo", "hi %s", "junit");
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            eq("hi junit: no snapshot report in " + snapshots.file()
+                    + ", run with -Dosgl.ut.snapshot.update=true to record it", e.getMessage());
+        }
+    }
+
+    @Test
+    public void updateModeShallRecordSnapshots() {
+        Snapshots recording = snapshots(true);
+        recording.eq("report", "foo");
+        recording.eq("list", Arrays.asList(1, 2));
+        no(Files.exists(recording.file()));
+        recording.save();
+        yes(Files.exists(recording.file()));
+
+        Snapshots snapshots = snapshots(false);
+        snapshots.eq("report", "foo");
+        snapshots.eq("list", Arrays.asList(1, 2));
+    }
+
+    @Test
+    public void differenceShallBeReported() {
+        Snapshots recording = snapshots(true);
+        recording.eq("report", "foo\nbar");
+        recording.save();
+        try {
+            snapshots(false).eq("report", "foo\nbaz", () -> "hi");
+            fail("It shall raise AssertionError here");
+        } catch (ComparisonFailure e) {
+            eq("foo\nbar", e.getExpected());
+            eq("foo\nbaz", e.getActual());
+            yes(e.getMessage().startsWith("hi: snapshot report differed"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void updateShallRewriteOnlyChangedSnapshots() throws IOException {
+        Snapshots recording = snapshots(true);
+        recording.eq("a", "same");
+        recording.eq("b", "old");
+        recording.save();
+        byte[] before = Files.readAllBytes(recording.file());
+
+        Snapshots updating = snapshots(true);
+        updating.eq("a", "same");
+        updating.save();
+        yes(Arrays.equals(before, Files.readAllBytes(updating.file())), "unchanged snapshots shall not rewrite the file");
+        updating.eq("b", "new");
+        updating.save();
+
+        Snapshots snapshots = snapshots(false);
+        snapshots.eq("a", "same");
+        snapshots.eq("b", "new");
+    }
+
+    @Test
+    public void manySnapshotsShallRoundTrip() {
+        Snapshots recording = snapshots(true);
+        for (int i = 0; i < 10000; ++i) {
+            recording.eq("snapshot" + i, Arrays.asList(i, "value " + i));
+        }
+        recording.save();
+        Snapshots snapshots = snapshots(false);
+        for (int i = 0; i < 10000; ++i) {
+            snapshots.eq("snapshot" + i, Arrays.asList(i, "value " + i));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void notASnapshotFileShallBeRejected() throws IOException {
+        Snapshots snapshots = snapshots(false);
+        Files.write(snapshots.file(), "not a snapshot file".getBytes(StandardCharsets.UTF_8));
+        snapshots.eq("report", "foo");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void truncatedFileShallBeRejected() throws IOException {
+        Snapshots recording = snapshots(true);
+        recording.eq("report", "foo");
+        recording.save();
+        byte[] bytes = Files.readAllBytes(recording.file());
+        Files.write(recording.file(), Arrays.copyOf(bytes, bytes.length - 1));
+        snapshots(false).eq("report", "foo");
+    }
+
+    private Snapshots snapshots(boolean update) {
+        return new Snapshots(folder.getRoot().toPath().resolve("SnapshotsTest.snap"), update);
+    }
+
+}
@@ -0,0 +1,222 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static org.hamcrest.Matchers.containsString;
+
+import org.junit.Test;
+
+/**
+ * Test {@link SoftAssertions}
+ */
+public class SoftAssertionsTest extends TestBase {
+
+    @Test
+    public void passedChecksShallNotFail() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.yes(true);
+        softly.no(false);
+        softly.eq("foo", "foo");
+        softly.eq(1, 1);
+        softly.eq(1L, 1L);
+        softly.eq(1.0d, 1.05d, 0.1d);
+        softly.eq(new int[] {1, 2}, new int[] {1, 2});
+        softly.eq(new String[] {"a"}, new String[] {"a"});
+        softly.eq(null, null);
+        softly.ne("foo", "bar");
+        softly.ne(1, 2);
+        softly.ne(new int[] {1}, new int[] {2});
+        softly.isNull(null);
+        softly.notNull("");
+        Object o = new Object();
+        softly.same(o, o);
+        softly.notSame(o, new Object());
+        eq(16L, softly.checkCount());
+        eq(0L, softly.failureCount());
+        no(softly.hasFailures());
+        softly.assertAll();
+    }
+
+    @Test
+    public void failedChecksShallBeReportedTogether() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.yes(false, "record %s", "a");
+        softly.eq("foo", "bar");
+        softly.eq(1, 2, () -> "int");
+        softly.isNull("x");
+        softly.notNull(null, "not null");
+        softly.ne(1L, 1L);
+        softly.yes(true);
+        eq(7L, softly.checkCount());
+        eq(6L, softly.failureCount());
+        String report = report(softly);
+        yes(report.startsWith("6 of 7 checks failed"));
+        yes(report, containsString("1) check #1: record a"));
+        yes(report, containsString("2) check #2: expected:<foo> but was:<bar>"));
+        yes(report, containsString("3) check #3: int, expected:<1> but was:<2>"));
+        yes(report, containsString("4) check #4: expected null, but was:<x>"));
+        yes(report, containsString("5) check #5: not null, expected not null"));
+        yes(report, containsString("6) check #6: Values should be different. Actual: 1"));
+    }
+
+    @Test
+    public void arrayDifferenceShallBeReportedWithIndex() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.eq(new int[] {1, 2, 3}, new int[] {1, 5, 3});
+        softly.eq(new String[] {"a", "b"}, new String[] {"a", "c"});
+        String report = report(softly);
+        yes(report, containsString("arrays first differed at element [1]; expected:<2> but was:<5>"));
+        yes(report, containsString("arrays first differed at element [1]; expected:<b> but was:<c>"));
+    }
+
+    @Test
+    public void recordedValuesShallBeRenderedWithinBudget() {
+        int budget = FailureRendering.budget();
+        long[] values = new long[budget];
+        SoftAssertions softly = new SoftAssertions();
+        softly.isNull(values);
+        softly.ne(new int[] {1, 2}, new int[] {1, 2});
+        String report = report(softly);
+        yes(report, containsString("expected null, but was:<[0, 0, 0"));
+        yes(report, containsString("...(length>" + budget + ")>"));
+        no(report, containsString(", 0]"));
+        yes(report, containsString("Values should be different. Actual: [1, 2]"));
+    }
+
+    @Test
+    public void failuresBeyondMaxRecordedShallBeCountedOnly() {
+        SoftAssertions softly = new SoftAssertions(2);
+        for (int i = 0; i < 1000000; ++i) {
+            softly.eq(i, i + 1);
+        }
+        eq(1000000L, softly.failureCount());
+        String report = report(softly);
+        yes(report.startsWith("1000000 of 1000000 checks failed"));
+        yes(report, containsString("2) check #2: expected:<1> but was:<2>"));
+        no(report, containsString("3) "));
+        yes(report, containsString("... 999998 more failures not recorded"));
+    }
+
+    @Test
+    public void messageShallBeRenderedOnlyWhenReported() {
+        SoftAssertions softly = new SoftAssertions(1);
+        int[] calls = new int[1];
+        softly.yes(true, () -> "" + ++calls[0]);
+        softly.yes(false, () -> "" + ++calls[0]);
+        softly.yes(false, () -> "" + ++calls[0]);
+        eq(0, calls[0]);
+        report(softly);
+        eq(1, calls[0]);
+    }
+
+    @Test
+    public void itShallNotFormatTemplateOfPassedChecks() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.yes(true, "%d", "not a number");
+        softly.eq(1, 1, Message.of("%d", "not a number"));
+        softly.assertAll();
+    }
+
+    @Test
+    public void zeroMaxRecordedShallOnlyCount() {
+        SoftAssertions softly = new SoftAssertions(0);
+        softly.yes(false);
+        String report = report(softly);
+        eq("1 of 1 check failed\n  ... 1 more failures not recorded", report);
+        no(report, containsString("1) "));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMaxRecordedShallBeRejected() {
+        new SoftAssertions(-1);
+    }
+
+    @Test
+    public void softlyShallAssertAllAtTheEnd() {
+        try {
+            SoftAssertions.softly(softly -> {
+                softly.yes(false, "first");
+                softly.yes(false, "second");
+            });
+        } catch (AssertionError e) {
+            yes(e.getMessage(), containsString("first"));
+            yes(e.getMessage(), containsString("second"));
+            return;
+        }
+        fail("AssertionError expected");
+    }
+
+    @Test
+    public void softlyShallKeepRecordedFailuresWhenTheBlockThrows() {
+        try {
+            SoftAssertions.softly(softly -> {
+                softly.yes(false, "first");
+                throw new IllegalStateException("boom");
+            });
+        } catch (IllegalStateException e) {
+            eq("boom", e.getMessage());
+            eq(1, e.getSuppressed().length);
+            same(AssertionError.class, e.getSuppressed()[0].getClass());
+            yes(e.getSuppressed()[0].getMessage(), containsString("check #1: first"));
+            return;
+        }
+        fail("IllegalStateException expected");
+    }
+
+    @Test
+    public void primitiveChecksShallMirrorTestBase() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.eq((short) 1, (short) 1);
+        softly.eq((byte) 1, (byte) 1);
+        softly.eq('a', 'a');
+        softly.eq(true, true);
+        softly.ne((short) 1, (short) 2);
+        softly.ne((byte) 1, (byte) 2);
+        softly.ne('a', 'b');
+        softly.ne(true, false);
+        softly.ne(1.0d, 1.2d, 0.1d);
+        no(softly.hasFailures());
+        softly.eq((short) 1, (short) 2);
+        softly.eq((byte) 1, (byte) 2);
+        softly.eq('a', 'b');
+        softly.eq(true, false);
+        softly.ne('a', 'a');
+        softly.ne(1.0d, 1.05d, 0.1d);
+        eq("6 of 15 checks failed"
+                + "\n  1) check #10: expected:<1> but was:<2>"
+                + "\n  2) check #11: expected:<1> but was:<2>"
+                + "\n  3) check #12: expected:<a> but was:<b>"
+                + "\n  4) check #13: expected:<true> but was:<false>"
+                + "\n  5) check #14: Values should be different. Actual: a"
+                + "\n  6) check #15: Values should be different. Actual: 1.05", report(softly));
+    }
+
+    private static String report(SoftAssertions softly) {
+        try {
+            softly.assertAll();
+        } catch (AssertionError e) {
+            return e.getMessage();
+        }
+        fail("AssertionError expected");
+        return null;
+    }
+
+}
@@ -0,0 +1,114 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test {@link Stress}
+ */
+public class StressTest extends TestBase {
+
+    @Test
+    public void everyRoundShallRunEveryActorOnFreshState() {
+        AtomicInteger states = new AtomicInteger();
+        Stress.Report report = Stress.of(() -> {
+            states.incrementAndGet();
+            return new ConcurrentLinkedQueue<Integer>();
+        }).actor(q -> q.offer(1)).actor(q -> q.offer(2)).actors(2, q -> q.offer(3))
+                .invariant(q -> eq(4, q.size()))
+                .rounds(200)
+                .run();
+        eq(200, report.rounds());
+        eq(200, states.get());
+        long total = 0;
+        for (Map.Entry<List<Integer>, Long> entry : report.interleavings().entrySet()) {
+            eqIgnoreOrder(Arrays.asList(0, 1, 2, 3), entry.getKey());
+            total += entry.getValue();
+        }
+        eq(200L, total);
+        yes(report.toString().startsWith("rounds: 200, interleavings (actor finishing order): ["), report.toString());
+    }
+
+    @Test
+    public void invariantFailureShallReportFirstFailingRound() {
+        AtomicInteger states = new AtomicInteger();
+        try {
+            Stress.of(states::incrementAndGet).actor(s -> { }).actor(s -> { })
+                    .invariant(s -> yes(s < 5, "state %s", s))
+                    .rounds(100)
+                    .run();
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            yes(e.getMessage().startsWith("invariant failed in round 5 of 100: java.lang.AssertionError: state 5\n"
+                    + "rounds: 5, interleavings (actor finishing order): "), e.getMessage());
+            eq("state 5", e.getCause().getMessage());
+        }
+        eq(5, states.get());
+    }
+
+    @Test
+    public void actorFailureShallStopTheRun() {
+        AtomicInteger states = new AtomicInteger();
+        try {
+            Stress.of(states::incrementAndGet).actor(s -> { }).actor(s -> {
+                if (s == 3) {
+                    throw new IllegalStateException("boom");
+                }
+            }).rounds(100).run();
+            fail("It shall raise AssertionError here");
+        } catch (AssertionError e) {
+            yes(e.getMessage().startsWith("actor 1 failed in round 3 of 100: java.lang.IllegalStateException: boom\n"),
+                    e.getMessage());
+            yes(e.getCause() instanceof IllegalStateException);
+        }
+        eq(3, states.get());
+    }
+
+    @Test
+    public void finishingOrderShallNotBeCountedForManyActors() {
+        Stress.Report report = Stress.of(AtomicInteger::new)
+                .actors(Stress.MAX_ORDERED_ACTORS + 1, AtomicInteger::incrementAndGet)
+                .invariant(n -> eq(Stress.MAX_ORDERED_ACTORS + 1, n.get()))
+                .rounds(10)
+                .run();
+        eq(10, report.rounds());
+        isEmpty(report.interleavings());
+        eq("rounds: 10", report.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void runWithoutActorShallBeRejected() {
+        Stress.of(Object::new).run();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroRoundsShallBeRejected() {
+        Stress.of(Object::new).rounds(0);
+    }
+
+}
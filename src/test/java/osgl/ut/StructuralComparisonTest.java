@@ -0,0 +1,269 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test {@link StructuralComparison}
+ */
+public class StructuralComparisonTest extends TestBase {
+
+    static class Line {
+        String sku;
+        int qty;
+        double price;
+        char grade;
+        transient int cachedHash;
+
+        Line(String sku, int qty) {
+            this.sku = sku;
+            this.qty = qty;
+        }
+    }
+
+    static class Order {
+        List<Line> lines = new ArrayList<>();
+        Map<String, BigDecimal> discounts = new LinkedHashMap<>();
+        long[] stamps = new long[0];
+        Order parent;
+    }
+
+    static class Customer {
+        String name;
+        Order[] orders;
+    }
+
+    static class VipCustomer extends Customer {
+        boolean vip;
+    }
+
+    static class Node {
+        int value;
+        Node prev;
+        Node next;
+    }
+
+    static class Tree {
+        int value;
+        Tree parent;
+        List<Tree> children = new ArrayList<>();
+    }
+
+    @Test
+    public void equalGraphsShallNotDiffer() {
+        isNull(StructuralComparison.difference(customer(), customer()));
+        isNull(StructuralComparison.difference(null, null));
+    }
+
+    @Test
+    public void differenceShallReportPathOfFirstDifferingField() {
+        Customer expected = customer();
+        Customer actual = customer();
+        actual.orders[1].lines.get(2).qty = 42;
+        eq("objects differed at orders[1].lines[2].qty; expected:<3> but was:<42>",
+                StructuralComparison.difference(expected, actual));
+    }
+
+    @Test
+    public void primitiveFieldsShallBeRenderedWithTheirType() {
+        Line expected = new Line("a", 1);
+        Line actual = new Line("a", 1);
+        actual.grade = 'B';
+        eq("objects differed at grade; expected:<\u0000> but was:<B>", StructuralComparison.difference(expected, actual));
+        actual.grade = 0;
+        actual.price = 0.5;
+        eq("objects differed at price; expected:<0.0> but was:<0.5>", StructuralComparison.difference(expected, actual));
+        expected.price = Double.NaN;
+        actual.price = Double.NaN;
+        isNull(StructuralComparison.difference(expected, actual));
+    }
+
+    @Test
+    public void transientFieldsShallBeIgnored() {
+        Line expected = new Line("a", 1);
+        Line actual = new Line("a", 1);
+        actual.cachedHash = 7;
+        isNull(StructuralComparison.difference(expected, actual));
+    }
+
+    @Test
+    public void inheritedFieldsShallBeCompared() {
+        VipCustomer expected = new VipCustomer();
+        VipCustomer actual = new VipCustomer();
+        actual.name = "joe";
+        eq("objects differed at name; expected:<null> but was:<joe>", StructuralComparison.difference(expected, actual));
+    }
+
+    @Test
+    public void collectionsMapsAndArraysShallReportSizes() {
+        Order expected = order(1);
+        Order actual = order(1);
+        actual.lines.add(new Line("x", 1));
+        eq("objects differed at lines; expected.size=1 actual.size=2", StructuralComparison.difference(expected, actual));
+        actual = order(1);
+        actual.discounts.put("spring", BigDecimal.ONE);
+        eq("objects differed at discounts; unexpected key:<spring>", StructuralComparison.difference(expected, actual));
+        actual.discounts.clear();
+        eq("objects differed at discounts; missing key:<vip>", StructuralComparison.difference(expected, actual));
+        actual = order(1);
+        actual.discounts.put("vip", new BigDecimal("0.20"));
+        eq("objects differed at discounts[vip]; expected:<0.1> but was:<0.20>",
+                StructuralComparison.difference(expected, actual));
+        actual = order(1);
+        actual.stamps = new long[] {1, 2, 4};
+        eq("objects differed at stamps[2]; expected:<3> but was:<4>", StructuralComparison.difference(expected, actual));
+        actual.stamps = new long[] {1, 2};
+        eq("objects differed at stamps; expected.length=3 actual.length=2", StructuralComparison.difference(expected, actual));
+    }
+
+    @Test
+    public void listsOfDifferentClassesShallBeComparedByElements() {
+        isNull(StructuralComparison.difference(Arrays.asList(1, 2), new LinkedList<>(Arrays.asList(1, 2))));
+        isNull(StructuralComparison.difference(new HashSet<>(Arrays.asList(1, 2)), Collections.unmodifiableSet(
+                new HashSet<>(Arrays.asList(2, 1)))));
+    }
+
+    @Test
+    public void differentTypesShallBeReported() {
+        eq("objects differed at [0]; expected type:<osgl.ut.StructuralComparisonTest$Customer> "
+                + "but was:<osgl.ut.StructuralComparisonTest$VipCustomer>",
+                StructuralComparison.difference(Collections.singletonList(new Customer()),
+                        Collections.singletonList(new VipCustomer())));
+    }
+
+    @Test
+    public void jdkClassesShallBeComparedWithEquals() {
+        eq("objects differed; expected type:<java.lang.Integer> but was:<java.lang.Long>",
+                StructuralComparison.difference(1, 1L));
+        eq("objects differed; expected: java.lang.StringBuilder<a> but was: java.lang.StringBuilder<a>",
+                StructuralComparison.difference(new StringBuilder("a"), new StringBuilder("a")));
+    }
+
+    @Test
+    public void cyclesShallBeCompared() {
+        Order expected = order(1);
+        expected.parent = expected;
+        Order actual = order(1);
+        actual.parent = actual;
+        isNull(StructuralComparison.difference(expected, actual));
+        actual.lines.get(0).qty = 9;
+        eq("objects differed at lines[0].qty; expected:<1> but was:<9>", StructuralComparison.difference(expected, actual));
+    }
+
+    @Test
+    public void longCyclesShallTerminate() {
+        Order expected = chain(100);
+        Order actual = chain(100);
+        isNull(StructuralComparison.difference(expected, actual));
+    }
+
+    @Test(timeout = 10000)
+    public void doublyLinkedListsShallBeComparedInLinearTime() {
+        isNull(StructuralComparison.difference(doublyLinked(1000), doublyLinked(1000)));
+        Node expected = doublyLinked(1000);
+        Node actual = doublyLinked(1000);
+        Node node = actual;
+        for (int i = 0; i < 3; ++i) {
+            node = node.next;
+        }
+        node.value = -1;
+        eq("objects differed at next.next.next.value; expected:<3> but was:<-1>",
+                StructuralComparison.difference(expected, actual));
+    }
+
+    @Test(timeout = 10000)
+    public void treesWithParentPointersShallBeComparedInLinearTime() {
+        isNull(StructuralComparison.difference(tree(null, 0, 12), tree(null, 0, 12)));
+        Tree expected = tree(null, 0, 12);
+        Tree actual = tree(null, 0, 12);
+        actual.children.get(1).children.get(0).value = -1;
+        eq("objects differed at children[1].children[0].value; expected:<2> but was:<-1>",
+                StructuralComparison.difference(expected, actual));
+    }
+
+    private static Node doublyLinked(int length) {
+        Node head = new Node();
+        Node tail = head;
+        for (int i = 1; i < length; ++i) {
+            Node next = new Node();
+            next.value = i;
+            next.prev = tail;
+            tail.next = next;
+            tail = next;
+        }
+        return head;
+    }
+
+    /**
+     * A full binary tree of the given depth, each node's value is its depth.
+     */
+    private static Tree tree(Tree parent, int depth, int maxDepth) {
+        Tree tree = new Tree();
+        tree.value = depth;
+        tree.parent = parent;
+        if (depth < maxDepth) {
+            tree.children.add(tree(tree, depth + 1, maxDepth));
+            tree.children.add(tree(tree, depth + 1, maxDepth));
+        }
+        return tree;
+    }
+
+    private static Order chain(int length) {
+        Order head = order(0);
+        Order tail = head;
+        for (int i = 1; i < length; ++i) {
+            Order next = order(i);
+            tail.parent = next;
+            tail = next;
+        }
+        tail.parent = head;
+        return head;
+    }
+
+    private static Customer customer() {
+        Customer customer = new Customer();
+        customer.name = "joe";
+        customer.orders = new Order[] {order(1), order(3)};
+        return customer;
+    }
+
+    private static Order order(int lines) {
+        Order order = new Order();
+        for (int i = 1; i <= lines; ++i) {
+            order.lines.add(new Line("sku" + i, i));
+        }
+        order.discounts.put("vip", new BigDecimal("0.1"));
+        order.stamps = new long[] {1, 2, 3};
+        return order;
+    }
+
+}
@@ -22,15 +22,40 @@ package osgl.ut;
 
 import static org.hamcrest.Matchers.*;
 
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.junit.Assume;
+import org.junit.ComparisonFailure;
+import org.junit.Rule;
 import org.junit.Test;
-
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Test {@link TestBase}
  */
 public class TestBaseTest extends TestBase {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void yesShallNotComplainWhenConditionIsTrue() {
         yes(true, "any message");
@@ -963,6 +988,34 @@ public class TestBaseTest extends TestBase {
         }
     }
 
+    @Test
+    public void blankShallRecognizeUnicodeWhitespace() {
+        isBlank("\u00a0\u2003\u3000 \n");
+        notBlank("\u00a0x\u3000");
+        notBlank("\u00e9");
+    }
+
+    @Test
+    public void blankShallAcceptCharSequence() {
+        isBlank(new StringBuilder(" \t"));
+        isBlank(CharBuffer.wrap("\r\n"), "hi %s", "junit");
+        isBlank((CharSequence) null, () -> "hi junit");
+        notBlank(new StringBuilder(" x "));
+        notBlank(CharBuffer.wrap("abc", 1, 2), "hi %s", "junit");
+        try {
+            notBlank(new StringBuilder("  "), "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("hi junit", error.getMessage());
+        }
+        try {
+            isBlank(new StringBuilder(" x"), () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("hi junit", error.getMessage());
+        }
+    }
+
     @Test
     public void sameShallPassIfObjectsAreSame() {
         Foo foo = new Foo("foo", 3);
@@ -1085,6 +1138,805 @@ public class TestBaseTest extends TestBase {
         }
     }
 
+    @Test
+    public void messageSupplierShallNotBeCalledWhenAssertionPasses() {
+        Supplier<String> message = new Supplier<String>() {
+            @Override
+            public String get() {
+                throw new IllegalStateException("message rendered on pass");
+            }
+        };
+        yes(true, message);
+        no(false, message);
+        eq("Hi", "Hi", message);
+        eq(new int[]{1, 2}, new int[]{1, 2}, message);
+        ne("Hi", "hi", message);
+        eq(0.01d, 0.010001d, 0.0002d, message);
+        ne(0.01d, 0.0102d, 0.0001d, message);
+        eq(new double[]{0.01d}, new double[]{0.010001d}, 0.0002d, message);
+        eq(new float[]{0.01f}, new float[]{0.010001f}, 0.0002f, message);
+        notNull(this, message);
+        isNull(null, message);
+        notEmpty("x", message);
+        isEmpty("", message);
+        notBlank("x", message);
+        isBlank(" ", message);
+        same(this, this, message);
+        notSame(this, new Object(), message);
+        yes(1, is(1), message);
+        no(1, is(2), message);
+    }
+
+    @Test
+    public void messageTemplateShallNotBeFormattedWhenAssertionPasses() {
+        // an invalid format template blows up only if it is formatted
+        yes(true, "%d", "not a number");
+        eq("Hi", "Hi", "%d", "not a number");
+        eq(new int[]{1}, new int[]{1}, "%d", "not a number");
+        ne("Hi", "hi", "%d", "not a number");
+        same(this, this, "%d", "not a number");
+    }
+
+    @Test
+    public void yesShallShoutWithSuppliedMessage() {
+        try {
+            yes(false, Message.of("Hello %s", "junit"));
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("Hello junit", error.getMessage());
+        }
+    }
+
+    @Test
+    public void eqShallShoutWithSuppliedMessage() {
+        try {
+            eq("Hi", "hi", () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit");
+        }
+    }
+
+    @Test
+    public void eqArrayShallShoutWithSuppliedMessage() {
+        try {
+            eq(new int[]{1, 2, 3}, new int[]{1, 3, 2}, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: arrays first differed at element");
+        }
+    }
+
+    @Test
+    public void neShallShoutWithSuppliedMessage() {
+        try {
+            ne(new int[]{1, 2}, new int[]{1, 2}, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("hi junit", error.getMessage());
+        }
+    }
+
+    @Test
+    public void nullMessageSupplierShallBeTreatedAsEmptyMessage() {
+        try {
+            Supplier<String> message = null;
+            notNull(null, message);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("", error.getMessage());
+        }
+    }
+
+    @Test
+    public void eqWithEqualPrimitivesShallPass() {
+        eq(1000, 1000);
+        eq(1000L, 1000L);
+        eq((short) 1000, (short) 1000);
+        eq((byte) 100, (byte) 100);
+        eq('x', 'x');
+        eq(true, true);
+        eq(1000, 1000, () -> "message");
+        eq(false, false, () -> "message");
+    }
+
+    @Test
+    public void eqWithNotEqualPrimitivesShallShout() {
+        try {
+            eq(1000, 1001);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("expected:<1000> but was:<1001>", error.getMessage());
+        }
+        try {
+            eq('a', 'b', () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("hi junit expected:<a> but was:<b>", error.getMessage());
+        }
+        try {
+            eq(true, false);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("expected:<true> but was:<false>", error.getMessage());
+        }
+    }
+
+    @Test
+    public void neWithNotEqualPrimitivesShallPass() {
+        ne(1, 2);
+        ne(1L, 2L);
+        ne((short) 1, (short) 2);
+        ne((byte) 1, (byte) 2);
+        ne('a', 'b');
+        ne(true, false);
+        ne(1, 2, () -> "message");
+    }
+
+    @Test
+    public void neWithEqualPrimitivesShallShout() {
+        try {
+            ne(1L, 1L, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("hi junit. Actual: 1", error.getMessage());
+        }
+    }
+
+    @Test
+    public void mixedPrimitivesShallBeWidened() {
+        eq(1, 1L);
+        eq('a', 97);
+        eq((byte) 1, 1);
+        eq((short) 1, 1L);
+        ne((Object) 1, (Object) 1L);
+        try {
+            ne(1, 1L);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("Values should be different. Actual: 1", error.getMessage());
+        }
+        try {
+            eq('a', 98);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            assertEquals("expected:<97> but was:<98>", error.getMessage());
+        }
+    }
+
+    @Test
+    public void eqWithEqualPrimitiveArraysShallPass() {
+        eq(new long[]{1, 2}, new long[]{1, 2});
+        eq(new short[]{1, 2}, new short[]{1, 2});
+        eq(new byte[]{1, 2}, new byte[]{1, 2});
+        eq(new char[]{'a', 'b'}, new char[]{'a', 'b'});
+        eq(new boolean[]{true}, new boolean[]{true});
+        eq(new float[]{1.5f}, new float[]{1.5f});
+        eq(new double[]{1.5d}, new double[]{1.5d});
+    }
+
+    @Test
+    public void eqWithPrimitiveArrayElementDiffShallReportIndexAndValues() {
+        try {
+            eq(new char[]{'a', 'b', 'c'}, new char[]{'a', 'x', 'c'}, "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: arrays first differed at element [1]; expected:<b> but was:<x>");
+        }
+    }
+
+    @Test
+    public void eqWithNullActualArrayShallShout() {
+        try {
+            eq(new int[]{1}, null);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "actual array was null");
+        }
+    }
+
+    @Test
+    public void eqDoubleArraysWithDeltaNotMatchShallReportIndexAndValues() {
+        try {
+            eq(new double[]{1.0d, 2.0d}, new double[]{1.0d, 2.5d}, 0.1d);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "arrays first differed at element [1]; expected:<2.0> but was:<2.5>");
+        }
+    }
+
+    @Test
+    public void eqFloatArraysWithDeltaAndDifferentLengthShallShout() {
+        try {
+            eq(new float[]{1.0f, 2.0f}, new float[]{1.0f}, 0.1f, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: array lengths differed, expected.length=2 actual.length=1");
+        }
+    }
+
+    @Test
+    public void eqDoubleArraysWithDeltaAndNullArrayShallShout() {
+        try {
+            eq(null, new double[]{1.0d}, 0.1d);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "expected array was null");
+        }
+    }
+
+    @Test
+    public void neDoubleArraysWithDeltaShallTreatNaNAsDifferentToNumber() {
+        ne(new double[]{Double.NaN}, new double[]{1.0d}, 0.1d);
+        ne(new float[]{1.0f}, new float[]{Float.NaN}, 0.1f);
+    }
+
+    @Test(expected = AssertionError.class)
+    public void neFloatArraysWithDeltaShallShout() {
+        ne(new float[]{1.0f, Float.NaN}, new float[]{1.05f, Float.NaN}, 0.1f);
+    }
+
+    @Test
+    public void eqParallelShallPassOnEqualArrays() {
+        eqParallel(new int[1 << 20], new int[1 << 20]);
+        eqParallel(new double[][]{{1.0d, 2.0d}, {3.0d}}, new double[][]{{1.0d, 2.0d}, {3.0d}});
+        eqParallel(new String[]{"a", null}, new String[]{"a", null}, "%d", "not a number");
+        eqParallel(null, null);
+        eqParallel("foo", "foo");
+    }
+
+    @Test
+    public void eqParallelShallReportLowestMismatchingIndex() {
+        int[] actual = new int[1 << 20];
+        actual[1 << 19] = 1;
+        actual[(1 << 19) + 1] = 1;
+        actual[(1 << 20) - 1] = 1;
+        try {
+            eqParallel(new int[1 << 20], actual, "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: arrays first differed at element [" + (1 << 19)
+                    + "]; expected:<0> but was:<1>");
+        }
+    }
+
+    @Test
+    public void eqParallelShallReportNestedIndex() {
+        try {
+            eqParallel(new long[][]{{1L}, {2L, 3L}}, new long[][]{{1L}, {2L, 4L}}, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: arrays first differed at element [1][1]; expected:<3> but was:<4>");
+        }
+    }
+
+    @Test
+    public void eqParallelShallReportArrayLengthDifference() {
+        try {
+            eqParallel(new int[]{1, 2}, new int[]{1});
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "array lengths differed, expected.length=2 actual.length=1");
+        }
+    }
+
+    @Test
+    public void eqParallelShallReportArrayTypeDifference() {
+        try {
+            eqParallel(new int[]{1}, new long[]{1L});
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "arrays type differed");
+        }
+    }
+
+    @Test
+    public void eqParallelShallReportNullActualArray() {
+        try {
+            eqParallel(new int[]{1}, null);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "actual array was null");
+        }
+    }
+
+    @Test(expected = AssertionError.class)
+    public void eqParallelShallCompareNonArrays() {
+        eqParallel("foo", "bar");
+    }
+
+    @Test
+    public void eqIgnoreOrderShallPassOnSameElements() {
+        eqIgnoreOrder(Arrays.asList(1, 2, 2), Arrays.asList(2, 1, 2));
+        eqIgnoreOrder(new int[]{3, 1, 2}, new int[]{1, 2, 3}, "%d", "not a number");
+        eqIgnoreOrder(new long[]{3L, 3L}, new long[]{3L, 3L}, () -> "hi junit");
+        eqIgnoreOrder((Collection<?>) null, null);
+    }
+
+    @Test
+    public void eqIgnoreOrderShallReportMissingAndUnexpectedElements() {
+        try {
+            eqIgnoreOrder(Arrays.asList("a", "b", "b"), Arrays.asList("b", "c"), "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi junit: collections differed ignoring order, expected.size=3 actual.size=2"
+                    + "\nMissing   : [a, b] (2 elements)\nUnexpected: [c] (1 element)", error.getMessage());
+        }
+    }
+
+    @Test
+    public void eqIgnoreOrderShallReportMultiplicitiesOfPrimitives() {
+        try {
+            eqIgnoreOrder(new int[]{1, 1, 1}, new int[]{1}, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi junit: arrays differed ignoring order, expected.size=3 actual.size=1"
+                    + "\nMissing   : [1 (x2)] (2 elements)", error.getMessage());
+        }
+    }
+
+    @Test(expected = AssertionError.class)
+    public void eqIgnoreOrderShallShoutOnNullActual() {
+        eqIgnoreOrder(new long[0], null);
+    }
+
+    @Test
+    public void eqSequenceShallPassOnEqualSequences() {
+        eqSequence(Arrays.asList(1, 2, 3), Arrays.asList(1, 2, 3));
+        eqSequence(Arrays.asList(1, 2).iterator(), Arrays.asList(1, 2).iterator(), "%d", "not a number");
+        eqSequence(Stream.of("a", "b"), Stream.of("a", "b"), () -> "hi junit");
+        eqSequence(i -> (int) i, Stream.of(0, 1, 2));
+    }
+
+    @Test
+    public void eqSequenceShallReportFirstMismatch() {
+        try {
+            eqSequence(Stream.of(1, 2, 3), Stream.of(1, 5, 3), "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: sequences first differed at element [1]; expected:<2> but was:<5>");
+        }
+    }
+
+    @Test
+    public void eqSequenceWithGeneratorShallReportFirstMismatch() {
+        try {
+            eqSequence(i -> i, Arrays.asList(0L, 1L, 3L), () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: sequences first differed at element [2]; expected:<2> but was:<3>");
+        }
+    }
+
+    @Test
+    public void eqSequenceWithBoundedGeneratorShallReportFirstMismatch() {
+        int[] expected = {1, 2, 3};
+        try {
+            eqSequence(i -> expected[(int) i], Arrays.asList(1, 2, 4));
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "sequences first differed at element [2]; expected:<3> but was:<4>");
+        }
+    }
+
+    @Test
+    public void streamsShallBeClosedOnceConsumed() {
+        AtomicInteger closed = new AtomicInteger();
+        eqSequence(Stream.of(1, 2).onClose(closed::incrementAndGet), Stream.of(1, 2).onClose(closed::incrementAndGet));
+        eqSequence(i -> (int) i, Stream.of(0, 1).onClose(closed::incrementAndGet));
+        allMatch(Stream.of(1, 2).onClose(closed::incrementAndGet), i -> i > 0);
+        try {
+            noneMatch(Stream.of(1, 2).onClose(closed::incrementAndGet), i -> i > 1);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq(5, closed.get());
+        }
+    }
+
+    @Test
+    public void eqSequenceShallReportDifferentLengths() {
+        try {
+            eqSequence(Arrays.asList(1, 2), Arrays.asList(1));
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "actual sequence ended at element [1], expected:<2>");
+        }
+    }
+
+    @Test
+    public void allMatchShallReportFirstUnmatchedElement() {
+        allMatch(Stream.of(1, 2, 3), i -> i > 0);
+        try {
+            allMatch(Arrays.asList(1, -2, 3), i -> i > 0, "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: element [1] did not match: <-2>");
+        }
+    }
+
+    @Test
+    public void noneMatchShallReportFirstMatchedElement() {
+        noneMatch(Arrays.asList(1, 2, 3).iterator(), i -> i < 0);
+        try {
+            noneMatch(Stream.of("a", "", "b"), String::isEmpty, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: element [1] matched: <>");
+        }
+    }
+
+    @Test
+    public void eqContentShallPassOnFilesWithSameContent() throws IOException {
+        eqContent(file("foo\nbar"), file("foo\nbar"));
+        eqContent(file("foo").toFile(), file("foo").toFile(), "%d", "not a number");
+    }
+
+    @Test
+    public void eqContentShallReportFirstDifferingByte() throws IOException {
+        try {
+            eqContent(file("foo\nbar"), file("foo\nbaz"), "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error,
+                    "hi junit: file contents differed at byte offset 6, line 2, column 3; expected:<0x72> but was:<0x7a>");
+        }
+    }
+
+    @Test
+    public void eqContentShallReportSizeDifference() throws IOException {
+        File expected = file("foo").toFile();
+        File actual = file("foo bar").toFile();
+        try {
+            eqContent(expected, actual, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi junit: file sizes differed, expected.size=3 actual.size=7", error.getMessage());
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void eqContentShallThrowUncheckedIOExceptionOnMissingFile() throws IOException {
+        eqContent(file("foo"), folder.getRoot().toPath().resolve("missing"));
+    }
+
+    @Test
+    public void eqContentShallCompareBuffers() {
+        ByteBuffer expected = ByteBuffer.wrap("foo".getBytes());
+        ByteBuffer direct = ByteBuffer.allocateDirect(3);
+        direct.put("foo".getBytes()).flip();
+        eqContent(expected, direct, "%d", "not a number");
+        try {
+            eqContent(expected, ByteBuffer.wrap("fox".getBytes()), () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: buffer contents differed at byte offset 2; expected:<0x6f> but was:<0x78>");
+        }
+    }
+
+    @Test
+    public void eqContentShallCompareStreams() {
+        eqContent(new ByteArrayInputStream("foo".getBytes()), new ByteArrayInputStream("foo".getBytes()));
+        try {
+            eqContent(new ByteArrayInputStream("foo".getBytes()), new ByteArrayInputStream("fo".getBytes()),
+                    "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "hi junit: stream contents differed at byte offset 2; expected:<0x6f> but was:<EOF>");
+        }
+    }
+
+    @Test
+    public void eqContentShallCompareChannels() {
+        eqContent(Channels.newChannel(new ByteArrayInputStream("foo".getBytes())),
+                Channels.newChannel(new ByteArrayInputStream("foo".getBytes())));
+        try {
+            eqContent(Channels.newChannel(new ByteArrayInputStream("foo".getBytes())),
+                    Channels.newChannel(new ByteArrayInputStream("Foo".getBytes())));
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "channel contents differed at byte offset 0; expected:<0x66> but was:<0x46>");
+        }
+    }
+
+    @Test
+    public void eqShallBoundFailureMessageOfLargeValues() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100000; ++i) {
+            expected.add(i);
+        }
+        List<Integer> actual = new ArrayList<>(expected);
+        actual.set(99999, 0);
+        try {
+            eq(expected, actual, "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi junit: lists differed, expected.size=100000 actual.size=100000"
+                    + "\n--- expected\n+++ actual\n@@ -99997,4 +99997,4 @@"
+                    + "\n 99996\n 99997\n 99998\n-99999\n+0", error.getMessage());
+        }
+    }
+
+    @Test
+    public void eqShallKeepComparisonFailureForStrings() {
+        try {
+            eq("foo", "fox", () -> "hi junit");
+            expectAssertionError();
+        } catch (ComparisonFailure failure) {
+            eq("hi junit expected:<fo[o]> but was:<fo[x]>", failure.getMessage());
+        }
+        System.setProperty(FailureRendering.BUDGET_PROPERTY, "32");
+        try {
+            eq("foo bar baz qux quux corge grault garply", "foo bar baz qux quux corge grault garplY");
+            expectAssertionError();
+        } catch (ComparisonFailure failure) {
+            msgShallStartsWith(failure, "strings differed at index 39, expected.length=40 actual.length=40\n");
+            eq("foo bar baz qux quux corge grault garply", failure.getExpected());
+        } finally {
+            System.clearProperty(FailureRendering.BUDGET_PROPERTY);
+        }
+    }
+
+    @Test
+    public void runsWithinShallPassWithinBudget() {
+        runsWithin(Timing.of(() -> Integer.toString(42)).warmup(100).samples(10), 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void runsWithinShallReportPercentileOverBudget() {
+        Timing timing = Timing.of(() -> new StringBuilder("osgl").reverse().toString()).warmup(100).samples(10).percentile(90);
+        try {
+            runsWithin(timing, 0, TimeUnit.NANOSECONDS, "hot path %s", "reverse");
+            expectAssertionError();
+        } catch (AssertionError e) {
+            msgShallStartsWith(e, "hot path reverse: p90 of 10 samples was ");
+            assertThat(e.getMessage(), containsString(", over the budget of 0.0 ns\nsamples (batch of "));
+        }
+    }
+
+    @Test
+    public void allocatesAtMostShallPassForAllocationFreeBlock() {
+        long[] counter = new long[1];
+        allocatesAtMost(0, () -> counter[0]++);
+    }
+
+    @Test
+    public void allocatesAtMostShallReportBytesPerInvocation() {
+        Assume.assumeTrue(AllocationMeter.supported());
+        List<Object> retained = new ArrayList<>();
+        try {
+            allocatesAtMost(8, () -> {
+                retained.clear();
+                retained.add(new byte[64]);
+            }, () -> "hot path");
+            expectAssertionError();
+        } catch (AssertionError e) {
+            msgShallStartsWith(e, "hot path: allocated ");
+        }
+    }
+
+    @Test
+    public void eventuallyShallRetryConditionAndAssertion() {
+        AtomicInteger counter = new AtomicInteger();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 3; ++i) {
+                counter.incrementAndGet();
+            }
+        });
+        writer.start();
+        eventually(() -> counter.get() == 3, 5, TimeUnit.SECONDS);
+        eventually(() -> eq(3, counter.get()), 5, TimeUnit.SECONDS);
+        try {
+            eventually(() -> counter.get() > 3, 10, TimeUnit.MILLISECONDS, "counter %s", counter);
+            expectAssertionError();
+        } catch (AssertionError e) {
+            msgShallStartsWith(e, "counter 3: condition not satisfied within 10.000 ms (");
+        }
+    }
+
+    @Test
+    public void awaitShallBlockOnLatchAndFuture() {
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+            latch.countDown();
+            return "done";
+        });
+        await(latch, 5, TimeUnit.SECONDS);
+        eq("done", await(future, 5, TimeUnit.SECONDS));
+        try {
+            await(new CountDownLatch(1), 1, TimeUnit.MILLISECONDS, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError e) {
+            eq("hi junit: latch not released within 1.000 ms, count=1", e.getMessage());
+        }
+    }
+
+    @Test
+    public void eqStructureShallCompareFieldsWithoutEquals() {
+        eqStructure(new Foo.Bar(), new Foo.Bar());
+        eqStructure(new Foo("a", 1), new Foo("a", 1));
+        try {
+            eqStructure(Collections.singletonMap("k", new Foo("a", 1)), Collections.singletonMap("k", new Foo("a", 2)),
+                    "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError e) {
+            eq("hi junit: objects differed at [k].n; expected:<1> but was:<2>", e.getMessage());
+        }
+    }
+
+    @Test
+    public void failedMatcherShallBeEvaluatedOnce() {
+        CountingMatcher matcher = new CountingMatcher();
+        try {
+            yes("foo", matcher, "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi junit\nExpected: a long string\n     but: length was <3>", error.getMessage());
+        }
+        eq(1, matcher.evaluations);
+        try {
+            yes("bar", allOf(startsWith("b"), matcher));
+            expectAssertionError();
+        } catch (AssertionError error) {
+            msgShallStartsWith(error, "\nExpected: (a string starting with \"b\" and a long string)");
+        }
+        // allOf is evaluated once, it evaluates its failed member again to describe it
+        eq(3, matcher.evaluations);
+    }
+
+    @Test
+    public void matcherFailureShallBeDescribedAsAssertThat() {
+        String expected = null;
+        try {
+            assertThat("hi junit", Arrays.asList(1, 2), hasItem(3));
+        } catch (AssertionError error) {
+            expected = error.getMessage();
+        }
+        try {
+            yes(Arrays.asList(1, 2), hasItem(3), () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq(expected, error.getMessage());
+        }
+        try {
+            assertThat("hi junit", 1, not(is(1)));
+        } catch (AssertionError error) {
+            expected = error.getMessage();
+        }
+        try {
+            no(1, is(1), "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq(expected, error.getMessage());
+        }
+    }
+
+    @Test
+    public void typeSafeMatcherShallDescribeValueOfOtherType() {
+        try {
+            yes(null, new CountingMatcher());
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("\nExpected: a long string\n     but: was null", error.getMessage());
+        }
+    }
+
+    @Test
+    public void comparisonsShallPassWithinBounds() {
+        gt(2, 1);
+        ge(1, 1);
+        lt(1, 2);
+        le(1, 1);
+        between(5, 1, 5);
+        gt(0.2, 0.1);
+        ge(0.1, 0.1, () -> "hi");
+        lt(-0.0, 0.1);
+        le(0.1, 0.1);
+        between(0.5, 0.0, 1.0);
+    }
+
+    @Test
+    public void comparisonsShallReportBoundAndValue() {
+        try {
+            gt(1, 1);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("expected greater than:<1> but was:<1>", error.getMessage());
+        }
+        try {
+            le(Long.MAX_VALUE, 0, () -> "hi junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi junit: expected at most:<0> but was:<9223372036854775807>", error.getMessage());
+        }
+        try {
+            between(11, 1, 10);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("expected between:<1> and:<10> but was:<11>", error.getMessage());
+        }
+        try {
+            ge(Double.NaN, 0.0);
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("expected at least:<0.0> but was:<NaN>", error.getMessage());
+        }
+        try {
+            between(Double.NaN, 0.0, 1.0, () -> "hi");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi: expected between:<0.0> and:<1.0> but was:<NaN>", error.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void betweenShallRejectEmptyRange() {
+        between(5, 10, 1);
+    }
+
+    @Test
+    public void comparisonsShallNotAllocate() {
+        long[] counter = new long[1];
+        allocatesAtMost(0, () -> {
+            long i = ++counter[0];
+            gt(i, 0);
+            ge(i, 1);
+            lt(i, Long.MAX_VALUE);
+            le(i, Long.MAX_VALUE);
+            between(i, 1, Long.MAX_VALUE);
+            between((double) i, 1.0, Double.MAX_VALUE);
+        });
+    }
+
+    @Test
+    public void eqMapShallPassOnSameEntries() {
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("a", 1);
+        eqMap(expected, new TreeMap<>(expected));
+        eqMap(expected, Collections.singletonMap("a", 1), "%d", "not a number");
+        eqMap(null, null, () -> "hi junit");
+    }
+
+    @Test
+    public void eqMapShallReportDifferencesByKey() {
+        try {
+            eqMap(Collections.singletonMap("a", 1), Collections.singletonMap("a", 2), "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi junit: maps differed, expected.size=1 actual.size=1"
+                    + "\nDiffering : 1 entry\n  a: expected:<1> but was:<2>", error.getMessage());
+        }
+        try {
+            eqMap(Collections.emptyMap(), Collections.singletonMap("a", 2));
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("maps differed, expected.size=0 actual.size=1\nUnexpected: 1 entry\n  a=2", error.getMessage());
+        }
+    }
+
+    @Test
+    public void isSortedShallPassOnSortedInput() {
+        isSorted(new int[]{1, 1, 2});
+        isStrictlySorted(new double[]{-1.0, 0.5}, "%d", "not a number");
+        isSorted(new String[]{"b", "a"}, Comparator.reverseOrder(), () -> "hi junit");
+        isStrictlySorted(Arrays.asList("a", "b"), null);
+    }
+
+    @Test
+    public void isSortedShallReportFirstElementOutOfOrder() {
+        try {
+            isSorted(new long[]{1, 3, 2, 0}, "hi %s", "junit");
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("hi junit: array not sorted at index 2: [1]=<3> is greater than [2]=<2>", error.getMessage());
+        }
+        try {
+            isStrictlySorted(Arrays.asList(1, 2, 2), Comparator.naturalOrder());
+            expectAssertionError();
+        } catch (AssertionError error) {
+            eq("list not strictly sorted at index 2: [1]=<2> is not less than [2]=<2>", error.getMessage());
+        }
+    }
+
     private void msgShallStartsWith(AssertionError error, String prefix) {
         assertThat(error.getMessage(), startsWith(prefix));
     }
@@ -1093,4 +1945,29 @@ public class TestBaseTest extends TestBase {
         fail("It shall raise AssertionError here");
     }
 
+    private Path file(String content) throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static class CountingMatcher extends TypeSafeDiagnosingMatcher<String> {
+        int evaluations;
+
+        @Override
+        protected boolean matchesSafely(String item, Description mismatchDescription) {
+            ++evaluations;
+            if (item.length() > 10) {
+                return true;
+            }
+            mismatchDescription.appendText("length was ").appendValue(item.length());
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("a long string");
+        }
+    }
+
 }
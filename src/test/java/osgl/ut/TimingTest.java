@@ -0,0 +1,107 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test {@link Timing}
+ */
+public class TimingTest extends TestBase {
+
+    @Test
+    public void percentilesShallUseNearestRankPerCall() {
+        Timing.Result result = new Timing.Result(new long[] {10, 20, 30, 40, 50, 60, 70, 80, 90, 100}, 10, 50);
+        eq(1.0, result.percentile(0), 0);
+        eq(5.0, result.percentile(50), 0);
+        eq(9.0, result.percentile(90), 0);
+        eq(9.0, result.percentile(85), 0);
+        eq(10.0, result.percentile(100), 0);
+    }
+
+    @Test
+    public void withinBudgetShallNotBeReported() {
+        Timing.Result result = new Timing.Result(new long[] {10, 20, 30}, 1, 50);
+        isNull(result.exceeded(20));
+    }
+
+    @Test
+    public void exceededShallDescribeSamples() {
+        Timing.Result result = new Timing.Result(new long[] {1000, 2000, 3000, 4000, 5_000_000}, 2, 99.9);
+        eq("p99.9 of 5 samples was 2.500 ms, over the budget of 1.000 us"
+                + "\nsamples (batch of 2 calls): min=500.0 ns median=1.500 us p90=2.500 ms max=2.500 ms",
+                result.exceeded(1000));
+        result = new Timing.Result(new long[] {1000, 2000, 3000}, 1, 99);
+        yes(result.exceeded(1000).startsWith("p99 of 3 samples was 3.000 us"));
+        result = new Timing.Result(new long[] {1000, 2000, 3000}, 1, 50);
+        yes(result.exceeded(1000).startsWith("median of 3 samples was 2.000 us"));
+    }
+
+    @Test
+    public void durationShallKeepThreeIntegerDigitsAtMost() {
+        eq("999.0 ns", Timing.duration(999));
+        eq("1.000 us", Timing.duration(1000));
+        eq("12.346 ms", Timing.duration(12_345_678));
+        eq("2.000 s", Timing.duration(2e9));
+    }
+
+    @Test
+    public void fastCodeShallBeTimedInBatches() {
+        AtomicLong calls = new AtomicLong();
+        Timing.Result result = Timing.of(calls::incrementAndGet).warmup(10).samples(5).measure();
+        yes(result.batch() > 1, "batch: %s", result.batch());
+        yes(calls.get() >= 10 + 5L * result.batch());
+        yes(Timing.granularity() > 0);
+    }
+
+    @Test
+    public void slowCodeShallBeTimedOneByOne() {
+        AtomicLong calls = new AtomicLong();
+        Timing.Result result = Timing.of(() -> {
+            calls.incrementAndGet();
+            long start = System.nanoTime();
+            while (System.nanoTime() - start < 2 * Timing.MIN_SAMPLE_NANOS) {
+                Thread.yield();
+            }
+        }).warmup(3).samples(4).measure();
+        eq(1, result.batch());
+        eq(7L, calls.get());
+        yes(result.percentile(0) >= 2 * Timing.MIN_SAMPLE_NANOS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeWarmupShallBeRejected() {
+        Timing.of(() -> 1).warmup(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSamplesShallBeRejected() {
+        Timing.of(() -> 1).samples(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroPercentileShallBeRejected() {
+        Timing.of(() -> 1).percentile(0);
+    }
+
+}
@@ -0,0 +1,110 @@
+package osgl.ut;
+
+/*-
+ * #%L
+ * Java Unit Test Tool
+ * %%
+ * Copyright (C) 2017 OSGL (Open Source General Library)
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import static osgl.ut.UnorderedComparison.difference;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Test {@link UnorderedComparison}
+ */
+public class UnorderedComparisonTest extends TestBase {
+
+    @Test
+    public void sameElementsInDifferentOrderShallBeEqual() {
+        isNull(difference(Arrays.asList("a", "b", "a", null), Arrays.asList(null, "a", "a", "b")));
+        isNull(difference(Arrays.asList(1, 2, 3), new HashSet<>(Arrays.asList(3, 2, 1))));
+        isNull(difference(Collections.emptyList(), Collections.emptySet()));
+        isNull(difference(new int[] {1, 2, 2, 3}, new int[] {2, 3, 1, 2}));
+        isNull(difference(new long[] {Long.MIN_VALUE, 0, Long.MAX_VALUE}, new long[] {Long.MAX_VALUE, Long.MIN_VALUE, 0}));
+        isNull(difference(new int[0], new int[0]));
+        isNull(difference((int[]) null, null));
+    }
+
+    @Test
+    public void differentMultiplicitiesShallBeReported() {
+        eq("collections differed ignoring order, expected.size=3 actual.size=3"
+                + "\nMissing   : [a] (1 element)"
+                + "\nUnexpected: [b] (1 element)",
+                difference(Arrays.asList("a", "a", "b"), Arrays.asList("a", "b", "b")));
+        eq("arrays differed ignoring order, expected.size=2 actual.size=5"
+                + "\nUnexpected: [1 (x2), 3] (3 elements)",
+                difference(new int[] {1, 2}, new int[] {1, 1, 2, 3, 1}));
+        eq("arrays differed ignoring order, expected.size=3 actual.size=1"
+                + "\nMissing   : [7 (x2)] (2 elements)",
+                difference(new long[] {7, 8, 7}, new long[] {8}));
+    }
+
+    @Test
+    public void reportShallBeCapped() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(i);
+        }
+        String difference = difference(expected, Collections.emptyList());
+        yes(difference.endsWith("\nMissing   : [0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19"
+                + ", ... 80 more] (100 elements)"), difference);
+    }
+
+    @Test
+    public void nullShallBeReported() {
+        eq("expected collection was null", difference(null, Collections.emptyList()));
+        eq("actual array was null", difference(new int[0], null));
+    }
+
+    @Test
+    public void largeArraysWithManyUnexpectedKeysShallBeCounted() {
+        int n = 1 << 20;
+        int[] expected = new int[n];
+        int[] actual = new int[n];
+        for (int i = 0; i < n; ++i) {
+            expected[i] = i;
+            actual[i] = n - 1 - i;
+        }
+        isNull(difference(expected, actual));
+        for (int i = 0; i < n; ++i) {
+            actual[i] = n + i;
+        }
+        yes(difference(expected, actual).contains("... " + (n - UnorderedComparison.MAX_REPORTED) + " more]"));
+    }
+
+    @Test
+    public void arraysWithTooManyDistinctElementsShallBeSorted() {
+        isNull(difference(new int[] {3, 1, 2, 3, 5}, new int[] {3, 5, 2, 3, 1}, 4));
+        isNull(difference(new long[] {Long.MAX_VALUE, 0, 1, Long.MIN_VALUE}, new long[] {1, Long.MIN_VALUE, 0, Long.MAX_VALUE}, 4));
+        eq("arrays differed ignoring order, expected.size=6 actual.size=5"
+                + "\nMissing   : [4, 5 (x2)] (3 elements)"
+                + "\nUnexpected: [9, 10] (2 elements)",
+                difference(new int[] {5, 1, 2, 5, 3, 4}, new int[] {10, 1, 2, 3, 9}, 4));
+        eq("arrays differed ignoring order, expected.size=4 actual.size=2"
+                + "\nMissing   : [6, 7 (x2)] (3 elements)"
+                + "\nUnexpected: [9] (1 element)",
+                difference(new long[] {7, 8, 7, 6}, new long[] {8, 9}, 4));
+    }
+
+}